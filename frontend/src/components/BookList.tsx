@@ -1,6 +1,7 @@
 import { useState, useEffect } from 'react';
 import { Book, PageResponse } from '../types';
 import { bookApi } from '../services/api';
+import { useChangeEvents } from '../services/events';
 import BookForm from './BookForm';
 
 const BookList = () => {
@@ -38,6 +39,21 @@ const BookList = () => {
     fetchBooks();
   }, [keyword, author]);
 
+  // 대출 / 반납 알림은 현재 페이지의 대출 가능 여부만 바꾸고, 수정 / 삭제된 책이 보이면 다시 읽음
+  useChangeEvents((event) => {
+    const onPage = books?.content.some((book) => book.id === event.bookId) ?? false;
+    if ((event.type === 'loan-created' || event.type === 'loan-returned') && onPage) {
+      setBooks((prev) => prev && {
+        ...prev,
+        content: prev.content.map((book) =>
+          book.id === event.bookId ? { ...book, available: event.available ?? book.available } : book
+        ),
+      });
+    } else if ((event.type === 'book' && onPage) || event.type === 'resync') {
+      fetchBooks(currentPage);
+    }
+  });
+
   const handleSearch = (e: React.FormEvent) => {
     e.preventDefault();
     fetchBooks(0);
@@ -1,6 +1,7 @@
 import { useState, useEffect } from 'react';
 import { Loan, PageResponse, Book, User } from '../types';
 import { loanApi, bookApi, userApi } from '../services/api';
+import { useChangeEvents } from '../services/events';
 import { format } from 'date-fns';
 import LoanForm from './LoanForm';
 
@@ -36,6 +37,17 @@ const LoanList: React.FC = () => {
     fetchLoans();
   }, [statusFilter]);
 
+  // 새 대출은 첫 페이지(최신순)에만, 반납은 목록에 있는 대출일 때만 다시 읽음
+  useChangeEvents((event) => {
+    const onPage = loans?.content.some((loan) => loan.id === event.loanId) ?? false;
+    if ((event.type === 'loan-created' && currentPage === 0)
+      || (event.type === 'loan-returned' && onPage)
+      || event.type === 'loans-overdue'
+      || event.type === 'resync') {
+      fetchLoans(currentPage);
+    }
+  });
+
   const handleReturn = async (loanId: number) => {
     if (!confirm('반납 처리하시겠습니까?')) return;
     
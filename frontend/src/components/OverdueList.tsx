@@ -1,6 +1,7 @@
 import { useState, useEffect } from 'react';
 import { Loan } from '../types';
 import { loanApi } from '../services/api';
+import { useChangeEvents } from '../services/events';
 import { format, differenceInDays } from 'date-fns';
 
 const OverdueList: React.FC = () => {
@@ -29,6 +30,20 @@ const OverdueList: React.FC = () => {
     fetchOverdueLoans();
   }, []);
 
+  // 반납된 연체 대출은 목록에서 빼고, 연체 처리 알림이 오면 목록만 다시 읽음 (연체 처리 재요청 없음)
+  useChangeEvents(async (event) => {
+    if (event.type === 'loan-returned') {
+      setOverdueLoans((prev) => prev.filter((loan) => loan.id !== event.loanId));
+    } else if (event.type === 'loans-overdue' || event.type === 'resync') {
+      try {
+        const response = await loanApi.getOverdueLoans();
+        setOverdueLoans(response.data);
+      } catch (err) {
+        console.error(err);
+      }
+    }
+  });
+
   const handleReturn = async (loanId: number) => {
     if (!confirm('연체된 도서를 반납 처리하시겠습니까?')) return;
     
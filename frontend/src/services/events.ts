@@ -0,0 +1,52 @@
+import { useEffect, useRef } from 'react';
+import { ChangeEvent, ChangeEventType } from '../types';
+
+// 서버 변경 알림 구독 - 화면 여러 곳에서 써도 EventSource 연결은 하나만 유지
+const EVENT_TYPES: ChangeEventType[] = ['book', 'loan-created', 'loan-returned', 'loans-overdue'];
+
+type Listener = (event: ChangeEvent) => void;
+
+const listeners = new Set<Listener>();
+let source: EventSource | null = null;
+
+const dispatch = (event: ChangeEvent) => {
+  listeners.forEach((listener) => listener(event));
+};
+
+const connect = () => {
+  let opened = false;
+  source = new EventSource('/api/events');
+  source.onopen = () => {
+    // 끊겼다가 다시 연결되면 그 사이 알림을 놓쳤을 수 있으므로 다시 읽도록 알림
+    if (opened) {
+      dispatch({ type: 'resync' });
+    }
+    opened = true;
+  };
+  EVENT_TYPES.forEach((type) => {
+    source!.addEventListener(type, (e) => {
+      dispatch(JSON.parse((e as MessageEvent).data) as ChangeEvent);
+    });
+  });
+};
+
+export const useChangeEvents = (handler: Listener) => {
+  // 매 렌더의 최신 상태(현재 페이지 등)를 쓰도록 핸들러는 ref 로 유지
+  const handlerRef = useRef(handler);
+  handlerRef.current = handler;
+
+  useEffect(() => {
+    const listener: Listener = (event) => handlerRef.current(event);
+    listeners.add(listener);
+    if (!source) {
+      connect();
+    }
+    return () => {
+      listeners.delete(listener);
+      if (listeners.size === 0 && source) {
+        source.close();
+        source = null;
+      }
+    };
+  }, []);
+};
@@ -59,6 +59,19 @@ export interface PageResponse<T> {
   empty: boolean;
 }
 
+// 서버 변경 알림 (GET /api/events) - resync 는 재연결 후 놓친 알림이 있을 수 있음을 뜻함
+export type ChangeEventType = 'book' | 'loan-created' | 'loan-returned' | 'loans-overdue' | 'resync';
+
+export interface ChangeEvent {
+  type: ChangeEventType;
+  bookId?: number;
+  loanId?: number;
+  userId?: number;
+  available?: boolean;
+  active?: boolean;
+  count?: number;
+}
+
 export interface ApiError {
   timestamp: string;
   status: number;
@@ -0,0 +1,60 @@
+package com.example.wsa_mes_library.controller;
+
+import com.example.wsa_mes_library.entity.Book;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GET /api/books 응답 (Page&lt;Book&gt;) Jackson 직렬화 비용 측정
+ * size=1000 은 BookController 기본 페이지 크기
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PageSerializationBenchmark {
+    
+    @Param({"20", "1000"})
+    public int size;
+    
+    private ObjectMapper objectMapper;
+    private Page<Book> page;
+    
+    @Setup
+    public void setUp() {
+        // Spring Boot 기본 ObjectMapper와 같은 빌더 사용 (JavaTimeModule 등 자동 등록)
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        
+        List<Book> books = new ArrayList<>(size);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 1; i <= size; i++) {
+            Book book = Book.builder()
+                .id((long) i)
+                .name("클린 코드 " + i)
+                .author("김영하")
+                .isbn("978-89-" + String.format("%04d", i) + "-001-" + (i % 10))
+                .description("IT 개발자들에게 필수적인 내용을 다룹니다. " + i)
+                .publisher("문학동네")
+                .publishYear(2020 + (i % 4))
+                .available(i % 3 != 0)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+            books.add(book);
+        }
+        page = new PageImpl<>(books, PageRequest.of(0, size), size * 10L);
+    }
+    
+    @Benchmark
+    public byte[] serializePage() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
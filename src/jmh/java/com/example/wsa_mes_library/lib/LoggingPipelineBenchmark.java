@@ -0,0 +1,141 @@
+package com.example.wsa_mes_library.lib;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.OutputStream;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 1건 분량의 로그(서비스 DEBUG + Hibernate SQL DEBUG / 바인딩 TRACE + INFO) 기록 비용을 파이프라인별로 비교
+ * - sync-debug: 기존 설정 (DEBUG / TRACE 전부 켜고 요청 스레드에서 동기 기록)
+ * - sync-info: 운영 레벨 (DEBUG 이하 꺼짐), 동기 기록
+ * - logback-async: 기존 설정 + logback AsyncAppender (ArrayBlockingQueue)
+ * - ring-async: 기존 설정 + RingBufferAsyncAppender
+ * - ring-sampled: deploy 구성 - 링 버퍼 + SQL 로거는 켜되 요청 1%만 샘플링
+ *
+ * 출력은 null 스트림 (인코딩까지 포함, 실제 콘솔 / 파일 I/O 는 제외)
+ * 실행: ./gradlew jmh -Pjmh.includes=LoggingPipeline
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class LoggingPipelineBenchmark {
+
+    private static final String PATTERN =
+        "%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p %pid --- [%15.15t] %-40.40logger{39} : %m%n";
+
+    @Param({"sync-debug", "sync-info", "logback-async", "ring-async", "ring-sampled"})
+    public String pipeline;
+
+    private LoggerContext context;
+    private Appender<ILoggingEvent> rootAppender;
+    private Logger service;
+    private Logger sql;
+    private Logger bind;
+    private boolean sampling;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new LoggerContext();
+        context.setName("bench-" + pipeline);
+
+        boolean debug = !pipeline.equals("sync-info");
+        sampling = pipeline.equals("ring-sampled");
+
+        if (sampling) {
+            SampledLoggerTurboFilter turboFilter = new SampledLoggerTurboFilter();
+            turboFilter.setContext(context);
+            turboFilter.addLoggerPrefix("org.hibernate.SQL");
+            turboFilter.addLoggerPrefix("org.hibernate.orm.jdbc.bind");
+            turboFilter.start();
+            context.addTurboFilter(turboFilter);
+        }
+
+        OutputStreamAppender<ILoggingEvent> output = new OutputStreamAppender<>();
+        output.setContext(context);
+        output.setName("NULL");
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(PATTERN);
+        encoder.start();
+        output.setEncoder(encoder);
+        output.setOutputStream(OutputStream.nullOutputStream());
+        output.start();
+
+        rootAppender = switch (pipeline) {
+            case "logback-async" -> {
+                AsyncAppender async = new AsyncAppender();
+                async.setContext(context);
+                async.setQueueSize(16384);
+                async.addAppender(output);
+                async.start();
+                yield async;
+            }
+            case "ring-async", "ring-sampled" -> {
+                RingBufferAsyncAppender ring = new RingBufferAsyncAppender();
+                ring.setContext(context);
+                ring.setName("RING");
+                ring.setBufferSize(16384);
+                ring.addAppender(output);
+                ring.start();
+                yield ring;
+            }
+            default -> output;
+        };
+
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(ch.qos.logback.classic.Level.INFO);
+        root.addAppender(rootAppender);
+
+        service = context.getLogger("com.example.wsa_mes_library.service.BookService");
+        sql = context.getLogger("org.hibernate.SQL");
+        bind = context.getLogger("org.hibernate.orm.jdbc.bind");
+        service.setLevel(debug && !sampling ? ch.qos.logback.classic.Level.DEBUG : ch.qos.logback.classic.Level.INFO);
+        sql.setLevel(debug ? ch.qos.logback.classic.Level.DEBUG : ch.qos.logback.classic.Level.INFO);
+        bind.setLevel(debug ? ch.qos.logback.classic.Level.TRACE : ch.qos.logback.classic.Level.INFO);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (rootAppender instanceof RingBufferAsyncAppender ring && ring.getDroppedCount() > 0) {
+            System.out.println(pipeline + " - 버퍼 포화로 버린 INFO 이하 로그: " + ring.getDroppedCount());
+        }
+        context.stop();
+    }
+
+    /**
+     * 키워드 검색 요청 1건에서 발생하는 로그
+     */
+    @Benchmark
+    public void request() {
+        if (sampling) {
+            LogSampling.begin(ThreadLocalRandom.current().nextDouble() < 0.01);
+        }
+        try {
+            if (service.isDebugEnabled()) {
+                service.debug("책 목록 조회 - keyword: {}, author: {}, page: {}", "자바", null, 0);
+            }
+            sql.debug("select b1_0.id, b1_0.active, b1_0.author, b1_0.available, b1_0.name from book b1_0 "
+                + "where b1_0.active=? and (b1_0.name like ? escape '!' or b1_0.author like ? escape '!') limit ?,?");
+            bind.trace("binding parameter (1:BOOLEAN) <- [{}]", true);
+            bind.trace("binding parameter (2:VARCHAR) <- [{}]", "%자바%");
+            bind.trace("binding parameter (3:VARCHAR) <- [{}]", "%자바%");
+            sql.debug("select count(b1_0.id) from book b1_0 where b1_0.active=? and (b1_0.name like ? escape '!')");
+            bind.trace("binding parameter (1:BOOLEAN) <- [{}]", true);
+            service.info("검색 완료 - keyword: {}, rows: {}", "자바", 20);
+        } finally {
+            if (sampling) {
+                LogSampling.end();
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.wsa_mes_library.repository;
+
+import com.example.wsa_mes_library.entity.Book;
+import com.example.wsa_mes_library.entity.QBook;
+import com.example.wsa_mes_library.lib.QueryMetrics;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.jpa.JPQLTemplates;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * QueryRepository.applySorting (정렬 필드마다 PathBuilder 생성) 및
+ * BookQueryRepository 검색 조건 생성 비용 측정 - DB 없이 쿼리 조립까지만
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BookQueryRepositoryBenchmark {
+    
+    private final QBook qBook = QBook.book;
+    
+    private JPAQueryFactory queryFactory;
+    private BookQueryRepository repository;
+    
+    private Pageable unsorted;
+    private Pageable singleSort;
+    private Pageable multiSort;
+    
+    @Setup
+    public void setUp() {
+        // 쿼리 조립만 측정하므로 EntityManager 없이 생성 (fetch 호출 안 함)
+        queryFactory = new JPAQueryFactory(JPQLTemplates.DEFAULT, (EntityManager) null);
+        repository = new BookQueryRepository(queryFactory, QueryMetrics.NOOP);
+        
+        unsorted = PageRequest.of(0, 20);
+        singleSort = PageRequest.of(0, 20, Sort.by("createdAt"));
+        multiSort = PageRequest.of(0, 20, Sort.by(Sort.Order.asc("author"), Sort.Order.desc("publishYear"), Sort.Order.asc("name")));
+    }
+    
+    @Benchmark
+    public JPAQuery<Book> applySortingUnsorted() {
+        JPAQuery<Book> query = queryFactory.selectFrom(qBook);
+        repository.applySorting(query, qBook, unsorted);
+        return query;
+    }
+    
+    @Benchmark
+    public JPAQuery<Book> applySortingSingleOrder() {
+        JPAQuery<Book> query = queryFactory.selectFrom(qBook);
+        repository.applySorting(query, qBook, singleSort);
+        return query;
+    }
+    
+    @Benchmark
+    public JPAQuery<Book> applySortingThreeOrders() {
+        JPAQuery<Book> query = queryFactory.selectFrom(qBook);
+        repository.applySorting(query, qBook, multiSort);
+        return query;
+    }
+    
+    @Benchmark
+    public BooleanBuilder keywordCondition() {
+        return repository.keywordCondition("자바");
+    }
+    
+    @Benchmark
+    public BooleanBuilder authorCondition() {
+        return repository.authorCondition("한강");
+    }
+    
+    @Benchmark
+    public BooleanBuilder complexCondition() {
+        return repository.complexCondition("자바", "한강");
+    }
+    
+    @Benchmark
+    public String keywordQuerySerialization() {
+        // 조건 + 정렬이 적용된 JPQL 문자열 생성까지 (Hibernate 쿼리 계획 캐시 키)
+        JPAQuery<Book> query = queryFactory.selectFrom(qBook).where(repository.keywordCondition("자바"));
+        repository.applySorting(query, qBook, singleSort);
+        return query.toString();
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.wsa_mes_library.service;
+
+import com.example.wsa_mes_library.lib.ZipfSampler;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 함께 빌린 책 조회 / 증분 반영 지연시간 (도서 10만, 이용자 1만, 대출 100만 - 도서 인기도 Zipf 1.0)
+ * - recommend: 인기 도서 / 무작위 도서의 상위 10개 (정리 후 행당 최대 100개)
+ * - record: 이용자 이력(최대 50권)과 짝을 짓는 대출 1건 반영
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=CoBorrow
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+public class CoBorrowBenchmark {
+
+    private static final int BOOKS = 100_000;
+    private static final int USERS = 10_000;
+    private static final int LOANS = 1_000_000;
+
+    private CoBorrowIndex.Matrix matrix;
+    private ZipfSampler bookSampler;
+    private SplittableRandom random;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        random = new SplittableRandom(42);
+        bookSampler = new ZipfSampler(BOOKS, 1.0);
+        matrix = new CoBorrowIndex.Matrix();
+        long start = System.nanoTime();
+        for (int i = 0; i < LOANS; i++) {
+            matrix.record(1 + random.nextInt(USERS), bookSampler.sample(random), 50);
+        }
+        long removed = matrix.prune(100);
+        System.out.printf("%n행렬 생성 - 도서 행 %,d, 항목 %,d (정리 %,d), %dms%n",
+            matrix.rows.size(), matrix.entryCount(), removed, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @Benchmark
+    public long[] recommendPopular() {
+        return matrix.top(1 + random.nextInt(10), 10);
+    }
+
+    @Benchmark
+    public long[] recommendRandom() {
+        return matrix.top(bookSampler.sample(random), 10);
+    }
+
+    @Benchmark
+    public void record() {
+        matrix.record(1 + random.nextInt(USERS), bookSampler.sample(random), 50);
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.wsa_mes_library.service;
+
+import com.example.wsa_mes_library.lib.Hangul;
+import com.example.wsa_mes_library.lib.TrigramIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 오타 허용 검색 지연시간 (도서 100만 건 - 제목 + 작가 자모 트라이그램, 검색 제한 없음)
+ * - typo-long: 긴 제목에서 모음 하나를 바꾼 검색어
+ * - typo-short: 2음절 단어의 모음 하나를 바꾼 검색어 (흔한 조각이 많아 후보가 가장 많음)
+ * - miss: 일치 없음
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=FuzzySearch
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+public class FuzzySearchBenchmark {
+
+    private static final String[] SYLLABLES = (
+        "가나다라마바사아자차카타파하고노도로모보소오조초코토포호구누두루무부수우주추쿠투푸후" +
+        "기니디리미비시이지치키티피히개내대래매배새애재채캐태패해강산숲별달꽃길책빛밤봄"
+    ).split("");
+
+    private static final String[] AUTHOR_SURNAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임"};
+
+    @Param({"1000000"})
+    public int books;
+
+    @Param({"typo-long", "typo-short", "miss"})
+    public String queryType;
+
+    private TrigramIndex index;
+    private TrigramIndex.Query query;
+    private int matches;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        TrigramIndex.Builder builder = TrigramIndex.builder();
+        String longTitle = null;
+        String shortWord = null;
+
+        long start = System.nanoTime();
+        for (long id = 1; id <= books; id++) {
+            String title = title(random);
+            String author = AUTHOR_SURNAMES[random.nextInt(AUTHOR_SURNAMES.length)] + word(random, 2);
+            if (longTitle == null && id >= books / 2 && title.replace(" ", "").length() >= 8) {
+                longTitle = title;
+            }
+            if (shortWord == null && id >= books / 2 && title.length() == 2) {
+                shortWord = title;
+            }
+            builder.add(id, Hangul.jamo(title) + " " + Hangul.jamo(author));
+        }
+        index = builder.build();
+        System.out.printf("%n인덱스 생성 - 도서 %,d건, 조각 항목 %,d개, %dms%n",
+            index.size(), index.postingCount(), (System.nanoTime() - start) / 1_000_000);
+
+        String text = switch (queryType) {
+            case "typo-long" -> typo(Hangul.jamo(longTitle));
+            case "typo-short" -> typo(Hangul.jamo(shortWord));
+            case "miss" -> Hangul.jamo("퀵퀵퀵퀵 퀵퀵");
+            default -> throw new IllegalArgumentException(queryType);
+        };
+        query = TrigramIndex.Query.of(text);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.out.printf("%n일치: %,d건%n", matches);
+    }
+
+    @Benchmark
+    public int search() {
+        int[] count = new int[1];
+        index.search(query, 0.5, Integer.MAX_VALUE, Long.MAX_VALUE, (id, similarity, distance) -> count[0]++);
+        matches = count[0];
+        return count[0];
+    }
+
+    /**
+     * 가운데 모음 하나를 다른 모음으로 (ㅏ <-> ㅓ)
+     */
+    private static String typo(String jamo) {
+        for (int i = jamo.length() / 2; i < jamo.length(); i++) {
+            char c = jamo.charAt(i);
+            if (c == 'ㅏ' || c == 'ㅓ') {
+                return jamo.substring(0, i) + (c == 'ㅏ' ? 'ㅓ' : 'ㅏ') + jamo.substring(i + 1);
+            }
+        }
+        return jamo.substring(0, jamo.length() - 1) + 'ㅢ';
+    }
+
+    private static String title(SplittableRandom random) {
+        int words = 1 + random.nextInt(4);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                sb.append(' ');
+            }
+            sb.append(word(random, 1 + random.nextInt(4)));
+        }
+        return sb.toString();
+    }
+
+    private static String word(SplittableRandom random, int syllables) {
+        StringBuilder sb = new StringBuilder(syllables);
+        for (int i = 0; i < syllables; i++) {
+            sb.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.wsa_mes_library.service;
+
+import com.example.wsa_mes_library.lib.Hangul;
+import com.example.wsa_mes_library.lib.PrefixIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 한글 초성 / 자모 검색 지연시간 (도서 100만 건 - 제목 + 작가, 단어별 키)
+ * - chosung-broad: 결과가 수만 건인 짧은 초성 (limit 20 에서 조기 종료)
+ * - chosung-exact: 제목 전체 초성
+ * - jamo-typing: 입력 중인 글자 ("이펙티" 처럼 마지막 음절이 미완성)
+ * - miss: 일치 없음
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=HangulSearch
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+public class HangulSearchBenchmark {
+
+    private static final String[] SYLLABLES = (
+        "가나다라마바사아자차카타파하고노도로모보소오조초코토포호구누두루무부수우주추쿠투푸후" +
+        "기니디리미비시이지치키티피히개내대래매배새애재채캐태패해강산숲별달꽃길책빛밤봄"
+    ).split("");
+
+    private static final String[] AUTHOR_SURNAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임"};
+
+    @Param({"1000000"})
+    public int books;
+
+    @Param({"chosung-broad", "chosung-exact", "jamo-typing", "miss"})
+    public String queryType;
+
+    private HangulSearchIndex.Index index;
+    private String query;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        PrefixIndex.Builder chosung = PrefixIndex.builder();
+        PrefixIndex.Builder jamo = PrefixIndex.builder();
+        String sampleTitle = null;
+
+        long start = System.nanoTime();
+        for (long id = 1; id <= books; id++) {
+            String title = title(random);
+            String author = AUTHOR_SURNAMES[random.nextInt(AUTHOR_SURNAMES.length)] + word(random, 2);
+            // 검색어로 쓸 제목 (첫 단어가 3음절 이상)
+            int firstWord = title.indexOf(' ') < 0 ? title.length() : title.indexOf(' ');
+            if (sampleTitle == null && id >= books / 2 && firstWord >= 3) {
+                sampleTitle = title;
+            }
+            HangulSearchIndex.addWordKeys(chosung, Hangul.chosung(title), id);
+            HangulSearchIndex.addWordKeys(chosung, Hangul.chosung(author), id);
+            HangulSearchIndex.addWordKeys(jamo, Hangul.jamo(title), id);
+            HangulSearchIndex.addWordKeys(jamo, Hangul.jamo(author), id);
+        }
+        index = new HangulSearchIndex.Index();
+        index.finishRebuild(chosung.build(), jamo.build());
+        System.out.printf("%n인덱스 생성 - 키 %,d개, %dms%n", index.size(), (System.nanoTime() - start) / 1_000_000);
+
+        query = switch (queryType) {
+            case "chosung-broad" -> "ㄱㄴ";
+            case "chosung-exact" -> Hangul.chosung(sampleTitle);
+            case "jamo-typing" -> sampleTitle.substring(0, 2) + Hangul.jamo(sampleTitle.substring(2, 3)).substring(0, 2);
+            case "miss" -> "ㅋㅋㅋㅋㅋㅋㅋㅋ";
+            default -> throw new IllegalArgumentException(queryType);
+        };
+    }
+
+    @Benchmark
+    public List<Long> search() {
+        return index.search(query, 20);
+    }
+
+    private static String title(SplittableRandom random) {
+        int words = 1 + random.nextInt(4);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                sb.append(' ');
+            }
+            sb.append(word(random, 1 + random.nextInt(4)));
+        }
+        return sb.toString();
+    }
+
+    private static String word(SplittableRandom random, int syllables) {
+        StringBuilder sb = new StringBuilder(syllables);
+        for (int i = 0; i < syllables; i++) {
+            sb.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.wsa_mes_library.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BookService.isValidIsbn (Isbn.toIsbn13 - 문자 단위 파싱 + 검증 숫자 확인) 비용 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class IsbnValidationBenchmark {
+    
+    @Param({"978-89-0001-001-5", "9788900010015", "89-7914-063-0", "invalid-isbn"})
+    public String isbn;
+    
+    @Benchmark
+    public boolean isValidIsbn() {
+        return BookService.isValidIsbn(isbn);
+    }
+}
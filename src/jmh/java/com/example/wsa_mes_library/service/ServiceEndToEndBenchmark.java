@@ -0,0 +1,97 @@
+package com.example.wsa_mes_library.service;
+
+import com.example.wsa_mes_library.WsaMesLibraryApplication;
+import com.example.wsa_mes_library.entity.Book;
+import com.example.wsa_mes_library.entity.Loan;
+import com.example.wsa_mes_library.entity.User;
+import com.example.wsa_mes_library.repository.BookRepository;
+import com.example.wsa_mes_library.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서비스 계층 종단간 측정 (내장 H2 + 실제 Spring 컨텍스트, bench 프로필)
+ * 샘플 데이터는 DataInitializer가 생성 (도서 80권, 사용자 20명)
+ * 2차 캐시/쿼리 캐시가 켜진 운영 설정 그대로 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ServiceEndToEndBenchmark {
+    
+    private ConfigurableApplicationContext context;
+    private BookService bookService;
+    private LoanService loanService;
+    
+    private Pageable pageable;
+    private Long bookId;
+    private Long userId;
+    private Long loanBookId;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(WsaMesLibraryApplication.class)
+            .profiles("bench")
+            .web(WebApplicationType.NONE)
+            .run();
+        bookService = context.getBean(BookService.class);
+        loanService = context.getBean(LoanService.class);
+        
+        BookRepository bookRepository = context.getBean(BookRepository.class);
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        
+        pageable = PageRequest.of(0, 20, Sort.by("createdAt"));
+        bookId = bookRepository.findAll().get(0).getId();
+        userId = userRepository.findAll().stream().map(User::getId).findFirst().orElseThrow();
+        loanBookId = bookRepository.findAll().stream()
+            .filter(Book::isAvailable)
+            .map(Book::getId)
+            .reduce((first, second) -> second)
+            .orElseThrow();
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+    
+    @Benchmark
+    public Page<Book> getBooksAll() {
+        return bookService.getBooks(null, null, pageable);
+    }
+    
+    @Benchmark
+    public Page<Book> getBooksByKeyword() {
+        return bookService.getBooks("입문서", null, pageable);
+    }
+    
+    @Benchmark
+    public Page<Book> getBooksByAuthor() {
+        return bookService.getBooks(null, "한강", pageable);
+    }
+    
+    @Benchmark
+    public Optional<Book> getBookById() {
+        return bookService.getBookById(bookId);
+    }
+    
+    @Benchmark
+    public long getBookCountByAuthor() {
+        return bookService.getBookCountByAuthor("한강");
+    }
+    
+    @Benchmark
+    public Loan checkoutAndReturn() {
+        Loan loan = loanService.createLoan(userId, loanBookId);
+        return loanService.returnBook(loan.getId());
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.wsa_mes_library.service;
+
+import com.example.wsa_mes_library.lib.MinHash;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비슷한 책 조회 지연시간 (도서 100만 건 - SyntheticDataGenerator 와 같은 형식의 설명)
+ * 설명이 "분야 / 제목 / 작가 / 출판사 / 연도" 틀을 공유하므로 버킷이 큰 편 (버킷당 후보 1000개 제한)
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=SimilarBooks
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgs = {"-Xmx3g"})
+public class SimilarBooksBenchmark {
+
+    private static final String[] CATEGORIES = {"소설", "시/에세이", "경제경영", "자기계발", "인문", "역사", "과학", "IT", "예술", "여행"};
+    private static final String[] WORDS = (
+        "바다 하늘 별 달 꽃 길 숲 강 산 책 빛 밤 봄 여름 가을 겨울 시간 기억 마음 도시 " +
+        "여행 편지 노래 그림 사람 이야기 세계 역사 미래 과거 코드 설계 데이터 알고리즘 경제 철학"
+    ).split(" ");
+    private static final String[] SURNAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임"};
+    private static final String[] SYLLABLES = "민서준우지현수연하은도윤예진성호".split("");
+
+    @Param({"1000000"})
+    public int books;
+
+    private SimilarBookIndex similarBookIndex;
+    private long[] queryIds;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        SimilarBookIndex.Index.Builder builder = new SimilarBookIndex.Index.Builder();
+        long start = System.nanoTime();
+        for (long id = 1; id <= books; id++) {
+            builder.add(id, MinHash.signature(description(random)));
+        }
+        SimilarBookIndex.Index index = builder.build();
+        similarBookIndex = new SimilarBookIndex(null, null, 0.3, 1000, 10_000);
+        similarBookIndex.replace(index);
+        System.out.printf("%n인덱스 생성 - 도서 %,d건, %dms%n", index.size(), (System.nanoTime() - start) / 1_000_000);
+
+        queryIds = new long[1024];
+        for (int i = 0; i < queryIds.length; i++) {
+            queryIds[i] = 1 + random.nextInt(books);
+        }
+    }
+
+    @Benchmark
+    public List<Long> findSimilar() {
+        long id = queryIds[next++ & (queryIds.length - 1)];
+        return similarBookIndex.findSimilar(id, 10);
+    }
+
+    private static String description(SplittableRandom random) {
+        String category = CATEGORIES[random.nextInt(CATEGORIES.length)];
+        String title = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + "의 "
+            + WORDS[random.nextInt(WORDS.length)];
+        String author = SURNAMES[random.nextInt(SURNAMES.length)]
+            + SYLLABLES[random.nextInt(SYLLABLES.length)] + SYLLABLES[random.nextInt(SYLLABLES.length)];
+        String publisher = "출판사" + random.nextInt(2_000);
+        int year = 1990 + random.nextInt(35);
+        return category + " 분야의 도서 「" + title + "」. " + author + " 작가가 " + publisher + "에서 " + year + "년에 펴냈습니다.";
+    }
+}
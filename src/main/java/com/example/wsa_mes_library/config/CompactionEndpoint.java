@@ -0,0 +1,24 @@
+package com.example.wsa_mes_library.config;
+
+import com.example.wsa_mes_library.service.CompactionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * 삭제 도서 정리 수동 실행 actuator 엔드포인트 (library.compaction.enabled 와 관계없이)
+ * POST /actuator/compaction
+ */
+@Component
+@Endpoint(id = "compaction")
+@RequiredArgsConstructor
+public class CompactionEndpoint {
+
+    private final CompactionService compactionService;
+
+    @WriteOperation
+    public CompactionService.Report compact() {
+        return compactionService.compact();
+    }
+}
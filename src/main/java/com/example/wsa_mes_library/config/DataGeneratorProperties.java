@@ -0,0 +1,82 @@
+package com.example.wsa_mes_library.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 대용량 합성 데이터 생성 설정 (library.datagen.*)
+ * enabled=true 이면 DataInitializer가 샘플 데이터 대신 합성 데이터를 생성
+ *
+ * 예시 (용량 산정용):
+ * library.datagen.enabled=true
+ * library.datagen.books=2000000
+ * library.datagen.users=300000
+ * library.datagen.loans=20000000
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "library.datagen")
+public class DataGeneratorProperties {
+
+    /**
+     * 합성 데이터 생성 여부
+     */
+    private boolean enabled = false;
+
+    /**
+     * 난수 시드 (같은 시드 + 같은 건수면 스레드 수와 무관하게 같은 데이터)
+     */
+    private long seed = 20240601L;
+
+    private int books = 100_000;
+
+    private int users = 10_000;
+
+    private long loans = 1_000_000L;
+
+    /**
+     * 작가 수 (0이면 도서 수 / 20)
+     */
+    private int authors = 0;
+
+    /**
+     * 현재 대출 중인 도서 비율 (도서당 최대 1건의 ACTIVE 대출)
+     */
+    private double activeLoanRatio = 0.1;
+
+    /**
+     * 도서 인기도 Zipf 지수
+     */
+    private double bookPopularityExponent = 1.0;
+
+    /**
+     * 이용자 활동량 Zipf 지수
+     */
+    private double userActivityExponent = 0.8;
+
+    /**
+     * 작가별 저서 수 Zipf 지수
+     */
+    private double authorExponent = 1.1;
+
+    /**
+     * 대출 이력 기간 (일)
+     */
+    private int historyDays = 3 * 365;
+
+    /**
+     * 쓰기 스레드 수 (0이면 가용 CPU 수)
+     */
+    private int threads = 0;
+
+    /**
+     * JDBC 배치 크기
+     */
+    private int batchSize = 1_000;
+
+    /**
+     * 작업 단위 (스레드 하나가 한 트랜잭션으로 쓰는 행 수)
+     */
+    private int chunkSize = 20_000;
+}
@@ -2,11 +2,14 @@ package com.example.wsa_mes_library.config;
 
 import com.example.wsa_mes_library.entity.Book;
 import com.example.wsa_mes_library.entity.User;
+import com.example.wsa_mes_library.lib.Isbn;
 import com.example.wsa_mes_library.repository.BookRepository;
 import com.example.wsa_mes_library.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
@@ -19,16 +22,55 @@ public class DataInitializer implements CommandLineRunner {
     
     private final BookRepository bookRepository;
     private final UserRepository userRepository;
+    private final DataGeneratorProperties dataGeneratorProperties;
+    private final SyntheticDataGenerator syntheticDataGenerator;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    /**
+     * 초기화 방식 - sync: 기동 중 실행 (기본), async: 기동 후 백그라운드 실행, skip: 생략
+     */
+    @Value("${library.init.mode:sync}")
+    private String mode;
     
     @Override
     public void run(String... args) throws Exception {
-        if (bookRepository.count() == 0) {
+        switch (mode) {
+            case "skip" -> log.info("데이터 초기화를 건너뜁니다. (library.init.mode=skip)");
+            case "async" -> Thread.ofVirtual().name("data-initializer").start(this::initializeInBackground);
+            case "sync" -> initialize();
+            default -> throw new IllegalStateException("지원하지 않는 library.init.mode 입니다: " + mode);
+        }
+    }
+    
+    private void initializeInBackground() {
+        try {
+            initialize();
+        } catch (RuntimeException e) {
+            log.error("백그라운드 데이터 초기화 실패", e);
+        }
+    }
+    
+    private void initialize() {
+        boolean empty = bookRepository.count() == 0;
+        if (empty && dataGeneratorProperties.isEnabled()) {
+            log.info("대용량 합성 데이터 생성 시작...");
+            syntheticDataGenerator.generate();
+        } else if (empty) {
             log.info("샘플 데이터 생성 시작...");
             createSampleData();
             log.info("샘플 데이터 생성 완료!");
         } else {
             log.info("이미 데이터가 존재합니다. 샘플 데이터 생성을 건너뜁니다.");
         }
+        eventPublisher.publishEvent(new InitializedEvent(empty));
+    }
+    
+    /**
+     * 초기화 완료 이벤트 (메모리 인덱스 등은 이 시점 이후의 데이터로 생성)
+     * 
+     * @param created 이번 기동에서 데이터를 새로 적재했는지
+     */
+    public record InitializedEvent(boolean created) {
     }
     
     private void createSampleData() {
@@ -67,7 +109,7 @@ public class DataInitializer implements CommandLineRunner {
             Book book = Book.builder()
                 .name(title)
                 .author(authors[bookId % authors.length])
-                .isbn("978-89-" + String.format("%04d", bookId) + "-001-" + (bookId % 10))
+                .isbn(isbn("978-89-" + String.format("%04d", bookId) + "-001"))
                 .description(title + "에 대한 상세한 설명입니다. IT 개발자들에게 필수적인 내용을 다룹니다.")
                 .publisher(publishers[bookId % publishers.length])
                 .publishYear(2020 + (bookId % 4))
@@ -82,7 +124,7 @@ public class DataInitializer implements CommandLineRunner {
             Book book = Book.builder()
                 .name(title)
                 .author(authors[bookId % authors.length])
-                .isbn("978-89-" + String.format("%04d", bookId) + "-002-" + (bookId % 10))
+                .isbn(isbn("978-89-" + String.format("%04d", bookId) + "-002"))
                 .description(title + "은 현대 한국 문학의 걸작입니다. 깊이 있는 인물 묘사와 사회적 메시지를 담고 있습니다.")
                 .publisher(publishers[bookId % publishers.length])
                 .publishYear(2015 + (bookId % 8))
@@ -97,7 +139,7 @@ public class DataInitializer implements CommandLineRunner {
             Book book = Book.builder()
                 .name(title)
                 .author(authors[bookId % authors.length])
-                .isbn("978-89-" + String.format("%04d", bookId) + "-003-" + (bookId % 10))
+                .isbn(isbn("978-89-" + String.format("%04d", bookId) + "-003"))
                 .description(title + "를 통해 개인의 성장과 발전을 도모할 수 있습니다. 실용적인 조언과 사례를 제공합니다.")
                 .publisher(publishers[bookId % publishers.length])
                 .publishYear(2018 + (bookId % 6))
@@ -113,7 +155,7 @@ public class DataInitializer implements CommandLineRunner {
             Book book = Book.builder()
                 .name(categories[i % categories.length] + " 입문서 " + i)
                 .author(authors[i % authors.length])
-                .isbn("978-89-" + String.format("%04d", bookId) + "-" + String.format("%03d", i) + "-" + (i % 10))
+                .isbn(isbn("978-89-" + String.format("%04d", bookId) + "-" + String.format("%03d", i)))
                 .description(categories[i % categories.length] + " 분야의 입문서입니다. 초보자도 쉽게 이해할 수 있도록 구성되었습니다.")
                 .publisher(publishers[i % publishers.length])
                 .publishYear(2010 + (i % 14))
@@ -127,6 +169,14 @@ public class DataInitializer implements CommandLineRunner {
         log.info("{}개의 샘플 도서 생성 완료", books.size());
     }
     
+    /**
+     * 앞 12자리 표기에 검증 숫자를 붙인 ISBN-13 (예: 978-89-0001-001 -> 978-89-0001-001-5)
+     */
+    private static String isbn(String first12) {
+        long isbn13 = Isbn.withCheckDigit(Long.parseLong(first12.replace("-", "")));
+        return first12 + "-" + isbn13 % 10;
+    }
+    
     private void createSampleUsers() {
         List<User> users = new ArrayList<>();
         
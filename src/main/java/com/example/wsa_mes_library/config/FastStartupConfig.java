@@ -0,0 +1,44 @@
+package com.example.wsa_mes_library.config;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.sql.DataSource;
+
+/**
+ * 빠른 기동 모드 (fast-startup 프로파일)
+ * spring.main.lazy-initialization=true 로 전체 빈을 지연 생성하되,
+ * 첫 요청 경로에 있는 빈은 기동 중에 만들어 첫 요청이 초기화 비용을 떠안지 않도록 제외
+ */
+@Configuration
+@Profile("fast-startup")
+public class FastStartupConfig {
+
+    private static final Class<?>[] CRITICAL_TYPES = {
+        DataSource.class,
+        EntityManagerFactory.class,
+        JPAQueryFactory.class
+    };
+
+    @Bean
+    public static LazyInitializationExcludeFilter requestPathBeans() {
+        return (beanName, beanDefinition, beanType) -> {
+            if (beanType == null) {
+                return false;
+            }
+            for (Class<?> criticalType : CRITICAL_TYPES) {
+                if (criticalType.isAssignableFrom(beanType)) {
+                    return true;
+                }
+            }
+            // 컨트롤러를 즉시 생성하면 서비스 / 리포지토리도 의존성으로 함께 생성됨
+            return AnnotatedElementUtils.hasAnnotation(beanType, RestController.class);
+        };
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.wsa_mes_library.config;
+
+import com.example.wsa_mes_library.lib.RebuildableIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 메모리 인덱스 기동 시 생성 - 데이터 초기화 직후 모두, 기동 완료 시 아직 없는 것만 (초기화를 건너뛴 경우)
+ */
+@Component
+@RequiredArgsConstructor
+public class IndexWarmup {
+
+    private final List<RebuildableIndex> indexes;
+
+    @EventListener(DataInitializer.InitializedEvent.class)
+    public void onDataInitialized() {
+        indexes.forEach(RebuildableIndex::rebuildInBackground);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        indexes.forEach(RebuildableIndex::rebuildIfNotBuilt);
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.wsa_mes_library.config;
+
+import com.example.wsa_mes_library.service.IsbnBackfillService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * 도서 isbn13 키 채우기 수동 실행 actuator 엔드포인트
+ * POST /actuator/isbnbackfill
+ */
+@Component
+@Endpoint(id = "isbnbackfill")
+@RequiredArgsConstructor
+public class IsbnBackfillEndpoint {
+
+    private final IsbnBackfillService isbnBackfillService;
+
+    @WriteOperation
+    public IsbnBackfillService.Result backfill() {
+        return isbnBackfillService.backfill();
+    }
+}
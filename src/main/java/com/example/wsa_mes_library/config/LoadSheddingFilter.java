@@ -0,0 +1,203 @@
+package com.example.wsa_mes_library.config;
+
+import com.example.wsa_mes_library.lib.AimdLimiter;
+import com.example.wsa_mes_library.lib.TokenBucket;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 그룹(search / circulation / admin)별 과부하 차단
+ * - 클라이언트(IP)별 토큰 버킷을 넘으면 429 + Retry-After (다음 토큰까지 남은 초)
+ *   클라이언트는 접속 주소 또는 library.limits.client-header 헤더 값 (프록시 뒤에서는 설정하지 않으면 모두 한 버킷)
+ * - 그룹별 적응형 동시 실행 제한(AIMD)을 넘으면 대기 없이 503 + Retry-After: 1
+ * - 그룹마다 제한이 따로라 대량 검색(size=1000 등)이 몰려도 대출 / 반납은 자기 몫으로 처리
+ *
+ * SSE(/api/events)는 연결이 오래 유지되므로 제외
+ * 지표: library.limiter.limit / library.limiter.inflight (게이지), library.limiter.rejected (reason=throttled|overloaded)
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+@EnableConfigurationProperties(LoadSheddingProperties.class)
+public class LoadSheddingFilter extends OncePerRequestFilter {
+
+    public enum RequestGroup {
+        SEARCH, CIRCULATION, ADMIN
+    }
+
+    private static final long OVERLOADED_RETRY_SECONDS = 1;
+
+    private final LoadSheddingProperties properties;
+    private final ObjectMapper objectMapper;
+    private final Map<RequestGroup, Budget> budgets = new EnumMap<>(RequestGroup.class);
+
+    public LoadSheddingFilter(LoadSheddingProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        budgets.put(RequestGroup.SEARCH, new Budget(RequestGroup.SEARCH, properties.getSearch(), meterRegistry));
+        budgets.put(RequestGroup.CIRCULATION, new Budget(RequestGroup.CIRCULATION, properties.getCirculation(), meterRegistry));
+        budgets.put(RequestGroup.ADMIN, new Budget(RequestGroup.ADMIN, properties.getAdmin(), meterRegistry));
+    }
+
+    /**
+     * 요청이 속한 그룹 (제한 대상이 아니면 null)
+     */
+    static RequestGroup classify(String method, String path) {
+        if (!path.startsWith("/api/") || path.startsWith("/api/events") || "OPTIONS".equals(method)) {
+            return null;
+        }
+        if (path.startsWith("/api/loans") || path.startsWith("/api/holds")) {
+            return RequestGroup.CIRCULATION;
+        }
+        if ("GET".equals(method) && (path.startsWith("/api/books") || path.startsWith("/api/users"))) {
+            return RequestGroup.SEARCH;
+        }
+        return RequestGroup.ADMIN;
+    }
+
+    public AimdLimiter limiter(RequestGroup group) {
+        return budgets.get(group).limiter;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RequestGroup group = classify(request.getMethod(), request.getRequestURI().substring(request.getContextPath().length()));
+        if (group == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        Budget budget = budgets.get(group);
+
+        long waitNanos = budget.throttle(clientOf(request));
+        if (waitNanos > 0) {
+            budget.throttled.increment();
+            reject(response, HttpStatus.TOO_MANY_REQUESTS, Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999)),
+                "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+            return;
+        }
+        if (!budget.limiter.tryAcquire()) {
+            budget.overloaded.increment();
+            log.debug("동시 실행 제한 초과 - 그룹: {}, 제한: {}", group, budget.limiter.limit());
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, OVERLOADED_RETRY_SECONDS,
+                "요청이 몰려 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value();
+        } finally {
+            budget.limiter.release(System.nanoTime() - start, failed);
+        }
+    }
+
+    /**
+     * 버킷 키 - client-header 가 있으면 그 마지막 항목 (여러 프록시를 거치면 쉼표로 이어 붙으므로), 없으면 접속 주소
+     */
+    private String clientOf(HttpServletRequest request) {
+        if (StringUtils.hasText(properties.getClientHeader())) {
+            String forwarded = request.getHeader(properties.getClientHeader());
+            if (StringUtils.hasText(forwarded)) {
+                String client = forwarded.substring(forwarded.lastIndexOf(',') + 1).strip();
+                if (!client.isEmpty()) {
+                    return client;
+                }
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, long retryAfterSeconds, String message)
+            throws IOException {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("timestamp", LocalDateTime.now());
+        body.put("status", status.value());
+        body.put("error", status.getReasonPhrase());
+        body.put("message", message);
+
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+
+    /**
+     * 그룹 하나의 동시 실행 제한 + 클라이언트별 버킷
+     */
+    private final class Budget {
+
+        final LoadSheddingProperties.Group settings;
+        final AimdLimiter limiter;
+        // 접근 순 LinkedHashMap - 가득 차면 가장 오래 쓰이지 않은 버킷을 넣을 때 바로 제거 (O(1), 잠금은 조회 / 추가 동안만)
+        final Map<String, TokenBucket> buckets = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, TokenBucket> eldest) {
+                // 주소를 바꿔 가며 보내는 요청에도 버킷 수가 늘지 않도록
+                return size() > properties.getMaxClients();
+            }
+        };
+        final Counter throttled;
+        final Counter overloaded;
+
+        Budget(RequestGroup group, LoadSheddingProperties.Group settings, MeterRegistry meterRegistry) {
+            this.settings = settings;
+            this.limiter = new AimdLimiter(settings.getInitialLimit(), settings.getMinLimit(), settings.getMaxLimit(),
+                settings.getTargetLatency().toNanos(), settings.getBackoff());
+            String tag = group.name().toLowerCase();
+            Gauge.builder("library.limiter.limit", limiter, AimdLimiter::limit).tag("group", tag).register(meterRegistry);
+            Gauge.builder("library.limiter.inflight", limiter, AimdLimiter::inflight).tag("group", tag).register(meterRegistry);
+            this.throttled = Counter.builder("library.limiter.rejected").tags("group", tag, "reason", "throttled")
+                .register(meterRegistry);
+            this.overloaded = Counter.builder("library.limiter.rejected").tags("group", tag, "reason", "overloaded")
+                .register(meterRegistry);
+        }
+
+        /**
+         * @return 0 이면 통과, 아니면 다음 토큰까지 남은 시간 (ns)
+         */
+        long throttle(String client) {
+            if (settings.getClientRate() <= 0) {
+                return 0;
+            }
+            long now = System.nanoTime();
+            TokenBucket bucket;
+            synchronized (buckets) {
+                bucket = buckets.computeIfAbsent(client,
+                    key -> new TokenBucket(settings.getClientRate(), settings.getClientBurst(), now));
+            }
+            return bucket.tryConsume(now);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.wsa_mes_library.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 요청 그룹별 동시 실행 / 클라이언트 속도 제한 설정 (library.limits.*)
+ * - search: 도서 / 이용자 조회 (GET /api/books/**, /api/users/**)
+ * - circulation: 대출 / 반납 / 예약 (/api/loans/**, /api/holds/**)
+ * - admin: 도서 / 이용자 등록·수정·삭제, 캐시 관리 등 나머지 /api
+ *
+ * search.max-limit 은 커넥션 풀 크기(Hikari 기본 10)보다 작게 - 검색이 몰려도 대출 / 반납이 쓸 커넥션을 남김
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "library.limits")
+public class LoadSheddingProperties {
+
+    /**
+     * false 면 제한 없이 통과
+     */
+    private boolean enabled = true;
+
+    /**
+     * 클라이언트별 토큰 버킷 최대 보관 수 (넘으면 가장 오래 쓰이지 않은 버킷을 버림)
+     */
+    private int maxClients = 10_000;
+
+    /**
+     * 클라이언트 주소를 읽을 헤더 (예: X-Forwarded-For, 마지막 항목 = 바로 앞 프록시가 본 주소)
+     * 비워 두면 접속 주소(remoteAddr) - 프록시 / 로드밸런서 뒤라면 모든 클라이언트가 프록시 주소 하나의 버킷을 나눠 쓰므로
+     * 이 값을 설정하거나 server.forward-headers-strategy 로 remoteAddr 을 바로잡아야 함 (신뢰하는 프록시가 헤더를 덮어쓸 때만)
+     */
+    private String clientHeader;
+
+    private Group search = new Group(4, 1, 6, Duration.ofMillis(200), 10, 20);
+
+    private Group circulation = new Group(8, 2, 20, Duration.ofMillis(500), 0, 0);
+
+    private Group admin = new Group(2, 1, 4, Duration.ofSeconds(2), 2, 10);
+
+    @Getter
+    @Setter
+    public static class Group {
+
+        /**
+         * 시작 / 최소 / 최대 동시 실행 수
+         */
+        private int initialLimit;
+
+        private int minLimit;
+
+        private int maxLimit;
+
+        /**
+         * 목표 지연시간 - 넘는 응답이 나오면 동시 실행 수를 줄임
+         */
+        private Duration targetLatency;
+
+        /**
+         * 동시 실행 수 감소 비율
+         */
+        private double backoff = 0.9;
+
+        /**
+         * 클라이언트(IP)별 초당 요청 수 - 0 이면 제한 없음
+         */
+        private double clientRate;
+
+        /**
+         * 클라이언트별 순간 최대 요청 수
+         */
+        private int clientBurst;
+
+        public Group() {
+        }
+
+        Group(int initialLimit, int minLimit, int maxLimit, Duration targetLatency, double clientRate, int clientBurst) {
+            this.initialLimit = initialLimit;
+            this.minLimit = minLimit;
+            this.maxLimit = maxLimit;
+            this.targetLatency = targetLatency;
+            this.clientRate = clientRate;
+            this.clientBurst = clientBurst;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.wsa_mes_library.config;
+
+import com.example.wsa_mes_library.lib.QueryMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 쿼리 지연시간 측정 설정
+ * - library.query.slow-threshold: 느린 쿼리 기준 (기본 200ms)
+ * - library.query.slow-log-size: 보관할 최근 느린 쿼리 수 (기본 100건)
+ */
+@Configuration
+public class QueryMetricsConfig {
+    
+    @Bean
+    public QueryMetrics queryMetrics(
+            MeterRegistry meterRegistry,
+            @Value("${library.query.slow-threshold:200ms}") Duration slowThreshold,
+            @Value("${library.query.slow-log-size:100}") int slowLogSize
+    ) {
+        return new QueryMetrics(meterRegistry, slowThreshold, slowLogSize);
+    }
+}
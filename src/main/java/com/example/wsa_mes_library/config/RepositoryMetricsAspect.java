@@ -0,0 +1,53 @@
+package com.example.wsa_mes_library.config;
+
+import com.example.wsa_mes_library.lib.BaseRepository;
+import com.example.wsa_mes_library.lib.QueryMetrics;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Spring Data 리포지토리(BaseRepository 하위) 호출 지연시간 측정
+ * QueryRepository 기본 메서드와 같은 library.query 지표로 기록
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class RepositoryMetricsAspect {
+    
+    private final QueryMetrics queryMetrics;
+    
+    // 프록시 클래스 -> 리포지토리 인터페이스 이름 (호출마다 getInterfaces() 복사 방지)
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+    
+    @Around("this(com.example.wsa_mes_library.lib.BaseRepository)")
+    public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        Object result = joinPoint.proceed();
+        long elapsed = System.nanoTime() - start;
+        
+        String method = joinPoint.getSignature().getName();
+        String type = method.startsWith("count") || method.startsWith("exists")
+            ? QueryMetrics.COUNT
+            : QueryMetrics.CONTENT;
+        
+        queryMetrics.recordExecution(repositoryName(joinPoint), method, type, elapsed, result, joinPoint.getArgs());
+        return result;
+    }
+    
+    private String repositoryName(ProceedingJoinPoint joinPoint) {
+        return repositoryNames.computeIfAbsent(joinPoint.getThis().getClass(), proxyClass -> {
+            for (Class<?> candidate : proxyClass.getInterfaces()) {
+                if (BaseRepository.class.isAssignableFrom(candidate)) {
+                    return candidate.getSimpleName();
+                }
+            }
+            return joinPoint.getSignature().getDeclaringType().getSimpleName();
+        });
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.wsa_mes_library.config;
+
+import com.example.wsa_mes_library.lib.QueryMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 최근 느린 쿼리 조회 actuator 엔드포인트
+ * GET /actuator/slowqueries
+ */
+@Component
+@Endpoint(id = "slowqueries")
+@RequiredArgsConstructor
+public class SlowQueryEndpoint {
+    
+    private final QueryMetrics queryMetrics;
+    
+    @ReadOperation
+    public Map<String, Object> slowQueries() {
+        List<QueryMetrics.SlowQuery> slowQueries = queryMetrics.getSlowQueries();
+        
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("thresholdMillis", queryMetrics.getSlowThreshold().toMillis());
+        result.put("count", slowQueries.size());
+        result.put("queries", slowQueries);
+        return result;
+    }
+}
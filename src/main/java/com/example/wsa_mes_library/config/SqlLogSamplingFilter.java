@@ -0,0 +1,48 @@
+package com.example.wsa_mes_library.config;
+
+import com.example.wsa_mes_library.lib.LogSampling;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 요청마다 SQL / 바인딩 로그 기록 여부를 결정 (SampledLoggerTurboFilter 와 함께 동작)
+ * - library.logging.sql-sample-rate: 기록할 요청 비율 (0.0 ~ 1.0)
+ * - X-Debug-Sql: true 헤더가 있으면 비율과 무관하게 기록
+ * 실제 출력은 org.hibernate.SQL(DEBUG) / org.hibernate.orm.jdbc.bind(TRACE) 로거 레벨이 켜져 있을 때만
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class SqlLogSamplingFilter extends OncePerRequestFilter {
+
+    private static final String DEBUG_HEADER = "X-Debug-Sql";
+
+    private final double sampleRate;
+
+    public SqlLogSamplingFilter(@Value("${library.logging.sql-sample-rate:0.01}") double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        boolean sampled = "true".equalsIgnoreCase(request.getHeader(DEBUG_HEADER))
+            || ThreadLocalRandom.current().nextDouble() < sampleRate;
+
+        LogSampling.begin(sampled);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            LogSampling.end();
+        }
+    }
+}
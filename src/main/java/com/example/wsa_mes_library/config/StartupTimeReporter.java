@@ -0,0 +1,94 @@
+package com.example.wsa_mes_library.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aot.AotDetector;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.RuntimeMXBean;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 기동 시간 측정 (JVM 시작 기준)
+ * - 컨텍스트 준비 완료(ApplicationReadyEvent) 시각
+ * - 첫 HTTP 요청 응답 완료 시각 (time-to-first-request)
+ * 결과는 로그 한 줄과 library.startup.ready / library.startup.first.request 지표로 남겨
+ * 기본 모드와 fast-startup(AOT, CDS) 모드를 같은 기준으로 비교할 수 있게 함
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class StartupTimeReporter extends OncePerRequestFilter {
+
+    private final Environment environment;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    private final AtomicBoolean firstRequest = new AtomicBoolean(true);
+    private volatile long readyMillis = -1;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        readyMillis = sinceJvmStart();
+        registerGauge("library.startup.ready", "JVM 시작부터 컨텍스트 준비 완료까지", readyMillis);
+        log.info("컨텍스트 준비 완료 - JVM 시작 후 {}ms ({})", readyMillis, mode());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (!firstRequest.get()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (firstRequest.compareAndSet(true, false)) {
+                long firstRequestMillis = sinceJvmStart();
+                registerGauge("library.startup.first.request", "JVM 시작부터 첫 요청 응답까지", firstRequestMillis);
+                log.info("기동 시간 리포트 - 첫 요청 응답: {}ms, 컨텍스트 준비: {}, 첫 요청 처리: {}ms ({} {}, {})",
+                    firstRequestMillis, readyMillis < 0 ? "미완료" : readyMillis + "ms",
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), request.getMethod(), request.getRequestURI(), mode());
+            }
+        }
+    }
+
+    private void registerGauge(String name, String description, long millis) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            TimeGauge.builder(name, () -> millis, TimeUnit.MILLISECONDS)
+                .description(description)
+                .register(registry);
+        }
+    }
+
+    private String mode() {
+        RuntimeMXBean runtime = ManagementFactory.getRuntimeMXBean();
+        boolean cds = runtime.getInputArguments().stream().anyMatch(arg -> arg.startsWith("-XX:SharedArchiveFile"));
+        boolean lazy = environment.getProperty("spring.main.lazy-initialization", Boolean.class, false);
+        return "aot=" + AotDetector.useGeneratedArtifacts() + ", cds=" + cds + ", lazy=" + lazy;
+    }
+
+    private static long sinceJvmStart() {
+        return System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+    }
+}
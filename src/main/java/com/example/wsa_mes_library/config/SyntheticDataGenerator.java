@@ -0,0 +1,468 @@
+package com.example.wsa_mes_library.config;
+
+import com.example.wsa_mes_library.lib.Hangul;
+import com.example.wsa_mes_library.lib.Isbn;
+import com.example.wsa_mes_library.lib.MinHash;
+import com.example.wsa_mes_library.lib.ZipfSampler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.LongFunction;
+
+/**
+ * 용량 산정용 대용량 합성 데이터 생성기
+ * - 결정적: 각 행은 (시드, 테이블, 행 번호)로만 만든 난수로 생성 → 스레드 수와 무관하게 같은 데이터
+ * - 현실적 분포: 도서 인기도 / 이용자 활동량 / 작가별 저서 수 모두 Zipf 분포
+ * - 빠른 적재: JPA를 거치지 않고 청크 단위 멀티스레드 JDBC 배치 INSERT
+ *   (MySQL은 URL에 rewriteBatchedStatements=true 설정 시 다중 VALUES로 재작성되어 훨씬 빠름)
+ *
+ * ID는 Hibernate 공용 시퀀스에서 한 번에 예약 후, 적재가 끝나면 시퀀스를 예약 구간 뒤로 이동
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@EnableConfigurationProperties(DataGeneratorProperties.class)
+public class SyntheticDataGenerator {
+
+    private static final long BOOK_STREAM = 0x0B00CL;
+    private static final long USER_STREAM = 0x05E2L;
+    private static final long LOAN_STREAM = 0x10A2L;
+    private static final long ACTIVE_LOAN_STREAM = 0xAC71L;
+
+    private static final int LOAN_PERIOD_DAYS = 14;
+
+    // ===== 한국어 도서/인명 재료 =====
+
+    private static final String[] TITLE_ADJECTIVES = {
+        "작은", "푸른", "마지막", "오래된", "잃어버린", "고요한", "눈부신", "낯선", "따뜻한", "차가운",
+        "보이지 않는", "이름 없는", "첫", "두 번째", "하얀", "검은", "달콤한", "슬픈", "즐거운", "기묘한"
+    };
+
+    private static final String[] TITLE_NOUNS = {
+        "정원", "바다", "도시", "기억", "편지", "여름", "겨울", "섬", "숲", "집",
+        "소년", "소녀", "고양이", "별", "달", "시간", "꿈", "길", "노래", "약속",
+        "골목", "서점", "기차", "우주", "역사", "철학", "경제", "심리", "과학", "요리"
+    };
+
+    private static final String[] TITLE_SUFFIXES = {
+        "", " 이야기", "의 비밀", "을 위하여", "에서", " 수업", " 입문", "의 모든 것", " 산책", " 연대기",
+        " 사용법", "의 발견", " 일기", " 안내서", "의 시대"
+    };
+
+    private static final String[] CATEGORIES = {
+        "소설", "시", "에세이", "역사", "철학", "과학", "경제", "자기계발", "IT", "예술", "여행", "요리", "건강", "아동"
+    };
+
+    private static final String[] SURNAMES = {
+        "김", "이", "박", "최", "정", "강", "조", "윤", "장", "임", "한", "오", "서", "신", "권", "황", "안", "송", "류", "홍"
+    };
+
+    private static final String[] SURNAMES_ROMAN = {
+        "kim", "lee", "park", "choi", "jung", "kang", "cho", "yoon", "jang", "lim",
+        "han", "oh", "seo", "shin", "kwon", "hwang", "ahn", "song", "ryu", "hong"
+    };
+
+    private static final String[] GIVEN_SYLLABLES = {
+        "민", "서", "지", "현", "우", "준", "영", "수", "하", "윤", "은", "재", "예", "도", "시", "주", "진", "혜", "성", "태"
+    };
+
+    private static final String[] GIVEN_SYLLABLES_ROMAN = {
+        "min", "seo", "ji", "hyun", "woo", "jun", "young", "su", "ha", "yoon",
+        "eun", "jae", "ye", "do", "si", "ju", "jin", "hye", "sung", "tae"
+    };
+
+    private static final String[] PUBLISHER_PREFIXES = {
+        "문학", "창비", "민음", "은행나무", "열린", "현대", "한빛", "길벗", "위즈덤", "다산",
+        "김영", "알에이치", "북스", "푸른", "새움", "해냄", "사계절", "비룡", "웅진", "시공"
+    };
+
+    private static final String[] PUBLISHER_SUFFIXES = {"사", "동네", "출판", "북스", "미디어", "하우스", "아카데미", "코리아"};
+
+    private static final String[] DOMAINS = {"gmail.com", "naver.com", "daum.net", "kakao.com", "hanmail.net"};
+
+    private static final String[] CITIES = {"서울", "부산", "대구", "인천", "광주", "대전", "울산", "세종", "경기", "강원"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final DataGeneratorProperties properties;
+
+    /**
+     * 설정된 건수만큼 도서 → 사용자 → 대출 순서로 생성
+     *
+     * @return 테이블별 적재 결과
+     */
+    public Report generate() {
+        int threads = properties.getThreads() > 0 ? properties.getThreads() : Runtime.getRuntime().availableProcessors();
+        int books = properties.getBooks();
+        int users = properties.getUsers();
+        long loans = properties.getLoans();
+        int authors = properties.getAuthors() > 0 ? properties.getAuthors() : Math.max(1, books / 20);
+
+        if (books <= 0 || users <= 0) {
+            throw new IllegalArgumentException("도서 수와 사용자 수는 1 이상이어야 합니다.");
+        }
+
+        // ID 구간 예약: [도서][사용자][반납 이력][대출 중 - 도서 번호 기준 희소 할당]
+        long reserved = books + users + loans + books;
+        long baseId = reserveIds(reserved);
+        long bookBaseId = baseId;
+        long userBaseId = bookBaseId + books;
+        long loanBaseId = userBaseId + users;
+        long activeLoanBaseId = loanBaseId + loans;
+
+        log.info("합성 데이터 생성 시작 - 도서: {}, 사용자: {}, 대출 이력: {}, 작가: {}, 시드: {}, 스레드: {}",
+            books, users, loans, authors, properties.getSeed(), threads);
+
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        RowFactory rowFactory = new RowFactory(properties, authors, now);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<PhaseResult> phases = new ArrayList<>();
+
+            phases.add(runPhase(executor, "book", books,
+                "INSERT INTO book (id, active, created_at, updated_at, entity_type, name, author, isbn, isbn13, description, " +
+                "publisher, publish_year, available, name_chosung, name_jamo, author_chosung, author_jamo, description_minhash) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                index -> rowFactory.book(index, bookBaseId + index)));
+
+            phases.add(runPhase(executor, "users", users,
+                "INSERT INTO users (id, active, created_at, updated_at, entity_type, name, email, phone, address, " +
+                "name_chosung, name_jamo) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                index -> rowFactory.user(index, userBaseId + index)));
+
+            String loanSql = "INSERT INTO loan (id, active, created_at, updated_at, entity_type, user_id, book_id, " +
+                "loan_date, due_date, return_date, status) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+            phases.add(runPhase(executor, "loan(returned)", loans, loanSql,
+                index -> rowFactory.returnedLoan(index, loanBaseId + index, bookBaseId, userBaseId)));
+
+            phases.add(runPhase(executor, "loan(active)", books, loanSql,
+                index -> rowFactory.activeLoan(index, activeLoanBaseId + index, bookBaseId, userBaseId)));
+
+            Report report = new Report(phases);
+            log.info("합성 데이터 생성 완료 - 총 {}행, {}ms, {} rows/s",
+                report.totalRows(), report.totalMillis(), report.rowsPerSecond());
+            return report;
+        } finally {
+            executor.shutdownNow();
+            advanceSequence(baseId + reserved);
+        }
+    }
+
+    /**
+     * 한 테이블을 청크 단위로 나눠 병렬 적재
+     * 행 생성기가 null을 반환한 행은 건너뜀 (대출 중이 아닌 도서 등)
+     */
+    private PhaseResult runPhase(ExecutorService executor, String table, long rows, String sql,
+                                 LongFunction<Object[]> rowGenerator) {
+        long start = System.nanoTime();
+        int chunkSize = properties.getChunkSize();
+        int batchSize = properties.getBatchSize();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (long from = 0; from < rows; from += chunkSize) {
+            long chunkFrom = from;
+            long chunkTo = Math.min(rows, from + chunkSize);
+            futures.add(executor.submit(() -> {
+                List<Object[]> batch = new ArrayList<>((int) (chunkTo - chunkFrom));
+                for (long index = chunkFrom; index < chunkTo; index++) {
+                    Object[] row = rowGenerator.apply(index);
+                    if (row != null) {
+                        batch.add(row);
+                    }
+                }
+                transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(sql, batch, batchSize, (ps, row) -> {
+                        for (int i = 0; i < row.length; i++) {
+                            ps.setObject(i + 1, row[i]);
+                        }
+                    }));
+                return batch.size();
+            }));
+        }
+
+        long written = 0;
+        try {
+            for (Future<Integer> future : futures) {
+                written += future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("합성 데이터 생성이 중단되었습니다: " + table, e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("합성 데이터 적재 실패: " + table, e.getCause());
+        }
+
+        PhaseResult result = new PhaseResult(table, written, (System.nanoTime() - start) / 1_000_000);
+        log.info("{} 적재 완료 - {}행, {}ms, {} rows/s", table, result.rows(), result.millis(), result.rowsPerSecond());
+        return result;
+    }
+
+    // ===== Hibernate 공용 시퀀스 (BaseEntity "sequence") 예약 =====
+
+    private long reserveIds(long count) {
+        long maxId = 0;
+        for (String table : new String[]{"book", "users", "loan"}) {
+            Long tableMax = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+            maxId = Math.max(maxId, tableMax != null ? tableMax : 0);
+        }
+        long next = isMySql()
+            ? jdbcTemplate.queryForObject("SELECT next_val FROM sequence", Long.class)
+            : jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR sequence", Long.class);
+        long baseId = Math.max(next, maxId + 1);
+        advanceSequence(baseId + count);
+        return baseId;
+    }
+
+    private void advanceSequence(long nextValue) {
+        if (isMySql()) {
+            jdbcTemplate.update("UPDATE sequence SET next_val = GREATEST(next_val, ?)", nextValue);
+        } else {
+            jdbcTemplate.execute("ALTER SEQUENCE sequence RESTART WITH " + nextValue);
+        }
+    }
+
+    private boolean isMySql() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+            connection.getMetaData().getDatabaseProductName());
+        return product != null && product.toLowerCase().contains("mysql");
+    }
+
+    /**
+     * 행 생성기 - 모든 값은 (시드, 스트림, 행 번호)에서 결정
+     */
+    static final class RowFactory {
+
+        private final long seed;
+        private final int books;
+        private final int users;
+        private final int authors;
+        private final int publishers;
+        private final int historyDays;
+        private final long activeThreshold;
+        private final LocalDateTime now;
+
+        private final ZipfSampler authorSampler;
+        private final ZipfSampler publisherSampler;
+        private final ZipfSampler bookSampler;
+        private final ZipfSampler userSampler;
+
+        RowFactory(DataGeneratorProperties properties, int authors, LocalDateTime now) {
+            this.seed = properties.getSeed();
+            this.books = properties.getBooks();
+            this.users = properties.getUsers();
+            this.authors = authors;
+            this.publishers = Math.max(1, Math.min(2_000, books / 500 + 10));
+            this.historyDays = Math.max(1, properties.getHistoryDays());
+            this.activeThreshold = (long) (properties.getActiveLoanRatio() * 10_000);
+            this.now = now;
+
+            this.authorSampler = new ZipfSampler(authors, properties.getAuthorExponent());
+            this.publisherSampler = new ZipfSampler(publishers, 1.0);
+            this.bookSampler = new ZipfSampler(books, properties.getBookPopularityExponent());
+            this.userSampler = new ZipfSampler(users, properties.getUserActivityExponent());
+        }
+
+        Object[] book(long index, long id) {
+            SplittableRandom random = random(BOOK_STREAM, index);
+            String category = CATEGORIES[random.nextInt(CATEGORIES.length)];
+            String title = title(random);
+            String author = personName(permute(authorSampler.sample(random), authors));
+            String publisher = publisherName(permute(publisherSampler.sample(random), publishers));
+            int publishYear = publishYear(random);
+            Timestamp createdAt = timestamp(now.minusDays(random.nextInt(historyDays)).minusSeconds(random.nextInt(86_400)));
+            long isbn13 = isbn13(index);
+            String description = category + " 분야의 도서 「" + title + "」. " + author + " 작가가 " + publisher + "에서 "
+                + publishYear + "년에 펴냈습니다.";
+
+            return new Object[]{
+                id, true, createdAt, createdAt, "Book",
+                title, author, formatIsbn13(isbn13), isbn13, description,
+                publisher, publishYear, !hasActiveLoan(index),
+                Hangul.chosung(title), Hangul.jamo(title), Hangul.chosung(author), Hangul.jamo(author),
+                MinHash.toBytes(MinHash.signature(description))
+            };
+        }
+
+        Object[] user(long index, long id) {
+            SplittableRandom random = random(USER_STREAM, index);
+            int surname = surnameIndex(random);
+            int first = random.nextInt(GIVEN_SYLLABLES.length);
+            int second = random.nextInt(GIVEN_SYLLABLES.length);
+            String name = SURNAMES[surname] + GIVEN_SYLLABLES[first] + GIVEN_SYLLABLES[second];
+            String email = GIVEN_SYLLABLES_ROMAN[first] + GIVEN_SYLLABLES_ROMAN[second] + "." + SURNAMES_ROMAN[surname]
+                + index + "@" + DOMAINS[random.nextInt(DOMAINS.length)];
+            String phone = String.format("010-%04d-%04d", (index / 10_000) % 10_000, index % 10_000);
+            String city = CITIES[random.nextInt(CITIES.length)];
+            String address = city + " " + GIVEN_SYLLABLES[first] + "구 " + TITLE_NOUNS[random.nextInt(TITLE_NOUNS.length)]
+                + "로 " + (1 + random.nextInt(300)) + "번길 " + (1 + random.nextInt(50));
+            Timestamp createdAt = timestamp(now.minusDays(historyDays + random.nextInt(365)));
+
+            return new Object[]{id, true, createdAt, createdAt, "User", name, email, phone, address,
+                Hangul.chosung(name), Hangul.jamo(name)};
+        }
+
+        /**
+         * 반납 완료 이력 - 도서/이용자 모두 Zipf 인기도로 선택
+         */
+        Object[] returnedLoan(long index, long id, long bookBaseId, long userBaseId) {
+            SplittableRandom random = random(LOAN_STREAM, index);
+            long bookId = bookBaseId + permute(bookSampler.sample(random), books);
+            long userId = userBaseId + permute(userSampler.sample(random), users);
+            LocalDateTime loanDate = now.minusDays(LOAN_PERIOD_DAYS + 21 + random.nextInt(historyDays))
+                .minusSeconds(random.nextInt(86_400));
+            LocalDateTime dueDate = loanDate.plusDays(LOAN_PERIOD_DAYS);
+            // 대부분 기한 내 반납, 일부는 연체 후 반납
+            LocalDateTime returnDate = loanDate.plusDays(1 + random.nextInt(LOAN_PERIOD_DAYS + 7))
+                .plusSeconds(random.nextInt(86_400));
+
+            return new Object[]{
+                id, true, timestamp(loanDate), timestamp(returnDate), "Loan", userId, bookId,
+                timestamp(loanDate), timestamp(dueDate), timestamp(returnDate), "RETURNED"
+            };
+        }
+
+        /**
+         * 대출 중 - activeLoanRatio 비율의 도서마다 1건 (도서의 available=false와 일치)
+         */
+        Object[] activeLoan(long bookIndex, long id, long bookBaseId, long userBaseId) {
+            if (!hasActiveLoan(bookIndex)) {
+                return null;
+            }
+            SplittableRandom random = random(ACTIVE_LOAN_STREAM, bookIndex);
+            // 대출 중 도서는 이용자에게 고르게 분산 (1인 최대 대출 권수 제한을 크게 넘지 않도록)
+            long userId = userBaseId + Math.floorMod(bookIndex * 7_919L, users);
+            LocalDateTime loanDate = now.minusDays(random.nextInt(LOAN_PERIOD_DAYS + 10))
+                .minusSeconds(random.nextInt(86_400));
+            LocalDateTime dueDate = loanDate.plusDays(LOAN_PERIOD_DAYS);
+
+            return new Object[]{
+                id, true, timestamp(loanDate), timestamp(loanDate), "Loan", userId, bookBaseId + bookIndex,
+                timestamp(loanDate), timestamp(dueDate), null, "ACTIVE"
+            };
+        }
+
+        private boolean hasActiveLoan(long bookIndex) {
+            return Math.floorMod(mix(seed ^ ACTIVE_LOAN_STREAM, bookIndex), 10_000L) < activeThreshold;
+        }
+
+        private String title(SplittableRandom random) {
+            String title = TITLE_ADJECTIVES[random.nextInt(TITLE_ADJECTIVES.length)] + " "
+                + TITLE_NOUNS[random.nextInt(TITLE_NOUNS.length)]
+                + TITLE_SUFFIXES[random.nextInt(TITLE_SUFFIXES.length)];
+            int volume = random.nextInt(20);
+            return volume == 0 ? title + " " + (2 + random.nextInt(4)) : title;
+        }
+
+        // 인덱스 → 이름 (같은 인덱스는 항상 같은 이름)
+        private String personName(int index) {
+            int surname = index % SURNAMES.length;
+            int first = (index / SURNAMES.length) % GIVEN_SYLLABLES.length;
+            int second = (index / (SURNAMES.length * GIVEN_SYLLABLES.length)) % GIVEN_SYLLABLES.length;
+            return SURNAMES[surname] + GIVEN_SYLLABLES[first] + GIVEN_SYLLABLES[second];
+        }
+
+        private String publisherName(int index) {
+            String name = PUBLISHER_PREFIXES[index % PUBLISHER_PREFIXES.length]
+                + PUBLISHER_SUFFIXES[(index / PUBLISHER_PREFIXES.length) % PUBLISHER_SUFFIXES.length];
+            int series = index / (PUBLISHER_PREFIXES.length * PUBLISHER_SUFFIXES.length);
+            return series == 0 ? name : name + " " + (series + 1);
+        }
+
+        // 최근 출간 도서 비중이 높도록 (1950 ~ 올해)
+        private int publishYear(SplittableRandom random) {
+            int thisYear = now.getYear();
+            int age = (int) Math.abs(random.nextDouble() * random.nextDouble() * (thisYear - 1950));
+            return thisYear - age;
+        }
+
+        // 김/이/박 순으로 흔한 성씨
+        private int surnameIndex(SplittableRandom random) {
+            double u = random.nextDouble();
+            return (int) (u * u * SURNAMES.length);
+        }
+
+        private SplittableRandom random(long stream, long index) {
+            return new SplittableRandom(mix(seed ^ stream, index));
+        }
+
+        /**
+         * Zipf 순위(1..n) → 0..n-1 인덱스 (인기 순위가 ID 순서와 겹치지 않도록 섞음)
+         */
+        private static int permute(int rank, int n) {
+            return (int) Math.floorMod((rank - 1) * 1_000_003L, (long) n);
+        }
+
+        /**
+         * ISBN-13 숫자 키 (979-1 + 8자리 일련번호 + 검증 숫자)
+         */
+        static long isbn13(long index) {
+            return Isbn.withCheckDigit(979_100_000_000L + index % 100_000_000L);
+        }
+
+        /**
+         * 979-1-NNNNNNNN-C 표기
+         */
+        static String formatIsbn13(long isbn13) {
+            return "979-1-" + String.format("%08d", isbn13 / 10 % 100_000_000L) + "-" + isbn13 % 10;
+        }
+
+        private static Timestamp timestamp(LocalDateTime dateTime) {
+            return Timestamp.valueOf(dateTime);
+        }
+
+        // SplitMix64
+        private static long mix(long seed, long index) {
+            long z = seed + (index + 1) * 0x9E3779B97F4A7C15L;
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            return z ^ (z >>> 31);
+        }
+    }
+
+    /**
+     * 테이블별 적재 결과
+     */
+    public record PhaseResult(String table, long rows, long millis) {
+
+        public long rowsPerSecond() {
+            return millis == 0 ? rows : rows * 1000 / millis;
+        }
+    }
+
+    /**
+     * 전체 적재 결과
+     */
+    public record Report(List<PhaseResult> phases) {
+
+        public long totalRows() {
+            return phases.stream().mapToLong(PhaseResult::rows).sum();
+        }
+
+        public long totalMillis() {
+            return phases.stream().mapToLong(PhaseResult::millis).sum();
+        }
+
+        public long rowsPerSecond() {
+            long millis = totalMillis();
+            return millis == 0 ? totalRows() : totalRows() * 1000 / millis;
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package com.example.wsa_mes_library.controller;
 
 import com.example.wsa_mes_library.entity.Book;
+import com.example.wsa_mes_library.lib.ChangePage;
+import com.example.wsa_mes_library.repository.BookFilter;
 import com.example.wsa_mes_library.service.BookService;
+import com.example.wsa_mes_library.service.PopularBook;
+import com.example.wsa_mes_library.service.PopularKeyword;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -28,6 +32,7 @@ public class BookController {
      * 
      * @param keyword 검색 키워드 (이름, 작가, 설명에서 검색)
      * @param author 작가명 정확 매칭
+     * @param mode 검색 방식 (exact: 기본, fuzzy: 오타 허용 - 비슷한 순으로 정렬)
      * @param pageable 페이징 정보 (page, size, sort)
      * @return 책 페이징 결과
      * 
@@ -35,17 +40,176 @@ public class BookController {
      * GET /api/books?page=0&size=10&sort=name,asc&sort=createdAt,desc
      * GET /api/books?keyword=java&sort=author,asc
      * GET /api/books?author=남궁성&page=1&size=5
+     * GET /api/books?keyword=이팩티브 자바&mode=fuzzy&size=20
      */
     @GetMapping
     public ResponseEntity<Page<Book>> getBooks(
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) String author,
+            @RequestParam(defaultValue = "exact") String mode,
             @PageableDefault(size = 1000, sort = "createdAt") Pageable pageable
     ) {
-        Page<Book> books = bookService.getBooks(keyword, author, pageable);
+        Page<Book> books = bookService.getBooks(keyword, author, "fuzzy".equalsIgnoreCase(mode), pageable);
         return ResponseEntity.ok(books);
     }
     
+    /**
+     * 값 조건 목록 (작가 / 출판사 / 출판연도 / 대출 가능 여부 - 지정한 조건 모두 일치)
+     * 
+     * @param author 작가명 정확 매칭
+     * @param publisher 출판사 정확 매칭
+     * @param publishYear 출판연도
+     * @param available true: 대출 가능, false: 대출 중
+     * @param pageable 페이징 정보 (page, size, sort)
+     * @return 책 페이징 결과
+     * 
+     * 사용 예시:
+     * GET /api/books/filter?publisher=한빛미디어&available=true
+     * GET /api/books/filter?author=남궁성&publishYear=2016&sort=name,asc
+     */
+    @GetMapping("/filter")
+    public ResponseEntity<Page<Book>> getBooksByFilter(
+            @RequestParam(required = false) String author,
+            @RequestParam(required = false) String publisher,
+            @RequestParam(required = false) Integer publishYear,
+            @RequestParam(required = false) Boolean available,
+            @PageableDefault(size = 20, sort = "createdAt") Pageable pageable
+    ) {
+        return ResponseEntity.ok(bookService.getBooksByFilter(
+            new BookFilter(author, publisher, publishYear, available), pageable));
+    }
+    
+    /**
+     * 값 조건 개수 (조건은 /filter 와 같음)
+     */
+    @GetMapping("/filter/count")
+    public ResponseEntity<Long> countBooksByFilter(
+            @RequestParam(required = false) String author,
+            @RequestParam(required = false) String publisher,
+            @RequestParam(required = false) Integer publishYear,
+            @RequestParam(required = false) Boolean available
+    ) {
+        return ResponseEntity.ok(bookService.countBooksByFilter(
+            new BookFilter(author, publisher, publishYear, available)));
+    }
+    
+    /**
+     * 한글 초성 / 자모 검색 (제목, 작가 - 단어 시작 기준 접두어 일치)
+     * 
+     * @param q 검색어 (초성만 입력하면 초성 검색)
+     * @param size 가져올 개수 (기본 20개, 최대 100개)
+     * @return 책 목록
+     * 
+     * 사용 예시:
+     * GET /api/books/search/chosung?q=ㅊㅅㅈㅇㅈ
+     * GET /api/books/search/chosung?q=ㅋㄷ&size=50
+     * GET /api/books/search/chosung?q=이펙
+     */
+    @GetMapping("/search/chosung")
+    public ResponseEntity<List<Book>> searchByChosung(
+            @RequestParam String q,
+            @RequestParam(required = false) Integer size
+    ) {
+        List<Book> books = bookService.searchByHangul(q, size);
+        return ResponseEntity.ok(books);
+    }
+    
+    /**
+     * 비슷한 책 조회 (설명 기준)
+     * 
+     * @param id 기준 책 ID
+     * @param size 가져올 개수 (기본 10개, 최대 50개)
+     * @return 비슷한 순으로 정렬된 책 목록
+     * 
+     * 사용 예시:
+     * GET /api/books/1/similar
+     * GET /api/books/1/similar?size=20
+     */
+    @GetMapping("/{id}/similar")
+    public ResponseEntity<List<Book>> getSimilarBooks(
+            @PathVariable Long id,
+            @RequestParam(required = false) Integer size
+    ) {
+        List<Book> books = bookService.getSimilarBooks(id, size);
+        return ResponseEntity.ok(books);
+    }
+    
+    /**
+     * 이 책을 빌린 이용자가 함께 빌린 책 조회
+     * 
+     * @param id 기준 책 ID
+     * @param size 가져올 개수 (기본 10개, 최대 50개)
+     * @return 함께 빌린 이용자가 많은 순으로 정렬된 책 목록
+     * 
+     * 사용 예시:
+     * GET /api/books/1/also-borrowed
+     * GET /api/books/1/also-borrowed?size=20
+     */
+    @GetMapping("/{id}/also-borrowed")
+    public ResponseEntity<List<Book>> getAlsoBorrowedBooks(
+            @PathVariable Long id,
+            @RequestParam(required = false) Integer size
+    ) {
+        List<Book> books = bookService.getAlsoBorrowedBooks(id, size);
+        return ResponseEntity.ok(books);
+    }
+    
+    /**
+     * 기간별 인기 도서 (대출 수 기준)
+     * 
+     * @param period 집계 기간 - day, week, month (기본 week)
+     * @param size 가져올 개수 (기본 10개, 최대 50개)
+     * @return 대출이 많은 순으로 정렬된 책과 추정 대출 수
+     * 
+     * 사용 예시:
+     * GET /api/books/popular
+     * GET /api/books/popular?period=month&size=20
+     */
+    @GetMapping("/popular")
+    public ResponseEntity<List<PopularBook>> getPopularBooks(
+            @RequestParam(defaultValue = "week") String period,
+            @RequestParam(required = false) Integer size
+    ) {
+        List<PopularBook> books = bookService.getPopularBooks(period, size);
+        return ResponseEntity.ok(books);
+    }
+    
+    /**
+     * 기간별 인기 검색어
+     * 
+     * @param period 집계 기간 - day, week, month (기본 week)
+     * @param size 가져올 개수 (기본 10개, 최대 50개)
+     * @return 검색이 많은 순으로 정렬된 검색어와 추정 검색 수
+     * 
+     * 사용 예시:
+     * GET /api/books/popular/keywords
+     * GET /api/books/popular/keywords?period=day
+     */
+    @GetMapping("/popular/keywords")
+    public ResponseEntity<List<PopularKeyword>> getPopularKeywords(
+            @RequestParam(defaultValue = "week") String period,
+            @RequestParam(required = false) Integer size
+    ) {
+        List<PopularKeyword> keywords = bookService.getPopularKeywords(period, size);
+        return ResponseEntity.ok(keywords);
+    }
+    
+    /**
+     * 변경분 동기화 - since 이후 바뀐 책 (삭제된 책은 active=false)
+     * 
+     * @param since 이전 응답의 next (생략하면 처음부터)
+     * @param size 가져올 개수 (기본 100개, 최대 1000개)
+     * @return 바뀐 순서대로 정렬된 책, 다음 요청 토큰(next), 더 있는지 여부(hasMore)
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<ChangePage<Book>> getChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false) Integer size
+    ) {
+        ChangePage<Book> changes = bookService.getChanges(since, size);
+        return ResponseEntity.ok(changes);
+    }
+    
     /**
      * 책 단건 조회 (ID로)
      * 
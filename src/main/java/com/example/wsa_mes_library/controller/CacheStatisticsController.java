@@ -0,0 +1,52 @@
+package com.example.wsa_mes_library.controller;
+
+import com.example.wsa_mes_library.service.CacheStatisticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * 2차 캐시 통계 API Controller (관리자용)
+ */
+@RestController
+@RequestMapping("/api/cache")
+@RequiredArgsConstructor
+public class CacheStatisticsController {
+    
+    private final CacheStatisticsService cacheStatisticsService;
+    
+    /**
+     * 캐시 적중률 통계 조회
+     * 
+     * @return 2차 캐시 / 쿼리 캐시 / 영역별 통계
+     */
+    @GetMapping("/statistics")
+    public ResponseEntity<Map<String, Object>> getStatistics() {
+        return ResponseEntity.ok(cacheStatisticsService.getStatistics());
+    }
+    
+    /**
+     * 특정 캐시 영역 비우기
+     * 
+     * @param region 영역 이름 (예: com.example.wsa_mes_library.entity.Book, bookQueries)
+     * @return 처리 결과
+     */
+    @DeleteMapping("/regions/{region}")
+    public ResponseEntity<Void> evictRegion(@PathVariable String region) {
+        cacheStatisticsService.evictRegion(region);
+        return ResponseEntity.noContent().build();
+    }
+    
+    /**
+     * 전체 캐시 비우기 및 통계 초기화
+     * 
+     * @return 처리 결과
+     */
+    @DeleteMapping("/regions")
+    public ResponseEntity<Void> evictAll() {
+        cacheStatisticsService.evictAll();
+        return ResponseEntity.noContent().build();
+    }
+}
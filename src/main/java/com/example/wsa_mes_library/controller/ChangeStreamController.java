@@ -0,0 +1,35 @@
+package com.example.wsa_mes_library.controller;
+
+import com.example.wsa_mes_library.service.ChangeStreamService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 도서 / 대출 변경 알림 API Controller (Server-Sent Events)
+ * 목록 화면은 주기적으로 다시 읽는 대신 알림을 받을 때만 새로 고침
+ */
+@RestController
+@RequestMapping("/api/events")
+@RequiredArgsConstructor
+public class ChangeStreamController {
+    
+    private final ChangeStreamService changeStreamService;
+    
+    /**
+     * 변경 알림 구독
+     * 
+     * @return 이벤트 스트림 (이벤트 이름: book, loan-created, loan-returned, loans-overdue)
+     * 
+     * 사용 예시:
+     * const source = new EventSource('/api/events');
+     * source.addEventListener('loan-returned', e => console.log(JSON.parse(e.data)));
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe() {
+        return changeStreamService.subscribe();
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.wsa_mes_library.controller;
+
+import com.example.wsa_mes_library.entity.Hold;
+import com.example.wsa_mes_library.service.HoldPosition;
+import com.example.wsa_mes_library.service.HoldService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Hold(예약) API Controller
+ * 대출 중인 도서를 예약하면 반납 시 선착순으로 자동 대출
+ */
+@RestController
+@RequestMapping("/api/holds")
+@RequiredArgsConstructor
+public class HoldController {
+    
+    private final HoldService holdService;
+    
+    /**
+     * 사용자별 대기 중인 예약과 순번 조회
+     * 
+     * @param userId 사용자 ID
+     * @return 예약 순으로 정렬된 예약과 대기 순번 (1부터)
+     */
+    @GetMapping("/user/{userId}")
+    public ResponseEntity<List<HoldPosition>> getHoldsByUser(@PathVariable Long userId) {
+        List<HoldPosition> holds = holdService.getHoldsByUserId(userId);
+        return ResponseEntity.ok(holds);
+    }
+    
+    /**
+     * 도서의 예약 대기 인원 조회
+     * 
+     * @param bookId 도서 ID
+     * @return 대기 인원
+     */
+    @GetMapping("/book/{bookId}/count")
+    public ResponseEntity<Integer> getQueueLength(@PathVariable Long bookId) {
+        int count = holdService.getQueueLength(bookId);
+        return ResponseEntity.ok(count);
+    }
+    
+    /**
+     * 도서 예약 (대출 중인 도서만)
+     * 
+     * @param userId 사용자 ID
+     * @param bookId 도서 ID
+     * @return 생성된 예약과 대기 순번
+     */
+    @PostMapping
+    public ResponseEntity<HoldPosition> placeHold(
+            @RequestParam Long userId,
+            @RequestParam Long bookId
+    ) {
+        HoldPosition hold = holdService.placeHold(userId, bookId);
+        return ResponseEntity.status(201).body(hold);
+    }
+    
+    /**
+     * 예약 취소
+     * 
+     * @param id 예약 ID
+     * @return 취소된 예약 정보
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Hold> cancelHold(@PathVariable Long id) {
+        Hold hold = holdService.cancelHold(id);
+        return ResponseEntity.ok(hold);
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.wsa_mes_library.controller;
 
 import com.example.wsa_mes_library.entity.Loan;
+import com.example.wsa_mes_library.lib.ChangePage;
 import com.example.wsa_mes_library.service.LoanService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -38,6 +39,22 @@ public class LoanController {
         return ResponseEntity.ok(loans);
     }
     
+    /**
+     * 변경분 동기화 - since 이후 바뀐 대출 (반납 / 연체 처리 포함)
+     * 
+     * @param since 이전 응답의 next (생략하면 처음부터)
+     * @param size 가져올 개수 (기본 100개, 최대 1000개)
+     * @return 바뀐 순서대로 정렬된 대출, 다음 요청 토큰(next), 더 있는지 여부(hasMore)
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<ChangePage<Loan>> getChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false) Integer size
+    ) {
+        ChangePage<Loan> changes = loanService.getChanges(since, size);
+        return ResponseEntity.ok(changes);
+    }
+    
     /**
      * 대출 단건 조회
      * 
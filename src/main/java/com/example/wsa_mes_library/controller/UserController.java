@@ -1,6 +1,7 @@
 package com.example.wsa_mes_library.controller;
 
 import com.example.wsa_mes_library.entity.User;
+import com.example.wsa_mes_library.lib.ChangePage;
 import com.example.wsa_mes_library.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -9,6 +10,7 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -24,9 +26,9 @@ public class UserController {
     /**
      * 사용자 목록 조회
      * 
-     * @param keyword 검색 키워드 (이름, 이메일)
-     * @param pageable 페이징 정보
-     * @return 사용자 페이징 결과
+     * @param keyword 검색 키워드 (이름 단어 / 이메일 앞부분 접두어, @ 가 있으면 이메일 정확히 일치)
+     * @param pageable 페이징 정보 (키워드 검색은 앞 1000건까지 - 넘는 페이지는 400)
+     * @return 사용자 페이징 결과 (전체 건수는 실제 일치 수)
      */
     @GetMapping
     public ResponseEntity<Page<User>> getUsers(
@@ -37,6 +39,38 @@ public class UserController {
         return ResponseEntity.ok(users);
     }
     
+    /**
+     * 한글 초성 / 자모 이름 검색
+     * 
+     * @param q 검색어 (예: ㄱㅁㅅ, 김민)
+     * @param size 가져올 개수 (기본 20개, 최대 100개)
+     * @return 사용자 목록
+     */
+    @GetMapping("/search/chosung")
+    public ResponseEntity<List<User>> searchByChosung(
+            @RequestParam String q,
+            @RequestParam(required = false) Integer size
+    ) {
+        List<User> users = userService.searchByHangul(q, size);
+        return ResponseEntity.ok(users);
+    }
+    
+    /**
+     * 변경분 동기화 - since 이후 바뀐 사용자
+     * 
+     * @param since 이전 응답의 next (생략하면 처음부터)
+     * @param size 가져올 개수 (기본 100개, 최대 1000개)
+     * @return 바뀐 순서대로 정렬된 사용자(삭제된 사용자는 id 와 active=false 만), 다음 요청 토큰(next), 더 있는지 여부(hasMore)
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<ChangePage<User>> getChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false) Integer size
+    ) {
+        ChangePage<User> changes = userService.getChanges(since, size);
+        return ResponseEntity.ok(changes);
+    }
+    
     /**
      * 사용자 단건 조회
      * 
@@ -1,15 +1,33 @@
 package com.example.wsa_mes_library.entity;
 
 import com.example.wsa_mes_library.lib.BaseEntity;
+import com.example.wsa_mes_library.lib.Hangul;
+import com.example.wsa_mes_library.lib.Isbn;
+import com.example.wsa_mes_library.lib.MinHash;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.FilterDef;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+// 삭제(비활성) 도서 전역 제외 - 모든 세션에서 자동으로 켜져 JPQL / QueryDSL 조회에 active = true 가 붙음
+// ID 조회(findById, 지연 로딩)에는 적용하지 않음, 삭제분까지 봐야 하는 곳(변경분 동기화)은 세션에서 끔
+@FilterDef(name = Book.ACTIVE_FILTER, defaultCondition = "active = true", autoEnabled = true)
+@Filter(name = Book.ACTIVE_FILTER)
 @Getter
 @Setter
 @SuperBuilder
@@ -17,12 +35,17 @@ import java.util.List;
 @AllArgsConstructor
 public class Book extends BaseEntity {
 
+    public static final String ACTIVE_FILTER = "activeBook";
+
     private String name;
 
     private String author;
 
     private String isbn;
 
+    // 조회 / 중복 확인용 정규화 키 (ISBN-13 숫자, isbn 저장 시 자동 계산)
+    private Long isbn13;
+
     private String description;
     
     private String publisher;
@@ -31,8 +54,29 @@ public class Book extends BaseEntity {
     
     @Builder.Default
     private Boolean available = true;
+
+    // 한글 초성 / 자모 검색 키 (name, author 저장 시 자동 계산)
+    @JsonIgnore
+    private String nameChosung;
+
+    @JsonIgnore
+    @Column(length = 1000)
+    private String nameJamo;
+
+    @JsonIgnore
+    private String authorChosung;
+
+    @JsonIgnore
+    @Column(length = 1000)
+    private String authorJamo;
+
+    // 비슷한 책 찾기용 설명 MinHash 서명 (description 저장 시 자동 계산)
+    @JsonIgnore
+    @Column(length = MinHash.BYTES)
+    private byte[] descriptionMinhash;
     
     @Builder.Default
+    @JsonIgnore // 직렬화 시 지연 로딩(N+1) 및 Loan과의 순환 참조 방지
     @OneToMany(mappedBy = "book")
     private List<Loan> loans = new ArrayList<>();
     
@@ -40,5 +84,16 @@ public class Book extends BaseEntity {
         return available != null && available;
     }
 
+    @PrePersist
+    @PreUpdate
+    protected void updateSearchKeys() {
+        long key = Isbn.toIsbn13(isbn);
+        this.isbn13 = key == Isbn.INVALID ? null : key;
+        this.nameChosung = Hangul.chosung(name);
+        this.nameJamo = Hangul.jamo(name);
+        this.authorChosung = Hangul.chosung(author);
+        this.authorJamo = Hangul.jamo(author);
+        this.descriptionMinhash = MinHash.toBytes(MinHash.signature(description));
+    }
 
 }
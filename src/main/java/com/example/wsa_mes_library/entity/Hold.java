@@ -0,0 +1,51 @@
+package com.example.wsa_mes_library.entity;
+
+import com.example.wsa_mes_library.lib.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대출 중인 도서 예약 (도서별 선착순 - id 순)
+ */
+@Entity
+@Table(name = "book_hold")
+@Getter
+@Setter
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+public class Hold extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
+    private User user;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "book_id")
+    private Book book;
+    
+    // 이 시각까지 차례가 오지 않으면 만료
+    private LocalDateTime expiresAt;
+    
+    @Enumerated(EnumType.STRING)
+    @Builder.Default
+    private HoldStatus status = HoldStatus.WAITING;
+    
+    public enum HoldStatus {
+        WAITING,    // 대기 중
+        FULFILLED,  // 대출로 전환
+        CANCELLED,  // 취소
+        EXPIRED     // 만료
+    }
+    
+    public boolean isWaiting() {
+        return status == HoldStatus.WAITING;
+    }
+    
+    public boolean isExpired() {
+        return expiresAt != null && LocalDateTime.now().isAfter(expiresAt);
+    }
+}
@@ -1,17 +1,30 @@
 package com.example.wsa_mes_library.entity;
 
 import com.example.wsa_mes_library.lib.BaseEntity;
+import com.example.wsa_mes_library.lib.Hangul;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "users")
+@NaturalIdCache // 이메일 -> ID 캐시 (단건 이메일 조회가 캐시 적중 시 DB 조회 없이)
 @Getter
 @Setter
 @SuperBuilder
@@ -21,13 +34,31 @@ public class User extends BaseEntity {
 
     private String name;
     
+    // 자연 키 (uk_users_email), 수정 가능 - bySimpleNaturalId 로 조회
+    @NaturalId(mutable = true)
     private String email;
     
     private String phone;
     
     private String address;
     
+    // 한글 초성 / 자모 검색 키 (name 저장 시 자동 계산)
+    @JsonIgnore
+    private String nameChosung;
+    
+    @JsonIgnore
+    @Column(length = 1000)
+    private String nameJamo;
+    
     @Builder.Default
+    @JsonIgnore // 직렬화 시 지연 로딩(N+1) 및 Loan과의 순환 참조 방지
     @OneToMany(mappedBy = "user")
     private List<Loan> loans = new ArrayList<>();
+    
+    @PrePersist
+    @PreUpdate
+    protected void updateSearchKeys() {
+        this.nameChosung = Hangul.chosung(name);
+        this.nameJamo = Hangul.jamo(name);
+    }
 }
@@ -0,0 +1,82 @@
+package com.example.wsa_mes_library.lib;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 지연시간 기반 적응형 동시 실행 제한 (AIMD)
+ * - 제한 안이면 바로 통과, 넘으면 바로 거절 (대기열 없음 - 밀린 요청이 커넥션 풀 대기로 쌓이지 않게)
+ * - 완료된 요청의 지연시간이 목표 이하이고 제한을 절반 넘게 쓰고 있으면 제한 +1/limit (RTT 당 약 +1)
+ * - 목표를 넘거나 실패하면 제한 x backoff (곱셈 감소) - 과부하가 오면 몇 번 안에 빠르게 줄어듦
+ */
+public final class AimdLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long targetNanos;
+    private final double backoff;
+    private final AtomicInteger inflight = new AtomicInteger();
+    private volatile double limit;
+
+    /**
+     * @param initialLimit 시작 제한
+     * @param minLimit 최소 제한 (과부하에도 이만큼은 통과)
+     * @param maxLimit 최대 제한
+     * @param targetNanos 목표 지연시간
+     * @param backoff 감소 비율 (0.5 ~ 1 미만)
+     */
+    public AimdLimiter(int initialLimit, int minLimit, int maxLimit, long targetNanos, double backoff) {
+        if (minLimit <= 0 || minLimit > maxLimit) {
+            throw new IllegalArgumentException("0 < minLimit <= maxLimit 이어야 합니다");
+        }
+        if (backoff <= 0 || backoff >= 1) {
+            throw new IllegalArgumentException("backoff 는 0 과 1 사이여야 합니다");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.targetNanos = targetNanos;
+        this.backoff = backoff;
+        this.limit = Math.clamp(initialLimit, minLimit, maxLimit);
+    }
+
+    /**
+     * @return 통과하면 true - 반드시 {@link #release} 로 돌려줌
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inflight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 완료 처리 + 제한 조정
+     *
+     * @param elapsedNanos 처리 시간
+     * @param failed 서버 오류 / 시간 초과 (지연시간과 무관하게 감소)
+     */
+    public void release(long elapsedNanos, boolean failed) {
+        int before = inflight.getAndDecrement();
+        synchronized (this) {
+            double current = limit;
+            if (failed || elapsedNanos > targetNanos) {
+                limit = Math.max(minLimit, current * backoff);
+            } else if (before * 2 >= current) {
+                // 제한에 한참 못 미치게 쓰는 중이면 늘려도 근거가 없음
+                limit = Math.min(maxLimit, current + 1 / current);
+            }
+        }
+    }
+
+    public int limit() {
+        return (int) limit;
+    }
+
+    public int inflight() {
+        return inflight.get();
+    }
+}
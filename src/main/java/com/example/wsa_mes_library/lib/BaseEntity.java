@@ -2,6 +2,7 @@ package com.example.wsa_mes_library.lib;
 
 import jakarta.persistence.*;
 import lombok.AccessLevel;
+import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -25,6 +26,7 @@ public class BaseEntity {
     @SequenceGenerator(name = "sequence", allocationSize = 1)
     protected Long id;
 
+    @Builder.Default
     protected Boolean active = true;
 
     @CreatedDate
@@ -37,6 +39,17 @@ public class BaseEntity {
     protected String entityType = this.getClass().getSimpleName();
 
 
+    // 빌더로 생성된 엔티티는 필드 초기값이 적용되지 않으므로 저장 직전에 보정
+    @PrePersist
+    protected void prePersist() {
+        if (this.active == null) {
+            this.active = true;
+        }
+        if (this.entityType == null) {
+            this.entityType = this.getClass().getSimpleName();
+        }
+    }
+
     // 활성화/비활성화 메서드
     public void activate() {
         this.active = true;
@@ -0,0 +1,167 @@
+package com.example.wsa_mes_library.lib;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 다수 구독자에게 메시지를 퍼뜨리는 브로드캐스터 (발행자는 대기하지 않음)
+ * - 구독자마다 고정 크기 MpscRingBuffer + 전용 가상 스레드 - 발행은 구독자당 CAS 한 번, 전송(블로킹 I/O)은 각자 스레드에서
+ * - 버퍼가 가득 찬 구독자(느린 소비자)는 바로 내보냄 - 한 구독자 때문에 다른 구독자나 발행자가 밀리지 않음
+ * - 보낼 메시지가 없으면 heartbeat 간격마다 sink.heartbeat() (끊어진 연결 감지 / 프록시 유휴 종료 방지)
+ */
+public final class Broadcaster<T> {
+
+    /**
+     * 구독자 한 명의 전송 대상 - 구독자 전용 스레드에서만 호출
+     */
+    public interface Sink<T> {
+
+        void send(T message) throws IOException;
+
+        void heartbeat() throws IOException;
+
+        /**
+         * 구독 종료 (연결 오류 / 느린 소비자 / 명시적 해제 모두) - 한 번만 호출
+         */
+        void close();
+    }
+
+    private final int bufferSize;
+    private final long heartbeatNanos;
+    private final int maxSubscribers;
+    private final Set<Subscriber<T>> subscribers = ConcurrentHashMap.newKeySet();
+    private final LongAdder evicted = new LongAdder();
+
+    /**
+     * @param bufferSize 구독자별 대기 메시지 수 (넘으면 내보냄)
+     * @param heartbeatNanos 유휴 시 heartbeat 간격
+     * @param maxSubscribers 최대 구독자 수
+     */
+    public Broadcaster(int bufferSize, long heartbeatNanos, int maxSubscribers) {
+        if (heartbeatNanos <= 0 || maxSubscribers <= 0) {
+            throw new IllegalArgumentException("heartbeat, maxSubscribers 는 0 보다 커야 합니다");
+        }
+        this.bufferSize = bufferSize;
+        this.heartbeatNanos = heartbeatNanos;
+        this.maxSubscribers = maxSubscribers;
+    }
+
+    /**
+     * 구독 시작 - 반환한 핸들로 해제
+     *
+     * @throws IllegalStateException 최대 구독자 수 초과
+     */
+    public Subscription subscribe(Sink<T> sink) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new IllegalStateException("구독자 수가 최대치에 도달했습니다. (최대 " + maxSubscribers + "명)");
+        }
+        Subscriber<T> subscriber = new Subscriber<>(this, sink, new MpscRingBuffer<>(bufferSize));
+        subscribers.add(subscriber);
+        subscriber.thread = Thread.ofVirtual().name("broadcast-subscriber").start(subscriber::run);
+        return subscriber;
+    }
+
+    /**
+     * 모든 구독자 버퍼에 추가 (가득 찬 구독자는 내보냄)
+     */
+    public void publish(T message) {
+        for (Subscriber<T> subscriber : subscribers) {
+            if (!subscriber.buffer.offer(message)) {
+                evicted.increment();
+                subscriber.cancel();
+                continue;
+            }
+            if (subscriber.parked) {
+                LockSupport.unpark(subscriber.thread);
+            }
+        }
+    }
+
+    public int size() {
+        return subscribers.size();
+    }
+
+    /**
+     * 느린 소비자로 내보낸 누적 구독자 수
+     */
+    public long evictedCount() {
+        return evicted.sum();
+    }
+
+    /**
+     * 모든 구독 해제
+     */
+    public void close() {
+        subscribers.forEach(Subscriber::cancel);
+    }
+
+    public interface Subscription {
+
+        void cancel();
+    }
+
+    private static final class Subscriber<T> implements Subscription {
+
+        final Broadcaster<T> owner;
+        final Sink<T> sink;
+        final MpscRingBuffer<T> buffer;
+        volatile Thread thread;
+        volatile boolean parked;
+        volatile boolean cancelled;
+
+        Subscriber(Broadcaster<T> owner, Sink<T> sink, MpscRingBuffer<T> buffer) {
+            this.owner = owner;
+            this.sink = sink;
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void cancel() {
+            if (cancelled) {
+                return;
+            }
+            cancelled = true;
+            owner.subscribers.remove(this);
+            // 전송 중(블로킹)이면 전송이 끝난 뒤 스레드가 스스로 종료
+            Thread current = thread;
+            if (current != null) {
+                LockSupport.unpark(current);
+            }
+        }
+
+        void run() {
+            long lastSent = System.nanoTime();
+            try {
+                while (!cancelled) {
+                    T message = buffer.poll();
+                    if (message != null) {
+                        sink.send(message);
+                        lastSent = System.nanoTime();
+                        continue;
+                    }
+                    long idle = System.nanoTime() - lastSent;
+                    if (idle >= owner.heartbeatNanos) {
+                        sink.heartbeat();
+                        lastSent = System.nanoTime();
+                        continue;
+                    }
+                    // 비어 있으면 다음 heartbeat 까지 대기 - 새 메시지가 들어오면 발행자가 깨움
+                    parked = true;
+                    if (buffer.isEmpty() && !cancelled) {
+                        LockSupport.parkNanos(this, owner.heartbeatNanos - idle);
+                    }
+                    parked = false;
+                }
+            } catch (IOException | RuntimeException e) {
+                // 연결이 끊긴 구독자 - 아래에서 정리
+            } finally {
+                cancelled = true;
+                owner.subscribers.remove(this);
+                sink.close();
+            }
+        }
+    }
+}
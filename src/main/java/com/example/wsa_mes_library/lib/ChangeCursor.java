@@ -0,0 +1,51 @@
+package com.example.wsa_mes_library.lib;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+/**
+ * 변경분 동기화 커서 - 마지막으로 받은 행의 (updatedAt, id)
+ * 토큰은 "마이크로초:id" 를 base64url 로 감싼 문자열 (클라이언트는 내용을 해석하지 않고 그대로 돌려줌)
+ * - updatedAt 은 DB 정밀도(마이크로초)로 자름 - 같은 시각의 행은 id 로 이어 읽음
+ */
+public record ChangeCursor(LocalDateTime updatedAt, long id) {
+
+    /**
+     * 처음부터 (전체 동기화)
+     */
+    public static final ChangeCursor START = new ChangeCursor(LocalDateTime.of(1970, 1, 1, 0, 0), 0);
+
+    public static ChangeCursor of(BaseEntity entity) {
+        return new ChangeCursor(entity.getUpdatedAt().truncatedTo(ChronoUnit.MICROS), entity.getId());
+    }
+
+    /**
+     * @param token 이전 응답의 next (비어 있으면 처음부터)
+     * @throws IllegalArgumentException 형식이 맞지 않는 토큰
+     */
+    public static ChangeCursor parse(String token) {
+        if (token == null || token.isBlank()) {
+            return START;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.US_ASCII);
+            int separator = decoded.indexOf(':');
+            long micros = Long.parseLong(decoded.substring(0, separator));
+            long id = Long.parseLong(decoded.substring(separator + 1));
+            LocalDateTime updatedAt = LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000),
+                (int) Math.floorMod(micros, 1_000_000) * 1_000, ZoneOffset.UTC);
+            return new ChangeCursor(updatedAt, id);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 동기화 토큰입니다: " + token);
+        }
+    }
+
+    public String encode() {
+        long micros = updatedAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + updatedAt.getNano() / 1_000;
+        String raw = micros + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+}
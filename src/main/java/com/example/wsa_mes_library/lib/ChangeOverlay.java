@@ -0,0 +1,78 @@
+package com.example.wsa_mes_library.lib;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+/**
+ * 불변 메모리 인덱스 위에 얹는 변경분 (ID -> 최신 값, 삭제는 호출 측이 정한 표식 값)
+ * 인덱스를 다시 생성하는 동안 들어온 변경은 새 변경분에 쌓고,
+ * 직전 변경분(retired)은 새 인덱스가 준비될 때까지 함께 확인
+ *
+ * 사용 순서: beginRebuild() -> DB 에서 인덱스 생성 -> 인덱스 교체 -> finishRebuild()
+ */
+public final class ChangeOverlay<V> {
+
+    private volatile Map<Long, V> delta = new ConcurrentHashMap<>();
+    private volatile Map<Long, V> retired = Map.of();
+
+    public void put(Long id, V value) {
+        delta.put(id, value);
+    }
+
+    /**
+     * 아직 인덱스에 반영되지 않은 변경 건수
+     */
+    public int size() {
+        return delta.size();
+    }
+
+    public void beginRebuild() {
+        // 직전 생성이 실패했으면 그때의 변경분도 유지
+        Map<Long, V> pending = new ConcurrentHashMap<>(retired);
+        pending.putAll(delta);
+        retired = pending;
+        delta = new ConcurrentHashMap<>();
+    }
+
+    public void finishRebuild() {
+        retired = Map.of();
+    }
+
+    /**
+     * 검색 한 번 동안 일관되게 볼 변경분
+     */
+    public View<V> view() {
+        return new View<>(delta, retired);
+    }
+
+    public record View<V>(Map<Long, V> delta, Map<Long, V> retired) {
+
+        /**
+         * 인덱스의 이 ID 항목이 변경분으로 대체되었는지 (결과에서 제외해야 하는지)
+         */
+        public boolean overrides(long id) {
+            return delta.containsKey(id) || retired.containsKey(id);
+        }
+
+        /**
+         * 이 ID 의 최신 변경 값 (변경이 없으면 null)
+         */
+        public V get(long id) {
+            V value = delta.get(id);
+            return value != null ? value : retired.get(id);
+        }
+
+        /**
+         * ID 별 최신 값 (같은 ID 는 delta 가 우선)
+         */
+        public void forEach(BiConsumer<Long, V> action) {
+            delta.forEach(action);
+            retired.forEach((id, value) -> {
+                if (!delta.containsKey(id)) {
+                    action.accept(id, value);
+                }
+            });
+        }
+    }
+}
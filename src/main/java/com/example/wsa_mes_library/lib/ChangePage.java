@@ -0,0 +1,23 @@
+package com.example.wsa_mes_library.lib;
+
+import java.util.List;
+
+/**
+ * 변경분 동기화 응답 한 묶음
+ *
+ * @param items 변경된 행 (updatedAt, id 순 - active=false 는 삭제된 행)
+ * @param next 다음 요청의 since 값 (변경이 없으면 받은 since 를 그대로)
+ * @param hasMore true 면 바로 이어서 요청, false 면 잠시 후 다시 요청
+ */
+public record ChangePage<T>(List<T> items, String next, boolean hasMore) {
+
+    /**
+     * @param rows limit + 1 건까지 조회한 결과 (한 건 더 있으면 hasMore)
+     */
+    public static <T extends BaseEntity> ChangePage<T> of(List<T> rows, int limit, ChangeCursor from) {
+        boolean hasMore = rows.size() > limit;
+        List<T> items = hasMore ? rows.subList(0, limit) : rows;
+        ChangeCursor next = items.isEmpty() ? from : ChangeCursor.of(items.get(items.size() - 1));
+        return new ChangePage<>(items, next.encode(), hasMore);
+    }
+}
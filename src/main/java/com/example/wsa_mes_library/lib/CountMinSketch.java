@@ -0,0 +1,90 @@
+package com.example.wsa_mes_library.lib;
+
+import java.util.Arrays;
+
+/**
+ * Count-Min 스케치 - 고정 메모리(depth x width int)로 키별 빈도 추정
+ * 추정값은 실제 빈도 이상이며, 전체 합이 N 일 때 e/width * N 이하의 과대 추정이 1 - e^-depth 확률로 보장
+ * - 보수적 갱신: 현재 최솟값과 같은 칸만 증가시켜 과대 추정을 줄임
+ * - 키는 호출 측에서 64비트 해시로 넘김 (행마다 다른 시드로 다시 섞음)
+ * - 동기화하지 않음 (호출 측에서 보호)
+ */
+public final class CountMinSketch {
+
+    private final int depth;
+    private final int mask;
+    private final int[] table;
+    private long total;
+
+    /**
+     * @param width 행당 칸 수 (2의 거듭제곱으로 올림)
+     * @param depth 행 수 (해시 함수 수)
+     */
+    public CountMinSketch(int width, int depth) {
+        if (width <= 0 || depth <= 0) {
+            throw new IllegalArgumentException("width, depth 는 1 이상이어야 합니다: " + width + ", " + depth);
+        }
+        int capacity = Integer.highestOneBit(width * 2 - 1);
+        this.depth = depth;
+        this.mask = capacity - 1;
+        this.table = new int[depth * capacity];
+    }
+
+    private CountMinSketch(CountMinSketch source) {
+        this.depth = source.depth;
+        this.mask = source.mask;
+        this.table = source.table.clone();
+        this.total = source.total;
+    }
+
+    /**
+     * 빈도 1 증가 - 증가 후 추정값
+     */
+    public int add(long hash) {
+        int estimate = estimate(hash);
+        for (int row = 0; row < depth; row++) {
+            int cell = cell(hash, row);
+            if (table[cell] == estimate) {
+                table[cell]++;
+            }
+        }
+        total++;
+        return estimate + 1;
+    }
+
+    /**
+     * 추정 빈도 (실제 빈도 이상)
+     */
+    public int estimate(long hash) {
+        int min = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, table[cell(hash, row)]);
+        }
+        return min;
+    }
+
+    /**
+     * 지금까지 더한 전체 빈도
+     */
+    public long total() {
+        return total;
+    }
+
+    /**
+     * 지금 상태의 사본 (잠금을 쥔 채 복사하고 추정은 잠금 밖에서 사본으로)
+     */
+    public CountMinSketch copy() {
+        return new CountMinSketch(this);
+    }
+
+    public void clear() {
+        Arrays.fill(table, 0);
+        total = 0;
+    }
+
+    private int cell(long hash, int row) {
+        long h = (hash + row) * 0x9E37_79B9_7F4A_7C15L;
+        h ^= h >>> 29;
+        return row * (mask + 1) + ((int) h & mask);
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.wsa_mes_library.lib;
+
+/**
+ * 한글 검색 키 생성 유틸
+ * - chosung: 음절을 초성으로 ("채식주의자" -> "ㅊㅅㅈㅇㅈ")
+ * - jamo: 음절 / 겹자모를 기본 자모로 분해 ("과자" -> "ㄱㅗㅏㅈㅏ")
+ *   입력 중인 글자("채시" -> "ㅊㅐㅅㅣ")도 완성된 제목("채식" -> "ㅊㅐㅅㅣㄱ")의 접두어가 되도록 겹모음 / 겹받침까지 분해
+ *
+ * 공통 규칙: 영문은 소문자, 숫자는 그대로, 공백은 단어 구분용 공백 한 칸, 그 외 문자(문장부호 등)는 제외
+ */
+public final class Hangul {
+
+    private static final char SYLLABLE_BASE = '가';
+    private static final char SYLLABLE_LAST = '힣';
+    private static final int MEDIAL_COUNT = 21;
+    private static final int FINAL_COUNT = 28;
+
+    private static final char COMPAT_FIRST = 'ㄱ';
+    private static final char COMPAT_LAST = 'ㅣ';
+    private static final char COMPAT_CONSONANT_LAST = 'ㅎ';
+
+    private static final char[] INITIALS = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ".toCharArray();
+
+    private static final String[] MEDIALS = {
+        "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ",
+        "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+
+    private static final String[] FINALS = {
+        "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+        "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    // 호환 자모(ㄱ ~ ㅣ) 한 글자의 기본 자모 분해 (ㄳ -> ㄱㅅ, ㅘ -> ㅗㅏ)
+    private static final String[] COMPAT_JAMO = new String[COMPAT_LAST - COMPAT_FIRST + 1];
+
+    static {
+        for (char c = COMPAT_FIRST; c <= COMPAT_LAST; c++) {
+            COMPAT_JAMO[c - COMPAT_FIRST] = String.valueOf(c);
+        }
+        String[] compounds = {"ㄳㄱㅅ", "ㄵㄴㅈ", "ㄶㄴㅎ", "ㄺㄹㄱ", "ㄻㄹㅁ", "ㄼㄹㅂ", "ㄽㄹㅅ", "ㄾㄹㅌ", "ㄿㄹㅍ",
+            "ㅀㄹㅎ", "ㅄㅂㅅ", "ㅘㅗㅏ", "ㅙㅗㅐ", "ㅚㅗㅣ", "ㅝㅜㅓ", "ㅞㅜㅔ", "ㅟㅜㅣ", "ㅢㅡㅣ"};
+        for (String compound : compounds) {
+            COMPAT_JAMO[compound.charAt(0) - COMPAT_FIRST] = compound.substring(1);
+        }
+    }
+
+    private Hangul() {
+    }
+
+    /**
+     * 초성 키 ("클린 코드" -> "ㅋㄹ ㅋㄷ")
+     */
+    public static String chosung(CharSequence text) {
+        if (text == null) {
+            return null;
+        }
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0, length = text.length(); i < length; i++) {
+            char c = text.charAt(i);
+            if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+                sb.append(INITIALS[(c - SYLLABLE_BASE) / (MEDIAL_COUNT * FINAL_COUNT)]);
+            } else {
+                appendOther(sb, c);
+            }
+        }
+        return trim(sb);
+    }
+
+    /**
+     * 자모 분해 키 ("클린 코드" -> "ㅋㅡㄹㄹㅣㄴ ㅋㅗㄷㅡ")
+     */
+    public static String jamo(CharSequence text) {
+        if (text == null) {
+            return null;
+        }
+        StringBuilder sb = new StringBuilder(text.length() * 3);
+        for (int i = 0, length = text.length(); i < length; i++) {
+            char c = text.charAt(i);
+            if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+                int index = c - SYLLABLE_BASE;
+                sb.append(INITIALS[index / (MEDIAL_COUNT * FINAL_COUNT)])
+                  .append(MEDIALS[index / FINAL_COUNT % MEDIAL_COUNT])
+                  .append(FINALS[index % FINAL_COUNT]);
+            } else if (c >= COMPAT_FIRST && c <= COMPAT_LAST) {
+                sb.append(COMPAT_JAMO[c - COMPAT_FIRST]);
+            } else {
+                appendOther(sb, c);
+            }
+        }
+        return trim(sb);
+    }
+
+    /**
+     * 초성만으로 된 검색어인지 ("ㅊㅅㅈ" -> true, "채ㅅ" / "ㅊㅐ" -> false)
+     */
+    public static boolean isChosungOnly(CharSequence text) {
+        boolean found = false;
+        for (int i = 0, length = text.length(); i < length; i++) {
+            char c = text.charAt(i);
+            if (c >= COMPAT_FIRST && c <= COMPAT_CONSONANT_LAST) {
+                found = true;
+            } else if (!Character.isWhitespace(c)) {
+                return false;
+            }
+        }
+        return found;
+    }
+
+    private static void appendOther(StringBuilder sb, char c) {
+        if (Character.isWhitespace(c)) {
+            if (sb.length() > 0 && sb.charAt(sb.length() - 1) != ' ') {
+                sb.append(' ');
+            }
+        } else if (c >= COMPAT_FIRST && c <= COMPAT_LAST) {
+            sb.append(c);
+        } else if (Character.isLetterOrDigit(c)) {
+            sb.append(Character.toLowerCase(c));
+        }
+    }
+
+    private static String trim(StringBuilder sb) {
+        int length = sb.length();
+        if (length > 0 && sb.charAt(length - 1) == ' ') {
+            sb.setLength(length - 1);
+        }
+        return sb.toString();
+    }
+}
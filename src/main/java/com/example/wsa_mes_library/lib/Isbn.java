@@ -0,0 +1,104 @@
+package com.example.wsa_mes_library.lib;
+
+/**
+ * ISBN 정규화 / 검증 유틸
+ * 하이픈 / 공백 표기, ISBN-10 / ISBN-13 을 모두 같은 ISBN-13 숫자 키(long)로 변환
+ * - "978-89-7914-063-7", "9788979140637", "89-7914-063-0" -> 9788979140637L
+ * - 검증 숫자(체크섬)가 맞지 않으면 INVALID
+ *
+ * 문자 단위로 한 번만 훑으므로 정규식 / 문자열 생성 없이 동작 (조회 요청마다 호출됨)
+ */
+public final class Isbn {
+
+    /**
+     * 형식 또는 검증 숫자가 올바르지 않은 ISBN
+     */
+    public static final long INVALID = -1L;
+
+    private static final long ISBN_10_PREFIX = 978_000_000_000L;
+
+    private Isbn() {
+    }
+
+    /**
+     * ISBN 문자열을 ISBN-13 숫자 키로 변환
+     *
+     * @param isbn ISBN-10 또는 ISBN-13 (하이픈 / 공백 허용, ISBN-10 검증 숫자 X 허용)
+     * @return ISBN-13 숫자 키, 올바르지 않으면 INVALID
+     */
+    public static long toIsbn13(CharSequence isbn) {
+        if (isbn == null) {
+            return INVALID;
+        }
+
+        long digits = 0;
+        int count = 0;
+        int sum10 = 0;
+        int sum13 = 0;
+        boolean checkX = false;
+
+        for (int i = 0, length = isbn.length(); i < length; i++) {
+            char c = isbn.charAt(i);
+            if (c == '-' || c == ' ') {
+                continue;
+            }
+
+            int digit;
+            if (c >= '0' && c <= '9') {
+                digit = c - '0';
+            } else if ((c == 'X' || c == 'x') && count == 9) {
+                digit = 10;
+                checkX = true;
+            } else {
+                return INVALID;
+            }
+            if (count == 13 || checkX && count != 9) {
+                return INVALID;
+            }
+
+            if (digit < 10) {
+                digits = digits * 10 + digit;
+            }
+            sum10 += digit * (10 - count);
+            sum13 += (count % 2 == 0) ? digit : digit * 3;
+            count++;
+        }
+
+        if (count == 13) {
+            return sum13 % 10 == 0 ? digits : INVALID;
+        }
+        if (count == 10) {
+            if (sum10 % 11 != 0) {
+                return INVALID;
+            }
+            // 검증 숫자를 떼고 978 접두어를 붙인 뒤 ISBN-13 검증 숫자를 다시 계산
+            long body = checkX ? digits : digits / 10;
+            return withCheckDigit(ISBN_10_PREFIX + body);
+        }
+        return INVALID;
+    }
+
+    /**
+     * 올바른 ISBN-10 / ISBN-13 인지 확인
+     */
+    public static boolean isValid(CharSequence isbn) {
+        return toIsbn13(isbn) != INVALID;
+    }
+
+    /**
+     * 앞 12자리에 ISBN-13 검증 숫자를 붙인 13자리 키
+     *
+     * @param first12 ISBN-13 앞 12자리
+     */
+    public static long withCheckDigit(long first12) {
+        int sum = 0;
+        long rest = first12;
+        // 끝자리(12번째)부터 가중치 3, 1 반복
+        for (int i = 0; i < 12; i++) {
+            int digit = (int) (rest % 10);
+            sum += (i % 2 == 0) ? digit * 3 : digit;
+            rest /= 10;
+        }
+        return first12 * 10 + (10 - sum % 10) % 10;
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.wsa_mes_library.lib;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 정렬된 목록 여러 개를 하나의 정렬된 목록으로 병합 (변경분 동기화에서 사용자 변경 + 삭제 표식 합치기 등)
+ * 목록마다 맨 앞 원소만 힙에 두므로 limit 건을 뽑는 비용은 O(limit log k)
+ */
+public final class KWayMerge {
+
+    private KWayMerge() {
+    }
+
+    /**
+     * @param sorted comparator 순으로 정렬된 목록들
+     * @param limit 최대 건수
+     */
+    public static <T> List<T> merge(List<List<T>> sorted, Comparator<? super T> comparator, int limit) {
+        PriorityQueue<Head<T>> heads = new PriorityQueue<>(Math.max(sorted.size(), 1),
+            (a, b) -> comparator.compare(a.value(), b.value()));
+        for (List<T> list : sorted) {
+            if (!list.isEmpty()) {
+                heads.add(new Head<>(list, 0));
+            }
+        }
+
+        List<T> merged = new ArrayList<>(Math.min(limit, sorted.stream().mapToInt(List::size).sum()));
+        while (merged.size() < limit && !heads.isEmpty()) {
+            Head<T> head = heads.poll();
+            merged.add(head.value());
+            int next = head.index() + 1;
+            if (next < head.list().size()) {
+                heads.add(new Head<>(head.list(), next));
+            }
+        }
+        return merged;
+    }
+
+    private record Head<T>(List<T> list, int index) {
+
+        T value() {
+            return list.get(index);
+        }
+    }
+}
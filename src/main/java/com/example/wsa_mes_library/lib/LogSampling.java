@@ -0,0 +1,31 @@
+package com.example.wsa_mes_library.lib;
+
+/**
+ * 요청 단위 로그 샘플링 결정 보관 (스레드 로컬)
+ * 요청 시작 시 한 번 결정하면 그 요청에서 발생한 SQL / 바인딩 로그는 모두 남기거나 모두 버림
+ * → 샘플링된 요청은 SQL 흐름이 온전히 남아 분석 가능
+ *
+ * 결정이 없는 스레드(기동, 배치 등)는 로거 레벨 설정을 그대로 따름
+ */
+public final class LogSampling {
+
+    private static final ThreadLocal<Boolean> SAMPLED = new ThreadLocal<>();
+
+    private LogSampling() {
+    }
+
+    public static void begin(boolean sampled) {
+        SAMPLED.set(sampled);
+    }
+
+    public static void end() {
+        SAMPLED.remove();
+    }
+
+    /**
+     * @return 샘플링 대상 요청이면 TRUE, 제외 요청이면 FALSE, 요청 밖이면 null
+     */
+    public static Boolean current() {
+        return SAMPLED.get();
+    }
+}
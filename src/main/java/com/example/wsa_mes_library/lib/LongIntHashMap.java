@@ -0,0 +1,198 @@
+package com.example.wsa_mes_library.lib;
+
+import java.util.Arrays;
+
+/**
+ * long -> int 해시 맵 (개방 주소법, 선형 탐사) - 박싱 없는 희소 카운터용
+ * 항목당 12바이트(키 long + 값 int, 적재율 최대 0.5 기준 약 24바이트) - HashMap<Long, Integer> 의 1/3 이하
+ * - Long.MIN_VALUE 는 빈 칸 표식이므로 키로 쓸 수 없음
+ * - 동기화하지 않음 (호출 측에서 보호)
+ */
+public final class LongIntHashMap {
+
+    private static final long FREE = Long.MIN_VALUE;
+
+    private long[] keys;
+    private int[] values;
+    private int size;
+    private int mask;
+
+    public LongIntHashMap() {
+        this(4);
+    }
+
+    public LongIntHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, expectedSize) * 2 - 1) << 1;
+        allocate(capacity);
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        Arrays.fill(keys, FREE);
+        values = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 값 (없으면 0)
+     */
+    public int get(long key) {
+        int slot = slot(key);
+        return keys[slot] == key ? values[slot] : 0;
+    }
+
+    /**
+     * 값에 delta 를 더함 (없으면 delta 로 추가) - 더한 후의 값
+     */
+    public int addTo(long key, int delta) {
+        if (key == FREE) {
+            throw new IllegalArgumentException("사용할 수 없는 키입니다: " + key);
+        }
+        int slot = slot(key);
+        if (keys[slot] == key) {
+            return values[slot] += delta;
+        }
+        keys[slot] = key;
+        values[slot] = delta;
+        if (++size * 2 > keys.length) {
+            rehash(keys.length * 2);
+        }
+        return delta;
+    }
+
+    /**
+     * 값이 큰 순으로 최대 limit 개의 키 (값이 같으면 키 오름차순)
+     */
+    public long[] topKeys(int limit) {
+        int[] order = topSlots(limit);
+        long[] result = new long[order.length];
+        for (int i = 0; i < order.length; i++) {
+            result[i] = keys[order[i]];
+        }
+        return result;
+    }
+
+    /**
+     * 값이 큰 순으로 limit 개만 남기고 제거 - 제거한 항목 수
+     */
+    public int retainTop(int limit) {
+        if (size <= limit) {
+            return 0;
+        }
+        int[] order = topSlots(limit);
+        long[] keptKeys = new long[order.length];
+        int[] keptValues = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            keptKeys[i] = keys[order[i]];
+            keptValues[i] = values[order[i]];
+        }
+        int removed = size - order.length;
+        allocate(Integer.highestOneBit(Math.max(4, order.length) * 2 - 1) << 1);
+        size = 0;
+        for (int i = 0; i < keptKeys.length; i++) {
+            addTo(keptKeys[i], keptValues[i]);
+        }
+        return removed;
+    }
+
+    private int slot(long key) {
+        int slot = hash(key) & mask;
+        while (keys[slot] != FREE && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != FREE) {
+                int slot = slot(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * 값 내림차순(같으면 키 오름차순) 상위 limit 개 칸 - 크기 limit 의 최소 힙으로 O(n log limit)
+     */
+    private int[] topSlots(int limit) {
+        int k = Math.min(limit, size);
+        int[] heap = new int[k];
+        int count = 0;
+        for (int slot = 0; slot < keys.length && k > 0; slot++) {
+            if (keys[slot] == FREE) {
+                continue;
+            }
+            if (count < k) {
+                heap[count] = slot;
+                siftUp(heap, count++);
+            } else if (before(slot, heap[0])) {
+                heap[0] = slot;
+                siftDown(heap, k);
+            }
+        }
+        // 힙에서 가장 약한 항목부터 꺼내 뒤에서부터 채움
+        int[] result = new int[count];
+        for (int i = count - 1; i >= 0; i--) {
+            result[i] = heap[0];
+            heap[0] = heap[i];
+            siftDown(heap, i);
+        }
+        return result;
+    }
+
+    // a 가 b 보다 앞 순위인지
+    private boolean before(int a, int b) {
+        return values[a] != values[b] ? values[a] > values[b] : keys[a] < keys[b];
+    }
+
+    private void siftUp(int[] heap, int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!before(heap[parent], heap[index])) {
+                return;
+            }
+            swap(heap, parent, index);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int[] heap, int length) {
+        int index = 0;
+        while (true) {
+            int left = index * 2 + 1;
+            if (left >= length) {
+                return;
+            }
+            int weakest = left + 1 < length && before(heap[left], heap[left + 1]) ? left + 1 : left;
+            if (!before(heap[index], heap[weakest])) {
+                return;
+            }
+            swap(heap, index, weakest);
+            index = weakest;
+        }
+    }
+
+    private static void swap(int[] heap, int i, int j) {
+        int tmp = heap[i];
+        heap[i] = heap[j];
+        heap[j] = tmp;
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E37_79B9_7F4A_7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
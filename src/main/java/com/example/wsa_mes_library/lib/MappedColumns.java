@@ -0,0 +1,138 @@
+package com.example.wsa_mes_library.lib;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 메모리 맵 파일에 둔 고정 폭 컬럼들 (열 우선 배치: 컬럼마다 capacity * 폭 바이트 구간)
+ * - 컬럼 폭은 1 / 4 / 8 바이트 (byte / int / long), 행 번호는 0부터
+ * - 값은 힙 밖(페이지 캐시)에 있으므로 행 수가 늘어도 GC 대상 객체가 늘지 않음
+ * - 용량이 모자라면 파일을 두 배로 늘려 다시 매핑하고 컬럼 구간을 뒤에서부터 옮김
+ *
+ * 동기화하지 않음 (호출 측에서 읽기 / 쓰기를 보호), 전체 크기는 2GB 미만
+ */
+public final class MappedColumns implements AutoCloseable {
+
+    private final Path file;
+    private final int[] widths;
+    private final int rowWidth;
+    private final FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int capacity;
+    private int[] starts;
+
+    /**
+     * @param file 매핑할 파일 (있으면 비우고 새로 씀)
+     * @param widths 컬럼별 폭 (1, 4, 8)
+     */
+    public MappedColumns(Path file, int initialCapacity, int... widths) {
+        int total = 0;
+        for (int width : widths) {
+            if (width != 1 && width != 4 && width != 8) {
+                throw new IllegalArgumentException("컬럼 폭은 1, 4, 8 바이트만 가능합니다: " + width);
+            }
+            total += width;
+        }
+        this.file = file;
+        this.widths = widths.clone();
+        this.rowWidth = total;
+        try {
+            this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        map(Math.max(16, initialCapacity));
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * 매핑 파일 크기 (바이트)
+     */
+    public long sizeInBytes() {
+        return (long) capacity * rowWidth;
+    }
+
+    /**
+     * rows 개 행을 담을 수 있게 늘림 (기존 값 유지)
+     */
+    public void ensureCapacity(int rows) {
+        if (rows <= capacity) {
+            return;
+        }
+        long grown = Math.max(rows, (long) capacity * 2);
+        if (grown * rowWidth > Integer.MAX_VALUE) {
+            throw new IllegalStateException("컬럼 파일이 너무 큽니다 - 행: " + rows);
+        }
+        int oldCapacity = capacity;
+        map((int) grown);
+        // 뒤 컬럼부터 새 위치로 옮김 (새 시작점이 항상 옛 시작점 이상이라 앞 컬럼을 덮어쓰지 않음)
+        for (int column = widths.length - 1; column > 0; column--) {
+            int length = oldCapacity * widths[column];
+            buffer.put(starts[column], buffer, start(column, oldCapacity), length);
+        }
+    }
+
+    public long getLong(int column, int row) {
+        return buffer.getLong(starts[column] + row * 8);
+    }
+
+    public void putLong(int column, int row, long value) {
+        buffer.putLong(starts[column] + row * 8, value);
+    }
+
+    public int getInt(int column, int row) {
+        return buffer.getInt(starts[column] + row * 4);
+    }
+
+    public void putInt(int column, int row, int value) {
+        buffer.putInt(starts[column] + row * 4, value);
+    }
+
+    public byte getByte(int column, int row) {
+        return buffer.get(starts[column] + row);
+    }
+
+    public void putByte(int column, int row, byte value) {
+        buffer.put(starts[column] + row, value);
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void map(int newCapacity) {
+        try {
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) newCapacity * rowWidth);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        capacity = newCapacity;
+        starts = new int[widths.length];
+        for (int column = 0; column < widths.length; column++) {
+            starts[column] = start(column, newCapacity);
+        }
+    }
+
+    private int start(int column, int rows) {
+        int offset = 0;
+        for (int i = 0; i < column; i++) {
+            offset += rows * widths[i];
+        }
+        return offset;
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.wsa_mes_library.lib;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * MinHash 서명 - 문서 두 개의 Jaccard 유사도(3글자 조각 집합 기준)를 고정 길이 int 배열로 추정
+ * 두 서명에서 같은 자리의 값이 같은 비율 ≈ 조각 집합의 Jaccard 유사도
+ *
+ * LSH: 서명을 BANDS 개 구간(구간당 ROWS 개 값)으로 나눠 구간 해시가 하나라도 같은 문서만 비교 후보
+ * - 32 = 8 x 4 구성에서 유사도 0.6 문서는 약 67%, 0.8 은 약 99%, 0.3 은 약 6% 확률로 후보가 됨
+ */
+public final class MinHash {
+
+    public static final int SIZE = 32;
+    public static final int BANDS = 8;
+    public static final int ROWS = SIZE / BANDS;
+
+    /**
+     * DB 저장 크기 (바이트)
+     */
+    public static final int BYTES = SIZE * Integer.BYTES;
+
+    private static final int SHINGLE = 3;
+
+    // 해시 함수 i: (A[i] * x + B[i]) 의 상위 32비트 (곱셈-시프트 해시, 고정 시드라 서명은 저장해도 계속 유효)
+    private static final long[] A = new long[SIZE];
+    private static final long[] B = new long[SIZE];
+
+    static {
+        SplittableRandom random = new SplittableRandom(0x5EED_B00CL);
+        for (int i = 0; i < SIZE; i++) {
+            A[i] = random.nextLong() | 1;
+            B[i] = random.nextLong();
+        }
+    }
+
+    private MinHash() {
+    }
+
+    /**
+     * 정규화(소문자, 글자 / 숫자 외 문자는 공백 하나)한 텍스트의 연속 3글자 조각으로 서명 계산
+     *
+     * @return 서명, 조각이 없으면(텍스트가 비었으면) null
+     */
+    public static int[] signature(CharSequence text) {
+        if (text == null) {
+            return null;
+        }
+        int[] signature = new int[SIZE];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        boolean any = false;
+
+        // 최근 SHINGLE 글자를 16비트씩 이어 붙인 조각 (문자열 할당 없음)
+        long shingle = 0;
+        int length = 0;
+        boolean space = true;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                c = Character.toLowerCase(c);
+                space = false;
+            } else if (space) {
+                continue;
+            } else {
+                c = ' ';
+                space = true;
+            }
+            shingle = (shingle << 16 | c) & 0xFFFF_FFFF_FFFFL;
+            if (++length >= SHINGLE) {
+                update(signature, mix(shingle));
+                any = true;
+            }
+        }
+        if (!any && length > 0) {
+            // 3글자보다 짧은 텍스트는 전체를 조각 하나로
+            update(signature, mix(shingle));
+            any = true;
+        }
+        return any ? signature : null;
+    }
+
+    private static void update(int[] signature, long hash) {
+        for (int i = 0; i < SIZE; i++) {
+            int value = (int) ((A[i] * hash + B[i]) >>> 32);
+            if (value < signature[i]) {
+                signature[i] = value;
+            }
+        }
+    }
+
+    // splitmix64 마무리 단계 - 조각 값을 고르게 분산
+    private static long mix(long x) {
+        x = (x ^ (x >>> 30)) * 0xBF58_476D_1CE4_E5B9L;
+        x = (x ^ (x >>> 27)) * 0x94D0_49BB_1331_11EBL;
+        return x ^ (x >>> 31);
+    }
+
+    /**
+     * 같은 자리 값이 같은 비율 (추정 Jaccard 유사도)
+     */
+    public static double similarity(int[] a, int[] b) {
+        int equal = 0;
+        for (int i = 0; i < SIZE; i++) {
+            if (a[i] == b[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / SIZE;
+    }
+
+    /**
+     * band 번째 구간의 해시 (LSH 버킷 키)
+     */
+    public static int bandKey(int[] signature, int band) {
+        int hash = band;
+        for (int i = band * ROWS; i < (band + 1) * ROWS; i++) {
+            hash = hash * 0x9E37_79B1 + signature[i];
+        }
+        return hash ^ hash >>> 16;
+    }
+
+    public static byte[] toBytes(int[] signature) {
+        if (signature == null) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(BYTES);
+        buffer.asIntBuffer().put(signature);
+        return buffer.array();
+    }
+
+    /**
+     * DB 저장 값 -> 서명 (형식이 다르면 null - 다시 계산 필요)
+     */
+    public static int[] fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length != BYTES) {
+            return null;
+        }
+        int[] signature = new int[SIZE];
+        ByteBuffer.wrap(bytes).asIntBuffer().get(signature);
+        return signature;
+    }
+}
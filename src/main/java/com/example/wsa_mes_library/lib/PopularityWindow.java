@@ -0,0 +1,144 @@
+package com.example.wsa_mes_library.lib;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.ToLongFunction;
+
+/**
+ * 최근 N일 인기 순위 - 하루 단위 칸(Count-Min 스케치 + Space-Saving)을 고리 모양으로 돌려 씀
+ * - 기록: 오늘 칸의 스케치와 상위 빈도 추적에 1씩 더함 - O(depth), 그 칸의 잠금만 잡음
+ * - 조회: 기간 안 칸들의 상위 키를 후보로 모아 칸별 스케치 추정값을 더해 순위 (후보 수는 days x capacity 이하)
+ *   칸마다 잠금을 잡고 사본(스케치 + 상위 키)만 떠 온 뒤 순위는 잠금 밖에서 - 기록이 순위 계산을 기다리지 않음
+ *   사본은 칸에 두고 그 뒤 기록이 없으면 재사용 (지난 날짜 칸은 한 번만 복사, 오늘 칸은 조회마다 width x depth 복사)
+ * - 날짜가 지난 칸은 다음 기록 때 비우고 재사용 - 메모리는 days x (width x depth + capacity) 로 고정
+ * - 어느 하루에도 상위 capacity 안에 들지 못한 키는 순위에서 빠질 수 있음 (대신 빈도가 높은 키는 놓치지 않음)
+ */
+public final class PopularityWindow<K> {
+
+    private final Slot<K>[] slots;
+    private final ToLongFunction<K> hasher;
+
+    /**
+     * @param days 유지할 일 수 (조회 기간 상한)
+     * @param capacity 하루에 추적할 상위 키 수
+     * @param width Count-Min 스케치 행당 칸 수
+     * @param depth Count-Min 스케치 행 수
+     * @param hasher 키의 64비트 해시
+     */
+    @SuppressWarnings("unchecked")
+    public PopularityWindow(int days, int capacity, int width, int depth, ToLongFunction<K> hasher) {
+        if (days <= 0) {
+            throw new IllegalArgumentException("days 는 1 이상이어야 합니다: " + days);
+        }
+        this.slots = new Slot[days];
+        for (int i = 0; i < days; i++) {
+            slots[i] = new Slot<>(capacity, width, depth);
+        }
+        this.hasher = hasher;
+    }
+
+    public int days() {
+        return slots.length;
+    }
+
+    /**
+     * epochDay 날짜에 key 빈도 1 증가 (유지 기간보다 오래된 날짜는 무시)
+     */
+    public void add(K key, long epochDay) {
+        long hash = hasher.applyAsLong(key);
+        Slot<K> slot = slots[(int) Math.floorMod(epochDay, (long) slots.length)];
+        synchronized (slot) {
+            if (slot.day != epochDay) {
+                if (slot.day > epochDay) {
+                    return;
+                }
+                slot.reset(epochDay);
+            }
+            slot.sketch.add(hash);
+            slot.heavy.add(key);
+            slot.version++;
+        }
+    }
+
+    /**
+     * today 를 포함한 최근 days 일 동안 빈도가 높은 순으로 최대 limit 개
+     */
+    public List<Ranked<K>> top(int days, int limit, long today) {
+        List<Snapshot<K>> window = new ArrayList<>(slots.length);
+        Set<K> candidates = new LinkedHashSet<>();
+        for (Slot<K> slot : slots) {
+            Snapshot<K> snapshot = slot.snapshot();
+            if (snapshot.day <= today && snapshot.day > today - days) {
+                window.add(snapshot);
+                candidates.addAll(snapshot.keys);
+            }
+        }
+
+        List<Ranked<K>> ranked = new ArrayList<>(candidates.size());
+        for (K key : candidates) {
+            long hash = hasher.applyAsLong(key);
+            long count = 0;
+            for (Snapshot<K> snapshot : window) {
+                count += snapshot.sketch.estimate(hash);
+            }
+            ranked.add(new Ranked<>(key, count));
+        }
+        // 같은 빈도는 후보 순서(먼저 본 칸의 상위 순서) 유지
+        ranked.sort(Comparator.comparingLong(Ranked<K>::count).reversed());
+        return ranked.size() > limit ? new ArrayList<>(ranked.subList(0, limit)) : ranked;
+    }
+
+    /**
+     * @param count 기간 내 추정 빈도 (실제 빈도 이상)
+     */
+    public record Ranked<K>(K key, long count) {
+    }
+
+    /**
+     * 칸 하나의 사본 - 만든 뒤 바뀌지 않음
+     *
+     * @param keys 상위 빈도 순 키
+     */
+    private record Snapshot<K>(long day, long version, CountMinSketch sketch, List<K> keys) {
+    }
+
+    /**
+     * 하루 칸 - 칸 객체를 잠금으로 씀
+     */
+    private static final class Slot<K> {
+
+        final CountMinSketch sketch;
+        final SpaceSaving<K> heavy;
+        long day = Long.MIN_VALUE;
+        // 기록 / 비우기마다 증가 - 사본이 최신인지 판단
+        long version;
+        Snapshot<K> snapshot;
+
+        Slot(int capacity, int width, int depth) {
+            this.sketch = new CountMinSketch(width, depth);
+            this.heavy = new SpaceSaving<>(capacity);
+        }
+
+        // 칸 잠금을 쥔 채 호출
+        void reset(long epochDay) {
+            sketch.clear();
+            heavy.clear();
+            day = epochDay;
+            version++;
+        }
+
+        synchronized Snapshot<K> snapshot() {
+            if (snapshot == null || snapshot.version() != version) {
+                List<K> keys = new ArrayList<>(heavy.size());
+                for (SpaceSaving.Entry<K> entry : heavy.top(Integer.MAX_VALUE)) {
+                    keys.add(entry.key());
+                }
+                snapshot = new Snapshot<>(day, version, sketch.copy(), keys);
+            }
+            return snapshot;
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.example.wsa_mes_library.lib;
+
+import java.util.Arrays;
+import java.util.function.LongPredicate;
+
+/**
+ * 불변 접두어 검색 인덱스 (정렬된 키 배열 + 이진 탐색)
+ * 키를 String 객체 대신 하나의 char[] 에 이어 붙여 보관 (항목당 오버헤드: 오프셋 int + ID long)
+ * - 100만 건 제목의 단어별 키(수백만 항목)도 수십 MB 수준, 검색은 O(log n + 결과 수)
+ * - 갱신은 지원하지 않음 - 변경분은 호출 측에서 따로 보관하다가 다시 생성
+ */
+public final class PrefixIndex {
+
+    private static final PrefixIndex EMPTY = new PrefixIndex(new char[0], new int[]{0}, new long[0]);
+
+    private final char[] chars;
+    private final int[] starts;
+    private final long[] ids;
+
+    private PrefixIndex(char[] chars, int[] starts, long[] ids) {
+        this.chars = chars;
+        this.starts = starts;
+        this.ids = ids;
+    }
+
+    public static PrefixIndex empty() {
+        return EMPTY;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * 접두어가 일치하는 항목의 ID를 키 순서대로 전달 (consumer 가 false 를 반환하면 중단)
+     * 같은 ID가 여러 키로 등록되어 있으면 여러 번 전달될 수 있음
+     */
+    public void forEachPrefix(CharSequence prefix, LongPredicate consumer) {
+        for (int i = lowerBound(prefix); i < ids.length && startsWith(i, prefix); i++) {
+            if (!consumer.test(ids[i])) {
+                return;
+            }
+        }
+    }
+
+    private int lowerBound(CharSequence prefix) {
+        int low = 0;
+        int high = ids.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(mid, prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int compare(int entry, CharSequence key) {
+        int from = starts[entry];
+        int length = starts[entry + 1] - from;
+        int common = Math.min(length, key.length());
+        for (int i = 0; i < common; i++) {
+            int diff = chars[from + i] - key.charAt(i);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return length - key.length();
+    }
+
+    private boolean startsWith(int entry, CharSequence prefix) {
+        int from = starts[entry];
+        if (starts[entry + 1] - from < prefix.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (chars[from + i] != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static final class Builder {
+
+        private char[] chars = new char[1024];
+        private int[] starts = new int[129];
+        private long[] ids = new long[128];
+        private int size;
+        private int length;
+
+        private Builder() {
+        }
+
+        public Builder add(CharSequence key, long id) {
+            return add(key, 0, key.length(), id);
+        }
+
+        /**
+         * key 의 [from, to) 구간을 키로 추가 (부분 문자열을 만들지 않음)
+         */
+        public Builder add(CharSequence key, int from, int to, long id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                starts = Arrays.copyOf(starts, size * 2 + 1);
+            }
+            int keyLength = to - from;
+            if (length + keyLength > chars.length) {
+                chars = Arrays.copyOf(chars, Math.max(chars.length * 2, length + keyLength));
+            }
+            for (int i = 0; i < keyLength; i++) {
+                chars[length + i] = key.charAt(from + i);
+            }
+            starts[size] = length;
+            ids[size] = id;
+            length += keyLength;
+            size++;
+            starts[size] = length;
+            return this;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        /**
+         * 키 순으로 정렬해 인덱스 생성 (정렬 후 키 문자도 같은 순서로 다시 배치해 검색 시 캐시 지역성 확보)
+         */
+        public PrefixIndex build() {
+            if (size == 0) {
+                return EMPTY;
+            }
+            int[] order = new int[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            mergeSort(order, new int[size], 0, size);
+
+            char[] sortedChars = new char[length];
+            int[] sortedStarts = new int[size + 1];
+            long[] sortedIds = new long[size];
+            int offset = 0;
+            for (int i = 0; i < size; i++) {
+                int entry = order[i];
+                int from = starts[entry];
+                int keyLength = starts[entry + 1] - from;
+                System.arraycopy(chars, from, sortedChars, offset, keyLength);
+                sortedStarts[i] = offset;
+                sortedIds[i] = ids[entry];
+                offset += keyLength;
+            }
+            sortedStarts[size] = offset;
+            return new PrefixIndex(sortedChars, sortedStarts, sortedIds);
+        }
+
+        // 박싱 없는 int 순열 정렬 (Comparator<Integer> 로 수백만 항목을 정렬하면 할당이 큼)
+        private void mergeSort(int[] order, int[] buffer, int from, int to) {
+            if (to - from < 16) {
+                for (int i = from + 1; i < to; i++) {
+                    int value = order[i];
+                    int j = i - 1;
+                    while (j >= from && compare(order[j], value) > 0) {
+                        order[j + 1] = order[j];
+                        j--;
+                    }
+                    order[j + 1] = value;
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            mergeSort(order, buffer, from, mid);
+            mergeSort(order, buffer, mid, to);
+            if (compare(order[mid - 1], order[mid]) <= 0) {
+                return;
+            }
+            System.arraycopy(order, from, buffer, from, to - from);
+            int left = from;
+            int right = mid;
+            for (int i = from; i < to; i++) {
+                if (right >= to || left < mid && compare(buffer[left], buffer[right]) <= 0) {
+                    order[i] = buffer[left++];
+                } else {
+                    order[i] = buffer[right++];
+                }
+            }
+        }
+
+        private int compare(int a, int b) {
+            int fromA = starts[a];
+            int fromB = starts[b];
+            int lengthA = starts[a + 1] - fromA;
+            int lengthB = starts[b + 1] - fromB;
+            int common = Math.min(lengthA, lengthB);
+            for (int i = 0; i < common; i++) {
+                int diff = chars[fromA + i] - chars[fromB + i];
+                if (diff != 0) {
+                    return diff;
+                }
+            }
+            return lengthA - lengthB;
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.example.wsa_mes_library.lib;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Slice;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * QueryDSL 쿼리 지연시간 측정기
+ * - library.query (Timer): repository / method / type(content, count) 태그별 지연시간 히스토그램
+ * - library.query.rows (DistributionSummary): content 쿼리 반환 행 수
+ * - 임계값을 넘는 쿼리는 바인딩된 조건과 함께 느린 쿼리 로그에 기록 (최근 N건 보관)
+ * - QueryRepository 기본 메서드는 직접, Spring Data 리포지토리는 RepositoryMetricsAspect로 측정
+ *
+ * 태그 조합별 Meter는 최초 1회만 생성 후 캐싱하므로 핫패스 비용은 nanoTime 2회 + 맵 조회 수준
+ */
+public class QueryMetrics {
+
+    public static final String CONTENT = "content";
+    public static final String COUNT = "count";
+
+    /**
+     * 측정하지 않는 기본 구현 (QueryRepository 기본값)
+     */
+    public static final QueryMetrics NOOP = new QueryMetrics(null, Duration.ofNanos(Long.MAX_VALUE), 0);
+
+    private static final Logger log = LoggerFactory.getLogger(QueryMetrics.class);
+
+    private final MeterRegistry registry;
+    private final long slowThresholdNanos;
+    private final int slowQueryCapacity;
+
+    private final ConcurrentMap<MeterKey, Timer> timers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<MeterKey, DistributionSummary> rowSummaries = new ConcurrentHashMap<>();
+    private final ArrayDeque<SlowQuery> slowQueries;
+
+    public QueryMetrics(MeterRegistry registry, Duration slowThreshold, int slowQueryCapacity) {
+        this.registry = registry;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.slowQueryCapacity = slowQueryCapacity;
+        this.slowQueries = new ArrayDeque<>(Math.max(slowQueryCapacity, 1));
+    }
+
+    /**
+     * 쿼리 실행 + 측정
+     *
+     * @param repository 리포지토리 이름
+     * @param method 호출 메서드 이름
+     * @param type content 또는 count
+     * @param condition 바인딩된 조건 (느린 쿼리 로그용, 느린 경우에만 문자열화)
+     * @param query 실제 쿼리 실행
+     * @return 쿼리 결과
+     */
+    public <R> R record(String repository, String method, String type, Object condition, Supplier<R> query) {
+        if (registry == null) {
+            return query.get();
+        }
+
+        long start = System.nanoTime();
+        R result = query.get();
+        recordExecution(repository, method, type, System.nanoTime() - start, result, condition);
+        return result;
+    }
+
+    /**
+     * 이미 실행된 쿼리 기록 (AOP 등 외부에서 측정한 경우)
+     *
+     * @param elapsedNanos 실행 시간 (ns)
+     * @param result 쿼리 결과 (반환 행 수 계산용)
+     * @param condition 바인딩된 조건 또는 메서드 인자
+     */
+    public void recordExecution(String repository, String method, String type,
+                                long elapsedNanos, Object result, Object condition) {
+        if (registry == null) {
+            return;
+        }
+
+        MeterKey key = new MeterKey(repository, method, type);
+        timers.computeIfAbsent(key, this::createTimer).record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        int rows = rowCount(result);
+        if (rows >= 0) {
+            rowSummaries.computeIfAbsent(key, this::createRowSummary).record(rows);
+        }
+
+        if (elapsedNanos >= slowThresholdNanos) {
+            recordSlowQuery(repository, method, type, elapsedNanos, rows, describe(condition));
+        }
+    }
+
+    /**
+     * 최근 느린 쿼리 목록 (최신순)
+     */
+    public List<SlowQuery> getSlowQueries() {
+        synchronized (slowQueries) {
+            List<SlowQuery> result = new ArrayList<>(slowQueries);
+            Collections.reverse(result);
+            return result;
+        }
+    }
+
+    public Duration getSlowThreshold() {
+        return Duration.ofNanos(slowThresholdNanos);
+    }
+
+    private void recordSlowQuery(String repository, String method, String type,
+                                 long elapsedNanos, int rows, String predicate) {
+        SlowQuery slowQuery = new SlowQuery(
+            LocalDateTime.now(),
+            repository,
+            method,
+            type,
+            elapsedNanos / 1_000_000,
+            rows,
+            predicate
+        );
+
+        log.warn("느린 쿼리 - {}.{} ({}) {}ms, rows: {}, 조건: {}",
+            slowQuery.repository(), slowQuery.method(), slowQuery.type(),
+            slowQuery.elapsedMillis(), rows, slowQuery.predicate());
+
+        synchronized (slowQueries) {
+            if (slowQueries.size() >= slowQueryCapacity) {
+                slowQueries.pollFirst();
+            }
+            slowQueries.addLast(slowQuery);
+        }
+    }
+
+    private Timer createTimer(MeterKey key) {
+        return Timer.builder("library.query")
+            .description("QueryDSL 쿼리 지연시간")
+            .tag("repository", key.repository())
+            .tag("method", key.method())
+            .tag("type", key.type())
+            .publishPercentileHistogram()
+            .register(registry);
+    }
+
+    private DistributionSummary createRowSummary(MeterKey key) {
+        return DistributionSummary.builder("library.query.rows")
+            .description("QueryDSL content 쿼리 반환 행 수")
+            .tag("repository", key.repository())
+            .tag("method", key.method())
+            .register(registry);
+    }
+
+    private static int rowCount(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        return -1;
+    }
+
+    private static String describe(Object condition) {
+        if (condition == null) {
+            return null;
+        }
+        if (condition instanceof Object[] arguments) {
+            return Arrays.deepToString(arguments);
+        }
+        return condition.toString();
+    }
+
+    private record MeterKey(String repository, String method, String type) {
+    }
+
+    /**
+     * 느린 쿼리 기록
+     */
+    public record SlowQuery(
+        LocalDateTime timestamp,
+        String repository,
+        String method,
+        String type,
+        long elapsedMillis,
+        int rows,
+        String predicate
+    ) {
+    }
+}
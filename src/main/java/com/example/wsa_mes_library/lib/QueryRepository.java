@@ -8,6 +8,7 @@ import com.querydsl.core.types.dsl.EntityPathBase;
 import com.querydsl.core.types.dsl.PathBuilder;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.hibernate.jpa.AvailableHints;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
@@ -34,6 +35,13 @@ public interface QueryRepository<T extends BaseEntity, Q extends EntityPathBase<
      */
     Q getQEntity();
     
+    /**
+     * 쿼리 지연시간 측정기 반환 (구현체에서 제공, 기본값은 측정 안 함)
+     */
+    default QueryMetrics getQueryMetrics() {
+        return QueryMetrics.NOOP;
+    }
+    
     /**
      * BooleanBuilder + 페이징으로 데이터 조회 (Spring Data Sort 지원)
      */
@@ -53,13 +61,11 @@ public interface QueryRepository<T extends BaseEntity, Q extends EntityPathBase<
         applySorting(query, qEntity, pageable);
         
         // 개수 조회
-        long total = count(builder);
+        long total = countQuery(builder, "findPage");
         
         // 페이징 적용
-        List<T> content = query
-            .offset(pageable.getOffset())
-            .limit(pageable.getPageSize())
-            .fetch();
+        query.offset(pageable.getOffset()).limit(pageable.getPageSize());
+        List<T> content = fetchContent(query, builder, "findPage");
         
         return new PageImpl<>(content, pageable, total);
     }
@@ -87,13 +93,11 @@ public interface QueryRepository<T extends BaseEntity, Q extends EntityPathBase<
         }
         
         // 개수 조회
-        long total = count(builder);
+        long total = countQuery(builder, "findPage");
         
         // 페이징 적용
-        List<T> content = query
-            .offset(pageable.getOffset())
-            .limit(pageable.getPageSize())
-            .fetch();
+        query.offset(pageable.getOffset()).limit(pageable.getPageSize());
+        List<T> content = fetchContent(query, builder, "findPage");
         
         return new PageImpl<>(content, pageable, total);
     }
@@ -111,26 +115,56 @@ public interface QueryRepository<T extends BaseEntity, Q extends EntityPathBase<
             query.where(builder);
         }
         
-        return query.fetch();
+        return fetchContent(query, builder, "findAll");
     }
     
     /**
      * BooleanBuilder로 개수 조회
      */
     default long count(BooleanBuilder builder) {
+        return countQuery(builder, "count");
+    }
+    
+    /**
+     * BooleanBuilder + 페이징 조회 (쿼리 캐시 사용)
+     * 읽기 위주 목록 조회용 - 엔티티는 2차 캐시에서, ID 목록은 쿼리 캐시에서 조회
+     * @param cacheRegion 쿼리 캐시 영역 (ehcache.xml)
+     */
+    default Page<T> findCachedPage(BooleanBuilder builder, Pageable pageable, String cacheRegion) {
         JPAQueryFactory queryFactory = getQueryFactory();
         Q qEntity = getQEntity();
         
-        JPAQuery<Long> countQuery = queryFactory
-            .select(qEntity.count())
-            .from(qEntity);
+        JPAQuery<T> query = cacheable(queryFactory.selectFrom(qEntity), cacheRegion);
         
         if (builder != null && builder.hasValue()) {
-            countQuery.where(builder);
+            query.where(builder);
         }
         
-        Long result = countQuery.fetchOne();
-        return result != null ? result : 0L;
+        applySorting(query, qEntity, pageable);
+        
+        long total = cachedCountQuery(builder, cacheRegion, "findCachedPage");
+        
+        query.offset(pageable.getOffset()).limit(pageable.getPageSize());
+        List<T> content = fetchContent(query, builder, "findCachedPage");
+        
+        return new PageImpl<>(content, pageable, total);
+    }
+    
+    /**
+     * BooleanBuilder로 개수 조회 (쿼리 캐시 사용)
+     */
+    default long cachedCount(BooleanBuilder builder, String cacheRegion) {
+        return cachedCountQuery(builder, cacheRegion, "cachedCount");
+    }
+    
+    /**
+     * 쿼리 캐시 힌트 적용
+     * 해당 테이블에 쓰기가 발생하면 Hibernate가 영역 전체를 자동 무효화
+     */
+    default <R> JPAQuery<R> cacheable(JPAQuery<R> query, String cacheRegion) {
+        query.setHint(AvailableHints.HINT_CACHEABLE, true);
+        query.setHint(AvailableHints.HINT_CACHE_REGION, cacheRegion);
+        return query;
     }
     
     /**
@@ -228,11 +262,11 @@ public interface QueryRepository<T extends BaseEntity, Q extends EntityPathBase<
             query.where(pathBuilder.getNumber("id", Long.class).lt(lastId));
         }
         
-        return query
-            .orderBy(new OrderSpecifier<>(Order.DESC, 
+        query.orderBy(new OrderSpecifier<>(Order.DESC, 
                 new PathBuilder<>(qEntity.getType(), qEntity.toString()).getNumber("id", Long.class)))
-            .limit(limit)
-            .fetch();
+            .limit(limit);
+        
+        return fetchContent(query, builder, "findByIdCursor");
     }
     
     /**
@@ -241,4 +275,54 @@ public interface QueryRepository<T extends BaseEntity, Q extends EntityPathBase<
     default List<T> findByIdCursor(Long lastId, int limit) {
         return findByIdCursor(lastId, limit, null);
     }
+
+    // ===== 측정 헬퍼 (content / count 쿼리 분리 측정) =====
+    
+    /**
+     * 목록 쿼리 실행 + 지연시간/반환 행 수 기록
+     */
+    private List<T> fetchContent(JPAQuery<T> query, Predicate predicate, String method) {
+        return getQueryMetrics().record(getClass().getSimpleName(), method, QueryMetrics.CONTENT,
+            predicate, query::fetch);
+    }
+    
+    /**
+     * 개수 쿼리 실행 + 지연시간 기록
+     */
+    private long countQuery(BooleanBuilder builder, String method) {
+        Q qEntity = getQEntity();
+        
+        JPAQuery<Long> countQuery = getQueryFactory()
+            .select(qEntity.count())
+            .from(qEntity);
+        
+        if (builder != null && builder.hasValue()) {
+            countQuery.where(builder);
+        }
+        
+        return fetchCount(countQuery, builder, method);
+    }
+    
+    /**
+     * 개수 쿼리 실행 (쿼리 캐시 사용) + 지연시간 기록
+     */
+    private long cachedCountQuery(BooleanBuilder builder, String cacheRegion, String method) {
+        Q qEntity = getQEntity();
+        
+        JPAQuery<Long> countQuery = cacheable(getQueryFactory()
+            .select(qEntity.count())
+            .from(qEntity), cacheRegion);
+        
+        if (builder != null && builder.hasValue()) {
+            countQuery.where(builder);
+        }
+        
+        return fetchCount(countQuery, builder, method);
+    }
+    
+    private long fetchCount(JPAQuery<Long> countQuery, Predicate predicate, String method) {
+        Long result = getQueryMetrics().record(getClass().getSimpleName(), method, QueryMetrics.COUNT,
+            predicate, countQuery::fetchOne);
+        return result != null ? result : 0L;
+    }
 }
\ No newline at end of file
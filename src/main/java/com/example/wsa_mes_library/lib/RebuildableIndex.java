@@ -0,0 +1,76 @@
+package com.example.wsa_mes_library.lib;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * DB 에서 통째로 다시 만드는 메모리 인덱스의 공통 생명주기 (변경분은 ChangeOverlay 등 각 인덱스가 관리)
+ * - rebuild(): 각 인덱스가 구현 - 새로 만들어 바꿔 끼운 뒤 markBuilt()
+ * - rebuildInBackground(): 이미 생성 중이면 무시, 아니면 데몬 스레드에서 rebuild() (실패는 로그만 남기고 다음 요청 때 다시 시도)
+ * - 기동 시 생성은 IndexWarmup 이 모든 인덱스에 대해 요청
+ *
+ * 플랫폼 스레드 - synchronized 구간에서 JDBC 를 기다리는 동안 가상 스레드가 캐리어를 붙잡지 않도록
+ */
+public abstract class RebuildableIndex {
+
+    private final Logger log = LoggerFactory.getLogger(getClass());
+    private final String threadName;
+    private final String description;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private volatile boolean built;
+
+    /**
+     * @param threadName 생성 스레드 이름
+     * @param description 로그에 쓸 인덱스 이름 ("한글 검색 인덱스")
+     */
+    protected RebuildableIndex(String threadName, String description) {
+        this.threadName = threadName;
+        this.description = description;
+    }
+
+    /**
+     * DB 에서 다시 생성 (호출 스레드에서)
+     */
+    public abstract void rebuild();
+
+    public void rebuildInBackground() {
+        if (!rebuildEnabled() || !rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        Thread.ofPlatform().name(threadName).daemon(true).start(() -> {
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                log.error("{} 생성 실패", description, e);
+            } finally {
+                rebuilding.set(false);
+            }
+        });
+    }
+
+    /**
+     * 아직 한 번도 생성되지 않았으면 백그라운드 생성 (데이터 초기화 이벤트를 놓친 경우 등)
+     */
+    public void rebuildIfNotBuilt() {
+        if (!built) {
+            rebuildInBackground();
+        }
+    }
+
+    public boolean isBuilt() {
+        return built;
+    }
+
+    protected void markBuilt() {
+        built = true;
+    }
+
+    /**
+     * 설정으로 꺼져 있으면 false (백그라운드 생성을 시작하지 않음)
+     */
+    protected boolean rebuildEnabled() {
+        return true;
+    }
+}
@@ -0,0 +1,203 @@
+package com.example.wsa_mes_library.lib;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.spi.AppenderAttachable;
+import ch.qos.logback.core.spi.AppenderAttachableImpl;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * lock-free 링 버퍼 기반 비동기 Appender (logback)
+ * logback 기본 AsyncAppender는 ArrayBlockingQueue(단일 락)를 써서 요청 스레드끼리 락 경합이 생기므로,
+ * 요청 스레드는 MpscRingBuffer에 CAS 한 번으로 넣고 전용 스레드 하나가 실제 Appender로 기록
+ *
+ * 버퍼가 가득 차면 요청 스레드를 막지 않음
+ * - INFO 이하: 버리고 건수만 집계 (다음 기록 시 WARN 으로 알림)
+ * - WARN 이상: 유실되지 않도록 호출 스레드에서 직접 기록
+ *
+ * logback-spring.xml 예:
+ * <appender name="ASYNC" class="com.example.wsa_mes_library.lib.RingBufferAsyncAppender">
+ *     <bufferSize>16384</bufferSize>
+ *     <appender-ref ref="CONSOLE"/>
+ * </appender>
+ */
+public class RingBufferAsyncAppender extends UnsynchronizedAppenderBase<ILoggingEvent>
+        implements AppenderAttachable<ILoggingEvent> {
+
+    private static final long MAX_IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final AppenderAttachableImpl<ILoggingEvent> appenders = new AppenderAttachableImpl<>();
+    private final LongAdder dropped = new LongAdder();
+
+    private int bufferSize = 8192;
+    private boolean includeCallerData = false;
+    private long maxFlushTime = 1000;
+
+    private MpscRingBuffer<ILoggingEvent> buffer;
+    private Thread worker;
+    private volatile boolean running;
+    private volatile boolean workerParked;
+
+    @Override
+    public void start() {
+        if (isStarted()) {
+            return;
+        }
+        if (!appenders.iteratorForAppenders().hasNext()) {
+            addError("연결된 Appender가 없습니다: " + getName());
+            return;
+        }
+
+        buffer = new MpscRingBuffer<>(bufferSize);
+        running = true;
+        worker = new Thread(this::drainLoop, "log-ring-" + getName());
+        worker.setDaemon(true);
+        worker.start();
+        super.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!isStarted()) {
+            return;
+        }
+        super.stop();
+        running = false;
+        LockSupport.unpark(worker);
+        try {
+            worker.join(maxFlushTime);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (worker.isAlive()) {
+            addWarn("종료 대기 시간 초과 - 남은 로그 " + buffer.size() + "건");
+        }
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        // 다른 스레드에서 기록되므로 MDC / 메시지 포맷 등을 지금 확정
+        event.prepareForDeferredProcessing();
+        if (includeCallerData) {
+            event.getCallerData();
+        }
+
+        if (buffer.offer(event)) {
+            if (workerParked) {
+                LockSupport.unpark(worker);
+            }
+            return;
+        }
+
+        if (event.getLevel().isGreaterOrEqual(Level.WARN)) {
+            appenders.appendLoopOnAppenders(event);
+        } else {
+            dropped.increment();
+        }
+    }
+
+    private void drainLoop() {
+        long idleParkNanos = 1_000;
+        while (running || !buffer.isEmpty()) {
+            ILoggingEvent event = buffer.poll();
+            if (event != null) {
+                reportDropped();
+                appenders.appendLoopOnAppenders(event);
+                idleParkNanos = 1_000;
+                continue;
+            }
+            if (!running) {
+                break;
+            }
+            // 비어 있으면 점점 길게 대기 (최대 1ms) - 새 로그가 들어오면 생산자가 깨움
+            workerParked = true;
+            if (buffer.isEmpty()) {
+                LockSupport.parkNanos(this, idleParkNanos);
+            }
+            workerParked = false;
+            idleParkNanos = Math.min(idleParkNanos * 2, MAX_IDLE_PARK_NANOS);
+        }
+    }
+
+    private void reportDropped() {
+        long count = dropped.sumThenReset();
+        if (count > 0) {
+            addWarn("로그 버퍼 포화로 " + count + "건의 INFO 이하 로그를 버렸습니다.");
+        }
+    }
+
+    /**
+     * 버퍼 포화로 버린 로그 건수 (마지막 보고 이후)
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    public boolean isIncludeCallerData() {
+        return includeCallerData;
+    }
+
+    public void setIncludeCallerData(boolean includeCallerData) {
+        this.includeCallerData = includeCallerData;
+    }
+
+    public long getMaxFlushTime() {
+        return maxFlushTime;
+    }
+
+    public void setMaxFlushTime(long maxFlushTime) {
+        this.maxFlushTime = maxFlushTime;
+    }
+
+    // ===== AppenderAttachable =====
+
+    @Override
+    public void addAppender(Appender<ILoggingEvent> newAppender) {
+        appenders.addAppender(newAppender);
+    }
+
+    @Override
+    public Iterator<Appender<ILoggingEvent>> iteratorForAppenders() {
+        return appenders.iteratorForAppenders();
+    }
+
+    @Override
+    public Appender<ILoggingEvent> getAppender(String name) {
+        return appenders.getAppender(name);
+    }
+
+    @Override
+    public boolean isAttached(Appender<ILoggingEvent> appender) {
+        return appenders.isAttached(appender);
+    }
+
+    @Override
+    public void detachAndStopAllAppenders() {
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    public boolean detachAppender(Appender<ILoggingEvent> appender) {
+        return appenders.detachAppender(appender);
+    }
+
+    @Override
+    public boolean detachAppender(String name) {
+        return appenders.detachAppender(name);
+    }
+}
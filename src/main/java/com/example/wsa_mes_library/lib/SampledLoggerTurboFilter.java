@@ -0,0 +1,52 @@
+package com.example.wsa_mes_library.lib;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 지정한 로거(기본: Hibernate SQL / 바인딩 파라미터)를 요청 단위로 샘플링하는 TurboFilter
+ * 샘플링에서 제외된 요청은 메시지 생성 전에 DENY 되므로 로거를 DEBUG/TRACE로 켜 두어도 비용이 거의 없음
+ *
+ * TurboFilter는 모든 로그 호출의 레벨 확인보다 먼저 실행되므로 로거 이름 접두사 비교만 수행
+ */
+public class SampledLoggerTurboFilter extends TurboFilter {
+
+    private final List<String> loggerPrefixes = new ArrayList<>();
+    private String[] prefixes = new String[0];
+
+    @Override
+    public void start() {
+        prefixes = loggerPrefixes.toArray(String[]::new);
+        super.start();
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (!isStarted() || !matches(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+        return LogSampling.current() == Boolean.FALSE ? FilterReply.DENY : FilterReply.NEUTRAL;
+    }
+
+    private boolean matches(String loggerName) {
+        for (String prefix : prefixes) {
+            if (loggerName.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * logback.xml 의 <loggerPrefix> 마다 호출
+     */
+    public void addLoggerPrefix(String loggerPrefix) {
+        loggerPrefixes.add(loggerPrefix);
+    }
+}
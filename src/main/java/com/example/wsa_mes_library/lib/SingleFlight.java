@@ -0,0 +1,72 @@
+package com.example.wsa_mes_library.lib;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키로 동시에 들어온 호출을 하나로 합침 (single-flight)
+ * - 처음 들어온 호출(leader)만 loader 를 실행, 실행 중에 같은 키로 들어온 호출은 그 결과(또는 예외)를 함께 받음
+ * - 실행이 끝나면 키를 바로 지움 - 결과를 보관하지 않으므로 캐시가 아님 (끝난 뒤 들어온 호출은 새로 실행)
+ *
+ * 합쳐진 호출이 받는 결과는 자기가 도착하기 전에 시작된 실행의 결과
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inflight = new ConcurrentHashMap<>();
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> running = inflight.putIfAbsent(key, mine);
+        if (running != null) {
+            coalesced.increment();
+            return await(running);
+        }
+
+        executed.increment();
+        try {
+            V value = loader.get();
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inflight.remove(key, mine);
+        }
+    }
+
+    /**
+     * loader 를 실제로 실행한 횟수
+     */
+    public long executedCount() {
+        return executed.sum();
+    }
+
+    /**
+     * 다른 호출의 결과를 받아 간 횟수
+     */
+    public long coalescedCount() {
+        return coalesced.sum();
+    }
+
+    private static <V> V await(CompletableFuture<V> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            // leader 가 던진 예외를 그대로 전달 (IllegalArgumentException 등 응답 코드 유지)
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
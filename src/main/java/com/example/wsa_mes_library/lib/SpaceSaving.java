@@ -0,0 +1,184 @@
+package com.example.wsa_mes_library.lib;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Space-Saving 상위 빈도(heavy hitter) 추적 - 최대 capacity 개 키만 유지
+ * 새 키가 들어왔는데 가득 차 있으면 빈도가 가장 낮은 키를 내보내고 그 빈도 + 1 로 시작 (error = 이전 최솟값)
+ * - 빈도가 전체의 1/capacity 를 넘는 키는 반드시 남아 있음
+ * - Stream-Summary 구조 (같은 빈도의 키를 묶은 버킷을 빈도 순 연결 리스트로 유지) - 1 증가가 O(1)
+ * - 동기화하지 않음 (호출 측에서 보호)
+ */
+public final class SpaceSaving<K> {
+
+    private final int capacity;
+    private final Map<K, Counter<K>> counters;
+    private Bucket<K> min;
+    private Bucket<K> max;
+
+    public SpaceSaving(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity 는 1 이상이어야 합니다: " + capacity);
+        }
+        this.capacity = capacity;
+        this.counters = new HashMap<>(capacity * 2);
+    }
+
+    public int size() {
+        return counters.size();
+    }
+
+    /**
+     * 빈도 1 증가
+     */
+    public void add(K key) {
+        Counter<K> counter = counters.get(key);
+        if (counter == null) {
+            if (counters.size() < capacity) {
+                counter = new Counter<>(key);
+                attachNew(counter);
+                counters.put(key, counter);
+                return;
+            }
+            // 가장 낮은 빈도의 키를 새 키로 교체 - 빈도는 이어받고 그만큼을 오차로 기록
+            counter = min.head;
+            counters.remove(counter.key);
+            counter.key = key;
+            counter.error = min.count;
+            counters.put(key, counter);
+        }
+        increment(counter);
+    }
+
+    /**
+     * 빈도가 높은 순으로 최대 limit 개
+     */
+    public List<Entry<K>> top(int limit) {
+        List<Entry<K>> result = new ArrayList<>(Math.min(limit, counters.size()));
+        for (Bucket<K> bucket = max; bucket != null && result.size() < limit; bucket = bucket.prev) {
+            for (Counter<K> c = bucket.head; c != null && result.size() < limit; c = c.next) {
+                result.add(new Entry<>(c.key, bucket.count, c.error));
+            }
+        }
+        return result;
+    }
+
+    public void clear() {
+        counters.clear();
+        min = null;
+        max = null;
+    }
+
+    // 빈도 1 인 새 카운터 연결
+    private void attachNew(Counter<K> counter) {
+        if (min == null || min.count != 1) {
+            Bucket<K> bucket = new Bucket<>(1);
+            bucket.next = min;
+            if (min != null) {
+                min.prev = bucket;
+            } else {
+                max = bucket;
+            }
+            min = bucket;
+        }
+        min.push(counter);
+    }
+
+    private void increment(Counter<K> counter) {
+        Bucket<K> bucket = counter.bucket;
+        long count = bucket.count + 1;
+        if (bucket.head == counter && counter.next == null && (bucket.next == null || bucket.next.count != count)) {
+            // 버킷에 혼자 있고 다음 빈도 버킷이 없으면 버킷 빈도만 올림
+            bucket.count = count;
+            return;
+        }
+        Bucket<K> target = bucket.next;
+        if (target == null || target.count != count) {
+            target = new Bucket<>(count);
+            target.prev = bucket;
+            target.next = bucket.next;
+            if (bucket.next != null) {
+                bucket.next.prev = target;
+            } else {
+                max = target;
+            }
+            bucket.next = target;
+        }
+        bucket.remove(counter);
+        target.push(counter);
+        if (bucket.head == null) {
+            unlink(bucket);
+        }
+    }
+
+    private void unlink(Bucket<K> bucket) {
+        if (bucket.prev != null) {
+            bucket.prev.next = bucket.next;
+        } else {
+            min = bucket.next;
+        }
+        if (bucket.next != null) {
+            bucket.next.prev = bucket.prev;
+        } else {
+            max = bucket.prev;
+        }
+    }
+
+    /**
+     * @param count 추정 빈도 (실제 빈도 이상)
+     * @param error 과대 추정 상한 (count - error 는 실제 빈도 이하)
+     */
+    public record Entry<K>(K key, long count, long error) {
+    }
+
+    private static final class Counter<K> {
+
+        K key;
+        long error;
+        Bucket<K> bucket;
+        Counter<K> prev;
+        Counter<K> next;
+
+        Counter(K key) {
+            this.key = key;
+        }
+    }
+
+    private static final class Bucket<K> {
+
+        long count;
+        Counter<K> head;
+        Bucket<K> prev;
+        Bucket<K> next;
+
+        Bucket(long count) {
+            this.count = count;
+        }
+
+        void push(Counter<K> counter) {
+            counter.bucket = this;
+            counter.prev = null;
+            counter.next = head;
+            if (head != null) {
+                head.prev = counter;
+            }
+            head = counter;
+        }
+
+        void remove(Counter<K> counter) {
+            if (counter.prev != null) {
+                counter.prev.next = counter.next;
+            } else {
+                head = counter.next;
+            }
+            if (counter.next != null) {
+                counter.next.prev = counter.prev;
+            }
+            counter.prev = null;
+            counter.next = null;
+        }
+    }
+}
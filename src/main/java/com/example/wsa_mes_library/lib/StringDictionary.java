@@ -0,0 +1,156 @@
+package com.example.wsa_mes_library.lib;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 문자열 사전 - 같은 문자열에 같은 int 코드 (컬럼에는 코드만 저장)
+ * - 코드는 0부터 추가 순, null 은 NULL(-1)
+ * - 추가만 가능 (지우지 않음) - 바뀌어 쓰이지 않게 된 문자열은 다시 만들 때 정리
+ * - 부분 일치 검색용 소문자 사본
+ *
+ * 정렬용 순위(rank)
+ * - 처음 적재가 끝나면 rankAll() 로 한 번 정렬 (공개 전 새 사전이라 잠금 밖에서)
+ * - 이후 추가되는 문자열은 정렬된 코드 배열에서 이분 탐색한 자리의 앞뒤 순위 사이 값을 받음 (전체 재정렬 없음)
+ * - 순위 사이는 GAP 만큼 벌려 두고, 같은 자리에 계속 끼워 넣어 간격이 다하면 정렬된 코드 배열 순서대로 다시 벌림 (O(n), 정렬 없음)
+ *
+ * 동기화하지 않음 (호출 측에서 보호)
+ */
+public final class StringDictionary {
+
+    public static final int NULL = -1;
+
+    /**
+     * 이웃한 순위 사이 간격 - 같은 자리에 약 20번 끼워 넣을 때까지 다시 벌리지 않음
+     */
+    private static final long GAP = 1L << 20;
+
+    private final Map<String, Integer> codes = new HashMap<>();
+    private String[] values = new String[16];
+    private String[] folded = new String[16];
+    private int size;
+    private long[] ranks = new long[16];
+    // 문자열 순으로 늘어놓은 코드 (rankAll() 이후 추가마다 유지)
+    private int[] sorted = new int[16];
+    private boolean ranked;
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 문자열의 코드 (없으면 추가 - rankAll() 이후라면 순위도 바로 정함)
+     */
+    public int encode(String value) {
+        if (value == null) {
+            return NULL;
+        }
+        Integer code = codes.get(value);
+        if (code != null) {
+            return code;
+        }
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+            folded = Arrays.copyOf(folded, size * 2);
+            ranks = Arrays.copyOf(ranks, size * 2);
+            sorted = Arrays.copyOf(sorted, size * 2);
+        }
+        values[size] = value;
+        folded[size] = value.toLowerCase(Locale.ROOT);
+        codes.put(value, size);
+        if (ranked) {
+            place(size);
+        }
+        return size++;
+    }
+
+    /**
+     * 이미 있는 문자열의 코드 (없으면 NULL)
+     */
+    public int find(String value) {
+        Integer code = value == null ? null : codes.get(value);
+        return code == null ? NULL : code;
+    }
+
+    public String decode(int code) {
+        return code == NULL ? null : values[code];
+    }
+
+    /**
+     * 대소문자 무시 부분 일치하는 코드 표시 (인덱스 = 코드)
+     */
+    public boolean[] containsIgnoreCase(String needle) {
+        String lower = needle.toLowerCase(Locale.ROOT);
+        boolean[] matches = new boolean[size];
+        for (int code = 0; code < size; code++) {
+            matches[code] = folded[code].contains(lower);
+        }
+        return matches;
+    }
+
+    /**
+     * 정렬 순위 (문자열 자연 순서, null 은 가장 앞) - 값끼리의 대소만 의미 있음, rankAll() 전에는 쓸 수 없음
+     */
+    public long rank(int code) {
+        return code == NULL ? Long.MIN_VALUE : ranks[code];
+    }
+
+    /**
+     * 지금까지 추가된 문자열을 한 번에 정렬해 순위를 매김 (이후 추가는 encode 에서 바로 순위를 정함)
+     */
+    public void rankAll() {
+        String[] order = Arrays.copyOf(values, size);
+        Arrays.sort(order);
+        for (int i = 0; i < size; i++) {
+            sorted[i] = codes.get(order[i]);
+        }
+        spread(size);
+        ranked = true;
+    }
+
+    /**
+     * 새 코드를 정렬된 코드 배열의 제자리에 넣고 앞뒤 순위 사이 값을 줌
+     */
+    private void place(int code) {
+        String value = values[code];
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[sorted[mid]].compareTo(value) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        System.arraycopy(sorted, low, sorted, low + 1, size - low);
+        sorted[low] = code;
+
+        if (size == 0) {
+            ranks[code] = 0;
+        } else if (low == 0) {
+            ranks[code] = ranks[sorted[1]] - GAP;
+        } else if (low == size) {
+            ranks[code] = ranks[sorted[low - 1]] + GAP;
+        } else {
+            long before = ranks[sorted[low - 1]];
+            long after = ranks[sorted[low + 1]];
+            if (after - before < 2) {
+                spread(size + 1);
+            } else {
+                ranks[code] = before + (after - before) / 2;
+            }
+        }
+    }
+
+    /**
+     * 정렬된 코드 배열 앞 count 개에 GAP 간격으로 순위를 다시 매김
+     */
+    private void spread(int count) {
+        for (int i = 0; i < count; i++) {
+            ranks[sorted[i]] = i * GAP;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.wsa_mes_library.lib;
+
+/**
+ * 토큰 버킷 (클라이언트별 요청 속도 제한)
+ * - 초당 rate 개씩 burst 까지 채워지고 요청마다 1개 사용
+ * - 채우기는 요청 때 경과 시간만큼 한 번에 계산 (타이머 없음)
+ */
+public final class TokenBucket {
+
+    private final double ratePerNano;
+    private final double burst;
+    private double tokens;
+    private long refilledAt;
+
+    /**
+     * @param ratePerSecond 초당 채워지는 토큰 수
+     * @param burst 최대 토큰 수 (한 번에 몰아 보낼 수 있는 요청 수)
+     * @param now System.nanoTime()
+     */
+    public TokenBucket(double ratePerSecond, int burst, long now) {
+        if (ratePerSecond <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("rate, burst 는 0 보다 커야 합니다");
+        }
+        this.ratePerNano = ratePerSecond / 1e9;
+        this.burst = burst;
+        this.tokens = burst;
+        this.refilledAt = now;
+    }
+
+    /**
+     * 토큰 1개 사용
+     *
+     * @return 0 이면 통과, 아니면 다음 토큰까지 남은 시간 (ns)
+     */
+    public synchronized long tryConsume(long now) {
+        refill(now);
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        return (long) Math.ceil((1 - tokens) / ratePerNano);
+    }
+
+    private void refill(long now) {
+        long elapsed = now - refilledAt;
+        if (elapsed > 0) {
+            tokens = Math.min(burst, tokens + elapsed * ratePerNano);
+            refilledAt = now;
+        }
+    }
+}
@@ -0,0 +1,415 @@
+package com.example.wsa_mes_library.lib;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * 불변 트라이그램(3글자 조각) 검색 인덱스 - 오타가 섞인 검색어로 문서 찾기
+ * 정규화된 문서 문자열(Hangul.jamo 등)의 앞뒤에 공백을 붙여 연속 3글자 조각을 만들고, 조각별로 문서 목록을 보관
+ * - 자모 분해 문자열을 쓰면 음절 하나의 오타("채식" -> "체식")가 조각 2~3개만 깨뜨림
+ * - 조각은 글자당 7비트로 압축한 int, 문서 목록은 하나의 int[] 에 이어 붙임 (항목당 4바이트)
+ *
+ * 검색: 검색어 조각 중 minSimilarity 비율 이상을 포함한 문서만 후보
+ * - 비둘기집 원리로 가장 짧은 (q - 필요 조각 수 + 1)개 목록에만 있는 문서가 후보 -> 흔한 조각의 긴 목록은 읽지 않음
+ * - 후보는 검색어와 문서 부분 문자열의 편집 거리로 다시 확인해 순위를 매김
+ */
+public final class TrigramIndex {
+
+    private static final TrigramIndex EMPTY =
+        new TrigramIndex(new int[0], new int[]{0}, new int[0], new long[0], new char[0], new int[]{0});
+
+    /**
+     * 편집 거리 계산에 쓰는 검색어 최대 길이 (공백 제외)
+     */
+    public static final int MAX_QUERY_LENGTH = 64;
+
+    private final int[] trigrams;
+    private final int[] postingStarts;
+    private final int[] postings;
+    private final long[] ids;
+    private final char[] texts;
+    private final int[] textStarts;
+
+    private TrigramIndex(int[] trigrams, int[] postingStarts, int[] postings,
+                         long[] ids, char[] texts, int[] textStarts) {
+        this.trigrams = trigrams;
+        this.postingStarts = postingStarts;
+        this.postings = postings;
+        this.ids = ids;
+        this.texts = texts;
+        this.textStarts = textStarts;
+    }
+
+    public static TrigramIndex empty() {
+        return EMPTY;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 문서 수
+     */
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * 조각 -> 문서 항목 수
+     */
+    public int postingCount() {
+        return postings.length;
+    }
+
+    /**
+     * 후보 문서를 확인해 minSimilarity 이상인 문서를 consumer 로 전달 (순서 없음)
+     *
+     * @param maxCandidates 확인할 최대 후보 수 - 넘으면 가장 짧은 목록부터 잘라서 확인
+     * @param deadlineNanos System.nanoTime() 기준 마감 - 지나면 확인을 멈춤
+     * @return 모든 후보를 확인했으면 true, 후보 수 / 시간 제한으로 멈췄으면 false
+     */
+    public boolean search(Query query, double minSimilarity, int maxCandidates, long deadlineNanos,
+                          MatchConsumer consumer) {
+        int q = query.trigrams.length;
+        if (q == 0 || ids.length == 0) {
+            return true;
+        }
+        int required = query.requiredMatches(minSimilarity);
+
+        // 검색어 조각별 문서 목록을 짧은 순으로 - 앞의 (q - required + 1)개로 후보 생성, 나머지는 후보 확인에만 사용
+        int[][] ranges = new int[q][];
+        for (int i = 0; i < q; i++) {
+            int slot = Arrays.binarySearch(trigrams, query.trigrams[i]);
+            ranges[i] = slot < 0 ? new int[]{0, 0} : new int[]{postingStarts[slot], postingStarts[slot + 1]};
+        }
+        Arrays.sort(ranges, Comparator.comparingInt(range -> range[1] - range[0]));
+        int generating = q - required + 1;
+
+        boolean complete = true;
+        int total = 0;
+        for (int i = 0; i < generating; i++) {
+            int length = ranges[i][1] - ranges[i][0];
+            if (total + length > maxCandidates) {
+                ranges[i][1] = ranges[i][0] + (maxCandidates - total);
+                complete = false;
+            }
+            total += ranges[i][1] - ranges[i][0];
+        }
+        int[] candidates = new int[total];
+        int offset = 0;
+        for (int i = 0; i < generating; i++) {
+            int length = ranges[i][1] - ranges[i][0];
+            System.arraycopy(postings, ranges[i][0], candidates, offset, length);
+            offset += length;
+        }
+        Arrays.sort(candidates);
+
+        // 나머지 목록의 현재 위치 (후보가 오름차순이므로 앞으로만 이동)
+        int[] cursors = new int[q];
+        for (int i = generating; i < q; i++) {
+            cursors[i] = ranges[i][0];
+        }
+        int[] row = new int[query.length + 1];
+        int checked = 0;
+        int i = 0;
+        while (i < candidates.length) {
+            int doc = candidates[i];
+            // 같은 문서가 나온 횟수 = 후보 생성 목록 중 이 문서가 들어 있는 목록 수
+            int matched = 0;
+            while (i < candidates.length && candidates[i] == doc) {
+                matched++;
+                i++;
+            }
+            if ((++checked & 63) == 0 && System.nanoTime() > deadlineNanos) {
+                return false;
+            }
+            for (int j = generating; j < q && matched + (q - j) >= required && matched < required; j++) {
+                cursors[j] = lowerBound(cursors[j], ranges[j][1], doc);
+                if (cursors[j] < ranges[j][1] && postings[cursors[j]] == doc) {
+                    matched++;
+                }
+            }
+            if (matched < required) {
+                continue;
+            }
+            int distance = query.distance(texts, textStarts[doc], textStarts[doc + 1], row);
+            if (distance <= query.maxDistance) {
+                consumer.accept(ids[doc], (double) query.countMatches(texts, textStarts[doc], textStarts[doc + 1]) / q,
+                    distance);
+            }
+        }
+        return complete;
+    }
+
+    /**
+     * postings[from, to) 에서 target 이상인 첫 위치 (지수 탐색 후 이진 탐색)
+     */
+    private int lowerBound(int from, int to, int target) {
+        int step = 1;
+        int low = from;
+        int high = from;
+        while (high < to && postings[high] < target) {
+            low = high + 1;
+            high = from + step;
+            step <<= 1;
+        }
+        high = Math.min(high, to);
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (postings[mid] < target) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // ===== 조각 부호화 =====
+
+    /**
+     * 글자 -> 7비트 부호 (공백 / 숫자 / 소문자 / 한글 호환 자모는 각자 부호, 그 밖의 글자는 남은 부호를 나눠 씀)
+     */
+    static int code(char c) {
+        if (c == ' ') {
+            return 1;
+        }
+        if (c >= '0' && c <= '9') {
+            return 2 + (c - '0');
+        }
+        if (c >= 'a' && c <= 'z') {
+            return 12 + (c - 'a');
+        }
+        if (c >= 'ㄱ' && c <= 'ㅣ') {
+            return 38 + (c - 'ㄱ');
+        }
+        return 89 + c % 39;
+    }
+
+    /**
+     * 앞뒤에 공백을 붙인 text[from, to) 의 i 번째 조각 (글자 n개 -> 조각 n개)
+     */
+    private static int trigramAt(char[] text, int from, int to, int i) {
+        int a = i == 0 ? 1 : code(text[from + i - 1]);
+        int b = code(text[from + i]);
+        int c = from + i + 1 < to ? code(text[from + i + 1]) : 1;
+        return a << 14 | b << 7 | c;
+    }
+
+    /**
+     * 검색어 - 조각(정렬, 중복 제거)과 편집 거리 계산용 문자열(공백 제거)
+     */
+    public static final class Query {
+
+        private final int[] trigrams;
+        private final char[] chars;
+        private final int length;
+        private final int maxDistance;
+
+        private Query(int[] trigrams, char[] chars) {
+            this.trigrams = trigrams;
+            this.chars = chars;
+            this.length = chars.length;
+            // 글자 3개당 오타 하나까지
+            this.maxDistance = Math.max(1, length / 3);
+        }
+
+        /**
+         * 정규화된 검색어 (Hangul.jamo 등 문서와 같은 방식)
+         */
+        public static Query of(CharSequence normalized) {
+            char[] text = normalized.toString().toCharArray();
+            int[] codes = new int[text.length];
+            for (int i = 0; i < codes.length; i++) {
+                codes[i] = trigramAt(text, 0, text.length, i);
+            }
+            Arrays.sort(codes);
+            int unique = 0;
+            for (int i = 0; i < codes.length; i++) {
+                if (i == 0 || codes[i] != codes[i - 1]) {
+                    codes[unique++] = codes[i];
+                }
+            }
+
+            StringBuilder compact = new StringBuilder(Math.min(text.length, MAX_QUERY_LENGTH));
+            for (int i = 0; i < text.length && compact.length() < MAX_QUERY_LENGTH; i++) {
+                if (text[i] != ' ') {
+                    compact.append(text[i]);
+                }
+            }
+            char[] chars = new char[compact.length()];
+            compact.getChars(0, chars.length, chars, 0);
+            return new Query(Arrays.copyOf(codes, unique), chars);
+        }
+
+        public boolean isEmpty() {
+            return trigrams.length == 0;
+        }
+
+        /**
+         * 인덱스 밖의 문서(변경분) 확인 - 조건을 만족하면 consumer 로 전달
+         */
+        public void match(long id, CharSequence normalized, double minSimilarity, MatchConsumer consumer) {
+            if (trigrams.length == 0) {
+                return;
+            }
+            char[] text = normalized.toString().toCharArray();
+            int matched = countMatches(text, 0, text.length);
+            if (matched < requiredMatches(minSimilarity)) {
+                return;
+            }
+            int distance = distance(text, 0, text.length, new int[length + 1]);
+            if (distance <= maxDistance) {
+                consumer.accept(id, (double) matched / trigrams.length, distance);
+            }
+        }
+
+        private int requiredMatches(double minSimilarity) {
+            return Math.clamp((int) Math.ceil(minSimilarity * trigrams.length), 1, trigrams.length);
+        }
+
+        /**
+         * 문서에 들어 있는 검색어 조각 수 (같은 조각은 한 번만)
+         */
+        private int countMatches(char[] text, int from, int to) {
+            boolean[] seen = new boolean[trigrams.length];
+            int matched = 0;
+            for (int i = 0; i < to - from; i++) {
+                int slot = Arrays.binarySearch(trigrams, trigramAt(text, from, to, i));
+                if (slot >= 0 && !seen[slot]) {
+                    seen[slot] = true;
+                    matched++;
+                }
+            }
+            return matched;
+        }
+
+        /**
+         * 검색어와 문서의 가장 가까운 부분 문자열 사이 편집 거리 (공백 무시, 문서 앞뒤는 건너뛰어도 비용 없음)
+         */
+        private int distance(char[] text, int from, int to, int[] row) {
+            for (int i = 0; i <= length; i++) {
+                row[i] = i;
+            }
+            int best = length;
+            for (int j = from; j < to; j++) {
+                char c = text[j];
+                if (c == ' ') {
+                    continue;
+                }
+                int diagonal = row[0];
+                row[0] = 0;
+                for (int i = 1; i <= length; i++) {
+                    int above = row[i];
+                    int cost = chars[i - 1] == c ? diagonal : diagonal + 1;
+                    row[i] = Math.min(cost, Math.min(above, row[i - 1]) + 1);
+                    diagonal = above;
+                }
+                best = Math.min(best, row[length]);
+            }
+            return best;
+        }
+    }
+
+    @FunctionalInterface
+    public interface MatchConsumer {
+
+        /**
+         * @param similarity 문서에 들어 있는 검색어 조각 비율 (0 ~ 1)
+         * @param distance   검색어와 가장 가까운 부분 문자열 사이 편집 거리
+         */
+        void accept(long id, double similarity, int distance);
+    }
+
+    public static final class Builder {
+
+        // (조각 << 40 | 문서 번호) - 정렬 한 번으로 조각별 문서 목록 생성
+        private long[] pairs = new long[1024];
+        private int pairCount;
+        private long[] ids = new long[128];
+        private char[] texts = new char[1024];
+        private int[] textStarts = new int[129];
+        private int size;
+        private int length;
+
+        private Builder() {
+        }
+
+        /**
+         * 정규화된 문서 문자열 추가 (Hangul.jamo 등 검색어와 같은 방식)
+         */
+        public Builder add(long id, CharSequence normalized) {
+            int textLength = normalized.length();
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                textStarts = Arrays.copyOf(textStarts, size * 2 + 1);
+            }
+            if (length + textLength > texts.length) {
+                texts = Arrays.copyOf(texts, Math.max(texts.length * 2, length + textLength));
+            }
+            for (int i = 0; i < textLength; i++) {
+                texts[length + i] = normalized.charAt(i);
+            }
+            if (pairCount + textLength > pairs.length) {
+                pairs = Arrays.copyOf(pairs, Math.max(pairs.length * 2, pairCount + textLength));
+            }
+            for (int i = 0; i < textLength; i++) {
+                pairs[pairCount++] = (long) trigramAt(texts, length, length + textLength, i) << 40 | size;
+            }
+            textStarts[size] = length;
+            ids[size] = id;
+            length += textLength;
+            size++;
+            textStarts[size] = length;
+            return this;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public TrigramIndex build() {
+            if (size == 0) {
+                return EMPTY;
+            }
+            long[] sorted = pairs;
+            pairs = null;
+            Arrays.parallelSort(sorted, 0, pairCount);
+
+            // 한 문서에 같은 조각이 여러 번 나오면 하나만 남기고, 조각 수를 세어 정확한 크기로 할당
+            int postingCount = 0;
+            int trigramCount = 0;
+            for (int i = 0; i < pairCount; i++) {
+                if (i > 0 && sorted[i] == sorted[i - 1]) {
+                    continue;
+                }
+                if (postingCount == 0 || sorted[i] >>> 40 != sorted[i - 1] >>> 40) {
+                    trigramCount++;
+                }
+                postingCount++;
+            }
+            int[] trigrams = new int[trigramCount];
+            int[] postingStarts = new int[trigramCount + 1];
+            int[] postings = new int[postingCount];
+            int t = 0;
+            int p = 0;
+            for (int i = 0; i < pairCount; i++) {
+                if (i > 0 && sorted[i] == sorted[i - 1]) {
+                    continue;
+                }
+                int trigram = (int) (sorted[i] >>> 40);
+                if (t == 0 || trigrams[t - 1] != trigram) {
+                    trigrams[t] = trigram;
+                    postingStarts[t] = p;
+                    t++;
+                }
+                postings[p++] = (int) (sorted[i] & 0xFF_FFFF_FFFFL);
+            }
+            postingStarts[trigramCount] = postingCount;
+
+            return new TrigramIndex(trigrams, postingStarts, postings,
+                Arrays.copyOf(ids, size), Arrays.copyOf(texts, length), Arrays.copyOf(textStarts, size + 1));
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.wsa_mes_library.lib;
+
+import java.util.SplittableRandom;
+
+/**
+ * Zipf 분포 샘플러 (rejection-inversion, Hörmann & Derflinger 1996)
+ * 순위 k 의 확률이 1 / k^exponent 에 비례 - 인기 도서/활발한 이용자 쏠림 재현용
+ *
+ * 누적분포 테이블 없이 O(1) 메모리로 동작하므로 수백만 원소에도 그대로 사용 가능
+ * 난수원은 호출자가 넘기므로 같은 시드면 항상 같은 순서를 생성
+ */
+public final class ZipfSampler {
+
+    private final int numberOfElements;
+    private final double exponent;
+    private final double hIntegralX1;
+    private final double hIntegralNumberOfElements;
+    private final double s;
+
+    /**
+     * @param numberOfElements 원소 수 (순위 1..n)
+     * @param exponent 쏠림 정도 (0 초과, 1 근처가 실제 대출 분포와 유사)
+     */
+    public ZipfSampler(int numberOfElements, double exponent) {
+        if (numberOfElements <= 0) {
+            throw new IllegalArgumentException("원소 수는 1 이상이어야 합니다: " + numberOfElements);
+        }
+        if (exponent <= 0) {
+            throw new IllegalArgumentException("지수는 0보다 커야 합니다: " + exponent);
+        }
+        this.numberOfElements = numberOfElements;
+        this.exponent = exponent;
+        this.hIntegralX1 = hIntegral(1.5) - 1d;
+        this.hIntegralNumberOfElements = hIntegral(numberOfElements + 0.5);
+        this.s = 2d - hIntegralInverse(hIntegral(2.5) - h(2));
+    }
+
+    /**
+     * 순위 샘플링
+     *
+     * @return 1..numberOfElements 사이 순위
+     */
+    public int sample(SplittableRandom random) {
+        while (true) {
+            double u = hIntegralNumberOfElements + random.nextDouble() * (hIntegralX1 - hIntegralNumberOfElements);
+            double x = hIntegralInverse(u);
+            int k = (int) (x + 0.5);
+
+            if (k < 1) {
+                k = 1;
+            } else if (k > numberOfElements) {
+                k = numberOfElements;
+            }
+
+            if (k - x <= s || u >= hIntegral(k + 0.5) - h(k)) {
+                return k;
+            }
+        }
+    }
+
+    public int getNumberOfElements() {
+        return numberOfElements;
+    }
+
+    private double hIntegral(double x) {
+        double logX = Math.log(x);
+        return helper2((1d - exponent) * logX) * logX;
+    }
+
+    private double h(double x) {
+        return Math.exp(-exponent * Math.log(x));
+    }
+
+    private double hIntegralInverse(double x) {
+        double t = x * (1d - exponent);
+        if (t < -1d) {
+            t = -1d; // 부동소수점 오차 보정
+        }
+        return Math.exp(helper1(t) * x);
+    }
+
+    // log(1 + x) / x
+    private static double helper1(double x) {
+        if (Math.abs(x) > 1e-8) {
+            return Math.log1p(x) / x;
+        }
+        return 1d - x * (0.5 - x * (1d / 3d - 0.25 * x));
+    }
+
+    // (exp(x) - 1) / x
+    private static double helper2(double x) {
+        if (Math.abs(x) > 1e-8) {
+            return Math.expm1(x) / x;
+        }
+        return 1d + x * 0.5 * (1d + x * (1d / 3d) * (1d + 0.25 * x));
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.wsa_mes_library.repository;
+
+/**
+ * 도서 목록 조건 - 지정한 값은 모두 일치해야 함 (null 은 조건 없음, 활성 도서만)
+ *
+ * @param author 작가명 (정확히 일치)
+ * @param publisher 출판사 (정확히 일치)
+ * @param publishYear 출판연도
+ * @param available true: 대출 가능, false: 대출 중
+ */
+public record BookFilter(String author, String publisher, Integer publishYear, Boolean available) {
+}
@@ -1,5 +1,7 @@
 package com.example.wsa_mes_library.repository;
 
+import com.example.wsa_mes_library.lib.Isbn;
+import com.example.wsa_mes_library.lib.QueryMetrics;
 import com.example.wsa_mes_library.lib.QueryRepository;
 import com.example.wsa_mes_library.entity.Book;
 import com.example.wsa_mes_library.entity.QBook;
@@ -18,14 +20,23 @@ import org.springframework.util.StringUtils;
 @Repository
 public class BookQueryRepository implements QueryRepository<Book, QBook> {
     
+    /**
+     * 조회 결과 쿼리 캐시 영역 (ehcache.xml)
+     */
+    public static final String QUERY_CACHE_REGION = "bookQueries";
+    
     @Getter
     private final JPAQueryFactory queryFactory;
     
+    @Getter
+    private final QueryMetrics queryMetrics;
+    
     // Q클래스 static 인스턴스 사용
     private final QBook qBook = QBook.book;
     
-    public BookQueryRepository(JPAQueryFactory queryFactory) {
+    public BookQueryRepository(JPAQueryFactory queryFactory, QueryMetrics queryMetrics) {
         this.queryFactory = queryFactory;
+        this.queryMetrics = queryMetrics;
     }
     
     @Override
@@ -41,13 +52,22 @@ public class BookQueryRepository implements QueryRepository<Book, QBook> {
     // ===== Book 전용 편의 메서드들 (Q클래스 기반) =====
     
     /**
-     * 활성 책 조회
+     * 활성 책 조회 (쿼리 캐시 사용)
      * URL: ?sort=name,asc&sort=createdAt,desc 자동 지원
      */
     public Page<Book> findActiveBooks(Pageable pageable) {
         BooleanBuilder builder = new BooleanBuilder();
         builder.and(qBook.active.eq(true));
-        return findPage(builder, pageable); // Spring Data Sort 자동 적용!
+        return findCachedPage(builder, pageable, QUERY_CACHE_REGION); // Spring Data Sort 자동 적용!
+    }
+    
+    /**
+     * 활성 책 개수 조회 (쿼리 캐시 사용)
+     */
+    public long countActiveBooks() {
+        BooleanBuilder builder = new BooleanBuilder();
+        builder.and(qBook.active.eq(true));
+        return cachedCount(builder, QUERY_CACHE_REGION);
     }
     
     /**
@@ -55,6 +75,75 @@ public class BookQueryRepository implements QueryRepository<Book, QBook> {
      * URL: ?keyword=java&sort=author,asc&sort=createdAt,desc 자동 지원
      */
     public Page<Book> searchByKeyword(String keyword, Pageable pageable) {
+        return findPage(keywordCondition(keyword), pageable); // Spring Data Sort 자동 적용!
+    }
+    
+    /**
+     * 작가별 조회 (Q클래스의 타입 안전성 활용)
+     * URL: ?author=김작가&sort=name,asc 자동 지원
+     */
+    public Page<Book> findByAuthor(String author, Pageable pageable) {
+        return findPage(authorCondition(author), pageable); // Spring Data Sort 자동 적용!
+    }
+    
+    /**
+     * ISBN으로 조회 - 정규화된 ISBN-13 키(uk_book_isbn13)로 조회하므로 하이픈 / ISBN-10 표기와 무관
+     */
+    public Book findByIsbn(String isbn) {
+        long isbn13 = Isbn.toIsbn13(isbn);
+        if (isbn13 == Isbn.INVALID) {
+            return null;
+        }
+        
+        BooleanBuilder builder = new BooleanBuilder();
+        builder.and(qBook.active.eq(true));
+        builder.and(qBook.isbn13.eq(isbn13));
+        
+        return queryMetrics.record("BookQueryRepository", "findByIsbn", QueryMetrics.CONTENT, builder,
+            () -> queryFactory
+                .selectFrom(qBook)
+                .where(builder)
+                .fetchOne());
+    }
+    
+    /**
+     * 작가별 책 개수 조회 (쿼리 캐시 사용)
+     */
+    public long countByAuthor(String author) {
+        BooleanBuilder builder = new BooleanBuilder();
+        builder.and(qBook.active.eq(true));
+        builder.and(qBook.author.eq(author));
+        
+        return cachedCount(builder, QUERY_CACHE_REGION);
+    }
+    
+    /**
+     * 작가 / 출판사 / 출판연도 / 대출 가능 여부 같은 값 조건 목록 (지정한 조건만)
+     */
+    public Page<Book> findByFilter(BookFilter filter, Pageable pageable) {
+        return findPage(filterCondition(filter), pageable);
+    }
+    
+    /**
+     * 작가 / 출판사 / 출판연도 / 대출 가능 여부 같은 값 조건 개수 (쿼리 캐시 사용)
+     */
+    public long countByFilter(BookFilter filter) {
+        return cachedCount(filterCondition(filter), QUERY_CACHE_REGION);
+    }
+    
+    /**
+     * 복합 조건 검색 예시 (Q클래스의 장점 활용)
+     */
+    public Page<Book> searchWithComplexConditions(String keyword, String author, Pageable pageable) {
+        return findPage(complexCondition(keyword, author), pageable);
+    }
+    
+    // ===== 검색 조건 생성 (벤치마크에서 조건 생성 비용만 따로 측정) =====
+    
+    /**
+     * 키워드 검색 조건 - 활성 + (제목 | 작가 | 설명) 부분 일치
+     */
+    BooleanBuilder keywordCondition(String keyword) {
         BooleanBuilder builder = new BooleanBuilder();
         builder.and(qBook.active.eq(true));
         
@@ -66,48 +155,44 @@ public class BookQueryRepository implements QueryRepository<Book, QBook> {
             builder.and(keywordBuilder);
         }
         
-        return findPage(builder, pageable); // Spring Data Sort 자동 적용!
+        return builder;
     }
     
     /**
-     * 작가별 조회 (Q클래스의 타입 안전성 활용)
-     * URL: ?author=김작가&sort=name,asc 자동 지원
+     * 작가 검색 조건 - 활성 + 작가 부분 일치
      */
-    public Page<Book> findByAuthor(String author, Pageable pageable) {
+    BooleanBuilder authorCondition(String author) {
         BooleanBuilder builder = new BooleanBuilder();
         builder.and(qBook.active.eq(true));
-        System.out.println(author);
         builder.and(qBook.author.containsIgnoreCase(author));
-        
-        return findPage(builder, pageable); // Spring Data Sort 자동 적용!
-    }
-    
-    /**
-     * ISBN으로 조회 (Q클래스의 타입 안전성 활용)
-     */
-    public Book findByIsbn(String isbn) {
-        return queryFactory
-            .selectFrom(qBook)
-            .where(qBook.active.eq(true)
-                   .and(qBook.isbn.eq(isbn)))
-            .fetchOne();
+        return builder;
     }
     
     /**
-     * 작가별 책 개수 조회
+     * 값 조건 - 활성 + 지정한 조건 모두 일치
      */
-    public long countByAuthor(String author) {
+    BooleanBuilder filterCondition(BookFilter filter) {
         BooleanBuilder builder = new BooleanBuilder();
         builder.and(qBook.active.eq(true));
-        builder.and(qBook.author.eq(author));
-        
-        return count(builder);
+        if (filter.author() != null) {
+            builder.and(qBook.author.eq(filter.author()));
+        }
+        if (filter.publisher() != null) {
+            builder.and(qBook.publisher.eq(filter.publisher()));
+        }
+        if (filter.publishYear() != null) {
+            builder.and(qBook.publishYear.eq(filter.publishYear()));
+        }
+        if (filter.available() != null) {
+            builder.and(qBook.available.eq(filter.available()));
+        }
+        return builder;
     }
     
     /**
-     * 복합 조건 검색 예시 (Q클래스의 장점 활용)
+     * 복합 검색 조건 - 활성 + (제목 | 설명) 부분 일치 + 작가 일치
      */
-    public Page<Book> searchWithComplexConditions(String keyword, String author, Pageable pageable) {
+    BooleanBuilder complexCondition(String keyword, String author) {
         BooleanBuilder builder = new BooleanBuilder();
         builder.and(qBook.active.eq(true));
         
@@ -124,22 +209,27 @@ public class BookQueryRepository implements QueryRepository<Book, QBook> {
             builder.and(qBook.author.eq(author));
         }
         
-        return findPage(builder, pageable);
+        return builder;
     }
     
     /**
-     * ISBN 존재 여부 확인
+     * ISBN 존재 여부 확인 (정규화된 ISBN-13 키 기준)
+     * uk_book_isbn13 은 삭제된 책도 포함하므로 active 조건 없이 확인
      */
     public boolean existsByIsbn(String isbn) {
-        if (!StringUtils.hasText(isbn)) {
+        long isbn13 = Isbn.toIsbn13(isbn);
+        if (isbn13 == Isbn.INVALID) {
             return false;
         }
         
-        return queryFactory
-            .selectFrom(qBook)
-            .where(qBook.active.eq(true)
-                   .and(qBook.isbn.eq(isbn)))
-            .fetchFirst() != null;
+        BooleanBuilder builder = new BooleanBuilder();
+        builder.and(qBook.isbn13.eq(isbn13));
+        
+        return queryMetrics.record("BookQueryRepository", "existsByIsbn", QueryMetrics.CONTENT, builder,
+            () -> queryFactory
+                .selectFrom(qBook)
+                .where(builder)
+                .fetchFirst()) != null;
     }
     
     /**
@@ -153,11 +243,12 @@ public class BookQueryRepository implements QueryRepository<Book, QBook> {
             builder.and(qBook.id.lt(lastId));
         }
         
-        return queryFactory
-            .selectFrom(qBook)
-            .where(builder)
-            .orderBy(qBook.id.desc())
-            .limit(size)
-            .fetch();
+        return queryMetrics.record("BookQueryRepository", "findByIdCursor", QueryMetrics.CONTENT, builder,
+            () -> queryFactory
+                .selectFrom(qBook)
+                .where(builder)
+                .orderBy(qBook.id.desc())
+                .limit(size)
+                .fetch());
     }
 }
\ No newline at end of file
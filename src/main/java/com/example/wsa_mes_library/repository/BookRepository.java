@@ -2,6 +2,26 @@ package com.example.wsa_mes_library.repository;
 
 import com.example.wsa_mes_library.entity.Book;
 import com.example.wsa_mes_library.lib.BaseRepository;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 public interface BookRepository extends BaseRepository<Book> {
-}
\ No newline at end of file
+    
+    // 예약 등록 / 반납 순서를 도서 단위로 맞추기 위한 행 잠금 (2차 캐시를 거치지 않음)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Book b WHERE b.id = :id")
+    Optional<Book> findByIdForUpdate(@Param("id") Long id);
+    
+    // 변경분 동기화 - (updatedAt, id) 가 커서 다음인 행 (삭제된 행 포함 - 전역 활성 필터를 끄고 호출), updated_at 범위로 인덱스 사용
+    @Query("SELECT b FROM Book b WHERE b.updatedAt >= :since AND (b.updatedAt > :since OR b.id > :id) " +
+           "AND b.updatedAt < :until ORDER BY b.updatedAt, b.id")
+    List<Book> findChangedSince(@Param("since") LocalDateTime since, @Param("id") Long id,
+                                @Param("until") LocalDateTime until, Limit limit);
+}
@@ -0,0 +1,42 @@
+package com.example.wsa_mes_library.repository;
+
+import com.example.wsa_mes_library.entity.Hold;
+import com.example.wsa_mes_library.lib.BaseRepository;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface HoldRepository extends BaseRepository<Hold> {
+    
+    // 예약 응답은 사용자, 도서를 함께 직렬화하므로 한 번에 조회
+    @Override
+    @EntityGraph(attributePaths = {"user", "book"})
+    Optional<Hold> findById(Long id);
+    
+    @Query("SELECT h FROM Hold h JOIN FETCH h.user JOIN FETCH h.book " +
+           "WHERE h.user.id = :userId AND h.status = 'WAITING' ORDER BY h.id")
+    List<Hold> findWaitingByUserId(@Param("userId") Long userId);
+    
+    @Query("SELECT COUNT(h) FROM Hold h WHERE h.user.id = :userId AND h.status = 'WAITING'")
+    long countWaitingByUserId(@Param("userId") Long userId);
+    
+    // 예약 ID 로 도서 ID 만 (도서 행을 먼저 잠근 뒤 예약을 읽기 위해)
+    @Query("SELECT h.book.id FROM Hold h WHERE h.id = :id")
+    Optional<Long> findBookIdById(@Param("id") Long id);
+    
+    // 기한이 지나지 않은 대기 예약이 있는지 (만료 작업 전에 기한이 지난 예약은 대기자로 보지 않음)
+    @Query("SELECT COUNT(h) > 0 FROM Hold h WHERE h.book.id = :bookId AND h.status = 'WAITING' " +
+           "AND (h.expiresAt IS NULL OR h.expiresAt >= :now)")
+    boolean existsWaitingByBookId(@Param("bookId") Long bookId, @Param("now") LocalDateTime now);
+    
+    @Query("SELECT DISTINCT h.book.id FROM Hold h WHERE h.status = 'WAITING' AND h.expiresAt < :now ORDER BY h.book.id")
+    List<Long> findBookIdsWithExpiredHolds(@Param("now") LocalDateTime now);
+    
+    @Query("SELECT h FROM Hold h JOIN FETCH h.user JOIN FETCH h.book " +
+           "WHERE h.book.id = :bookId AND h.status = 'WAITING' AND h.expiresAt < :now")
+    List<Hold> findExpiredHoldsByBookId(@Param("bookId") Long bookId, @Param("now") LocalDateTime now);
+}
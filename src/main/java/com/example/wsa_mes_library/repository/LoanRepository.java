@@ -2,16 +2,29 @@ package com.example.wsa_mes_library.repository;
 
 import com.example.wsa_mes_library.entity.Loan;
 import com.example.wsa_mes_library.lib.BaseRepository;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface LoanRepository extends BaseRepository<Loan> {
     
+    // 대출 단건/목록 응답은 사용자, 도서를 함께 직렬화하므로 한 번에 조회
+    @Override
+    @EntityGraph(attributePaths = {"user", "book"})
+    Optional<Loan> findById(Long id);
+    
+    @Override
+    @EntityGraph(attributePaths = {"user", "book"})
+    Page<Loan> findAll(Pageable pageable);
+    
     @Query("SELECT l FROM Loan l JOIN FETCH l.user JOIN FETCH l.book WHERE l.user.id = :userId")
     List<Loan> findByUserId(@Param("userId") Long userId);
     
@@ -31,4 +44,17 @@ public interface LoanRepository extends BaseRepository<Loan> {
     
     @Query("SELECT COUNT(l) FROM Loan l WHERE l.user.id = :userId AND l.status = 'ACTIVE'")
     long countActiveLoansByUserId(@Param("userId") Long userId);
+    
+    // 행 단위 UPDATE 대신 한 번의 벌크 UPDATE로 연체 처리 (감사 필드는 직접 갱신)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Loan l SET l.status = 'OVERDUE', l.updatedAt = :now " +
+           "WHERE l.status = 'ACTIVE' AND l.dueDate < :now")
+    int markOverdueLoans(@Param("now") LocalDateTime now);
+    
+    // 변경분 동기화 - (updatedAt, id) 가 커서 다음인 행 (연체 일괄 처리도 updatedAt 갱신), updated_at 범위로 인덱스 사용
+    @Query("SELECT l FROM Loan l JOIN FETCH l.user JOIN FETCH l.book " +
+           "WHERE l.updatedAt >= :since AND (l.updatedAt > :since OR l.id > :id) " +
+           "AND l.updatedAt < :until ORDER BY l.updatedAt, l.id")
+    List<Loan> findChangedSince(@Param("since") LocalDateTime since, @Param("id") Long id,
+                                @Param("until") LocalDateTime until, Limit limit);
 }
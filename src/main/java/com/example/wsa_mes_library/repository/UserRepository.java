@@ -2,22 +2,41 @@ package com.example.wsa_mes_library.repository;
 
 import com.example.wsa_mes_library.entity.User;
 import com.example.wsa_mes_library.lib.BaseRepository;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends BaseRepository<User> {
     
     Optional<User> findByEmail(String email);
     
-    @Query("SELECT u FROM User u WHERE " +
-           "(:keyword IS NULL OR :keyword = '' OR " +
-           "LOWER(u.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(u.email) LIKE LOWER(CONCAT('%', :keyword, '%')))")
-    Page<User> findByKeyword(@Param("keyword") String keyword, Pageable pageable);
+    // 검색 결과 페이지 - UserSearchIndex 가 고른 ID 중에서 정렬 / 페이징 (기본 키 조회, 개수는 호출 측이 앎)
+    List<User> findByIdIn(Collection<Long> ids, Pageable pageable);
     
     boolean existsByEmail(String email);
+    
+    // 변경분 동기화 - (updatedAt, id) 가 커서 다음인 행, updated_at 범위로 인덱스 사용
+    @Query("SELECT u FROM User u WHERE u.updatedAt >= :since AND (u.updatedAt > :since OR u.id > :id) " +
+           "AND u.updatedAt < :until ORDER BY u.updatedAt, u.id")
+    List<User> findChangedSince(@Param("since") LocalDateTime since, @Param("id") Long id,
+                                @Param("until") LocalDateTime until, Limit limit);
+    
+    // 삭제 표식 - 사용자는 물리 삭제하므로 변경분 동기화에 알릴 삭제 시각을 따로 남김
+    @Modifying
+    @Query(value = "INSERT INTO user_tombstone (id, deleted_at) VALUES (:id, :deletedAt)", nativeQuery = true)
+    void recordDeletion(@Param("id") Long id, @Param("deletedAt") LocalDateTime deletedAt);
+    
+    // 변경분 동기화 - (deletedAt, id) 가 커서 다음인 삭제 표식, deleted_at 범위로 인덱스 사용
+    @Query(value = "SELECT id, deleted_at AS deletedAt FROM user_tombstone " +
+                   "WHERE deleted_at >= :since AND (deleted_at > :since OR id > :id) AND deleted_at < :until " +
+                   "ORDER BY deleted_at, id LIMIT :limit", nativeQuery = true)
+    List<UserTombstone> findDeletedSince(@Param("since") LocalDateTime since, @Param("id") Long id,
+                                         @Param("until") LocalDateTime until, @Param("limit") int limit);
 }
@@ -0,0 +1,13 @@
+package com.example.wsa_mes_library.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 삭제된 사용자 표식 (user_tombstone) - 변경분 동기화에서 active=false 사용자로 전달
+ */
+public interface UserTombstone {
+
+    Long getId();
+
+    LocalDateTime getDeletedAt();
+}
@@ -0,0 +1,16 @@
+package com.example.wsa_mes_library.service;
+
+import com.example.wsa_mes_library.entity.Book;
+
+/**
+ * 도서 등록 / 수정 / 삭제 이벤트 (BookService 가 발행, 커밋 이후 처리)
+ *
+ * @param active false 면 삭제(비활성)된 도서
+ */
+public record BookChangedEvent(Long id, String name, String author, String description, boolean active) {
+
+    public static BookChangedEvent of(Book book) {
+        return new BookChangedEvent(book.getId(), book.getName(), book.getAuthor(), book.getDescription(),
+            Boolean.TRUE.equals(book.getActive()));
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.wsa_mes_library.service;
+
+import com.example.wsa_mes_library.entity.Book;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * ID 목록으로 도서 엔티티 조회 - 메모리에 ID만 들고 있는 검색 결과 캐시 / 컬럼 스냅샷이 응답을 만들 때 사용
+ * 삭제(비활성) 도서까지 봐야 하는 조회는 전역 활성 필터를 잠시 끄고 실행
+ */
+@Component
+public class BookLoader {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * ID 순서대로 활성 도서 조회 - 2차 캐시 / 영속성 컨텍스트에 있는 책은 DB 조회 없이 (없는 것만 IN 조회)
+     * 그 사이 삭제(비활성)된 책은 빠지므로 결과가 ids 보다 짧을 수 있음
+     */
+    public List<Book> findActiveInOrder(long[] ids) {
+        if (ids.length == 0) {
+            return List.of();
+        }
+        List<Long> boxed = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            boxed.add(id);
+        }
+        return entityManager.unwrap(Session.class)
+            .byMultipleIds(Book.class)
+            .with(CacheMode.NORMAL) // 지정하지 않으면 2차 캐시를 보지 않음
+            .multiLoad(boxed)
+            .stream()
+            .filter(Objects::nonNull)
+            .filter(book -> Boolean.TRUE.equals(book.getActive()))
+            .toList();
+    }
+
+    /**
+     * 전역 활성 필터(Book.ACTIVE_FILTER) 없이 조회 - 삭제된 도서까지 내려야 하는 변경분 동기화용
+     * 트랜잭션 안에서 호출 (같은 세션에서 끄고 다시 켬)
+     */
+    public <T> T includingInactive(Supplier<T> query) {
+        Session session = entityManager.unwrap(Session.class);
+        session.disableFilter(Book.ACTIVE_FILTER);
+        try {
+            return query.get();
+        } finally {
+            session.enableFilter(Book.ACTIVE_FILTER);
+        }
+    }
+}
@@ -1,19 +1,32 @@
 package com.example.wsa_mes_library.service;
 
 import com.example.wsa_mes_library.entity.Book;
+import com.example.wsa_mes_library.lib.ChangePage;
+import com.example.wsa_mes_library.lib.Isbn;
+import com.example.wsa_mes_library.lib.PopularityWindow;
+import com.example.wsa_mes_library.repository.BookFilter;
 import com.example.wsa_mes_library.repository.BookQueryRepository;
 import com.example.wsa_mes_library.repository.BookRepository;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Book 비즈니스 로직 서비스
@@ -24,10 +37,37 @@ import java.util.Optional;
 @Transactional(readOnly = true)
 @Slf4j
 public class BookService {
+
+    /**
+     * 오타 허용 검색에서 순위를 매길 최대 결과 수 (이후 페이지는 빈 결과)
+     */
+    static final int MAX_FUZZY_RESULTS = 200;
     
     private final BookQueryRepository bookQueryRepository;
 
     private final BookRepository bookRepository;
+
+    private final HangulSearchIndex hangulSearchIndex;
+
+    private final FuzzySearchIndex fuzzySearchIndex;
+
+    private final SimilarBookIndex similarBookIndex;
+
+    private final CoBorrowIndex coBorrowIndex;
+
+    private final PopularityIndex popularityIndex;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final ChangeFeed changeFeed;
+
+    private final ReadCoalescer readCoalescer;
+
+    private final SearchResultCache searchResultCache;
+
+    private final BookSnapshot bookSnapshot;
+
+    private final BookLoader bookLoader;
     
     /**
      * 책 목록 조회 (비즈니스 로직 포함)
@@ -38,24 +78,101 @@ public class BookService {
      * @return 책 페이징 결과
      */
     public Page<Book> getBooks(String keyword, String author, Pageable pageable) {
-        log.debug("책 목록 조회 - keyword: {}, author: {}, page: {}", keyword, author, pageable.getPageNumber());
+        return getBooks(keyword, author, false, pageable);
+    }
+
+    /**
+     * 책 목록 조회 - 오타 허용 검색 선택 가능
+     * fuzzy 이면 keyword 와 비슷한 제목 / 작가를 가까운 순으로 (정렬 조건은 무시, author 는 정확 매칭으로 거름)
+     * 비슷한 책이 없으면 기존 키워드 검색으로 대체
+     * 그 밖의 검색 결과는 SearchResultCache 에 ID 목록으로 보관 (도서가 바뀌어 커밋되면 무효)
+     *
+     * @param fuzzy 오타 허용 검색 여부
+     */
+    public Page<Book> getBooks(String keyword, String author, boolean fuzzy, Pageable pageable) {
+        if (StringUtils.hasText(keyword) && pageable.getPageNumber() == 0) {
+            popularityIndex.recordSearch(keyword);
+        }
+
+        if (fuzzy && StringUtils.hasText(keyword)) {
+            Page<Book> books = searchFuzzy(keyword, author, pageable);
+            if (books.getTotalElements() > 0) {
+                return books;
+            }
+            log.debug("오타 허용 검색 결과 없음, 키워드 검색으로 대체 - keyword: {}", keyword);
+        }
+
+        // 핫패스: 인자 3개 이상은 가변 인자 배열 + 박싱이 생기므로 레벨 확인 후 한 줄만 기록
+        if (log.isDebugEnabled()) {
+            log.debug("책 목록 조회 - keyword: {}, author: {}, page: {}", keyword, author, pageable.getPageNumber());
+        }
         
+        // 앞뒤 공백은 검색어로 보지 않음 (같은 검색이 같은 캐시 키를 쓰도록)
+        String trimmedKeyword = StringUtils.hasText(keyword) ? keyword.trim() : null;
+        String trimmedAuthor = StringUtils.hasText(author) ? author.trim() : null;
+        return searchResultCache.get(trimmedKeyword, trimmedAuthor, pageable,
+            () -> searchBooks(trimmedKeyword, trimmedAuthor, pageable));
+    }
+
+    /**
+     * 검색 조건에 따라 조회 (SearchResultCache 에 없을 때)
+     * 키워드가 없는 목록 / 작가 검색은 컬럼 스냅샷(BookSnapshot)으로, 나머지는 DB
+     */
+    private Page<Book> searchBooks(String keyword, String author, Pageable pageable) {
+        if (keyword == null && bookSnapshot.canServe(pageable)) {
+            return toPage(bookSnapshot.list(author, pageable), pageable);
+        }
         // 비즈니스 로직: 검색 조건에 따른 분기 처리
-        if (StringUtils.hasText(keyword) && StringUtils.hasText(author)) {
-            log.debug("복합 검색 수행: keyword={}, author={}", keyword, author);
+        if (keyword != null && author != null) {
             return bookQueryRepository.searchWithComplexConditions(keyword, author, pageable);
-        } else if (StringUtils.hasText(keyword)) {
-            log.debug("키워드 검색 수행: {}", keyword);
-            return bookQueryRepository.searchByKeyword(keyword, pageable);
-        } else if (StringUtils.hasText(author)) {
-            log.debug("작가별 검색 수행: {}", author);
+        } else if (keyword != null) {
+            // 대소문자 무시 검색이므로 소문자로 맞춘 검색어가 같으면 같은 결과
+            return readCoalescer.read("searchByKeyword", Arrays.asList(keyword.toLowerCase(Locale.ROOT), pageable),
+                () -> bookQueryRepository.searchByKeyword(keyword, pageable));
+        } else if (author != null) {
             return bookQueryRepository.findByAuthor(author, pageable);
         } else {
-            log.debug("전체 활성 책 조회");
             return bookQueryRepository.findActiveBooks(pageable);
         }
     }
     
+    /**
+     * 값 조건 목록 - 작가 / 출판사 / 출판연도 / 대출 가능 여부 (지정한 조건 모두 일치)
+     * 스냅샷이 준비되어 있으면 조건별 비트맵 교집합으로 ID 를 고르고 2차 캐시에서 조회, 아니면 DB
+     *
+     * @param filter 조건 (null 값은 조건 없음)
+     * @param pageable 페이징 정보
+     */
+    public Page<Book> getBooksByFilter(BookFilter filter, Pageable pageable) {
+        BookFilter normalized = normalize(filter);
+        if (bookSnapshot.canServe(pageable)) {
+            return toPage(bookSnapshot.find(normalized, pageable), pageable);
+        }
+        return bookQueryRepository.findByFilter(normalized, pageable);
+    }
+
+    /**
+     * 값 조건 개수 - 작가 / 출판사 / 출판연도 / 대출 가능 여부 (지정한 조건 모두 일치)
+     *
+     * @param filter 조건 (null 값은 조건 없음)
+     */
+    public long countBooksByFilter(BookFilter filter) {
+        BookFilter normalized = normalize(filter);
+        return bookSnapshot.isReady()
+            ? bookSnapshot.count(normalized)
+            : bookQueryRepository.countByFilter(normalized);
+    }
+
+    /**
+     * since 이후 바뀐 책 - 삭제(비활성)된 책 포함 (updatedAt, id 순, 최대 size 건)
+     *
+     * @param since 이전 응답의 next (비어 있으면 처음부터)
+     * @param size 가져올 개수 (기본 100개, 최대 1000개)
+     */
+    public ChangePage<Book> getChanges(String since, Integer size) {
+        return bookLoader.includingInactive(() -> changeFeed.read(since, size, bookRepository::findChangedSince));
+    }
+    
     /**
      * 책 단건 조회 (ID로)
      * 
@@ -70,11 +187,10 @@ public class BookService {
             return Optional.empty();
         }
         
-        Book book = bookQueryRepository.getQueryFactory()
-                .selectFrom(bookQueryRepository.getQEntity())
-                .where(bookQueryRepository.getQEntity().id.eq(id)
-                      .and(bookQueryRepository.getQEntity().active.eq(true)))
-                .fetchOne();
+        // PK 조회는 2차 캐시를 거치므로 캐시 적중 시 DB 조회 없음
+        Book book = bookRepository.findById(id)
+                .filter(found -> Boolean.TRUE.equals(found.getActive()))
+                .orElse(null);
         
         if (book == null) {
             log.info("책을 찾을 수 없음 - ID: {}", id);
@@ -97,7 +213,7 @@ public class BookService {
             return Optional.empty();
         }
         
-        // 비즈니스 로직: ISBN 형식 검증 (간단한 예시)
+        // 비즈니스 로직: ISBN 형식 검증
         if (!isValidIsbn(isbn)) {
             log.warn("잘못된 ISBN 형식: {}", isbn);
             return Optional.empty();
@@ -119,14 +235,14 @@ public class BookService {
      * @return 책 개수
      */
     public long getBookCountByAuthor(String author) {
-        log.debug("작가별 책 개수 조회: {}", author);
-        
         if (!StringUtils.hasText(author)) {
             log.warn("빈 작가명");
             return 0L;
         }
         
-        long count = bookQueryRepository.countByAuthor(author);
+        long count = bookSnapshot.isReady()
+            ? bookSnapshot.countByAuthor(author)
+            : bookQueryRepository.countByAuthor(author);
         log.debug("작가 '{}' 의 책 개수: {}", author, count);
         
         return count;
@@ -138,9 +254,9 @@ public class BookService {
      * @return 전체 책 개수
      */
     public long getTotalActiveBookCount() {
-        log.debug("전체 활성 책 개수 조회");
-
-        long count = bookQueryRepository.count(bookQueryRepository.getQEntity().active.eq(true));
+        long count = bookSnapshot.isReady()
+            ? bookSnapshot.countActive()
+            : readCoalescer.read("totalActiveBookCount", List.of(), bookQueryRepository::countActiveBooks);
         log.debug("전체 활성 책 개수: {}", count);
         
         return count;
@@ -178,8 +294,13 @@ public class BookService {
         
         // 비즈니스 로직: 최신 책은 최대 50개까지만 허용
         int actualLimit = Math.min(Math.max(limit, 1), 50);
+        Pageable latest = Pageable.ofSize(actualLimit);
+        if (bookSnapshot.canServe(latest)) {
+            return toPage(bookSnapshot.list(null, latest), latest);
+        }
         
-        return bookQueryRepository.findActiveBooks(Pageable.ofSize(actualLimit));
+        return readCoalescer.read("latestBooks", List.of(actualLimit),
+            () -> bookQueryRepository.findActiveBooks(Pageable.ofSize(actualLimit)));
     }
     
     /**
@@ -213,17 +334,10 @@ public class BookService {
     // ===== 유틸리티 메서드들 =====
     
     /**
-     * ISBN 형식 검증 (간단한 예시)
-     * 실제로는 더 정교한 검증이 필요
+     * ISBN 형식 검증 (ISBN-10 / ISBN-13 자릿수 + 검증 숫자)
      */
-    private boolean isValidIsbn(String isbn) {
-        if (!StringUtils.hasText(isbn)) {
-            return false;
-        }
-        
-        // 간단한 ISBN 형식 검증 (하이픈 포함 13자리 또는 10자리)
-        String cleanIsbn = isbn.replaceAll("-", "");
-        return cleanIsbn.length() == 10 || cleanIsbn.length() == 13;
+    static boolean isValidIsbn(String isbn) {
+        return Isbn.isValid(isbn);
     }
 
     /**
@@ -238,6 +352,137 @@ public class BookService {
         return bookQueryRepository.findByIdCursor(lastId, limitSize);
     }
     
+    /**
+     * 한글 초성 / 자모 검색 (제목, 작가)
+     * "ㅊㅅㅈㅇㅈ" -> 채식주의자, "ㅎㄱ" -> 한강 작가의 책, "이펙" -> 이펙티브 자바
+     *
+     * @param query 초성만 또는 입력 중인 한글 (영문 / 숫자 포함 가능)
+     * @param size 가져올 개수 (기본 20개, 최대 100개)
+     * @return 일치하는 책 목록 (인덱스 키 순)
+     */
+    public List<Book> searchByHangul(String query, Integer size) {
+        int limitSize = (size != null && size > 0) ? Math.min(size, 100) : 20;
+        return findAllInOrder(hangulSearchIndex.searchBooks(query, limitSize));
+    }
+
+    /**
+     * 설명이 비슷한 책 (MinHash / LSH 추정 유사도 순)
+     *
+     * @param id 기준 책 ID
+     * @param size 가져올 개수 (기본 10개, 최대 50개)
+     * @return 비슷한 활성 책 목록 (기준 책 제외, 설명이 없으면 빈 목록)
+     */
+    public List<Book> getSimilarBooks(Long id, Integer size) {
+        int limitSize = (size != null && size > 0) ? Math.min(size, 50) : 10;
+        return findAllInOrder(similarBookIndex.findSimilar(id, limitSize));
+    }
+
+    /**
+     * 이 책을 빌린 이용자가 함께 빌린 책 (함께 빌린 이용자 수 순)
+     *
+     * @param id 기준 책 ID
+     * @param size 가져올 개수 (기본 10개, 최대 50개)
+     * @return 활성 책 목록 (기준 책 제외)
+     */
+    public List<Book> getAlsoBorrowedBooks(Long id, Integer size) {
+        int limitSize = (size != null && size > 0) ? Math.min(size, 50) : 10;
+        // 행렬에는 삭제된 책도 남아 있으므로 걸러서 모자라면 두 배씩 더 가져옴 (이미 읽은 앞부분은 다시 조회하지 않음)
+        List<Book> books = new ArrayList<>(limitSize);
+        int fetched = 0;
+        for (int fetch = limitSize; ; fetch *= 2) {
+            List<Long> ids = coBorrowIndex.recommend(id, fetch);
+            findAllInOrder(ids.subList(fetched, ids.size())).stream()
+                .filter(book -> Boolean.TRUE.equals(book.getActive()))
+                .limit(limitSize - books.size())
+                .forEach(books::add);
+            fetched = ids.size();
+            if (books.size() >= limitSize || ids.size() < fetch) {
+                return books;
+            }
+        }
+    }
+
+    /**
+     * 기간 내 대출이 많은 책 (삭제된 책 제외)
+     *
+     * @param period day, week, month (기본 week)
+     * @param size 가져올 개수 (기본 10개, 최대 50개)
+     */
+    public List<PopularBook> getPopularBooks(String period, Integer size) {
+        int limitSize = (size != null && size > 0) ? Math.min(size, 50) : 10;
+        List<PopularityWindow.Ranked<Long>> ranked = popularityIndex.topBooks(PopularityIndex.Period.parse(period), limitSize);
+        Map<Long, Book> books = findAllInOrder(ranked.stream().map(PopularityWindow.Ranked::key).toList()).stream()
+            .filter(book -> Boolean.TRUE.equals(book.getActive()))
+            .collect(Collectors.toMap(Book::getId, Function.identity()));
+        return ranked.stream()
+            .filter(entry -> books.containsKey(entry.key()))
+            .map(entry -> new PopularBook(books.get(entry.key()), entry.count()))
+            .toList();
+    }
+
+    /**
+     * 기간 내 많이 검색한 키워드 (소문자 / 공백 정리 후 집계)
+     *
+     * @param period day, week, month (기본 week)
+     * @param size 가져올 개수 (기본 10개, 최대 50개)
+     */
+    public List<PopularKeyword> getPopularKeywords(String period, Integer size) {
+        int limitSize = (size != null && size > 0) ? Math.min(size, 50) : 10;
+        return popularityIndex.topKeywords(PopularityIndex.Period.parse(period), limitSize).stream()
+            .map(entry -> new PopularKeyword(entry.key(), entry.count()))
+            .toList();
+    }
+
+    private Page<Book> searchFuzzy(String keyword, String author, Pageable pageable) {
+        List<Long> ids = fuzzySearchIndex.search(keyword, MAX_FUZZY_RESULTS);
+        if (StringUtils.hasText(author)) {
+            List<Book> books = findAllInOrder(ids).stream()
+                .filter(book -> author.equals(book.getAuthor()))
+                .toList();
+            int from = (int) Math.min(pageable.getOffset(), books.size());
+            int to = Math.min(from + pageable.getPageSize(), books.size());
+            return new PageImpl<>(books.subList(from, to), pageable, books.size());
+        }
+        // 현재 페이지의 책만 조회
+        int from = (int) Math.min(pageable.getOffset(), ids.size());
+        int to = Math.min(from + pageable.getPageSize(), ids.size());
+        return new PageImpl<>(findAllInOrder(ids.subList(from, to)), pageable, ids.size());
+    }
+
+    /**
+     * 빈 문자열 조건은 조건 없음으로, 앞뒤 공백 제거
+     */
+    private static BookFilter normalize(BookFilter filter) {
+        return new BookFilter(
+            StringUtils.hasText(filter.author()) ? filter.author().trim() : null,
+            StringUtils.hasText(filter.publisher()) ? filter.publisher().trim() : null,
+            filter.publishYear(),
+            filter.available());
+    }
+
+    /**
+     * 스냅샷에서 고른 ID 로 페이지 구성 (엔티티는 2차 캐시에서)
+     */
+    private Page<Book> toPage(BookSnapshot.Slice slice, Pageable pageable) {
+        return new PageImpl<>(bookLoader.findActiveInOrder(slice.ids()), pageable, slice.total());
+    }
+
+    /**
+     * ID 목록 순서대로 책 조회 (그 사이 삭제된 책은 제외)
+     */
+    private List<Book> findAllInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        
+        Map<Long, Book> books = bookRepository.findAllById(ids).stream()
+            .collect(Collectors.toMap(Book::getId, Function.identity()));
+        return ids.stream()
+            .map(books::get)
+            .filter(Objects::nonNull)
+            .toList();
+    }
+    
     /**
      * 새 책 등록
      * 
@@ -263,6 +508,7 @@ public class BookService {
         }
         
         Book savedBook = bookRepository.save(book);
+        eventPublisher.publishEvent(BookChangedEvent.of(savedBook));
         log.info("새 책 등록 완료 - ID: {}, 제목: {}", savedBook.getId(), savedBook.getName());
         
         return savedBook;
@@ -285,8 +531,8 @@ public class BookService {
         // 비즈니스 로직: 수정 정보 검증
         validateBookData(bookDetails);
         
-        // ISBN 변경 시 중복 체크
-        if (!book.getIsbn().equals(bookDetails.getIsbn()) && 
+        // ISBN 변경 시 중복 체크 (표기만 바뀐 경우는 같은 ISBN)
+        if (Isbn.toIsbn13(book.getIsbn()) != Isbn.toIsbn13(bookDetails.getIsbn()) &&
             StringUtils.hasText(bookDetails.getIsbn()) &&
             bookQueryRepository.existsByIsbn(bookDetails.getIsbn())) {
             throw new IllegalArgumentException("이미 존재하는 ISBN입니다: " + bookDetails.getIsbn());
@@ -301,6 +547,7 @@ public class BookService {
         book.setPublishYear(bookDetails.getPublishYear());
         
         Book updatedBook = bookRepository.save(book);
+        eventPublisher.publishEvent(BookChangedEvent.of(updatedBook));
         log.info("책 정보 수정 완료 - ID: {}, 제목: {}", updatedBook.getId(), updatedBook.getName());
         
         return updatedBook;
@@ -326,6 +573,7 @@ public class BookService {
         // 소프트 삭제
         book.setActive(false);
         bookRepository.save(book);
+        eventPublisher.publishEvent(BookChangedEvent.of(book));
         
         log.info("책 삭제 완료 - ID: {}, 제목: {}", book.getId(), book.getName());
     }
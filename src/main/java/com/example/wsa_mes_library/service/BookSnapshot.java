@@ -0,0 +1,642 @@
+package com.example.wsa_mes_library.service;
+
+import com.example.wsa_mes_library.lib.LongIntHashMap;
+import com.example.wsa_mes_library.lib.MappedColumns;
+import com.example.wsa_mes_library.lib.RebuildableIndex;
+import com.example.wsa_mes_library.lib.RoaringBitmap;
+import com.example.wsa_mes_library.lib.StringDictionary;
+import com.example.wsa_mes_library.repository.BookFilter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+
+/**
+ * 도서 목록 / 개수 조회용 컬럼 스냅샷 (library.snapshot.enabled=true 일 때)
+ * - 행마다 id, 등록일, 제목 / 작가 / 출판사(사전 코드), 출판연도, 대출 가능 / 활성 플래그만 메모리 맵 파일에 컬럼별로 보관
+ * - 목록 / 작가 필터 / 정렬 / 개수를 DB 없이 계산하고 ID만 돌려줌 (엔티티는 BookLoader 로 2차 캐시에서)
+ * - 활성 / 대출 가능 / 작가별 / 출판사별 / 출판연도별 행 비트맵(RoaringBitmap)을 함께 유지 - 여러 조건 목록 / 개수는 비트맵 교집합
+ * - 커밋된 도서 / 대출 변경은 해당 행만 다시 읽어 반영, 그 밖의 경로(JDBC 일괄 변경 등)는 주기적으로 updatedAt 이후 변경분을 읽어 반영
+ * - 기동 / 데이터 초기화 후 새 파일에 전체를 적재하고 바꿔 끼움 (그동안은 DB 로 조회)
+ *
+ * 설명(description)은 없으므로 키워드 검색은 DB, 정렬 가능한 필드는 SORT_KEYS 뿐 (그 밖의 정렬도 DB)
+ * 문자열 정렬은 자바 문자열 순서 (H2 / utf8mb4_bin 과 같음, 대소문자를 무시하는 MySQL 기본 collation 과는 다를 수 있음)
+ * DB에서 직접 지운 행은 다시 적재할 때까지 남음 (서비스의 삭제는 비활성화이므로 바로 반영)
+ */
+@Service
+@Slf4j
+public class BookSnapshot extends RebuildableIndex {
+
+    /**
+     * 정렬 가능한 필드 (Pageable 의 sort 속성명)
+     */
+    public static final List<String> SORT_KEYS =
+        List.of("id", "createdAt", "name", "author", "publisher", "publishYear", "available");
+
+    // 컬럼 번호 - 폭은 WIDTHS
+    private static final int ID = 0;
+    private static final int CREATED_AT = 1;
+    private static final int NAME = 2;
+    private static final int AUTHOR = 3;
+    private static final int PUBLISHER = 4;
+    private static final int PUBLISH_YEAR = 5;
+    private static final int FLAGS = 6;
+    private static final int UPDATED_AT = 7;
+    private static final int[] WIDTHS = {8, 8, 4, 4, 4, 4, 1, 8};
+
+    private static final byte ACTIVE = 1;
+    private static final byte AVAILABLE = 2;
+    private static final int NULL_YEAR = Integer.MIN_VALUE;
+    private static final long NULL_TIME = Long.MIN_VALUE;
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final RoaringBitmap EMPTY = new RoaringBitmap();
+
+    private static final String SELECT_SQL = "SELECT id, name, author, publisher, publish_year, "
+        + "COALESCE(available, TRUE) AS available, COALESCE(active, TRUE) AS active, created_at, updated_at FROM book";
+
+    private static final RowMapper<Row> ROW_MAPPER = (rs, rowNum) -> new Row(
+        rs.getLong("id"),
+        rs.getString("name"),
+        rs.getString("author"),
+        rs.getString("publisher"),
+        rs.getObject("publish_year", Integer.class),
+        rs.getBoolean("available"),
+        rs.getBoolean("active"),
+        rs.getObject("created_at", LocalDateTime.class),
+        rs.getObject("updated_at", LocalDateTime.class));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final Path directory;
+    private final int batchSize;
+    private final Duration settleTime;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object rebuildLock = new Object();
+    private volatile Table table;
+
+    public BookSnapshot(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry,
+                        @Value("${library.snapshot.enabled:true}") boolean enabled,
+                        @Value("${library.snapshot.directory:${java.io.tmpdir}}") Path directory,
+                        @Value("${library.snapshot.batch-size:1000}") int batchSize,
+                        @Value("${library.sync.settle-time:5s}") Duration settleTime) {
+        super("book-snapshot-rebuild", "도서 스냅샷");
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.directory = directory;
+        this.batchSize = batchSize;
+        this.settleTime = settleTime;
+        Gauge.builder("library.snapshot.rows", this, snapshot -> snapshot.read(table -> table == null ? 0 : table.rows))
+            .register(meterRegistry);
+        Gauge.builder("library.snapshot.bytes", this,
+                snapshot -> snapshot.read(table -> table == null ? 0 : table.columns.sizeInBytes()))
+            .register(meterRegistry);
+    }
+
+    /**
+     * 첫 적재가 끝나 조회에 쓸 수 있는지
+     */
+    public boolean isReady() {
+        return table != null;
+    }
+
+    /**
+     * 이 페이지 요청을 스냅샷으로 처리할 수 있는지 (적재 완료 + 페이지 지정 + 지원하는 정렬)
+     */
+    public boolean canServe(Pageable pageable) {
+        if (!isReady() || pageable.isUnpaged()) {
+            return false;
+        }
+        for (Sort.Order order : pageable.getSort()) {
+            if (!SORT_KEYS.contains(order.getProperty()) || order.isIgnoreCase()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // ===== 조회 =====
+
+    public long countActive() {
+        return read(table -> table.active.cardinality());
+    }
+
+    /**
+     * 작가명이 정확히 같은 활성 도서 수
+     */
+    public long countByAuthor(String author) {
+        return count(new BookFilter(author, null, null, null));
+    }
+
+    /**
+     * 조건을 모두 만족하는 활성 도서 수 (비트맵 교집합의 크기)
+     */
+    public long count(BookFilter filter) {
+        return read(table -> table.matching(filter).cardinality());
+    }
+
+    /**
+     * 활성 도서 목록 한 페이지 (정렬이 없으면 id 순)
+     *
+     * @param author 작가명 부분 일치 (대소문자 무시, null 이면 전체)
+     * @return 페이지의 도서 ID + 조건에 맞는 전체 건수
+     */
+    public Slice list(String author, Pageable pageable) {
+        return read(table -> {
+            IntPredicate filter = null;
+            if (author != null) {
+                boolean[] matches = table.authors.containsIgnoreCase(author);
+                filter = row -> {
+                    int code = table.columns.getInt(AUTHOR, row);
+                    return code != StringDictionary.NULL && matches[code];
+                };
+            }
+            return table.select(table.active, filter, new RowOrder(table, pageable.getSort()), pageable.getOffset(),
+                pageable.getPageSize());
+        });
+    }
+
+    /**
+     * 조건을 모두 만족하는 활성 도서 목록 한 페이지 (정렬이 없으면 id 순)
+     */
+    public Slice find(BookFilter filter, Pageable pageable) {
+        return read(table -> table.select(table.matching(filter), null, new RowOrder(table, pageable.getSort()),
+            pageable.getOffset(), pageable.getPageSize()));
+    }
+
+    // ===== 변경 반영 =====
+
+    /**
+     * 검색 결과 캐시(SearchResultCache)의 버전이 오르기 전에 반영 - 새 버전으로 옛 결과가 저장되지 않도록
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener
+    public void onBookChanged(BookChangedEvent event) {
+        refreshBook(event.id());
+    }
+
+    @TransactionalEventListener
+    public void onLoanCreated(LoanCreatedEvent event) {
+        refreshBook(event.bookId());
+    }
+
+    @TransactionalEventListener
+    public void onLoanReturned(LoanReturnedEvent event) {
+        refreshBook(event.bookId());
+    }
+
+    /**
+     * 마지막으로 반영한 updatedAt 이후 바뀐 행 반영 (커밋이 늦은 변경을 놓치지 않도록 settle-time 만큼 겹쳐 읽음)
+     */
+    @Scheduled(fixedDelayString = "${library.snapshot.refresh-interval:PT10S}",
+               initialDelayString = "${library.snapshot.refresh-interval:PT10S}")
+    public void refresh() {
+        Table current = table;
+        if (current == null) {
+            return;
+        }
+        synchronized (current) {
+            LocalDateTime since = current.watermark.minus(settleTime);
+            LocalDateTime lastAt = since;
+            long lastId = 0;
+            long changed = 0;
+            while (true) {
+                List<Row> rows = jdbcTemplate.query(SELECT_SQL + " WHERE updated_at >= ? AND (updated_at > ? OR id > ?) "
+                    + "ORDER BY updated_at, id LIMIT ?", ROW_MAPPER, lastAt, lastAt, lastId, batchSize);
+                write(() -> rows.forEach(current::upsert));
+                changed += rows.size();
+                if (rows.size() < batchSize) {
+                    break;
+                }
+                lastAt = rows.getLast().updatedAt();
+                lastId = rows.getLast().id();
+            }
+            if (changed > 0) {
+                log.debug("도서 스냅샷 변경분 반영 - {}건", changed);
+            }
+        }
+    }
+
+    /**
+     * DB 의 도서 전체를 새 파일에 적재하고 바꿔 끼움 (id 순으로 batch-size 건씩)
+     */
+    @Override
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        synchronized (rebuildLock) {
+            long start = System.nanoTime();
+            Table fresh = new Table(directory, batchSize);
+            long lastId = 0;
+            while (true) {
+                List<Row> rows = jdbcTemplate.query(SELECT_SQL + " WHERE id > ? ORDER BY id LIMIT ?",
+                    ROW_MAPPER, lastId, batchSize);
+                if (rows.isEmpty()) {
+                    break;
+                }
+                rows.forEach(fresh::upsert);
+                lastId = rows.getLast().id();
+            }
+            // 아직 공개 전이라 쓰기 잠금 밖에서 한 번 정렬 - 이후 추가되는 문자열은 encode 에서 바로 순위를 받음
+            fresh.authors.rankAll();
+            fresh.names.rankAll();
+            fresh.publishers.rankAll();
+
+            Table old = table;
+            write(() -> {
+                table = fresh;
+                if (old != null) {
+                    old.columns.close();
+                }
+            });
+            markBuilt();
+            // 적재하는 동안 커밋된 변경 반영
+            refresh();
+            log.info("도서 스냅샷 적재 완료 - 행: {}, 파일: {}KB, {}ms", fresh.rows,
+                fresh.columns.sizeInBytes() / 1024, (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    @Override
+    protected boolean rebuildEnabled() {
+        return enabled;
+    }
+
+    @PreDestroy
+    public void close() {
+        write(() -> {
+            if (table != null) {
+                table.columns.close();
+                table = null;
+            }
+        });
+    }
+
+    private void refreshBook(Long bookId) {
+        Table current = table;
+        if (current == null) {
+            return;
+        }
+        List<Row> rows = jdbcTemplate.query(SELECT_SQL + " WHERE id = ?", ROW_MAPPER, bookId);
+        write(() -> {
+            if (rows.isEmpty()) {
+                current.deactivate(bookId);
+            } else {
+                current.upsert(rows.getFirst());
+            }
+        });
+    }
+
+    private <R> R read(Function<Table, R> query) {
+        lock.readLock().lock();
+        try {
+            return query.apply(table);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void write(Runnable update) {
+        lock.writeLock().lock();
+        try {
+            update.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 페이지의 도서 ID (정렬 순) + 조건에 맞는 전체 건수
+     */
+    public record Slice(long[] ids, long total) {
+    }
+
+    private record Row(long id, String name, String author, String publisher, Integer publishYear,
+                       boolean available, boolean active, LocalDateTime createdAt, LocalDateTime updatedAt) {
+    }
+
+    /**
+     * 스냅샷 파일 하나 - 컬럼 + 문자열 사전 + id -> 행 번호 + 값별 행 비트맵
+     */
+    private static final class Table {
+
+        final MappedColumns columns;
+        final StringDictionary names = new StringDictionary();
+        final StringDictionary authors = new StringDictionary();
+        final StringDictionary publishers = new StringDictionary();
+        final LongIntHashMap rowOf; // 값은 행 번호 + 1 (0 은 없음)
+        // 비트맵 인덱스 (행 번호 집합) - 작가 / 출판사는 사전 코드가 인덱스
+        final RoaringBitmap active = new RoaringBitmap();
+        final RoaringBitmap available = new RoaringBitmap();
+        final List<RoaringBitmap> byAuthor = new ArrayList<>();
+        final List<RoaringBitmap> byPublisher = new ArrayList<>();
+        final Map<Integer, RoaringBitmap> byYear = new HashMap<>();
+        int rows;
+        LocalDateTime watermark = EPOCH;
+
+        Table(Path directory, int initialCapacity) {
+            try {
+                this.columns = new MappedColumns(Files.createTempFile(directory, "book-snapshot-", ".col"),
+                    initialCapacity, WIDTHS);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            this.rowOf = new LongIntHashMap(initialCapacity);
+        }
+
+        /**
+         * 행 추가 / 갱신 - 이미 더 최근(updatedAt) 상태가 반영되어 있으면 무시 (변경분 반영과 단건 반영이 겹칠 때)
+         */
+        void upsert(Row source) {
+            long updatedAt = micros(source.updatedAt());
+            int row = rowOf.get(source.id()) - 1;
+            if (row >= 0 && columns.getLong(UPDATED_AT, row) > updatedAt) {
+                return;
+            }
+            if (row < 0) {
+                row = rows++;
+                columns.ensureCapacity(rows);
+                rowOf.addTo(source.id(), row + 1);
+                columns.putLong(ID, row, source.id());
+            } else {
+                unindex(row);
+            }
+            columns.putLong(CREATED_AT, row, micros(source.createdAt()));
+            columns.putLong(UPDATED_AT, row, updatedAt);
+            columns.putInt(NAME, row, names.encode(source.name()));
+            columns.putInt(AUTHOR, row, authors.encode(source.author()));
+            columns.putInt(PUBLISHER, row, publishers.encode(source.publisher()));
+            columns.putInt(PUBLISH_YEAR, row, source.publishYear() == null ? NULL_YEAR : source.publishYear());
+            columns.putByte(FLAGS, row, (byte) ((source.active() ? ACTIVE : 0) | (source.available() ? AVAILABLE : 0)));
+            index(row);
+            if (source.updatedAt() != null && source.updatedAt().isAfter(watermark)) {
+                watermark = source.updatedAt();
+            }
+        }
+
+        void deactivate(long id) {
+            int row = rowOf.get(id) - 1;
+            if (row >= 0) {
+                unindex(row);
+                columns.putByte(FLAGS, row, (byte) 0);
+                index(row);
+            }
+        }
+
+        /**
+         * 활성 행 중 작가 / 출판사 / 출판연도(같은 값) / 대출 가능 조건을 모두 만족하는 행 (조건 비트맵 교집합)
+         */
+        RoaringBitmap matching(BookFilter filter) {
+            List<RoaringBitmap> conditions = new ArrayList<>();
+            conditions.add(active);
+            if (filter.author() != null) {
+                conditions.add(valueOf(byAuthor, authors.find(filter.author())));
+            }
+            if (filter.publisher() != null) {
+                conditions.add(valueOf(byPublisher, publishers.find(filter.publisher())));
+            }
+            if (filter.publishYear() != null) {
+                conditions.add(byYear.getOrDefault(filter.publishYear(), EMPTY));
+            }
+            if (Boolean.TRUE.equals(filter.available())) {
+                conditions.add(available);
+            }
+            RoaringBitmap result = RoaringBitmap.and(conditions);
+            if (Boolean.FALSE.equals(filter.available())) {
+                // 대출 중 = 활성이면서 대출 가능 비트맵에 없는 행 (대부분이 대출 가능이라 여집합 비트맵은 두지 않음)
+                RoaringBitmap onLoan = new RoaringBitmap();
+                result.forEach(row -> {
+                    if (!available.contains(row)) {
+                        onLoan.add(row);
+                    }
+                });
+                return onLoan;
+            }
+            return result;
+        }
+
+        /**
+         * 후보 행 중 조건(filter, null 이면 전부)에 맞는 행을 정렬 순으로 [offset, offset + size) 구간
+         * 앞쪽 offset + size 개만 힙으로 골라 정렬
+         */
+        Slice select(RoaringBitmap candidates, IntPredicate filter, RowOrder order, long offset, int size) {
+            TopRows top = new TopRows((int) Math.min(offset + size, rows), order);
+            candidates.forEach(row -> {
+                if (filter == null || filter.test(row)) {
+                    top.offer(row);
+                }
+            });
+            int[] sorted = top.sorted();
+            int from = (int) Math.min(offset, sorted.length);
+            long[] ids = new long[sorted.length - from];
+            for (int i = from; i < sorted.length; i++) {
+                ids[i - from] = columns.getLong(ID, sorted[i]);
+            }
+            return new Slice(ids, top.total);
+        }
+
+        private void index(int row) {
+            byte flags = columns.getByte(FLAGS, row);
+            if ((flags & ACTIVE) != 0) {
+                active.add(row);
+            }
+            if ((flags & AVAILABLE) != 0) {
+                available.add(row);
+            }
+            addTo(byAuthor, columns.getInt(AUTHOR, row), row);
+            addTo(byPublisher, columns.getInt(PUBLISHER, row), row);
+            byYear.computeIfAbsent(columns.getInt(PUBLISH_YEAR, row), year -> new RoaringBitmap()).add(row);
+        }
+
+        private void unindex(int row) {
+            active.remove(row);
+            available.remove(row);
+            valueOf(byAuthor, columns.getInt(AUTHOR, row)).remove(row);
+            valueOf(byPublisher, columns.getInt(PUBLISHER, row)).remove(row);
+            RoaringBitmap year = byYear.get(columns.getInt(PUBLISH_YEAR, row));
+            if (year != null) {
+                year.remove(row);
+            }
+        }
+
+        /**
+         * 사전 코드의 비트맵에 행 추가 (null 값은 색인하지 않음 - 같은 값 조건에 쓰이지 않으므로)
+         */
+        private static void addTo(List<RoaringBitmap> bitmaps, int code, int row) {
+            if (code == StringDictionary.NULL) {
+                return;
+            }
+            while (bitmaps.size() <= code) {
+                bitmaps.add(new RoaringBitmap());
+            }
+            bitmaps.get(code).add(row);
+        }
+
+        /**
+         * 사전 코드의 비트맵 (없으면 EMPTY - 읽기 전용)
+         */
+        private static RoaringBitmap valueOf(List<RoaringBitmap> bitmaps, int code) {
+            return code == StringDictionary.NULL || code >= bitmaps.size() ? EMPTY : bitmaps.get(code);
+        }
+
+        private static long micros(LocalDateTime time) {
+            return time == null ? NULL_TIME : ChronoUnit.MICROS.between(EPOCH, time);
+        }
+    }
+
+    /**
+     * 정렬 순으로 앞쪽 limit 개 행 (최대 힙 - 루트가 지금까지 고른 것 중 가장 뒤) + 넣어 본 전체 건수
+     */
+    private static final class TopRows {
+
+        private final int[] heap;
+        private final RowOrder order;
+        private int size;
+        long total;
+
+        TopRows(int limit, RowOrder order) {
+            this.heap = new int[limit];
+            this.order = order;
+        }
+
+        void offer(int row) {
+            total++;
+            if (size < heap.length) {
+                heap[size] = row;
+                siftUp(size++);
+            } else if (size > 0 && order.compare(row, heap[0]) < 0) {
+                heap[0] = row;
+                siftDown(size);
+            }
+        }
+
+        /**
+         * 힙에서 가장 뒤부터 꺼내 뒤에서부터 채움 -> 정렬된 배열 (힙은 더 쓸 수 없음)
+         */
+        int[] sorted() {
+            for (int end = size - 1; end > 0; end--) {
+                int last = heap[0];
+                heap[0] = heap[end];
+                heap[end] = last;
+                siftDown(end);
+            }
+            return size == heap.length ? heap : Arrays.copyOf(heap, size);
+        }
+
+        private void siftUp(int index) {
+            int row = heap[index];
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (order.compare(heap[parent], row) >= 0) {
+                    break;
+                }
+                heap[index] = heap[parent];
+                index = parent;
+            }
+            heap[index] = row;
+        }
+
+        private void siftDown(int length) {
+            int index = 0;
+            int row = heap[0];
+            while (true) {
+                int child = index * 2 + 1;
+                if (child >= length) {
+                    break;
+                }
+                if (child + 1 < length && order.compare(heap[child + 1], heap[child]) > 0) {
+                    child++;
+                }
+                if (order.compare(heap[child], row) <= 0) {
+                    break;
+                }
+                heap[index] = heap[child];
+                index = child;
+            }
+            heap[index] = row;
+        }
+    }
+
+    /**
+     * Sort 를 컬럼 비교로 - 값이 같으면 id 순 (정렬이 없으면 id 순)
+     */
+    private static final class RowOrder {
+
+        private final Table table;
+        private final int[] columns;
+        private final boolean[] descending;
+
+        RowOrder(Table table, Sort sort) {
+            this.table = table;
+            List<Sort.Order> orders = sort.toList();
+            this.columns = new int[orders.size()];
+            this.descending = new boolean[orders.size()];
+            for (int i = 0; i < orders.size(); i++) {
+                columns[i] = column(orders.get(i).getProperty());
+                descending[i] = orders.get(i).isDescending();
+            }
+        }
+
+        int compare(int a, int b) {
+            for (int i = 0; i < columns.length; i++) {
+                int result = Long.compare(key(columns[i], a), key(columns[i], b));
+                if (result != 0) {
+                    return descending[i] ? -result : result;
+                }
+            }
+            return Long.compare(table.columns.getLong(ID, a), table.columns.getLong(ID, b));
+        }
+
+        private long key(int column, int row) {
+            MappedColumns values = table.columns;
+            return switch (column) {
+                case NAME -> table.names.rank(values.getInt(NAME, row));
+                case AUTHOR -> table.authors.rank(values.getInt(AUTHOR, row));
+                case PUBLISHER -> table.publishers.rank(values.getInt(PUBLISHER, row));
+                case PUBLISH_YEAR -> values.getInt(PUBLISH_YEAR, row);
+                case FLAGS -> values.getByte(FLAGS, row) & AVAILABLE;
+                default -> values.getLong(column, row);
+            };
+        }
+
+        private static int column(String property) {
+            return switch (property) {
+                case "id" -> ID;
+                case "createdAt" -> CREATED_AT;
+                case "name" -> NAME;
+                case "author" -> AUTHOR;
+                case "publisher" -> PUBLISHER;
+                case "publishYear" -> PUBLISH_YEAR;
+                case "available" -> FLAGS;
+                default -> throw new IllegalArgumentException("스냅샷에서 정렬할 수 없는 필드입니다: " + property);
+            };
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.wsa_mes_library.service;
+
+import java.util.List;
+
+/**
+ * 삭제 도서 정리 이벤트 (CompactionService 가 배치마다 발행, 커밋 이후 처리)
+ * 도서와 그 대출 / 예약 행이 보관 테이블로 옮겨져 원본 테이블에서 사라짐
+ *
+ * @param bookIds 이번 배치에서 옮긴 도서 ID
+ */
+public record BooksCompactedEvent(List<Long> bookIds) {
+}
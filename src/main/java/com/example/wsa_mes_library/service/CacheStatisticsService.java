@@ -0,0 +1,110 @@
+package com.example.wsa_mes_library.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Hibernate 2차 캐시 / 쿼리 캐시 통계 서비스
+ * 영역별 적중률 조회 및 영역 단위 캐시 비우기 담당 (전체 비우기는 검색 결과 캐시 포함)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CacheStatisticsService {
+    
+    private final EntityManagerFactory entityManagerFactory;
+    
+    private final SearchResultCache searchResultCache;
+    
+    /**
+     * 전체 캐시 통계 조회
+     * 
+     * @return 2차 캐시, 쿼리 캐시, 영역별 적중률 및 실행된 SQL 수
+     */
+    public Map<String, Object> getStatistics() {
+        Statistics statistics = getHibernateStatistics();
+        
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("secondLevelCache", hitRatio(
+            statistics.getSecondLevelCacheHitCount(),
+            statistics.getSecondLevelCacheMissCount(),
+            statistics.getSecondLevelCachePutCount()));
+        result.put("queryCache", hitRatio(
+            statistics.getQueryCacheHitCount(),
+            statistics.getQueryCacheMissCount(),
+            statistics.getQueryCachePutCount()));
+        
+        Map<String, Object> regions = new LinkedHashMap<>();
+        for (String regionName : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics region = statistics.getDomainDataRegionStatistics(regionName);
+            if (region != null) {
+                regions.put(regionName, regionStatistics(region));
+            }
+        }
+        result.put("regions", regions);
+        result.put("searchResults", Map.of(
+            "size", searchResultCache.size(),
+            "catalogVersion", searchResultCache.version()));
+        
+        result.put("entityLoadCount", statistics.getEntityLoadCount());
+        result.put("entityFetchCount", statistics.getEntityFetchCount());
+        result.put("queryExecutionCount", statistics.getQueryExecutionCount());
+        result.put("prepareStatementCount", statistics.getPrepareStatementCount());
+        result.put("since", statistics.getStart());
+        
+        return result;
+    }
+    
+    /**
+     * 특정 캐시 영역 비우기
+     * 
+     * @param regionName 영역 이름 (엔티티 FQCN 또는 쿼리 캐시 영역명)
+     */
+    public void evictRegion(String regionName) {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictRegion(regionName);
+        log.info("캐시 영역 비움: {}", regionName);
+    }
+    
+    /**
+     * 전체 캐시 비우기 및 통계 초기화
+     */
+    public void evictAll() {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        sessionFactory.getStatistics().clear();
+        searchResultCache.clear();
+        log.info("전체 캐시 영역 비움 및 통계 초기화");
+    }
+    
+    /**
+     * Hibernate 통계 객체 반환
+     */
+    public Statistics getHibernateStatistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+    
+    private Map<String, Object> regionStatistics(CacheRegionStatistics region) {
+        Map<String, Object> stats = hitRatio(region.getHitCount(), region.getMissCount(), region.getPutCount());
+        stats.put("elementCountInMemory", region.getElementCountInMemory());
+        return stats;
+    }
+    
+    private Map<String, Object> hitRatio(long hit, long miss, long put) {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        long total = hit + miss;
+        stats.put("hit", hit);
+        stats.put("miss", miss);
+        stats.put("put", put);
+        stats.put("hitRatio", total == 0 ? 0.0 : (double) hit / total);
+        return stats;
+    }
+}
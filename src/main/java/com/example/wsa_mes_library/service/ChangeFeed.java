@@ -0,0 +1,52 @@
+package com.example.wsa_mes_library.service;
+
+import com.example.wsa_mes_library.lib.BaseEntity;
+import com.example.wsa_mes_library.lib.ChangeCursor;
+import com.example.wsa_mes_library.lib.ChangePage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 변경분 동기화 공통 처리 (GET /api/{books|users|loans}/changes)
+ * - 커서 (updatedAt, id) 다음 행을 최대 size 건씩 (updatedAt, id) 순으로
+ * - settle-time 보다 최근에 바뀐 행은 다음 요청으로 미룸: updatedAt 은 커밋 전에 정해지므로,
+ *   늦게 커밋된 트랜잭션의 행이 이미 지나간 커서 앞에 끼어들어 누락되는 것을 막음 (트랜잭션이 settle-time 안에 끝난다는 가정)
+ */
+@Component
+public class ChangeFeed {
+
+    static final int DEFAULT_SIZE = 100;
+    static final int MAX_SIZE = 1000;
+
+    private final Duration settleTime;
+
+    public ChangeFeed(@Value("${library.sync.settle-time:5s}") Duration settleTime) {
+        this.settleTime = settleTime;
+    }
+
+    /**
+     * @param since 이전 응답의 next (비어 있으면 처음부터)
+     * @param size 최대 건수 (기본 100, 최대 1000)
+     */
+    public <T extends BaseEntity> ChangePage<T> read(String since, Integer size, Query<T> query) {
+        ChangeCursor from = ChangeCursor.parse(since);
+        int limit = (size != null && size > 0) ? Math.min(size, MAX_SIZE) : DEFAULT_SIZE;
+        LocalDateTime until = LocalDateTime.now().minus(settleTime);
+        List<T> rows = query.find(from.updatedAt(), from.id(), until, Limit.of(limit + 1));
+        return ChangePage.of(rows, limit, from);
+    }
+
+    /**
+     * 리포지토리의 findChangedSince
+     */
+    @FunctionalInterface
+    public interface Query<T> {
+
+        List<T> find(LocalDateTime since, Long id, LocalDateTime until, Limit limit);
+    }
+}
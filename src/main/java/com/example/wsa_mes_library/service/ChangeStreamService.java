@@ -0,0 +1,141 @@
+package com.example.wsa_mes_library.service;
+
+import com.example.wsa_mes_library.lib.Broadcaster;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 도서 / 대출 변경 알림 스트림 (Server-Sent Events)
+ * - 커밋된 변경만 짧은 JSON 으로 알림 (대출 가능 여부 변경, 대출, 반납, 일괄 연체 처리)
+ * - 이벤트는 한 번만 직렬화해 모든 구독자가 같은 문자열을 공유
+ * - 구독자별 버퍼(buffer-size)가 차면 느린 소비자로 보고 연결 종료 - 클라이언트(EventSource)가 다시 연결해 목록을 새로 읽음
+ *
+ * 재연결 사이에 놓친 이벤트는 다시 보내지 않음 (이벤트 id 는 기동 후 순번)
+ */
+@Service
+@Slf4j
+public class ChangeStreamService {
+
+    private final ObjectMapper objectMapper;
+    private final Broadcaster<Frame> broadcaster;
+    private final long timeoutMillis;
+    private final AtomicLong sequence = new AtomicLong();
+
+    public ChangeStreamService(ObjectMapper objectMapper,
+                               @Value("${library.events.buffer-size:256}") int bufferSize,
+                               @Value("${library.events.heartbeat:15s}") Duration heartbeat,
+                               @Value("${library.events.max-subscribers:10000}") int maxSubscribers,
+                               @Value("${library.events.timeout:30m}") Duration timeout) {
+        this.objectMapper = objectMapper;
+        this.broadcaster = new Broadcaster<>(bufferSize, heartbeat.toNanos(), maxSubscribers);
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    /**
+     * 새 구독 (연결이 끊기거나 timeout 이 지나면 종료 - 클라이언트가 다시 연결)
+     *
+     * @throws IllegalStateException 최대 구독자 수 초과
+     */
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Broadcaster.Subscription subscription = broadcaster.subscribe(new EmitterSink(emitter));
+        emitter.onCompletion(subscription::cancel);
+        emitter.onTimeout(subscription::cancel);
+        emitter.onError(error -> subscription.cancel());
+        return emitter;
+    }
+
+    public int subscriberCount() {
+        return broadcaster.size();
+    }
+
+    public long evictedCount() {
+        return broadcaster.evictedCount();
+    }
+
+    // ===== 변경 반영 =====
+
+    @TransactionalEventListener
+    public void onBookChanged(BookChangedEvent event) {
+        publish(new Change("book", event.id(), null, null, null, event.active() ? null : false, null));
+    }
+
+    @TransactionalEventListener
+    public void onLoanCreated(LoanCreatedEvent event) {
+        publish(new Change("loan-created", event.bookId(), event.loanId(), event.userId(), false, null, null));
+    }
+
+    @TransactionalEventListener
+    public void onLoanReturned(LoanReturnedEvent event) {
+        publish(new Change("loan-returned", event.bookId(), event.loanId(), event.userId(), true, null, null));
+    }
+
+    @TransactionalEventListener
+    public void onLoansOverdue(LoansOverdueEvent event) {
+        publish(new Change("loans-overdue", null, null, null, null, null, event.count()));
+    }
+
+    @PreDestroy
+    public void close() {
+        broadcaster.close();
+    }
+
+    private void publish(Change change) {
+        if (broadcaster.size() == 0) {
+            return;
+        }
+        try {
+            broadcaster.publish(new Frame(sequence.incrementAndGet(), change.type(), objectMapper.writeValueAsString(change)));
+        } catch (JsonProcessingException e) {
+            log.error("변경 알림 직렬화 실패 - {}", change, e);
+        }
+    }
+
+    /**
+     * 알림 본문 (값이 없는 필드는 생략)
+     *
+     * @param available 대출 가능 여부가 바뀐 경우 새 값
+     * @param active 삭제된 도서면 false
+     * @param count 일괄 연체 처리 건수
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Change(String type, Long bookId, Long loanId, Long userId, Boolean available, Boolean active,
+                         Integer count) {
+    }
+
+    record Frame(long id, String type, String json) {
+    }
+
+    private record EmitterSink(SseEmitter emitter) implements Broadcaster.Sink<Frame> {
+
+        @Override
+        public void send(Frame frame) throws IOException {
+            emitter.send(SseEmitter.event()
+                .id(Long.toString(frame.id()))
+                .name(frame.type())
+                .data(frame.json(), MediaType.APPLICATION_JSON));
+        }
+
+        @Override
+        public void heartbeat() throws IOException {
+            emitter.send(SseEmitter.event().comment("ping"));
+        }
+
+        @Override
+        public void close() {
+            emitter.complete();
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package com.example.wsa_mes_library.service;
+
+import com.example.wsa_mes_library.lib.LongIntHashMap;
+import com.example.wsa_mes_library.lib.RebuildableIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+/**
+ * "이 책을 빌린 이용자가 함께 빌린 책" 추천 (대출 이력 동시 출현 행렬)
+ * - 행렬: 도서 ID -> (함께 빌린 도서 ID -> 이용자 수) 희소 행, 행은 박싱 없는 LongIntHashMap
+ * - 이용자별 최근 대출 도서(서로 다른 책, 최대 max-history 권)끼리만 짝을 지음 - 이력이 긴 이용자의 제곱 비용 제한
+ * - 처음 생성: 대출 이력 전체를 이용자별로 묶어 병렬 스트림(fork-join 공용 풀)으로 행렬 누적
+ * - 이후: 커밋된 대출마다 해당 이용자의 이력과 짝을 지어 증분 반영
+ * - 주기적으로 행마다 상위 keep-neighbors 개만 남겨 메모리 제한 (추천 순위는 상위 항목만 쓰므로 영향 적음)
+ *
+ * 조회는 메모리 행에서 상위 N 개만 고름 (요청마다 DB 집계 없음)
+ */
+@Service
+@Slf4j
+public class CoBorrowIndex extends RebuildableIndex {
+
+    private static final String HISTORY_SQL = "SELECT user_id, book_id FROM loan ORDER BY user_id, loan_date DESC";
+
+    private static final long[] NO_HISTORY = new long[0];
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int maxHistory;
+    private final int keepNeighbors;
+
+    private volatile Matrix matrix = new Matrix();
+    // 생성은 한 번에 하나 (대출 반영용 잠금(this)과 분리 - 생성 중에도 대출 이벤트는 바로 처리)
+    private final Object rebuildLock = new Object();
+    // 생성 중 들어온 대출 - 새 행렬로 교체한 뒤 다시 반영
+    private List<LoanCreatedEvent> pending;
+
+    public CoBorrowIndex(JdbcTemplate jdbcTemplate,
+                         @Value("${library.recommend.max-history:50}") int maxHistory,
+                         @Value("${library.recommend.keep-neighbors:100}") int keepNeighbors) {
+        super("co-borrow-rebuild", "함께 빌린 책 행렬");
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxHistory = maxHistory;
+        this.keepNeighbors = keepNeighbors;
+    }
+
+    /**
+     * 함께 빌린 이용자가 많은 순으로 도서 ID (최대 limit 건)
+     */
+    public List<Long> recommend(long bookId, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        long[] top = matrix.top(bookId, limit);
+        List<Long> result = new ArrayList<>(top.length);
+        for (long id : top) {
+            result.add(id);
+        }
+        return result;
+    }
+
+    // ===== 변경 반영 =====
+
+    @TransactionalEventListener
+    public synchronized void onLoanCreated(LoanCreatedEvent event) {
+        if (pending != null) {
+            pending.add(event);
+            return;
+        }
+        matrix.record(event.userId(), event.bookId(), maxHistory);
+    }
+
+    /**
+     * 행마다 상위 keep-neighbors 개만 남김
+     */
+    @Scheduled(fixedDelayString = "${library.recommend.prune-interval:PT10M}",
+               initialDelayString = "${library.recommend.prune-interval:PT10M}")
+    public void prune() {
+        long start = System.nanoTime();
+        long removed = matrix.prune(keepNeighbors);
+        if (removed > 0) {
+            log.info("함께 빌린 책 행렬 정리 - 제거: {}개, {}ms", removed, (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    /**
+     * 대출 이력 전체로 행렬을 다시 생성
+     */
+    @Override
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            long start = System.nanoTime();
+            synchronized (this) {
+                pending = new ArrayList<>();
+            }
+            Matrix rebuilt;
+            try {
+                rebuilt = build();
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    pending.forEach(event -> matrix.record(event.userId(), event.bookId(), maxHistory));
+                    pending = null;
+                }
+                throw e;
+            }
+            synchronized (this) {
+                // 조회 시점에 이미 읽힌 대출은 이용자 이력에 있으므로 중복 집계되지 않음
+                pending.forEach(event -> rebuilt.record(event.userId(), event.bookId(), maxHistory));
+                pending = null;
+                matrix = rebuilt;
+            }
+            markBuilt();
+            log.info("함께 빌린 책 행렬 생성 완료 - 이용자: {}, 도서 행: {}, 항목: {}, {}ms",
+                rebuilt.histories.size(), rebuilt.rows.size(), rebuilt.entryCount(),
+                (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    private Matrix build() {
+        // 이용자별 최근 대출 도서 (서로 다른 책, 최신순)
+        List<long[]> histories = new ArrayList<>();
+        List<Long> users = new ArrayList<>();
+        long[] current = new long[maxHistory];
+        int[] length = new int[1];
+        long[] currentUser = {Long.MIN_VALUE};
+        jdbcTemplate.query(HISTORY_SQL, rs -> {
+            long userId = rs.getLong("user_id");
+            long bookId = rs.getLong("book_id");
+            if (userId != currentUser[0]) {
+                if (length[0] > 0) {
+                    users.add(currentUser[0]);
+                    histories.add(Arrays.copyOf(current, length[0]));
+                }
+                currentUser[0] = userId;
+                length[0] = 0;
+            }
+            if (length[0] < maxHistory && !contains(current, length[0], bookId)) {
+                current[length[0]++] = bookId;
+            }
+        });
+        if (length[0] > 0) {
+            users.add(currentUser[0]);
+            histories.add(Arrays.copyOf(current, length[0]));
+        }
+
+        Matrix rebuilt = new Matrix();
+        IntStream.range(0, histories.size()).parallel().forEach(i -> {
+            long[] history = histories.get(i);
+            rebuilt.histories.put(users.get(i), history);
+            for (long bookId : history) {
+                rebuilt.addAll(bookId, history);
+            }
+        });
+        rebuilt.prune(keepNeighbors);
+        return rebuilt;
+    }
+
+    private static boolean contains(long[] values, int length, long value) {
+        for (int i = 0; i < length; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 동시 출현 행렬 + 이용자별 최근 대출 도서 (행은 각자 잠금)
+     */
+    static final class Matrix {
+
+        final Map<Long, LongIntHashMap> rows = new ConcurrentHashMap<>();
+        final Map<Long, long[]> histories = new ConcurrentHashMap<>();
+
+        void increment(long bookId, long otherId) {
+            LongIntHashMap row = rows.computeIfAbsent(bookId, id -> new LongIntHashMap());
+            synchronized (row) {
+                row.addTo(otherId, 1);
+            }
+        }
+
+        /**
+         * bookId 행에 others 의 책을 모두 1씩 더함 (자기 자신 제외) - 행 조회와 잠금은 한 번
+         */
+        void addAll(long bookId, long[] others) {
+            LongIntHashMap row = rows.computeIfAbsent(bookId, id -> new LongIntHashMap());
+            synchronized (row) {
+                for (long other : others) {
+                    if (other != bookId) {
+                        row.addTo(other, 1);
+                    }
+                }
+            }
+        }
+
+        /**
+         * 이용자의 새 대출 반영 - 최근 이력의 책들과 짝을 짓고 이력 맨 앞에 추가 (이미 빌렸던 책이면 무시)
+         */
+        void record(long userId, long bookId, int maxHistory) {
+            long[] history = histories.getOrDefault(userId, NO_HISTORY);
+            if (contains(history, history.length, bookId)) {
+                return;
+            }
+            addAll(bookId, history);
+            for (long other : history) {
+                increment(other, bookId);
+            }
+            long[] updated = new long[Math.min(history.length + 1, maxHistory)];
+            updated[0] = bookId;
+            System.arraycopy(history, 0, updated, 1, updated.length - 1);
+            histories.put(userId, updated);
+        }
+
+        long[] top(long bookId, int limit) {
+            LongIntHashMap row = rows.get(bookId);
+            if (row == null) {
+                return NO_HISTORY;
+            }
+            synchronized (row) {
+                return row.topKeys(limit);
+            }
+        }
+
+        long prune(int keep) {
+            AtomicLong removed = new AtomicLong();
+            rows.values().parallelStream().forEach(row -> {
+                synchronized (row) {
+                    removed.addAndGet(row.retainTop(keep));
+                }
+            });
+            return removed.get();
+        }
+
+        long entryCount() {
+            long count = 0;
+            for (LongIntHashMap row : rows.values()) {
+                synchronized (row) {
+                    count += row.size();
+                }
+            }
+            return count;
+        }
+    }
+}
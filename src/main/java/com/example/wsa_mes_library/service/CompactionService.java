@@ -0,0 +1,247 @@
+package com.example.wsa_mes_library.service;
+
+import com.example.wsa_mes_library.entity.Book;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 삭제 도서 정리 (물리 삭제) - 삭제(비활성) 후 보관 기간이 지난 도서를 보관 테이블로 옮김
+ * - 대출 / 예약 행은 도서와 같은 트랜잭션에서 함께 옮겨 보관 테이블 안에서 book_id 참조가 그대로 유지됨
+ * - 대출 중(ACTIVE / OVERDUE)이거나 예약 대기(WAITING)가 남은 도서는 건너뜀
+ * - batch-size 건씩 배치마다 커밋하고 pause 만큼 쉼 (잠금 / 복제 지연을 짧게), 한 번에 최대 max-batches 배치
+ *
+ * 원본 테이블이 줄어 전체 스캔 / 인덱스 범위가 작아지므로, 실행 전후 대표 조회의 지연시간과 줄어든 행 크기를 함께 보고
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CompactionService {
+
+    private static final String SELECT_SQL = "SELECT b.id FROM book b "
+        + "WHERE b.active = FALSE AND b.updated_at < ? AND b.id > ? "
+        + "AND NOT EXISTS (SELECT 1 FROM loan l WHERE l.book_id = b.id AND l.status <> 'RETURNED') "
+        + "AND NOT EXISTS (SELECT 1 FROM book_hold h WHERE h.book_id = b.id AND h.status = 'WAITING') "
+        + "ORDER BY b.id LIMIT ?";
+
+    private static final String BOOK_COLUMNS =
+        "id, created_at, updated_at, name, author, isbn, isbn13, description, publisher, publish_year";
+    private static final String LOAN_COLUMNS =
+        "id, created_at, updated_at, user_id, book_id, loan_date, due_date, return_date, status";
+    private static final String HOLD_COLUMNS = "id, created_at, updated_at, user_id, book_id, expires_at, status";
+
+    // 옮기는 행 크기 추정 - 고정 길이 컬럼(ENUM 은 1바이트) 바이트 + 가변 길이 컬럼 실제 길이 (인덱스 / 페이지 여유 공간 제외)
+    private static final String BOOK_BYTES = rowBytes(38, "entity_type", "name", "author", "isbn", "description",
+        "publisher", "name_chosung", "name_jamo", "author_chosung", "author_jamo", "description_minhash");
+    private static final String LOAN_BYTES = rowBytes(66, "entity_type");
+    private static final String HOLD_BYTES = rowBytes(50, "entity_type");
+
+    // 실행 전후 비교할 대표 조회 - 활성 도서 개수, 키워드 검색(전체 스캔), 반납 이력
+    private static final List<String> PROBES = List.of(
+        "SELECT COUNT(*) FROM book WHERE active = TRUE",
+        "SELECT COUNT(*) FROM book WHERE active = TRUE AND LOWER(name) LIKE '%a%'",
+        "SELECT COUNT(*) FROM loan WHERE status = 'RETURNED'");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheStatisticsService cacheStatisticsService;
+
+    @Value("${library.compaction.enabled:false}")
+    private boolean enabled;
+
+    @Value("${library.compaction.retention:90d}")
+    private Duration retention;
+
+    @Value("${library.compaction.batch-size:500}")
+    private int batchSize;
+
+    @Value("${library.compaction.pause:200ms}")
+    private Duration pause;
+
+    @Value("${library.compaction.max-batches:0}")
+    private int maxBatches;
+
+    @Value("${library.compaction.probe-runs:5}")
+    private int probeRuns;
+
+    /**
+     * @param books 옮긴 도서 수
+     * @param loans 옮긴 대출 수
+     * @param holds 옮긴 예약 수
+     * @param bytesReclaimed 원본 테이블에서 빠진 행 크기 추정치 (바이트)
+     * @param probeMillisBefore 실행 전 대표 조회 지연시간 합 (조회별 중앙값, ms)
+     * @param probeMillisAfter 실행 후 대표 조회 지연시간 합 (조회별 중앙값, ms)
+     * @param batches 커밋한 배치 수
+     * @param millis 전체 소요 시간 (ms)
+     */
+    public record Report(long books, long loans, long holds, long bytesReclaimed,
+                         double probeMillisBefore, double probeMillisAfter, int batches, long millis) {
+    }
+
+    /**
+     * 주기 실행 (library.compaction.enabled=true 일 때만)
+     */
+    @Scheduled(fixedDelayString = "${library.compaction.interval:P1D}",
+               initialDelayString = "${library.compaction.interval:P1D}")
+    public void compactOnSchedule() {
+        if (enabled) {
+            compact();
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 삭제 도서를 모두 옮김 (여러 번 실행해도 안전, 동시에 하나만)
+     */
+    public synchronized Report compact() {
+        long start = System.nanoTime();
+        double before = probe();
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        long lastId = 0;
+        long books = 0;
+        long loans = 0;
+        long holds = 0;
+        long bytes = 0;
+        int batches = 0;
+        while (maxBatches <= 0 || batches < maxBatches) {
+            List<Long> candidates = jdbcTemplate.queryForList(SELECT_SQL, Long.class, cutoff, lastId, batchSize);
+            if (candidates.isEmpty()) {
+                break;
+            }
+            lastId = candidates.getLast();
+
+            long[] moved = transactionTemplate.execute(status -> moveBatch(candidates, cutoff));
+            books += moved[0];
+            loans += moved[1];
+            holds += moved[2];
+            bytes += moved[3];
+            batches++;
+
+            if (candidates.size() < batchSize) {
+                break;
+            }
+            sleep(pause);
+        }
+
+        if (books > 0) {
+            // JDBC 로 직접 지웠으므로 캐시된 도서 엔티티 제거
+            cacheStatisticsService.evictRegion(Book.class.getName());
+        }
+
+        Report report = new Report(books, loans, holds, bytes, before, probe(), batches,
+            (System.nanoTime() - start) / 1_000_000);
+        if (books > 0) {
+            log.info("삭제 도서 정리 완료 - 도서: {}, 대출: {}, 예약: {}, 약 {}KB 회수, 대표 조회 {}ms -> {}ms, {}ms",
+                report.books(), report.loans(), report.holds(), report.bytesReclaimed() / 1024,
+                String.format("%.1f", report.probeMillisBefore()), String.format("%.1f", report.probeMillisAfter()),
+                report.millis());
+        }
+        return report;
+    }
+
+    /**
+     * 배치 하나를 한 트랜잭션으로 - 도서 행을 잠그고 다시 확인한 뒤 보관 테이블에 복사, 자식(예약 / 대출)부터 삭제
+     *
+     * @return {도서, 대출, 예약, 바이트}
+     */
+    private long[] moveBatch(List<Long> candidates, LocalDateTime cutoff) {
+        List<Object> args = new ArrayList<>(candidates);
+        args.add(cutoff);
+        List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM book WHERE id IN (" + placeholders(candidates.size())
+            + ") AND active = FALSE AND updated_at < ? FOR UPDATE", Long.class, args.toArray());
+        if (ids.isEmpty()) {
+            return new long[4];
+        }
+        String in = "(" + placeholders(ids.size()) + ")";
+        Object[] idArgs = ids.toArray();
+        LocalDateTime now = LocalDateTime.now();
+        Object[] archiveArgs = withFirst(now, idArgs);
+
+        long bytes = jdbcTemplate.queryForObject("SELECT " + BOOK_BYTES + " FROM book WHERE id IN " + in,
+                Long.class, idArgs)
+            + jdbcTemplate.queryForObject("SELECT " + LOAN_BYTES + " FROM loan WHERE book_id IN " + in,
+                Long.class, idArgs)
+            + jdbcTemplate.queryForObject("SELECT " + HOLD_BYTES + " FROM book_hold WHERE book_id IN " + in,
+                Long.class, idArgs);
+
+        int books = jdbcTemplate.update("INSERT INTO book_archive (" + BOOK_COLUMNS + ", archived_at) "
+            + "SELECT " + BOOK_COLUMNS + ", ? FROM book WHERE id IN " + in, archiveArgs);
+        int loans = jdbcTemplate.update("INSERT INTO loan_archive (" + LOAN_COLUMNS + ", archived_at) "
+            + "SELECT " + LOAN_COLUMNS + ", ? FROM loan WHERE book_id IN " + in, archiveArgs);
+        int holds = jdbcTemplate.update("INSERT INTO book_hold_archive (" + HOLD_COLUMNS + ", archived_at) "
+            + "SELECT " + HOLD_COLUMNS + ", ? FROM book_hold WHERE book_id IN " + in, archiveArgs);
+
+        jdbcTemplate.update("DELETE FROM book_hold WHERE book_id IN " + in, idArgs);
+        jdbcTemplate.update("DELETE FROM loan WHERE book_id IN " + in, idArgs);
+        jdbcTemplate.update("DELETE FROM book WHERE id IN " + in, idArgs);
+
+        eventPublisher.publishEvent(new BooksCompactedEvent(ids));
+        return new long[]{books, loans, holds, bytes};
+    }
+
+    /**
+     * 대표 조회를 probe-runs 번씩 실행해 조회별 중앙값의 합 (ms, probe-runs 가 0 이면 0)
+     */
+    private double probe() {
+        if (probeRuns <= 0) {
+            return 0;
+        }
+        double total = 0;
+        for (String sql : PROBES) {
+            long[] nanos = new long[probeRuns];
+            for (int i = 0; i < probeRuns; i++) {
+                long start = System.nanoTime();
+                jdbcTemplate.queryForObject(sql, Long.class);
+                nanos[i] = System.nanoTime() - start;
+            }
+            Arrays.sort(nanos);
+            total += nanos[probeRuns / 2] / 1_000_000.0;
+        }
+        return total;
+    }
+
+    private static String rowBytes(int fixedBytes, String... variableColumns) {
+        return "COALESCE(SUM(" + fixedBytes + Arrays.stream(variableColumns)
+            .map(column -> " + COALESCE(OCTET_LENGTH(" + column + "), 0)")
+            .collect(Collectors.joining()) + "), 0)";
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private static Object[] withFirst(Object first, Object[] rest) {
+        Object[] args = new Object[rest.length + 1];
+        args[0] = first;
+        System.arraycopy(rest, 0, args, 1, rest.length);
+        return args;
+    }
+
+    private static void sleep(Duration duration) {
+        if (duration.isZero() || duration.isNegative()) {
+            return;
+        }
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("삭제 도서 정리가 중단되었습니다", e);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.wsa_mes_library.service;
+
+import com.example.wsa_mes_library.lib.ChangeOverlay;
+import com.example.wsa_mes_library.lib.Hangul;
+import com.example.wsa_mes_library.lib.RebuildableIndex;
+import com.example.wsa_mes_library.lib.TrigramIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 오타 허용 도서 검색 인덱스 (제목 + 작가의 자모 분해 문자열 트라이그램)
+ * - "체식주의자", "이팩티브 자바", "clen code" 처럼 틀린 검색어로도 도서를 찾음
+ * - 편집 거리(검색어와 가장 가까운 제목 / 작가 부분) 오름차순, 같으면 트라이그램 일치 비율 내림차순
+ * - 검색마다 시간 / 후보 수 제한 - 넘으면 그때까지 찾은 결과만 반환
+ *
+ * DB 검색 키로 만든 불변 기본 인덱스 + 커밋된 변경분(ChangeOverlay) - 변경분이 rebuild-threshold 건 쌓이면 다시 생성
+ */
+@Service
+@Slf4j
+public class FuzzySearchIndex extends RebuildableIndex {
+
+    private static final String BOOK_SQL =
+        "SELECT id, name, author, name_jamo, author_jamo FROM book WHERE active = TRUE";
+
+    /**
+     * 삭제 / 비활성 표식
+     */
+    private static final String DELETED = "";
+
+    private static final Comparator<Match> RANKING = Comparator
+        .comparingInt(Match::distance)
+        .thenComparing(Comparator.comparingDouble(Match::similarity).reversed())
+        .thenComparingLong(Match::id);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final double minSimilarity;
+    private final int maxCandidates;
+    private final long budgetNanos;
+    private final int rebuildThreshold;
+
+    private volatile TrigramIndex index = TrigramIndex.empty();
+    private final ChangeOverlay<String> changes = new ChangeOverlay<>();
+
+    public FuzzySearchIndex(JdbcTemplate jdbcTemplate,
+                            @Value("${library.search.fuzzy.min-similarity:0.5}") double minSimilarity,
+                            @Value("${library.search.fuzzy.max-candidates:50000}") int maxCandidates,
+                            @Value("${library.search.fuzzy.budget:30ms}") Duration budget,
+                            @Value("${library.search.fuzzy.rebuild-threshold:10000}") int rebuildThreshold) {
+        super("fuzzy-index-rebuild", "오타 허용 검색 인덱스");
+        this.jdbcTemplate = jdbcTemplate;
+        this.minSimilarity = minSimilarity;
+        this.maxCandidates = maxCandidates;
+        this.budgetNanos = budget.toNanos();
+        this.rebuildThreshold = rebuildThreshold;
+    }
+
+    /**
+     * 검색어와 비슷한 도서 ID (가까운 순, 최대 limit 건)
+     */
+    public List<Long> search(String query, int limit) {
+        if (query == null || query.isBlank() || limit <= 0) {
+            return List.of();
+        }
+        TrigramIndex.Query trigramQuery = TrigramIndex.Query.of(Hangul.jamo(query));
+        if (trigramQuery.isEmpty()) {
+            return List.of();
+        }
+        long start = System.nanoTime();
+
+        ChangeOverlay.View<String> view = changes.view();
+        List<Match> matches = new ArrayList<>();
+        boolean complete = index.search(trigramQuery, minSimilarity, maxCandidates, start + budgetNanos,
+            (id, similarity, distance) -> {
+                if (!view.overrides(id)) {
+                    matches.add(new Match(id, similarity, distance));
+                }
+            });
+        view.forEach((id, text) -> {
+            if (!text.isEmpty()) {
+                trigramQuery.match(id, text, minSimilarity,
+                    (matchId, similarity, distance) -> matches.add(new Match(matchId, similarity, distance)));
+            }
+        });
+        if (!complete) {
+            log.debug("오타 허용 검색 제한 도달 - 검색어: {}, 결과: {}건, {}µs",
+                query, matches.size(), (System.nanoTime() - start) / 1_000);
+        }
+
+        return matches.stream()
+            .sorted(RANKING)
+            .limit(limit)
+            .map(Match::id)
+            .toList();
+    }
+
+    // ===== 변경 반영 =====
+
+    @TransactionalEventListener
+    public void onBookChanged(BookChangedEvent event) {
+        changes.put(event.id(), event.active() ? text(Hangul.jamo(event.name()), Hangul.jamo(event.author())) : DELETED);
+        if (changes.size() >= rebuildThreshold) {
+            rebuildInBackground();
+        }
+    }
+
+    /**
+     * DB 에서 기본 인덱스를 다시 생성 (자모 키가 비어 있는 행은 계산 - 저장은 HangulSearchIndex 가 담당)
+     */
+    @Override
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        changes.beginRebuild();
+        TrigramIndex.Builder builder = TrigramIndex.builder();
+        jdbcTemplate.query(BOOK_SQL, rs -> {
+            String nameJamo = rs.getString("name_jamo");
+            String authorJamo = rs.getString("author_jamo");
+            if (nameJamo == null || authorJamo == null) {
+                nameJamo = Hangul.jamo(rs.getString("name"));
+                authorJamo = Hangul.jamo(rs.getString("author"));
+            }
+            builder.add(rs.getLong("id"), text(nameJamo, authorJamo));
+        });
+        TrigramIndex rebuilt = builder.build();
+        index = rebuilt;
+        changes.finishRebuild();
+        markBuilt();
+        log.info("오타 허용 검색 인덱스 생성 완료 - 도서: {}, 조각 항목: {}, {}ms",
+            rebuilt.size(), rebuilt.postingCount(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private static String text(String nameJamo, String authorJamo) {
+        return authorJamo.isEmpty() ? nameJamo : nameJamo + " " + authorJamo;
+    }
+
+    private record Match(long id, double similarity, int distance) {
+    }
+}
@@ -0,0 +1,309 @@
+package com.example.wsa_mes_library.service;
+
+import com.example.wsa_mes_library.entity.Book;
+import com.example.wsa_mes_library.entity.User;
+import com.example.wsa_mes_library.lib.ChangeOverlay;
+import com.example.wsa_mes_library.lib.Hangul;
+import com.example.wsa_mes_library.lib.PrefixIndex;
+import com.example.wsa_mes_library.lib.RebuildableIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 한글 초성 / 자모 접두어 검색 인덱스 (도서 제목 + 작가, 사용자 이름)
+ * - 초성만 입력("ㅊㅅㅈㅇㅈ")하면 초성 키, 그 외("채식", "채시")는 자모 분해 키로 검색
+ * - 제목의 각 단어 시작 위치부터 키를 등록하므로 중간 단어로도 검색 ("ㅋㄷ" -> "클린 코드")
+ *
+ * 구조
+ * - 기본 인덱스: DB 의 검색 키 컬럼으로 만든 불변 PrefixIndex (기동 후 / 변경분이 쌓이면 다시 생성)
+ * - 변경분: 커밋된 등록 / 수정 / 삭제를 ID 별로 보관, 검색 시 기본 인덱스 결과를 덮어씀
+ */
+@Service
+@Slf4j
+public class HangulSearchIndex extends RebuildableIndex {
+
+    /**
+     * 키 최대 길이 - 이보다 긴 검색어는 앞부분만으로 검색
+     */
+    static final int MAX_KEY_LENGTH = 32;
+
+    private static final String BOOK_SQL =
+        "SELECT id, name, author, name_chosung, name_jamo, author_chosung, author_jamo FROM book WHERE active = TRUE";
+    private static final String BOOK_BACKFILL_SQL =
+        "UPDATE book SET name_chosung = ?, name_jamo = ?, author_chosung = ?, author_jamo = ? " +
+        "WHERE id = ? AND name_chosung IS NULL";
+    private static final String USER_SQL =
+        "SELECT id, name, name_chosung, name_jamo FROM users WHERE active = TRUE";
+    private static final String USER_BACKFILL_SQL =
+        "UPDATE users SET name_chosung = ?, name_jamo = ? WHERE id = ? AND name_chosung IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CacheStatisticsService cacheStatisticsService;
+    private final int rebuildThreshold;
+
+    private final Index books = new Index();
+    private final Index users = new Index();
+
+    public HangulSearchIndex(JdbcTemplate jdbcTemplate,
+                             CacheStatisticsService cacheStatisticsService,
+                             @Value("${library.search.hangul.rebuild-threshold:10000}") int rebuildThreshold) {
+        super("hangul-index-rebuild", "한글 검색 인덱스");
+        this.jdbcTemplate = jdbcTemplate;
+        this.cacheStatisticsService = cacheStatisticsService;
+        this.rebuildThreshold = rebuildThreshold;
+    }
+
+    /**
+     * 도서 검색 (제목 / 작가) - 일치하는 도서 ID
+     */
+    public List<Long> searchBooks(String query, int limit) {
+        return books.search(query, limit);
+    }
+
+    /**
+     * 사용자 검색 (이름) - 일치하는 사용자 ID
+     */
+    public List<Long> searchUsers(String query, int limit) {
+        return users.search(query, limit);
+    }
+
+    // ===== 변경 반영 =====
+
+    @TransactionalEventListener
+    public void onBookChanged(BookChangedEvent event) {
+        books.put(event.id(), event.active() ? DocKeys.of(event.name(), event.author()) : DocKeys.DELETED);
+        rebuildIfDeltaGrown();
+    }
+
+    @TransactionalEventListener
+    public void onUserChanged(UserChangedEvent event) {
+        users.put(event.id(), event.active() ? DocKeys.of(event.name()) : DocKeys.DELETED);
+        rebuildIfDeltaGrown();
+    }
+
+    private void rebuildIfDeltaGrown() {
+        if (books.deltaSize() + users.deltaSize() >= rebuildThreshold) {
+            rebuildInBackground();
+        }
+    }
+
+    // ===== 기본 인덱스 생성 =====
+
+    /**
+     * DB 에서 기본 인덱스를 다시 생성 (검색 키가 비어 있는 행은 계산해서 함께 저장)
+     */
+    @Override
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+
+        books.beginRebuild();
+        PrefixIndex.Builder bookChosung = PrefixIndex.builder();
+        PrefixIndex.Builder bookJamo = PrefixIndex.builder();
+        List<Object[]> bookBackfill = new ArrayList<>();
+        jdbcTemplate.query(BOOK_SQL, rs -> {
+            long id = rs.getLong("id");
+            String nameChosung = rs.getString("name_chosung");
+            String nameJamo = rs.getString("name_jamo");
+            String authorChosung = rs.getString("author_chosung");
+            String authorJamo = rs.getString("author_jamo");
+            if (nameChosung == null || nameJamo == null || authorChosung == null || authorJamo == null) {
+                String name = rs.getString("name");
+                String author = rs.getString("author");
+                nameChosung = Hangul.chosung(name);
+                nameJamo = Hangul.jamo(name);
+                authorChosung = Hangul.chosung(author);
+                authorJamo = Hangul.jamo(author);
+                bookBackfill.add(new Object[]{nameChosung, nameJamo, authorChosung, authorJamo, id});
+            }
+            addWordKeys(bookChosung, nameChosung, id);
+            addWordKeys(bookChosung, authorChosung, id);
+            addWordKeys(bookJamo, nameJamo, id);
+            addWordKeys(bookJamo, authorJamo, id);
+        });
+        books.finishRebuild(bookChosung.build(), bookJamo.build());
+
+        users.beginRebuild();
+        PrefixIndex.Builder userChosung = PrefixIndex.builder();
+        PrefixIndex.Builder userJamo = PrefixIndex.builder();
+        List<Object[]> userBackfill = new ArrayList<>();
+        jdbcTemplate.query(USER_SQL, rs -> {
+            long id = rs.getLong("id");
+            String nameChosung = rs.getString("name_chosung");
+            String nameJamo = rs.getString("name_jamo");
+            if (nameChosung == null || nameJamo == null) {
+                String name = rs.getString("name");
+                nameChosung = Hangul.chosung(name);
+                nameJamo = Hangul.jamo(name);
+                userBackfill.add(new Object[]{nameChosung, nameJamo, id});
+            }
+            addWordKeys(userChosung, nameChosung, id);
+            addWordKeys(userJamo, nameJamo, id);
+        });
+        users.finishRebuild(userChosung.build(), userJamo.build());
+        markBuilt();
+
+        // V4 이전에 저장된 행의 검색 키 저장 (다음 생성부터는 계산 생략)
+        // JDBC 로 직접 갱신하므로 바뀐 행이 있으면 캐시된 엔티티 제거 (남겨 두면 캐시에서 읽은 엔티티는 키가 빈 채로 보임)
+        if (!bookBackfill.isEmpty() && changed(jdbcTemplate.batchUpdate(BOOK_BACKFILL_SQL, bookBackfill))) {
+            cacheStatisticsService.evictRegion(Book.class.getName());
+        }
+        if (!userBackfill.isEmpty() && changed(jdbcTemplate.batchUpdate(USER_BACKFILL_SQL, userBackfill))) {
+            cacheStatisticsService.evictRegion(User.class.getName());
+        }
+
+        log.info("한글 검색 인덱스 생성 완료 - 도서 키: {}, 사용자 키: {}, 검색 키 채움: {}건, {}ms",
+            books.size(), users.size(), bookBackfill.size() + userBackfill.size(),
+            (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * 배치 갱신 결과에 바뀐 행이 있는지 (드라이버가 건수를 모르면 SUCCESS_NO_INFO(음수) - 바뀐 것으로 봄)
+     */
+    static boolean changed(int[] counts) {
+        return Arrays.stream(counts).anyMatch(count -> count != 0);
+    }
+
+    /**
+     * 단어 시작 위치마다 (공백을 뺀) 나머지 전체를 키로 등록 - "ㅋㄹ ㅋㄷ" -> "ㅋㄹㅋㄷ", "ㅋㄷ"
+     */
+    static void addWordKeys(PrefixIndex.Builder builder, String key, long id) {
+        if (key == null || key.isEmpty()) {
+            return;
+        }
+        String compact = key.indexOf(' ') < 0 ? key : key.replace(" ", "");
+        int offset = 0;
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (c == ' ') {
+                continue;
+            }
+            if (i == 0 || key.charAt(i - 1) == ' ') {
+                builder.add(compact, offset, Math.min(compact.length(), offset + MAX_KEY_LENGTH), id);
+            }
+            offset++;
+        }
+    }
+
+    private static String[] wordKeys(String key) {
+        if (key == null || key.isEmpty()) {
+            return new String[0];
+        }
+        List<String> keys = new ArrayList<>();
+        String compact = key.replace(" ", "");
+        int offset = 0;
+        for (int i = 0; i < key.length(); i++) {
+            if (key.charAt(i) == ' ') {
+                continue;
+            }
+            if (i == 0 || key.charAt(i - 1) == ' ') {
+                keys.add(compact.substring(offset, Math.min(compact.length(), offset + MAX_KEY_LENGTH)));
+            }
+            offset++;
+        }
+        return keys.toArray(String[]::new);
+    }
+
+    /**
+     * 검색어 -> 공백 없는 초성 / 자모 키
+     */
+    private static String queryKey(String query, boolean chosung) {
+        String key = chosung ? Hangul.chosung(query) : Hangul.jamo(query);
+        key = key.replace(" ", "");
+        return key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH) : key;
+    }
+
+    /**
+     * 한 문서(도서 / 사용자)의 단어별 키 - 변경분 보관용
+     */
+    private record DocKeys(String[] chosung, String[] jamo) {
+
+        static final DocKeys DELETED = new DocKeys(new String[0], new String[0]);
+
+        static DocKeys of(String... texts) {
+            List<String> chosung = new ArrayList<>();
+            List<String> jamo = new ArrayList<>();
+            for (String text : texts) {
+                chosung.addAll(List.of(wordKeys(Hangul.chosung(text))));
+                jamo.addAll(List.of(wordKeys(Hangul.jamo(text))));
+            }
+            return new DocKeys(chosung.toArray(String[]::new), jamo.toArray(String[]::new));
+        }
+
+        boolean matches(String prefix, boolean chosungMode) {
+            for (String key : chosungMode ? chosung : jamo) {
+                if (key.startsWith(prefix)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * 기본 인덱스 + 변경분 (ChangeOverlay)
+     */
+    static final class Index {
+
+        private volatile PrefixIndex chosung = PrefixIndex.empty();
+        private volatile PrefixIndex jamo = PrefixIndex.empty();
+        private final ChangeOverlay<DocKeys> changes = new ChangeOverlay<>();
+
+        List<Long> search(String query, int limit) {
+            if (query == null || query.isBlank() || limit <= 0) {
+                return List.of();
+            }
+            boolean chosungMode = Hangul.isChosungOnly(query);
+            String key = queryKey(query, chosungMode);
+            if (key.isEmpty()) {
+                return List.of();
+            }
+
+            ChangeOverlay.View<DocKeys> view = changes.view();
+            Set<Long> result = new LinkedHashSet<>();
+
+            (chosungMode ? chosung : jamo).forEachPrefix(key, id -> {
+                if (!view.overrides(id)) {
+                    result.add(id);
+                }
+                return result.size() < limit;
+            });
+            view.forEach((id, keys) -> {
+                if (result.size() < limit && keys.matches(key, chosungMode)) {
+                    result.add(id);
+                }
+            });
+            return List.copyOf(result);
+        }
+
+        void put(Long id, DocKeys keys) {
+            changes.put(id, keys);
+        }
+
+        int deltaSize() {
+            return changes.size();
+        }
+
+        int size() {
+            return chosung.size() + jamo.size();
+        }
+
+        void beginRebuild() {
+            changes.beginRebuild();
+        }
+
+        void finishRebuild(PrefixIndex chosung, PrefixIndex jamo) {
+            this.chosung = chosung;
+            this.jamo = jamo;
+            changes.finishRebuild();
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.wsa_mes_library.service;
+
+import com.example.wsa_mes_library.entity.Hold;
+
+/**
+ * 예약 등록 / 대출 전환 / 취소 / 만료 이벤트 (HoldService, LoanService 가 발행)
+ *
+ * @param waiting false 면 대기열에서 빠진 예약
+ */
+public record HoldChangedEvent(Long holdId, Long bookId, Long userId, boolean waiting) {
+
+    public static HoldChangedEvent of(Hold hold) {
+        return new HoldChangedEvent(hold.getId(), hold.getBook().getId(), hold.getUser().getId(), hold.isWaiting());
+    }
+}
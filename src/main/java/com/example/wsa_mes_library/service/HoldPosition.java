@@ -0,0 +1,9 @@
+package com.example.wsa_mes_library.service;
+
+import com.example.wsa_mes_library.entity.Hold;
+
+/**
+ * 예약과 현재 대기 순번 (1부터)
+ */
+public record HoldPosition(Hold hold, int position) {
+}
@@ -0,0 +1,135 @@
+package com.example.wsa_mes_library.service;
+
+import com.example.wsa_mes_library.config.DataInitializer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 도서별 예약 대기열 (메모리) - 도서 ID -> (예약 ID -> 이용자 ID), 예약 ID 순 = 선착순
+ * - 대출 / 반납 때 대기자가 있는지, 순번이 몇 번째인지 DB 조회 없이 확인
+ * - 등록은 도서 행을 잠근 트랜잭션 안에서 바로 추가 (롤백되면 제거) - 같은 도서의 반납은 잠금이 풀린 뒤 대기열을 보므로 누락 없음
+ * - 대출 전환 / 취소 / 만료는 커밋 이후 제거 - 그 사이 남아 있는 항목은 반납 처리 시 DB 상태로 다시 확인
+ *
+ * 기준 데이터는 DB (기동 시 대기 중인 예약으로 채움)
+ */
+@Service
+@Slf4j
+public class HoldQueueIndex {
+
+    private static final String WAITING_SQL = "SELECT id, book_id, user_id FROM book_hold WHERE status = 'WAITING'";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<Long, ConcurrentSkipListMap<Long, Long>> queues = new ConcurrentHashMap<>();
+
+    public HoldQueueIndex(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public boolean hasWaiting(long bookId) {
+        return queues.containsKey(bookId);
+    }
+
+    /**
+     * 대기 중인 예약 ID (선착순)
+     */
+    public List<Long> waiting(long bookId) {
+        ConcurrentSkipListMap<Long, Long> queue = queues.get(bookId);
+        return queue == null ? List.of() : List.copyOf(queue.keySet());
+    }
+
+    public int size(long bookId) {
+        ConcurrentSkipListMap<Long, Long> queue = queues.get(bookId);
+        return queue == null ? 0 : queue.size();
+    }
+
+    /**
+     * 대기 순번 (1부터, 대기열에 없으면 0)
+     */
+    public int position(long bookId, long holdId) {
+        ConcurrentSkipListMap<Long, Long> queue = queues.get(bookId);
+        if (queue == null || !queue.containsKey(holdId)) {
+            return 0;
+        }
+        return queue.headMap(holdId).size() + 1;
+    }
+
+    /**
+     * 이용자의 대기 중인 예약 ID (없으면 null)
+     */
+    public Long holdOf(long bookId, long userId) {
+        ConcurrentSkipListMap<Long, Long> queue = queues.get(bookId);
+        if (queue == null) {
+            return null;
+        }
+        for (Map.Entry<Long, Long> entry : queue.entrySet()) {
+            if (entry.getValue() == userId) {
+                return entry.getKey();
+            }
+        }
+        return null;
+    }
+
+    public void add(long bookId, long holdId, long userId) {
+        queues.computeIfAbsent(bookId, id -> new ConcurrentSkipListMap<>()).put(holdId, userId);
+    }
+
+    public void remove(long bookId, long holdId) {
+        // 비면 도서 항목도 제거 (computeIfPresent 안에서 원자적으로)
+        queues.computeIfPresent(bookId, (id, queue) -> {
+            queue.remove(holdId);
+            return queue.isEmpty() ? null : queue;
+        });
+    }
+
+    // ===== 변경 반영 =====
+
+    @TransactionalEventListener
+    public void onHoldChanged(HoldChangedEvent event) {
+        if (event.waiting()) {
+            add(event.bookId(), event.holdId(), event.userId());
+        } else {
+            remove(event.bookId(), event.holdId());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void onHoldRolledBack(HoldChangedEvent event) {
+        if (event.waiting()) {
+            remove(event.bookId(), event.holdId());
+        }
+    }
+
+    @EventListener(DataInitializer.InitializedEvent.class)
+    public void onDataInitialized() {
+        load();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        load();
+    }
+
+    /**
+     * 대기 중인 예약을 DB에서 읽어 대기열에 추가 (대기 중인 예약만 읽으므로 동기 실행)
+     */
+    public void load() {
+        long start = System.nanoTime();
+        int[] count = new int[1];
+        jdbcTemplate.query(WAITING_SQL, rs -> {
+            add(rs.getLong("book_id"), rs.getLong("id"), rs.getLong("user_id"));
+            count[0]++;
+        });
+        log.info("예약 대기열 로드 완료 - 예약: {}, 도서: {}, {}ms",
+            count[0], queues.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.wsa_mes_library.service;
+
+import com.example.wsa_mes_library.entity.Book;
+import com.example.wsa_mes_library.entity.Hold;
+import com.example.wsa_mes_library.entity.User;
+import com.example.wsa_mes_library.repository.BookRepository;
+import com.example.wsa_mes_library.repository.HoldRepository;
+import com.example.wsa_mes_library.repository.LoanRepository;
+import com.example.wsa_mes_library.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 대출 중인 도서 예약 (도서별 선착순 대기열)
+ * - 예약 / 취소 / 만료는 도서 행을 잠그고 처리 - 같은 도서의 반납과 순서가 엇갈려 대기자가 누락되거나 취소된 예약이 대출되지 않음
+ * - 반납되면 LoanService 가 같은 트랜잭션에서 맨 앞 대기자에게 바로 대출
+ * - 차례가 오지 않은 채 max-wait 이 지나면 만료
+ */
+@Service
+@Transactional(readOnly = true)
+@Slf4j
+public class HoldService {
+    
+    private static final int MAX_HOLDS_PER_USER = 5; // 사용자당 최대 예약 권수
+    
+    private final HoldRepository holdRepository;
+    private final BookRepository bookRepository;
+    private final UserRepository userRepository;
+    private final LoanRepository loanRepository;
+    private final HoldQueueIndex holdQueueIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration maxWait;
+    
+    public HoldService(HoldRepository holdRepository,
+                       BookRepository bookRepository,
+                       UserRepository userRepository,
+                       LoanRepository loanRepository,
+                       HoldQueueIndex holdQueueIndex,
+                       ApplicationEventPublisher eventPublisher,
+                       @Value("${library.hold.max-wait:30d}") Duration maxWait) {
+        this.holdRepository = holdRepository;
+        this.bookRepository = bookRepository;
+        this.userRepository = userRepository;
+        this.loanRepository = loanRepository;
+        this.holdQueueIndex = holdQueueIndex;
+        this.eventPublisher = eventPublisher;
+        this.maxWait = maxWait;
+    }
+    
+    /**
+     * 사용자의 대기 중인 예약과 순번 (예약 순)
+     */
+    public List<HoldPosition> getHoldsByUserId(Long userId) {
+        return holdRepository.findWaitingByUserId(userId).stream()
+            .map(hold -> new HoldPosition(hold, holdQueueIndex.position(hold.getBook().getId(), hold.getId())))
+            .toList();
+    }
+    
+    /**
+     * 도서의 대기 인원
+     */
+    public int getQueueLength(Long bookId) {
+        return holdQueueIndex.size(bookId);
+    }
+    
+    @Transactional
+    public HoldPosition placeHold(Long userId, Long bookId) {
+        User user = userRepository.findById(userId)
+            .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
+        
+        // 도서 행 잠금 - 같은 도서의 반납이 끝난 뒤 (또는 이 예약이 커밋된 뒤) 진행
+        Book book = bookRepository.findByIdForUpdate(bookId)
+            .filter(found -> Boolean.TRUE.equals(found.getActive()))
+            .orElseThrow(() -> new IllegalArgumentException("도서를 찾을 수 없습니다: " + bookId));
+        
+        validateHoldRequest(user, book);
+        
+        Hold hold = holdRepository.save(Hold.builder()
+            .user(user)
+            .book(book)
+            .expiresAt(LocalDateTime.now().plus(maxWait))
+            .status(Hold.HoldStatus.WAITING)
+            .build());
+        
+        // 잠금을 쥔 채로 대기열에 추가 (롤백되면 HoldQueueIndex 가 제거)
+        holdQueueIndex.add(bookId, hold.getId(), userId);
+        eventPublisher.publishEvent(HoldChangedEvent.of(hold));
+        return new HoldPosition(hold, holdQueueIndex.position(bookId, hold.getId()));
+    }
+    
+    @Transactional
+    public Hold cancelHold(Long id) {
+        Long bookId = holdRepository.findBookIdById(id)
+            .orElseThrow(() -> new IllegalArgumentException("예약 정보를 찾을 수 없습니다: " + id));
+        
+        // 도서 행 잠금 후 예약을 읽음 - 같은 도서의 반납(대기자 대출 전환)이 끝난 상태로 다시 확인
+        bookRepository.findByIdForUpdate(bookId);
+        Hold hold = holdRepository.findById(id)
+            .orElseThrow(() -> new IllegalArgumentException("예약 정보를 찾을 수 없습니다: " + id));
+        
+        if (!hold.isWaiting()) {
+            throw new IllegalStateException("대기 중인 예약이 아닙니다.");
+        }
+        
+        hold.setStatus(Hold.HoldStatus.CANCELLED);
+        eventPublisher.publishEvent(HoldChangedEvent.of(hold));
+        return hold;
+    }
+    
+    /**
+     * 대기 기간이 지난 예약 만료 처리
+     * 
+     * @return 만료된 예약 수
+     */
+    @Transactional
+    @Scheduled(fixedDelayString = "${library.hold.expire-interval:PT1H}",
+               initialDelayString = "${library.hold.expire-interval:PT1H}")
+    public int expireHolds() {
+        LocalDateTime now = LocalDateTime.now();
+        int expired = 0;
+        // 도서별로 행을 잠근 뒤 다시 읽어 처리 (잠금 순서는 도서 ID 순) - 반납 중 대출로 전환된 예약은 건너뜀
+        for (Long bookId : holdRepository.findBookIdsWithExpiredHolds(now)) {
+            bookRepository.findByIdForUpdate(bookId);
+            for (Hold hold : holdRepository.findExpiredHoldsByBookId(bookId, now)) {
+                hold.setStatus(Hold.HoldStatus.EXPIRED);
+                eventPublisher.publishEvent(HoldChangedEvent.of(hold));
+                expired++;
+            }
+        }
+        if (expired > 0) {
+            log.info("예약 만료 처리 - {}건", expired);
+        }
+        return expired;
+    }
+    
+    private void validateHoldRequest(User user, Book book) {
+        // 대기자 없이 바로 빌릴 수 있는 도서는 예약 대신 대출 (기한이 지난 예약만 남았으면 대기자 없음)
+        if (book.isAvailable() && !(holdQueueIndex.hasWaiting(book.getId())
+            && holdRepository.existsWaitingByBookId(book.getId(), LocalDateTime.now()))) {
+            throw new IllegalStateException("대출 가능한 도서입니다. 바로 대출해 주세요.");
+        }
+        
+        if (holdQueueIndex.holdOf(book.getId(), user.getId()) != null) {
+            throw new IllegalStateException("이미 예약한 도서입니다.");
+        }
+        
+        boolean borrowing = loanRepository.findActiveLoansByBookId(book.getId()).stream()
+            .anyMatch(loan -> loan.getUser().getId().equals(user.getId()));
+        if (borrowing) {
+            throw new IllegalStateException("본인이 대출 중인 도서입니다.");
+        }
+        
+        long waitingHolds = holdRepository.countWaitingByUserId(user.getId());
+        if (waitingHolds >= MAX_HOLDS_PER_USER) {
+            throw new IllegalStateException("예약 가능한 권수를 초과했습니다. (최대 " + MAX_HOLDS_PER_USER + "권)");
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.wsa_mes_library.service;
+
+import com.example.wsa_mes_library.entity.Book;
+import com.example.wsa_mes_library.lib.Isbn;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 기존 도서의 isbn13 (정규화된 ISBN-13 키) 채우기
+ * V3 마이그레이션 이전에 저장된 행은 isbn13 이 비어 있어 ISBN 조회에 걸리지 않으므로 ID 순으로 나눠 갱신
+ * - 올바르지 않은 ISBN: 건너뜀 (NULL 유지)
+ * - 표기만 다른 중복 ISBN: 먼저 채워진 행만 키를 갖고 나머지는 건너뜀 (로그로 ID 보고)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class IsbnBackfillService {
+
+    private static final String SELECT_SQL =
+        "SELECT id, isbn FROM book WHERE id > ? AND isbn13 IS NULL AND isbn IS NOT NULL ORDER BY id LIMIT ?";
+    private static final String UPDATE_SQL = "UPDATE book SET isbn13 = ? WHERE id = ? AND isbn13 IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final CacheStatisticsService cacheStatisticsService;
+
+    @Value("${library.isbn.backfill-on-startup:true}")
+    private boolean backfillOnStartup;
+
+    @Value("${library.isbn.backfill-batch-size:1000}")
+    private int batchSize;
+
+    public record Result(long scanned, long updated, long invalid, long duplicate, long millis) {
+    }
+
+    private record Row(long id, String isbn) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (!backfillOnStartup) {
+            return;
+        }
+        Thread.ofVirtual().name("isbn-backfill").start(() -> {
+            try {
+                backfill();
+            } catch (RuntimeException e) {
+                log.error("ISBN 키 채우기 실패", e);
+            }
+        });
+    }
+
+    /**
+     * isbn13 이 비어 있는 도서를 모두 갱신 (여러 번 실행해도 안전)
+     */
+    public Result backfill() {
+        long start = System.nanoTime();
+        long lastId = 0;
+        long scanned = 0;
+        long updated = 0;
+        long invalid = 0;
+        long duplicate = 0;
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        while (true) {
+            List<Row> rows = jdbcTemplate.query(SELECT_SQL,
+                (rs, rowNum) -> new Row(rs.getLong("id"), rs.getString("isbn")), lastId, batchSize);
+            if (rows.isEmpty()) {
+                break;
+            }
+            lastId = rows.get(rows.size() - 1).id();
+            scanned += rows.size();
+
+            List<Object[]> keys = new ArrayList<>(rows.size());
+            for (Row row : rows) {
+                long isbn13 = Isbn.toIsbn13(row.isbn());
+                if (isbn13 == Isbn.INVALID) {
+                    invalid++;
+                } else {
+                    keys.add(new Object[]{isbn13, row.id()});
+                }
+            }
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPDATE_SQL, keys));
+                updated += keys.size();
+            } catch (DataIntegrityViolationException e) {
+                // 배치 안에 중복 키가 있으면 한 건씩 다시 시도해 중복 행만 건너뜀
+                for (Object[] key : keys) {
+                    try {
+                        updated += jdbcTemplate.update(UPDATE_SQL, key);
+                    } catch (DuplicateKeyException duplicateKey) {
+                        duplicate++;
+                        log.warn("중복 ISBN 으로 키를 채우지 못함 - ID: {}, ISBN-13: {}", key[1], key[0]);
+                    }
+                }
+            }
+        }
+
+        if (updated > 0) {
+            // JDBC 로 직접 갱신했으므로 캐시된 도서 엔티티 제거
+            cacheStatisticsService.evictRegion(Book.class.getName());
+        }
+
+        Result result = new Result(scanned, updated, invalid, duplicate,
+            (System.nanoTime() - start) / 1_000_000);
+        if (scanned > 0) {
+            log.info("ISBN 키 채우기 완료 - 대상: {}, 갱신: {}, 잘못된 ISBN: {}, 중복: {}, {}ms",
+                result.scanned(), result.updated(), result.invalid(), result.duplicate(), result.millis());
+        }
+        return result;
+    }
+}
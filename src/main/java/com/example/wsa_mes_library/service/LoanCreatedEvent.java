@@ -0,0 +1,7 @@
+package com.example.wsa_mes_library.service;
+
+/**
+ * 대출 생성 이벤트 (LoanService 가 발행, 커밋 이후 처리)
+ */
+public record LoanCreatedEvent(Long loanId, Long userId, Long bookId) {
+}
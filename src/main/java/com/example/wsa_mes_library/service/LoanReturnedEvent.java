@@ -0,0 +1,7 @@
+package com.example.wsa_mes_library.service;
+
+/**
+ * 반납 이벤트 (LoanService 가 발행, 커밋 이후 처리)
+ */
+public record LoanReturnedEvent(Long loanId, Long userId, Long bookId) {
+}
@@ -1,12 +1,17 @@
 package com.example.wsa_mes_library.service;
 
 import com.example.wsa_mes_library.entity.Book;
+import com.example.wsa_mes_library.entity.Hold;
 import com.example.wsa_mes_library.entity.Loan;
 import com.example.wsa_mes_library.entity.User;
+import com.example.wsa_mes_library.lib.ChangePage;
 import com.example.wsa_mes_library.repository.BookRepository;
+import com.example.wsa_mes_library.repository.HoldRepository;
 import com.example.wsa_mes_library.repository.LoanRepository;
 import com.example.wsa_mes_library.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -19,11 +24,16 @@ import java.util.Optional;
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@Slf4j
 public class LoanService {
     
     private final LoanRepository loanRepository;
     private final BookRepository bookRepository;
     private final UserRepository userRepository;
+    private final HoldRepository holdRepository;
+    private final HoldQueueIndex holdQueueIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ChangeFeed changeFeed;
     
     private static final int MAX_LOANS_PER_USER = 5; // 사용자당 최대 대출 권수
     private static final int LOAN_PERIOD_DAYS = 14; // 대출 기간 (일)
@@ -43,6 +53,13 @@ public class LoanService {
         return loanRepository.findByBookId(bookId);
     }
     
+    /**
+     * since 이후 바뀐 대출 (updatedAt, id 순, 최대 size 건)
+     */
+    public ChangePage<Loan> getChanges(String since, Integer size) {
+        return changeFeed.read(since, size, loanRepository::findChangedSince);
+    }
+    
     public Optional<Loan> getLoanById(Long id) {
         return loanRepository.findById(id);
     }
@@ -58,21 +75,20 @@ public class LoanService {
         // 대출 가능 여부 검증
         validateLoanRequest(user, book);
         
-        // 도서 대출 중 상태로 변경
-        book.setAvailable(false);
-        bookRepository.save(book);
-        
-        // 대출 정보 생성
-        LocalDateTime now = LocalDateTime.now();
-        Loan loan = Loan.builder()
-            .user(user)
-            .book(book)
-            .loanDate(now)
-            .dueDate(now.plusDays(LOAN_PERIOD_DAYS))
-            .status(Loan.LoanStatus.ACTIVE)
-            .build();
+        // 예약 대기자가 있으면 대기자 본인만 대출 (반납 때 차례가 건너뛴 대기자)
+        // 대기열에 기한이 지난 예약만 남았으면 (만료 작업 전) 누구나 대출
+        if (holdQueueIndex.hasWaiting(bookId)) {
+            Long holdId = holdQueueIndex.holdOf(bookId, userId);
+            if (holdId != null) {
+                holdRepository.findById(holdId)
+                    .filter(Hold::isWaiting)
+                    .ifPresent(this::fulfill);
+            } else if (holdRepository.existsWaitingByBookId(bookId, LocalDateTime.now())) {
+                throw new IllegalStateException("예약 대기자가 있는 도서입니다. 예약 후 차례를 기다려 주세요.");
+            }
+        }
         
-        return loanRepository.save(loan);
+        return lend(user, book);
     }
     
     @Transactional
@@ -88,23 +104,23 @@ public class LoanService {
         loan.setReturnDate(LocalDateTime.now());
         loan.setStatus(Loan.LoanStatus.RETURNED);
         
-        // 도서 대출 가능 상태로 변경
+        // 도서 대출 가능 상태로 변경 - 대기열 확인 전에 반영해 같은 도서의 예약 등록과 순서를 맞춤 (행 잠금)
         Book book = loan.getBook();
         book.setAvailable(true);
-        bookRepository.save(book);
+        bookRepository.saveAndFlush(book);
         
-        return loanRepository.save(loan);
+        Loan returned = loanRepository.save(loan);
+        eventPublisher.publishEvent(new LoanReturnedEvent(loan.getId(), loan.getUser().getId(), book.getId()));
+        lendToNextHolder(book);
+        return returned;
     }
     
     @Transactional
     public void updateOverdueLoans() {
-        List<Loan> overdueLoans = loanRepository.findOverdueLoans(LocalDateTime.now());
-        
-        for (Loan loan : overdueLoans) {
-            loan.setStatus(Loan.LoanStatus.OVERDUE);
+        int updated = loanRepository.markOverdueLoans(LocalDateTime.now());
+        if (updated > 0) {
+            eventPublisher.publishEvent(new LoansOverdueEvent(updated));
         }
-        
-        loanRepository.saveAll(overdueLoans);
     }
     
     public List<Loan> getOverdueLoans() {
@@ -115,10 +131,64 @@ public class LoanService {
         return loanRepository.countActiveLoansByUserId(userId);
     }
     
+    private Loan lend(User user, Book book) {
+        // 도서 대출 중 상태로 변경
+        book.setAvailable(false);
+        bookRepository.save(book);
+        
+        // 대출 정보 생성
+        LocalDateTime now = LocalDateTime.now();
+        Loan loan = Loan.builder()
+            .user(user)
+            .book(book)
+            .loanDate(now)
+            .dueDate(now.plusDays(LOAN_PERIOD_DAYS))
+            .status(Loan.LoanStatus.ACTIVE)
+            .build();
+        
+        Loan savedLoan = loanRepository.save(loan);
+        eventPublisher.publishEvent(new LoanCreatedEvent(savedLoan.getId(), user.getId(), book.getId()));
+        return savedLoan;
+    }
+    
+    /**
+     * 반납된 도서를 맨 앞 대기자에게 대출
+     * 만료된 예약은 정리하고, 대출 권수가 찬 대기자는 순번을 유지한 채 다음 대기자로 넘어감
+     */
+    private void lendToNextHolder(Book book) {
+        for (Long holdId : holdQueueIndex.waiting(book.getId())) {
+            Hold hold = holdRepository.findById(holdId).orElse(null);
+            if (hold == null || !hold.isWaiting()) {
+                // 커밋 후 제거 전의 항목 - DB 상태 기준으로 정리
+                holdQueueIndex.remove(book.getId(), holdId);
+                continue;
+            }
+            if (hold.isExpired()) {
+                hold.setStatus(Hold.HoldStatus.EXPIRED);
+                eventPublisher.publishEvent(HoldChangedEvent.of(hold));
+                continue;
+            }
+            User user = hold.getUser();
+            if (!Boolean.TRUE.equals(user.getActive())
+                || loanRepository.countActiveLoansByUserId(user.getId()) >= MAX_LOANS_PER_USER) {
+                continue;
+            }
+            fulfill(hold);
+            Loan loan = lend(user, book);
+            log.info("예약 대출 전환 - 도서: {}, 사용자: {}, 대출: {}", book.getId(), user.getId(), loan.getId());
+            return;
+        }
+    }
+    
+    private void fulfill(Hold hold) {
+        hold.setStatus(Hold.HoldStatus.FULFILLED);
+        eventPublisher.publishEvent(HoldChangedEvent.of(hold));
+    }
+    
     private void validateLoanRequest(User user, Book book) {
         // 도서 대출 가능 여부 확인
         if (!book.isAvailable()) {
-            throw new IllegalStateException("현재 대출 중인 도서입니다.");
+            throw new IllegalStateException("현재 대출 중인 도서입니다. 예약하면 반납 시 차례대로 대출됩니다.");
         }
         
         // 사용자 대출 권수 제한 확인
@@ -0,0 +1,9 @@
+package com.example.wsa_mes_library.service;
+
+/**
+ * 일괄 연체 처리 이벤트 (LoanService 가 발행, 커밋 이후 처리)
+ *
+ * @param count 이번에 연체로 바뀐 대출 수
+ */
+public record LoansOverdueEvent(int count) {
+}
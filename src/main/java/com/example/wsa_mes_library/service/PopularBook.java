@@ -0,0 +1,9 @@
+package com.example.wsa_mes_library.service;
+
+import com.example.wsa_mes_library.entity.Book;
+
+/**
+ * 인기 도서 - 기간 내 추정 대출 수
+ */
+public record PopularBook(Book book, long loans) {
+}
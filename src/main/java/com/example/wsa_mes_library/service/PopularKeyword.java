@@ -0,0 +1,7 @@
+package com.example.wsa_mes_library.service;
+
+/**
+ * 인기 검색어 - 기간 내 추정 검색 수
+ */
+public record PopularKeyword(String keyword, long searches) {
+}
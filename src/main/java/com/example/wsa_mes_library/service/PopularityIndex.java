@@ -0,0 +1,118 @@
+package com.example.wsa_mes_library.service;
+
+import com.example.wsa_mes_library.lib.PopularityWindow;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 기간별 인기 도서(대출 수) / 인기 검색어(검색 수) 순위 - 대출 테이블 GROUP BY 없이 메모리 스케치로 집계
+ * - 대출: 커밋된 대출 이벤트마다 도서 ID 기록
+ * - 검색어: 첫 페이지 키워드 검색마다 정규화한 검색어 기록 (다음 페이지 요청은 같은 검색으로 보고 세지 않음)
+ * - 기록 O(1), 메모리는 설정한 일 수 / 추적 키 수 / 스케치 크기로 고정
+ *
+ * 기동 후부터 집계 (재시작하면 초기화, 기존 대출 이력으로 채우지 않음)
+ */
+@Service
+public class PopularityIndex {
+
+    /**
+     * 검색어 최대 길이 (넘는 부분은 잘라서 집계)
+     */
+    static final int MAX_KEYWORD_LENGTH = 50;
+
+    private final PopularityWindow<Long> loans;
+    private final PopularityWindow<String> searches;
+
+    public PopularityIndex(@Value("${library.popularity.days:30}") int days,
+                           @Value("${library.popularity.capacity:1000}") int capacity,
+                           @Value("${library.popularity.cms-width:4096}") int width,
+                           @Value("${library.popularity.cms-depth:4}") int depth) {
+        this.loans = new PopularityWindow<>(days, capacity, width, depth, Long::longValue);
+        this.searches = new PopularityWindow<>(days, capacity, width, depth, PopularityIndex::hash);
+    }
+
+    /**
+     * 기간 안에 대출이 많은 순으로 도서 ID 와 대출 수 (최대 limit 건)
+     */
+    public List<PopularityWindow.Ranked<Long>> topBooks(Period period, int limit) {
+        return loans.top(period.days(loans.days()), limit, today());
+    }
+
+    /**
+     * 기간 안에 검색이 많은 순으로 검색어와 검색 수 (최대 limit 건)
+     */
+    public List<PopularityWindow.Ranked<String>> topKeywords(Period period, int limit) {
+        return searches.top(period.days(searches.days()), limit, today());
+    }
+
+    public void recordSearch(String keyword) {
+        String normalized = normalize(keyword);
+        if (!normalized.isEmpty()) {
+            searches.add(normalized, today());
+        }
+    }
+
+    @TransactionalEventListener
+    public void onLoanCreated(LoanCreatedEvent event) {
+        loans.add(event.bookId(), today());
+    }
+
+    /**
+     * 앞뒤 공백 제거, 소문자, 연속 공백은 하나로, 최대 50자
+     */
+    static String normalize(String keyword) {
+        if (keyword == null) {
+            return "";
+        }
+        String normalized = keyword.strip().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+        return normalized.length() > MAX_KEYWORD_LENGTH ? normalized.substring(0, MAX_KEYWORD_LENGTH).strip() : normalized;
+    }
+
+    // 64비트 FNV-1a (String.hashCode 는 32비트라 스케치 행마다 같은 충돌이 반복됨)
+    private static long hash(String value) {
+        long hash = 0xCBF2_9CE4_8422_2325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100_0000_01B3L;
+        }
+        return hash;
+    }
+
+    private static long today() {
+        return LocalDate.now().toEpochDay();
+    }
+
+    /**
+     * 집계 기간 - day: 오늘, week: 최근 7일, month: 최근 30일 (유지 일 수를 넘으면 유지 일 수까지)
+     */
+    public enum Period {
+        DAY(1), WEEK(7), MONTH(30);
+
+        private final int days;
+
+        Period(int days) {
+            this.days = days;
+        }
+
+        int days(int retained) {
+            return Math.min(days, retained);
+        }
+
+        public static Period parse(String value) {
+            if (value == null || value.isBlank()) {
+                return WEEK;
+            }
+            return switch (value.strip().toLowerCase(Locale.ROOT)) {
+                case "day" -> DAY;
+                case "week" -> WEEK;
+                case "month" -> MONTH;
+                default -> throw new IllegalArgumentException("지원하지 않는 기간입니다 (day, week, month): " + value);
+            };
+        }
+    }
+}
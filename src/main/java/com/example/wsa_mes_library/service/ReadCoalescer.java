@@ -0,0 +1,91 @@
+package com.example.wsa_mes_library.service;
+
+import com.example.wsa_mes_library.lib.SingleFlight;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 동시에 들어온 같은 조회를 DB 쿼리 한 번으로 합침 (개장 시각 등 같은 화면을 한꺼번에 여는 경우)
+ * - 이름(메서드)별 SingleFlight, 키는 (쓰기 세대, 정규화한 인자 목록)
+ * - 지표: library.coalesce.calls (name, result=executed|coalesced)
+ *
+ * 쓰기 후 읽기
+ * - 합쳐진 호출은 자기보다 먼저 시작된 조회의 결과를 받으므로, 그대로 두면 자기 쓰기가 커밋되기 전에 시작된 조회에 합류할 수 있음
+ * - 도서 / 대출 변경이 커밋될 때마다 세대를 올리고 키에 넣어, 커밋 이후 시작한 호출은 그 전에 시작된 조회에 합류하지 않음
+ * - 세대는 커밋한 스레드에서 올리므로 쓰기 요청이 응답한 뒤의 조회는 항상 커밋된 변경을 봄
+ * 합쳐진 호출이 받은 엔티티는 다른 트랜잭션에서 읽은 것이므로 지연 로딩에 쓰지 않음 (조회 결과 응답 전용)
+ */
+@Component
+@RequiredArgsConstructor
+public class ReadCoalescer {
+
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentMap<String, SingleFlight<List<Object>, Object>> flights = new ConcurrentHashMap<>();
+    private final AtomicLong epoch = new AtomicLong();
+
+    /**
+     * @param name 조회 이름 (지표 태그)
+     * @param key 정규화한 인자 (equals / hashCode 로 같은 조회 판단)
+     */
+    @SuppressWarnings("unchecked")
+    public <V> V read(String name, List<Object> key, Supplier<V> loader) {
+        return (V) flight(name).execute(List.of(epoch.get(), key), (Supplier<Object>) loader);
+    }
+
+    // ===== 쓰기 세대 =====
+
+    @TransactionalEventListener
+    public void onBookChanged(BookChangedEvent event) {
+        epoch.incrementAndGet();
+    }
+
+    @TransactionalEventListener
+    public void onLoanCreated(LoanCreatedEvent event) {
+        epoch.incrementAndGet();
+    }
+
+    @TransactionalEventListener
+    public void onLoanReturned(LoanReturnedEvent event) {
+        epoch.incrementAndGet();
+    }
+
+    @TransactionalEventListener
+    public void onBooksCompacted(BooksCompactedEvent event) {
+        epoch.incrementAndGet();
+    }
+
+    public long executedCount(String name) {
+        return flight(name).executedCount();
+    }
+
+    public long coalescedCount(String name) {
+        return flight(name).coalescedCount();
+    }
+
+    private SingleFlight<List<Object>, Object> flight(String name) {
+        SingleFlight<List<Object>, Object> flight = flights.get(name);
+        if (flight != null) {
+            return flight;
+        }
+        return flights.computeIfAbsent(name, key -> {
+            SingleFlight<List<Object>, Object> created = new SingleFlight<>();
+            FunctionCounter.builder("library.coalesce.calls", created, SingleFlight::executedCount)
+                .tags("name", key, "result", "executed")
+                .register(meterRegistry);
+            FunctionCounter.builder("library.coalesce.calls", created, SingleFlight::coalescedCount)
+                .tags("name", key, "result", "coalesced")
+                .register(meterRegistry);
+            return created;
+        });
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.wsa_mes_library.service;
+
+import com.example.wsa_mes_library.config.DataInitializer;
+import com.example.wsa_mes_library.entity.Book;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 도서 목록 / 검색 결과 캐시 (GET /api/books)
+ * - 키: 정규화한 (keyword, author, page, size, sort), 값: 도서 ID 목록 + 전체 건수 + 저장 시점의 카탈로그 버전
+ * - 도서가 추가 / 수정 / 삭제되어 커밋될 때마다 카탈로그 버전을 올림 - 버전이 다른 항목은 조회 시 무시 (키별 무효화 없음)
+ * - 적중하면 ID 로 2차 캐시(Book)에서 엔티티를 꺼내므로 자주 찾는 검색은 DB 쿼리 없이 응답
+ *
+ * 대출 / 반납으로 바뀌는 available / updatedAt 으로 정렬한 목록은 버전이 오르지 않으므로 캐시하지 않음
+ * 항목 수가 max-entries 에 닿으면 옛 버전 항목을 지우고, 그래도 가득 차 있으면 전부 비움
+ */
+@Component
+@Slf4j
+public class SearchResultCache {
+
+    private static final Set<String> MUTABLE_SORT_PROPERTIES = Set.of("available", "updatedAt");
+
+    private final int maxEntries;
+    private final ConcurrentMap<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+
+    private final BookLoader bookLoader;
+
+    public SearchResultCache(BookLoader bookLoader, MeterRegistry meterRegistry,
+                             @Value("${library.search.result-cache.max-entries:10000}") int maxEntries) {
+        this.bookLoader = bookLoader;
+        this.maxEntries = maxEntries;
+        this.hits = Counter.builder("library.search.cache").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("library.search.cache").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("library.search.cache.size", entries, ConcurrentMap::size).register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 결과가 현재 버전이면 그대로, 아니면 loader 로 조회 후 저장
+     *
+     * @param keyword 검색어 (대소문자 무시 검색이므로 소문자로 맞춰 키로 사용)
+     * @param author 작가명
+     */
+    public Page<Book> get(String keyword, String author, Pageable pageable, Supplier<Page<Book>> loader) {
+        if (maxEntries <= 0 || pageable.isUnpaged() || sortsByMutableProperty(pageable.getSort())) {
+            return loader.get();
+        }
+        Key key = new Key(keyword == null ? null : keyword.toLowerCase(Locale.ROOT), author,
+            pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort());
+
+        // 조회 전에 버전을 읽어 둠 - 조회 중에 변경이 커밋되면 옛 버전으로 저장되어 다음 조회에서 무시됨
+        long current = version.get();
+        Entry entry = entries.get(key);
+        if (entry != null && entry.version() == current) {
+            List<Book> books = bookLoader.findActiveInOrder(entry.ids());
+            // 2차 캐시에서 빠진 사이 삭제된 책이 있으면 (버전 반영 직전) 다시 조회
+            if (books.size() == entry.ids().length) {
+                hits.increment();
+                return new PageImpl<>(books, pageable, entry.total());
+            }
+        }
+
+        misses.increment();
+        Page<Book> page = loader.get();
+        put(key, new Entry(current, page.getContent().stream().mapToLong(Book::getId).toArray(), page.getTotalElements()));
+        return page;
+    }
+
+    public long version() {
+        return version.get();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    // ===== 변경 반영 =====
+
+    @TransactionalEventListener
+    public void onBookChanged(BookChangedEvent event) {
+        version.incrementAndGet();
+    }
+
+    @EventListener(DataInitializer.InitializedEvent.class)
+    public void onDataInitialized() {
+        version.incrementAndGet();
+        entries.clear();
+    }
+
+    private static boolean sortsByMutableProperty(Sort sort) {
+        return sort.stream().anyMatch(order -> MUTABLE_SORT_PROPERTIES.contains(order.getProperty()));
+    }
+
+    private void put(Key key, Entry entry) {
+        if (entries.size() >= maxEntries && !entries.containsKey(key)) {
+            long current = version.get();
+            entries.values().removeIf(candidate -> candidate.version() != current);
+            if (entries.size() >= maxEntries) {
+                log.debug("검색 결과 캐시 가득 참 - {}건 비움", entries.size());
+                entries.clear();
+            }
+        }
+        entries.put(key, entry);
+    }
+
+    private record Key(String keyword, String author, int page, int size, Sort sort) {
+    }
+
+    private record Entry(long version, long[] ids, long total) {
+    }
+}
@@ -0,0 +1,300 @@
+package com.example.wsa_mes_library.service;
+
+import com.example.wsa_mes_library.entity.Book;
+import com.example.wsa_mes_library.lib.ChangeOverlay;
+import com.example.wsa_mes_library.lib.MinHash;
+import com.example.wsa_mes_library.lib.RebuildableIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * 비슷한 책 인덱스 (설명 MinHash 서명 + LSH 버킷)
+ * - 모든 쌍을 비교하지 않고, 서명 구간(band) 해시가 같은 책만 후보로 골라 서명 일치 비율로 순위
+ * - 서명은 Book 저장 시 계산해 DB 에 보관 (description_minhash), 인덱스는 이를 읽어 메모리에 구성
+ *
+ * 기본 인덱스는 ID 정렬 배열에 서명을 이어 붙이고, 구간마다 (버킷 해시, 위치) 정렬 배열을 둬 버킷을 이분 탐색
+ * 저장 / 삭제된 책의 서명은 ChangeOverlay 로 덮어쓰고, 덮어쓴 책이 rebuild-threshold 권을 넘으면 배열을 다시 생성
+ * 메모리: 책당 서명 128바이트 + 버킷 항목 64바이트 (100만 건 약 200MB)
+ */
+@Service
+@Slf4j
+public class SimilarBookIndex extends RebuildableIndex {
+
+    private static final String BOOK_SQL =
+        "SELECT id, description, description_minhash FROM book WHERE active = TRUE ORDER BY id";
+    private static final String BACKFILL_SQL =
+        "UPDATE book SET description_minhash = ? WHERE id = ? AND description_minhash IS NULL";
+
+    /**
+     * 삭제 / 비활성 / 설명 없음 표식
+     */
+    private static final int[] NONE = new int[0];
+
+    private static final Comparator<Match> RANKING = Comparator
+        .comparingDouble(Match::similarity).reversed()
+        .thenComparingLong(Match::id);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CacheStatisticsService cacheStatisticsService;
+    private final double minSimilarity;
+    private final int maxBucketSize;
+    private final int rebuildThreshold;
+
+    private volatile Index index = Index.EMPTY;
+    private final ChangeOverlay<int[]> changes = new ChangeOverlay<>();
+
+    public SimilarBookIndex(JdbcTemplate jdbcTemplate,
+                            CacheStatisticsService cacheStatisticsService,
+                            @Value("${library.similar.min-similarity:0.3}") double minSimilarity,
+                            @Value("${library.similar.max-bucket-size:1000}") int maxBucketSize,
+                            @Value("${library.similar.rebuild-threshold:10000}") int rebuildThreshold) {
+        super("similar-index-rebuild", "비슷한 책 인덱스");
+        this.jdbcTemplate = jdbcTemplate;
+        this.cacheStatisticsService = cacheStatisticsService;
+        this.minSimilarity = minSimilarity;
+        this.maxBucketSize = maxBucketSize;
+        this.rebuildThreshold = rebuildThreshold;
+    }
+
+    /**
+     * 설명이 비슷한 활성 도서 ID (비슷한 순, 최대 limit 건, 자기 자신 제외)
+     */
+    public List<Long> findSimilar(long id, int limit) {
+        ChangeOverlay.View<int[]> view = changes.view();
+        Index current = index;
+        int[] signature = view.get(id);
+        if (signature == null) {
+            signature = current.signature(id);
+        }
+        if (signature == null || signature == NONE || limit <= 0) {
+            return List.of();
+        }
+        int[] bandKeys = bandKeys(signature);
+
+        // 여러 구간에서 같은 책이 나오므로 위치를 모아 정렬 후 한 번씩만 비교
+        int[] slots = new int[MinHash.BANDS * maxBucketSize];
+        int[] count = new int[1];
+        current.forEachCandidate(bandKeys, maxBucketSize, slot -> slots[count[0]++] = slot);
+        Arrays.sort(slots, 0, count[0]);
+
+        List<Match> matches = new ArrayList<>();
+        int[] query = signature;
+        for (int i = 0; i < count[0]; i++) {
+            int slot = slots[i];
+            long candidate = current.ids[slot];
+            if (i > 0 && slots[i - 1] == slot || candidate == id || view.overrides(candidate)) {
+                continue;
+            }
+            double similarity = current.similarity(slot, query);
+            if (similarity >= minSimilarity) {
+                matches.add(new Match(candidate, similarity));
+            }
+        }
+        view.forEach((candidate, other) -> {
+            if (candidate == id || other == NONE || !sharesBand(other, bandKeys)) {
+                return;
+            }
+            double similarity = MinHash.similarity(query, other);
+            if (similarity >= minSimilarity) {
+                matches.add(new Match(candidate, similarity));
+            }
+        });
+
+        return matches.stream()
+            .sorted(RANKING)
+            .limit(limit)
+            .map(Match::id)
+            .toList();
+    }
+
+    private static int[] bandKeys(int[] signature) {
+        int[] keys = new int[MinHash.BANDS];
+        for (int band = 0; band < MinHash.BANDS; band++) {
+            keys[band] = MinHash.bandKey(signature, band);
+        }
+        return keys;
+    }
+
+    private static boolean sharesBand(int[] signature, int[] bandKeys) {
+        for (int band = 0; band < MinHash.BANDS; band++) {
+            if (MinHash.bandKey(signature, band) == bandKeys[band]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // ===== 변경 반영 =====
+
+    @TransactionalEventListener
+    public void onBookChanged(BookChangedEvent event) {
+        int[] signature = event.active() ? MinHash.signature(event.description()) : null;
+        changes.put(event.id(), signature != null ? signature : NONE);
+        if (changes.size() >= rebuildThreshold) {
+            rebuildInBackground();
+        }
+    }
+
+    /**
+     * DB 에서 기본 인덱스를 다시 생성 (서명이 비어 있는 행은 계산해서 함께 저장)
+     */
+    @Override
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        changes.beginRebuild();
+        Index.Builder builder = new Index.Builder();
+        List<Object[]> backfill = new ArrayList<>();
+        jdbcTemplate.query(BOOK_SQL, rs -> {
+            long id = rs.getLong("id");
+            int[] signature = MinHash.fromBytes(rs.getBytes("description_minhash"));
+            if (signature == null) {
+                signature = MinHash.signature(rs.getString("description"));
+                if (signature == null) {
+                    return;
+                }
+                backfill.add(new Object[]{MinHash.toBytes(signature), id});
+            }
+            builder.add(id, signature);
+        });
+        Index rebuilt = builder.build();
+        replace(rebuilt);
+
+        // V5 이전에 저장된 행의 서명 저장 (다음 생성부터는 계산 생략)
+        // JDBC 로 직접 갱신하므로 바뀐 행이 있으면 캐시된 도서 엔티티 제거
+        if (!backfill.isEmpty() && HangulSearchIndex.changed(jdbcTemplate.batchUpdate(BACKFILL_SQL, backfill))) {
+            cacheStatisticsService.evictRegion(Book.class.getName());
+        }
+        log.info("비슷한 책 인덱스 생성 완료 - 도서: {}, 서명 채움: {}건, {}ms",
+            rebuilt.size(), backfill.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * 새 기본 인덱스로 교체 (생성 전 beginRebuild 로 옮겨 둔 변경분은 이제 버림)
+     */
+    void replace(Index rebuilt) {
+        index = rebuilt;
+        changes.finishRebuild();
+        markBuilt();
+    }
+
+    private record Match(long id, double similarity) {
+    }
+
+    /**
+     * 불변 기본 인덱스 - 모두 기본형 배열
+     * - ids: ID 오름차순 (ID -> 위치는 이진 탐색)
+     * - signatures: 위치 i 의 서명이 [i * SIZE, (i + 1) * SIZE)
+     * - bands[b]: (구간 해시 << 32 | 위치) 정렬 배열 - 같은 해시(버킷)의 위치가 연속
+     */
+    static final class Index {
+
+        static final Index EMPTY = new Builder().build();
+
+        private final long[] ids;
+        private final int[] signatures;
+        private final long[][] bands;
+
+        private Index(long[] ids, int[] signatures, long[][] bands) {
+            this.ids = ids;
+            this.signatures = signatures;
+            this.bands = bands;
+        }
+
+        int size() {
+            return ids.length;
+        }
+
+        int[] signature(long id) {
+            int slot = Arrays.binarySearch(ids, id);
+            if (slot < 0) {
+                return null;
+            }
+            return Arrays.copyOfRange(signatures, slot * MinHash.SIZE, (slot + 1) * MinHash.SIZE);
+        }
+
+        double similarity(int slot, int[] signature) {
+            int offset = slot * MinHash.SIZE;
+            int equal = 0;
+            for (int i = 0; i < MinHash.SIZE; i++) {
+                if (signatures[offset + i] == signature[i]) {
+                    equal++;
+                }
+            }
+            return (double) equal / MinHash.SIZE;
+        }
+
+        /**
+         * 구간 해시가 같은 위치 전달 (버킷마다 최대 maxBucketSize 개 - 흔한 문구로 커진 버킷이 지연시간을 지배하지 않도록)
+         */
+        void forEachCandidate(int[] bandKeys, int maxBucketSize, IntConsumer consumer) {
+            for (int band = 0; band < MinHash.BANDS; band++) {
+                long[] entries = bands[band];
+                long key = (long) bandKeys[band] << 32;
+                int i = lowerBound(entries, key);
+                for (int n = 0; i < entries.length && n < maxBucketSize && (entries[i] & 0xFFFF_FFFF_0000_0000L) == key;
+                     i++, n++) {
+                    consumer.accept((int) entries[i]);
+                }
+            }
+        }
+
+        private static int lowerBound(long[] entries, long key) {
+            int low = 0;
+            int high = entries.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (entries[mid] < key) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * ID 오름차순으로 추가
+         */
+        static final class Builder {
+
+            private long[] ids = new long[128];
+            private int[] signatures = new int[128 * MinHash.SIZE];
+            private int size;
+
+            void add(long id, int[] signature) {
+                if (size == ids.length) {
+                    ids = Arrays.copyOf(ids, size * 2);
+                    signatures = Arrays.copyOf(signatures, size * 2 * MinHash.SIZE);
+                }
+                ids[size] = id;
+                System.arraycopy(signature, 0, signatures, size * MinHash.SIZE, MinHash.SIZE);
+                size++;
+            }
+
+            Index build() {
+                int[] packed = Arrays.copyOf(signatures, size * MinHash.SIZE);
+                long[][] bands = new long[MinHash.BANDS][size];
+                int[] signature = new int[MinHash.SIZE];
+                for (int slot = 0; slot < size; slot++) {
+                    System.arraycopy(packed, slot * MinHash.SIZE, signature, 0, MinHash.SIZE);
+                    for (int band = 0; band < MinHash.BANDS; band++) {
+                        bands[band][slot] = (long) MinHash.bandKey(signature, band) << 32 | slot;
+                    }
+                }
+                for (long[] entries : bands) {
+                    Arrays.parallelSort(entries);
+                }
+                return new Index(Arrays.copyOf(ids, size), packed, bands);
+            }
+        }
+    }
+}
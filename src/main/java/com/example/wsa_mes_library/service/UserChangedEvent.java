@@ -0,0 +1,19 @@
+package com.example.wsa_mes_library.service;
+
+import com.example.wsa_mes_library.entity.User;
+
+/**
+ * 사용자 등록 / 수정 / 삭제 이벤트 (UserService 가 발행, 커밋 이후 처리)
+ *
+ * @param active false 면 삭제된 사용자
+ */
+public record UserChangedEvent(Long id, String name, String email, boolean active) {
+
+    public static UserChangedEvent of(User user) {
+        return new UserChangedEvent(user.getId(), user.getName(), user.getEmail(), Boolean.TRUE.equals(user.getActive()));
+    }
+
+    public static UserChangedEvent deleted(Long id) {
+        return new UserChangedEvent(id, null, null, false);
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.wsa_mes_library.service;
+
+import com.example.wsa_mes_library.lib.ChangeOverlay;
+import com.example.wsa_mes_library.lib.LongIntHashMap;
+import com.example.wsa_mes_library.lib.PrefixIndex;
+import com.example.wsa_mes_library.lib.RebuildableIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 사용자 이름 / 이메일 접두어 검색 인덱스 (GET /api/users?keyword=)
+ * - 이름의 각 단어 시작 위치부터, 이메일은 @ 앞부분(로컬 파트)을 소문자 키로 등록 ("민수" -> 김 민수, "minsu" -> minsu.kim@...)
+ * - 양쪽 와일드카드 LIKE 로 사용자 테이블 전체를 훑던 검색을 O(log n + 결과 수) 로
+ *
+ * 구조
+ * - 기본 인덱스: DB 에서 읽어 만든 불변 PrefixIndex (기동 후 / 변경분이 쌓이면 다시 생성)
+ * - 변경분: 커밋된 등록 / 수정 / 삭제를 ID 별로 보관, 검색 시 기본 인덱스 결과를 덮어씀
+ */
+@Service
+@Slf4j
+public class UserSearchIndex extends RebuildableIndex {
+
+    /**
+     * 키 최대 길이 - 이보다 긴 검색어는 앞부분만으로 검색
+     */
+    static final int MAX_KEY_LENGTH = 32;
+
+    private static final String USER_SQL = "SELECT id, name, email FROM users WHERE active = TRUE";
+
+    private static final String[] DELETED = new String[0];
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int rebuildThreshold;
+
+    private volatile PrefixIndex index = PrefixIndex.empty();
+    private final ChangeOverlay<String[]> changes = new ChangeOverlay<>();
+
+    public UserSearchIndex(JdbcTemplate jdbcTemplate,
+                           @Value("${library.search.user.rebuild-threshold:10000}") int rebuildThreshold) {
+        super("user-index-rebuild", "사용자 검색 인덱스");
+        this.jdbcTemplate = jdbcTemplate;
+        this.rebuildThreshold = rebuildThreshold;
+    }
+
+    /**
+     * 검색 결과
+     *
+     * @param ids 키 순 앞 limit 건의 사용자 ID
+     * @param total 일치하는 사용자 수 (최대 limit)
+     * @param more limit 건보다 더 일치하는지 (전체 수는 세지 않음 - "limit+ 건")
+     */
+    public record Matches(List<Long> ids, int total, boolean more) {
+
+        static final Matches NONE = new Matches(List.of(), 0, false);
+    }
+
+    /**
+     * 이름 단어 / 이메일 로컬 파트가 검색어로 시작하는 사용자 (대소문자 무시)
+     * 앞 limit + 1 번째 사용자를 만나면 멈춤 - 짧은 검색어로 접두어 범위 전체를 훑지 않음
+     */
+    public Matches search(String query, int limit) {
+        String key = queryKey(query);
+        if (key.isEmpty() || limit <= 0) {
+            return Matches.NONE;
+        }
+
+        ChangeOverlay.View<String[]> view = changes.view();
+        // 한 사용자가 여러 키로 걸릴 수 있으므로 박싱 없는 집합으로 중복 제거
+        LongIntHashMap seen = new LongIntHashMap();
+        List<Long> ids = new ArrayList<>();
+        int[] found = {0};
+        index.forEachPrefix(key, id -> {
+            if (!view.overrides(id) && seen.addTo(id, 1) == 1) {
+                found[0]++;
+                if (ids.size() < limit) {
+                    ids.add(id);
+                }
+            }
+            return found[0] <= limit;
+        });
+        view.forEach((id, keys) -> {
+            if (found[0] <= limit && matches(keys, key)) {
+                found[0]++;
+                if (ids.size() < limit) {
+                    ids.add(id);
+                }
+            }
+        });
+        return new Matches(List.copyOf(ids), Math.min(found[0], limit), found[0] > limit);
+    }
+
+    // ===== 변경 반영 =====
+
+    @TransactionalEventListener
+    public void onUserChanged(UserChangedEvent event) {
+        changes.put(event.id(), event.active() ? keys(event.name(), event.email()) : DELETED);
+        if (changes.size() >= rebuildThreshold) {
+            rebuildInBackground();
+        }
+    }
+
+    /**
+     * DB 에서 기본 인덱스를 다시 생성
+     */
+    @Override
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        changes.beginRebuild();
+        PrefixIndex.Builder builder = PrefixIndex.builder();
+        jdbcTemplate.query(USER_SQL, rs -> {
+            long id = rs.getLong("id");
+            for (String key : keys(rs.getString("name"), rs.getString("email"))) {
+                builder.add(key, id);
+            }
+        });
+        index = builder.build();
+        changes.finishRebuild();
+        markBuilt();
+        log.info("사용자 검색 인덱스 생성 완료 - 키: {}, {}ms", index.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * 한 사용자의 키 - 이름 단어 시작 위치마다 (공백을 뺀) 나머지 전체, 이메일 로컬 파트
+     * "Kim Min Su", "MS.Kim@example.com" -> "kimminsu", "minsu", "su", "ms.kim"
+     */
+    static String[] keys(String name, String email) {
+        List<String> keys = new ArrayList<>();
+        if (name != null) {
+            String normalized = name.strip().toLowerCase(Locale.ROOT);
+            String compact = normalized.replace(" ", "");
+            int offset = 0;
+            for (int i = 0; i < normalized.length(); i++) {
+                if (normalized.charAt(i) == ' ') {
+                    continue;
+                }
+                if (i == 0 || normalized.charAt(i - 1) == ' ') {
+                    keys.add(truncate(compact.substring(offset)));
+                }
+                offset++;
+            }
+        }
+        if (email != null) {
+            int at = email.indexOf('@');
+            String local = (at < 0 ? email : email.substring(0, at)).strip().toLowerCase(Locale.ROOT);
+            if (!local.isEmpty()) {
+                keys.add(truncate(local));
+            }
+        }
+        return keys.toArray(String[]::new);
+    }
+
+    private static String queryKey(String query) {
+        if (query == null) {
+            return "";
+        }
+        return truncate(query.strip().toLowerCase(Locale.ROOT).replace(" ", ""));
+    }
+
+    private static String truncate(String key) {
+        return key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH) : key;
+    }
+
+    private static boolean matches(String[] keys, String prefix) {
+        for (String key : keys) {
+            if (key.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
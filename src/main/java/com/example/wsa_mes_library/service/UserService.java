@@ -1,46 +1,143 @@
 package com.example.wsa_mes_library.service;
 
 import com.example.wsa_mes_library.entity.User;
+import com.example.wsa_mes_library.lib.ChangePage;
+import com.example.wsa_mes_library.lib.KWayMerge;
 import com.example.wsa_mes_library.repository.UserRepository;
+import com.example.wsa_mes_library.repository.UserTombstone;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class UserService {
     
+    /**
+     * 키워드 검색에서 정렬 / 페이징할 최대 결과 수 (전체 건수는 그대로, 이 범위를 넘는 페이지는 400 - 검색어를 더 길게)
+     */
+    static final int MAX_KEYWORD_RESULTS = 1000;
+    
+    private static final Comparator<User> CHANGE_ORDER =
+        Comparator.comparing(User::getUpdatedAt).thenComparing(User::getId);
+    
     private final UserRepository userRepository;
+    private final HangulSearchIndex hangulSearchIndex;
+    private final UserSearchIndex userSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ChangeFeed changeFeed;
+    private final EntityManager entityManager;
     
+    /**
+     * 사용자 목록 / 검색
+     * - 키워드 없음: 전체 목록 (조건 없는 페이지 조회)
+     * - @ 포함: 이메일 정확히 일치 (자연 키 캐시, 대소문자 무시)
+     * - 그 외: 이름 단어 / 이메일 로컬 파트 접두어 일치 (UserSearchIndex 가 고른 키 순 앞 1000건을 DB 에서 정렬 / 페이징,
+     *   전체 건수도 최대 1000 - 더 있으면 1000 으로 보고하고 그 뒤 페이지는 검색어를 좁히도록 안내)
+     */
     public Page<User> getUsers(String keyword, Pageable pageable) {
-        return userRepository.findByKeyword(keyword, pageable);
+        if (keyword == null || keyword.isBlank()) {
+            return userRepository.findAll(pageable);
+        }
+        if (keyword.indexOf('@') >= 0) {
+            List<User> user = getUserByEmail(normalizeEmail(keyword)).stream().toList();
+            return new PageImpl<>(pageable.getOffset() == 0 ? user : List.of(), pageable, user.size());
+        }
+        UserSearchIndex.Matches matches = userSearchIndex.search(keyword, MAX_KEYWORD_RESULTS);
+        if (matches.total() == 0) {
+            return Page.empty(pageable);
+        }
+        if (pageable.isPaged() && pageable.getOffset() >= matches.ids().size()) {
+            if (matches.more()) {
+                throw new IllegalArgumentException("검색 결과가 " + MAX_KEYWORD_RESULTS
+                    + "건 이상이라 앞 " + MAX_KEYWORD_RESULTS + "건까지만 페이지로 볼 수 있습니다 - 검색어를 더 길게 입력해주세요");
+            }
+            return new PageImpl<>(List.of(), pageable, matches.total());
+        }
+        return new PageImpl<>(userRepository.findByIdIn(matches.ids(), pageable), pageable, matches.total());
+    }
+    
+    /**
+     * 한글 초성 / 자모 이름 검색 ("ㄱㅁㅅ" -> 김민수)
+     */
+    public List<User> searchByHangul(String query, Integer size) {
+        int limitSize = (size != null && size > 0) ? Math.min(size, 100) : 20;
+        List<Long> ids = hangulSearchIndex.searchUsers(query, limitSize);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        
+        Map<Long, User> users = userRepository.findAllById(ids).stream()
+            .collect(Collectors.toMap(User::getId, Function.identity()));
+        return ids.stream()
+            .map(users::get)
+            .filter(Objects::nonNull)
+            .toList();
+    }
+    
+    /**
+     * since 이후 바뀐 사용자 (updatedAt, id 순, 최대 size 건)
+     * 삭제된 사용자는 삭제 표식(user_tombstone)을 삭제 시각 순으로 끼워 넣어 id 와 active=false 만 있는 사용자로 전달
+     */
+    public ChangePage<User> getChanges(String since, Integer size) {
+        return changeFeed.read(since, size, (from, id, until, limit) -> KWayMerge.merge(
+            List.of(userRepository.findChangedSince(from, id, until, limit),
+                userRepository.findDeletedSince(from, id, until, limit.max()).stream()
+                    .map(UserService::tombstone)
+                    .toList()),
+            CHANGE_ORDER, limit.max()));
     }
     
     public Optional<User> getUserById(Long id) {
         return userRepository.findById(id);
     }
     
+    /**
+     * 이메일 단건 조회 - 이메일 -> ID 자연 키 캐시와 엔티티 캐시가 모두 적중하면 DB 조회 없음
+     * 이메일은 소문자로 저장하므로 대소문자 무시
+     */
     public Optional<User> getUserByEmail(String email) {
-        return userRepository.findByEmail(email);
+        if (email == null) {
+            return Optional.empty();
+        }
+        return entityManager.unwrap(Session.class)
+            .bySimpleNaturalId(User.class)
+            .loadOptional(normalizeEmail(email));
     }
     
     @Transactional
     public User createUser(User user) {
+        user.setEmail(normalizeEmail(user.getEmail()));
         if (userRepository.existsByEmail(user.getEmail())) {
             throw new IllegalArgumentException("이미 존재하는 이메일입니다: " + user.getEmail());
         }
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(UserChangedEvent.of(savedUser));
+        return savedUser;
     }
     
     @Transactional
     public User updateUser(Long id, User userDetails) {
         User user = userRepository.findById(id)
             .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + id));
+        userDetails.setEmail(normalizeEmail(userDetails.getEmail()));
         
         // 이메일 변경 시 중복 체크
         if (!user.getEmail().equals(userDetails.getEmail()) && 
@@ -53,7 +150,9 @@ public class UserService {
         user.setPhone(userDetails.getPhone());
         user.setAddress(userDetails.getAddress());
         
-        return userRepository.save(user);
+        User updatedUser = userRepository.save(user);
+        eventPublisher.publishEvent(UserChangedEvent.of(updatedUser));
+        return updatedUser;
     }
     
     @Transactional
@@ -62,6 +161,8 @@ public class UserService {
             throw new IllegalArgumentException("사용자를 찾을 수 없습니다: " + id);
         }
         userRepository.deleteById(id);
+        userRepository.recordDeletion(id, LocalDateTime.now());
+        eventPublisher.publishEvent(UserChangedEvent.deleted(id));
     }
     
     public boolean existsById(Long id) {
@@ -69,10 +170,26 @@ public class UserService {
     }
     
     public boolean existsByEmail(String email) {
-        return userRepository.existsByEmail(email);
+        return userRepository.existsByEmail(normalizeEmail(email));
     }
     
     public long getTotalUserCount() {
         return userRepository.count();
     }
+    
+    /**
+     * 이메일 비교 / 저장 형태 (앞뒤 공백 제거 + 소문자)
+     */
+    private static String normalizeEmail(String email) {
+        return email == null ? null : email.strip().toLowerCase(Locale.ROOT);
+    }
+    
+    private static User tombstone(UserTombstone deleted) {
+        return User.builder()
+            .id(deleted.getId())
+            .active(false)
+            .updatedAt(deleted.getDeletedAt())
+            .entityType(User.class.getSimpleName())
+            .build();
+    }
 }
@@ -0,0 +1,3 @@
+-- 활성 도서 ID 커서 페이지 인덱스 (H2 - mysql/V10__book_active_id.sql 과 동일)
+
+CREATE INDEX idx_book_active_id ON book (active, id);
@@ -0,0 +1,9 @@
+-- 삭제된 사용자 표식 (H2 - mysql/V11__user_tombstone.sql 과 동일)
+
+CREATE TABLE user_tombstone (
+    id         BIGINT       NOT NULL,
+    deleted_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_user_tombstone_deleted_at_id ON user_tombstone (deleted_at, id);
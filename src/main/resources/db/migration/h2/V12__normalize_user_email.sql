@@ -0,0 +1,9 @@
+-- 이메일을 저장 형태(앞뒤 공백 제거 + 소문자)로 정리 (H2 - mysql/V12__normalize_user_email.sql 과 동일)
+-- H2 는 UPDATE ... JOIN 이 없어 충돌 대상을 EXISTS 로 찾음
+
+UPDATE users u
+SET email = LEFT(CONCAT('duplicate-', u.id, '+', LOWER(TRIM(u.email))), 255)
+WHERE EXISTS (SELECT 1 FROM users o
+              WHERE LOWER(TRIM(o.email)) = LOWER(TRIM(u.email)) AND o.id < u.id);
+
+UPDATE users SET email = LOWER(TRIM(email)) WHERE email <> LOWER(TRIM(email));
@@ -0,0 +1,49 @@
+-- 기준 스키마 (H2 - 테스트 / 벤치마크용, mysql/V1__baseline.sql 과 같은 구조)
+
+CREATE SEQUENCE sequence START WITH 1 INCREMENT BY 1;
+
+CREATE TABLE book (
+    id           BIGINT       NOT NULL,
+    active       BOOLEAN,
+    created_at   TIMESTAMP(6),
+    updated_at   TIMESTAMP(6),
+    entity_type  VARCHAR(255),
+    name         VARCHAR(255),
+    author       VARCHAR(255),
+    isbn         VARCHAR(255),
+    description  VARCHAR(255),
+    publisher    VARCHAR(255),
+    publish_year INTEGER,
+    available    BOOLEAN,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE users (
+    id          BIGINT       NOT NULL,
+    active      BOOLEAN,
+    created_at  TIMESTAMP(6),
+    updated_at  TIMESTAMP(6),
+    entity_type VARCHAR(255),
+    name        VARCHAR(255),
+    email       VARCHAR(255),
+    phone       VARCHAR(255),
+    address     VARCHAR(255),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE loan (
+    id          BIGINT       NOT NULL,
+    active      BOOLEAN,
+    created_at  TIMESTAMP(6),
+    updated_at  TIMESTAMP(6),
+    entity_type VARCHAR(255),
+    user_id     BIGINT,
+    book_id     BIGINT,
+    loan_date   TIMESTAMP(6),
+    due_date    TIMESTAMP(6),
+    return_date TIMESTAMP(6),
+    status      ENUM ('ACTIVE', 'OVERDUE', 'RETURNED'),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_loan_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_loan_book FOREIGN KEY (book_id) REFERENCES book (id)
+);
@@ -0,0 +1,5 @@
+-- 비슷한 책 찾기용 설명 MinHash 서명 (H2 - mysql/V5__book_description_minhash.sql 과 동일)
+-- 엔티티 저장 시 계산되며(int 32개, 128바이트), 기존 행은 SimilarBookIndex 가 처음 인덱스를 만들 때 채움
+-- 후보 검색은 메모리 LSH 버킷에서 처리하므로 DB 인덱스는 두지 않음
+
+ALTER TABLE book ADD COLUMN description_minhash VARBINARY(128);
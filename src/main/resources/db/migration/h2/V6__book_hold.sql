@@ -0,0 +1,23 @@
+-- 대출 중인 도서 예약 대기열 (H2 - mysql/V6__book_hold.sql 과 동일)
+-- 도서별 선착순(id 순), 반납 시 맨 앞 대기자에게 바로 대출
+
+CREATE TABLE book_hold (
+    id          BIGINT       NOT NULL,
+    active      BOOLEAN,
+    created_at  TIMESTAMP(6),
+    updated_at  TIMESTAMP(6),
+    entity_type VARCHAR(255),
+    user_id     BIGINT,
+    book_id     BIGINT,
+    expires_at  TIMESTAMP(6),
+    status      ENUM ('WAITING', 'FULFILLED', 'CANCELLED', 'EXPIRED'),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_book_hold_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_book_hold_book FOREIGN KEY (book_id) REFERENCES book (id)
+);
+
+-- 이용자별 예약 목록 (user_id = ? AND status = ?)
+CREATE INDEX idx_book_hold_user_status ON book_hold (user_id, status);
+
+-- 대기열 복원 / 만료 처리 (status = ? AND expires_at < ?)
+CREATE INDEX idx_book_hold_status_expires_at ON book_hold (status, expires_at);
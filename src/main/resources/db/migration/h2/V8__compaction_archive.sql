@@ -0,0 +1,53 @@
+-- 오래 삭제(비활성) 상태인 도서 정리 (H2 - mysql/V8__compaction_archive.sql 과 동일)
+-- 보관 기간이 지난 도서를 대출 / 예약 이력과 함께 보관 테이블로 옮기고 원본에서 물리 삭제
+-- 검색 키(초성 / 자모 / MinHash)는 저장 시 다시 계산되므로 보관하지 않음
+
+CREATE TABLE book_archive (
+    id           BIGINT       NOT NULL,
+    created_at   TIMESTAMP(6),
+    updated_at   TIMESTAMP(6),
+    name         VARCHAR(255),
+    author       VARCHAR(255),
+    isbn         VARCHAR(255),
+    isbn13       BIGINT,
+    description  VARCHAR(255),
+    publisher    VARCHAR(255),
+    publish_year INTEGER,
+    archived_at  TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+-- 대출 이력은 도서와 함께 옮겨 book_id 가 계속 유효 (이용자는 보관하지 않으므로 user_id 는 참조 제약 없음)
+CREATE TABLE loan_archive (
+    id          BIGINT       NOT NULL,
+    created_at  TIMESTAMP(6),
+    updated_at  TIMESTAMP(6),
+    user_id     BIGINT,
+    book_id     BIGINT       NOT NULL,
+    loan_date   TIMESTAMP(6),
+    due_date    TIMESTAMP(6),
+    return_date TIMESTAMP(6),
+    status      ENUM ('ACTIVE', 'OVERDUE', 'RETURNED'),
+    archived_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_loan_archive_book FOREIGN KEY (book_id) REFERENCES book_archive (id)
+);
+
+CREATE TABLE book_hold_archive (
+    id          BIGINT       NOT NULL,
+    created_at  TIMESTAMP(6),
+    updated_at  TIMESTAMP(6),
+    user_id     BIGINT,
+    book_id     BIGINT       NOT NULL,
+    expires_at  TIMESTAMP(6),
+    status      ENUM ('WAITING', 'FULFILLED', 'CANCELLED', 'EXPIRED'),
+    archived_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_book_hold_archive_book FOREIGN KEY (book_id) REFERENCES book_archive (id)
+);
+
+-- 이용자별 대출 이력 (보관분)
+CREATE INDEX idx_loan_archive_user_id ON loan_archive (user_id);
+
+-- 정리 대상 찾기 (active = FALSE AND updated_at < ?)
+CREATE INDEX idx_book_active_updated_at ON book (active, updated_at);
@@ -0,0 +1,4 @@
+-- 사용자 목록 기본 정렬 인덱스 (H2 - mysql/V9__users_created_at.sql 과 동일)
+-- 키워드 검색은 메모리 접두어 인덱스(UserSearchIndex), 이메일 검색은 uk_users_email 로 처리하므로 추가 인덱스 불필요
+
+CREATE INDEX idx_users_created_at_id ON users (created_at, id);
@@ -0,0 +1,4 @@
+-- 활성 도서 ID 커서 페이지 (findByIdCursor - active = TRUE AND id < ? ORDER BY id DESC)
+-- idx_book_active_author 로는 active 조건만 걸려 활성 도서 전체를 읽으므로 (active, id) 범위로
+
+CREATE INDEX idx_book_active_id ON book (active, id);
@@ -0,0 +1,10 @@
+-- 삭제된 사용자 표식 (GET /api/users/changes)
+-- 사용자는 물리 삭제하므로 행이 남지 않음 - 삭제 시각을 따로 남겨 변경분 동기화에 (deleted_at, id) 순으로 끼워 넣음
+
+CREATE TABLE user_tombstone (
+    id         BIGINT      NOT NULL,
+    deleted_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_user_tombstone_deleted_at_id ON user_tombstone (deleted_at, id);
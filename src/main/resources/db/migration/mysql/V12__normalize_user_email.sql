@@ -0,0 +1,15 @@
+-- 이메일을 저장 형태(앞뒤 공백 제거 + 소문자)로 정리 - 이후 저장 / 조회는 UserService 가 같은 형태로 맞춤
+-- 정리하면 같아지는 이메일이 여럿이면 가장 먼저 가입한(id 가 가장 작은) 사용자만 그대로 두고,
+-- 나머지는 'duplicate-{id}+' 를 앞에 붙여 uk_users_email 충돌을 피함 (관리자가 확인 후 수정)
+
+UPDATE users u
+JOIN (SELECT LOWER(TRIM(email)) AS normalized, MIN(id) AS keep_id
+      FROM users
+      WHERE email IS NOT NULL
+      GROUP BY LOWER(TRIM(email))
+      HAVING COUNT(*) > 1) d
+  ON LOWER(TRIM(u.email)) = d.normalized AND u.id <> d.keep_id
+SET u.email = LEFT(CONCAT('duplicate-', u.id, '+', LOWER(TRIM(u.email))), 255);
+
+-- 기본 콜레이션은 대소문자를 무시해 email <> LOWER(email) 로 대상을 거를 수 없으므로 전체 갱신
+UPDATE users SET email = LOWER(TRIM(email)) WHERE email IS NOT NULL;
@@ -0,0 +1,55 @@
+-- 기준 스키마 (기존 ddl-auto: update 로 생성되던 구조와 동일)
+-- ddl-auto 로 이미 테이블이 만들어진 DB는 baseline-on-migrate 로 V1 을 건너뛰고 V2 부터 적용
+
+CREATE TABLE book (
+    id           BIGINT       NOT NULL,
+    active       BIT,
+    created_at   DATETIME(6),
+    updated_at   DATETIME(6),
+    entity_type  VARCHAR(255),
+    name         VARCHAR(255),
+    author       VARCHAR(255),
+    isbn         VARCHAR(255),
+    description  VARCHAR(255),
+    publisher    VARCHAR(255),
+    publish_year INTEGER,
+    available    BIT,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE users (
+    id          BIGINT       NOT NULL,
+    active      BIT,
+    created_at  DATETIME(6),
+    updated_at  DATETIME(6),
+    entity_type VARCHAR(255),
+    name        VARCHAR(255),
+    email       VARCHAR(255),
+    phone       VARCHAR(255),
+    address     VARCHAR(255),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE loan (
+    id          BIGINT       NOT NULL,
+    active      BIT,
+    created_at  DATETIME(6),
+    updated_at  DATETIME(6),
+    entity_type VARCHAR(255),
+    user_id     BIGINT,
+    book_id     BIGINT,
+    loan_date   DATETIME(6),
+    due_date    DATETIME(6),
+    return_date DATETIME(6),
+    status      ENUM ('ACTIVE', 'OVERDUE', 'RETURNED'),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_loan_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_loan_book FOREIGN KEY (book_id) REFERENCES book (id)
+) ENGINE = InnoDB;
+
+-- BaseEntity 공용 ID 시퀀스 (MySQL 은 테이블로 에뮬레이션)
+CREATE TABLE sequence (
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+INSERT INTO sequence VALUES (1);
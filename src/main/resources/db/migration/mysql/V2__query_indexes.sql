@@ -0,0 +1,20 @@
+-- 리포지토리 조회 조건에 맞춘 인덱스
+-- 기존 DB에 중복 ISBN / 이메일이 있으면 UNIQUE 인덱스 생성이 실패하므로 먼저 정리 필요
+
+-- 활성 도서 목록 / 작가별 조회 및 개수 (active = ? AND author = ?)
+CREATE INDEX idx_book_active_author ON book (active, author);
+
+-- ISBN 단건 조회 / 중복 확인
+CREATE UNIQUE INDEX uk_book_isbn ON book (isbn);
+
+-- 이메일 조회 / 중복 확인
+CREATE UNIQUE INDEX uk_users_email ON users (email);
+
+-- 사용자별 대출 목록, 대출 중 권수 (user_id = ? AND status = ?)
+CREATE INDEX idx_loan_user_status ON loan (user_id, status);
+
+-- 도서별 대출 목록, 대출 중 여부 (book_id = ? AND status = ?)
+CREATE INDEX idx_loan_book_status ON loan (book_id, status);
+
+-- 상태별 목록, 연체 조회 / 일괄 연체 처리 (status = ? AND due_date < ?)
+CREATE INDEX idx_loan_status_due_date ON loan (status, due_date);
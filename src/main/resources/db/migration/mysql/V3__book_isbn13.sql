@@ -0,0 +1,10 @@
+-- 정규화된 ISBN-13 숫자 키
+-- 기존 행은 IsbnBackfillService 가 채움 (올바르지 않은 ISBN 은 NULL 유지)
+
+ALTER TABLE book ADD COLUMN isbn13 BIGINT;
+
+-- ISBN 단건 조회 / 중복 확인은 숫자 키로 (표기가 달라도 같은 책)
+CREATE UNIQUE INDEX uk_book_isbn13 ON book (isbn13);
+
+-- 문자열 ISBN 은 입력 표기 그대로 보관만 함
+DROP INDEX uk_book_isbn ON book;
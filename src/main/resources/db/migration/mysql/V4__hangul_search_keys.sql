@@ -0,0 +1,13 @@
+-- 한글 초성 / 자모 검색 키
+-- 엔티티 저장 시 계산되며, 기존 행은 HangulSearchIndex 가 처음 인덱스를 만들 때 채움
+-- 검색은 메모리 접두어 인덱스에서 처리하므로 DB 인덱스는 두지 않음
+
+ALTER TABLE book
+    ADD COLUMN name_chosung VARCHAR(255),
+    ADD COLUMN name_jamo VARCHAR(1000),
+    ADD COLUMN author_chosung VARCHAR(255),
+    ADD COLUMN author_jamo VARCHAR(1000);
+
+ALTER TABLE users
+    ADD COLUMN name_chosung VARCHAR(255),
+    ADD COLUMN name_jamo VARCHAR(1000);
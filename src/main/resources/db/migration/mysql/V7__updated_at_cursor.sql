@@ -0,0 +1,10 @@
+-- 변경분 동기화 (GET /api/{books|users|loans}/changes) 커서 인덱스
+-- (updated_at, id) 순으로 이어 읽음 - updated_at 이 비어 있는 기존 행은 등록 시각으로 채움
+
+UPDATE book SET updated_at = COALESCE(created_at, CURRENT_TIMESTAMP) WHERE updated_at IS NULL;
+UPDATE users SET updated_at = COALESCE(created_at, CURRENT_TIMESTAMP) WHERE updated_at IS NULL;
+UPDATE loan SET updated_at = COALESCE(created_at, CURRENT_TIMESTAMP) WHERE updated_at IS NULL;
+
+CREATE INDEX idx_book_updated_at_id ON book (updated_at, id);
+CREATE INDEX idx_users_updated_at_id ON users (updated_at, id);
+CREATE INDEX idx_loan_updated_at_id ON loan (updated_at, id);
@@ -0,0 +1,151 @@
+package com.example.wsa_mes_library;
+
+import com.example.wsa_mes_library.entity.Book;
+import com.example.wsa_mes_library.entity.Loan;
+import com.example.wsa_mes_library.entity.User;
+import com.example.wsa_mes_library.lib.RoaringBitmap;
+import com.example.wsa_mes_library.repository.BookFilter;
+import com.example.wsa_mes_library.repository.BookRepository;
+import com.example.wsa_mes_library.repository.UserRepository;
+import com.example.wsa_mes_library.service.BookService;
+import com.example.wsa_mes_library.service.BookSnapshot;
+import com.example.wsa_mes_library.service.LoanService;
+import com.example.wsa_mes_library.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 비트맵 인덱스 - 압축 비트맵 연산, 여러 값 조건 목록 / 개수가 DB 와 같고 대출 / 반납으로 바로 바뀜
+ */
+@SpringBootTest(properties = "library.snapshot.enabled=true")
+@ActiveProfiles("test")
+class BitmapIndexTest {
+
+    @Autowired
+    private BookSnapshot bookSnapshot;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private LoanService loanService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Book book;
+    private User user;
+
+    @AfterEach
+    void tearDown() {
+        if (book != null) {
+            jdbcTemplate.update("DELETE FROM loan WHERE book_id = ?", book.getId());
+            bookRepository.deleteById(book.getId());
+        }
+        if (user != null) {
+            userRepository.deleteById(user.getId());
+        }
+    }
+
+    @Test
+    void intersectsArrayAndBitmapContainers() {
+        Random random = new Random(42);
+        BitSet dense = new BitSet();
+        BitSet sparse = new BitSet();
+        RoaringBitmap denseBitmap = new RoaringBitmap();
+        RoaringBitmap sparseBitmap = new RoaringBitmap();
+        for (int i = 0; i < 200_000; i++) {
+            int value = random.nextInt(300_000);
+            dense.set(value);
+            denseBitmap.add(value);
+            if (i % 50 == 0) {
+                sparse.set(value * 3 % 300_000);
+                sparseBitmap.add(value * 3 % 300_000);
+            }
+        }
+        // 일부를 지워 비트맵 컨테이너 -> 배열 컨테이너 전환도 거침
+        for (int value = 0; value < 65_536; value++) {
+            dense.clear(value);
+            denseBitmap.remove(value);
+        }
+        dense.set(7);
+        denseBitmap.add(7);
+
+        assertThat(denseBitmap.cardinality()).isEqualTo(dense.cardinality());
+        BitSet expected = (BitSet) dense.clone();
+        expected.and(sparse);
+        List<Integer> actual = new ArrayList<>();
+        RoaringBitmap.and(List.of(denseBitmap, sparseBitmap)).forEach(actual::add);
+        assertThat(actual).containsExactlyElementsOf(expected.stream().boxed().toList());
+        assertThat(denseBitmap.contains(7)).isTrue();
+        assertThat(denseBitmap.contains(8)).isFalse();
+    }
+
+    @Test
+    void answersMultiFilterQueriesLikeDatabase() {
+        bookSnapshot.rebuild();
+        Map<String, Object> sample = jdbcTemplate.queryForMap("SELECT author, publisher, publish_year FROM book "
+            + "WHERE active = TRUE AND publisher IS NOT NULL AND publish_year IS NOT NULL ORDER BY id LIMIT 1");
+        String author = (String) sample.get("author");
+        String publisher = (String) sample.get("publisher");
+        Integer year = ((Number) sample.get("publish_year")).intValue();
+
+        Map<BookFilter, List<Long>> expectations = Map.of(
+            new BookFilter(null, publisher, null, null), jdbcTemplate.queryForList(
+                "SELECT id FROM book WHERE active = TRUE AND publisher = ? ORDER BY name, id", Long.class, publisher),
+            new BookFilter(author, publisher, null, true), jdbcTemplate.queryForList("SELECT id FROM book "
+                + "WHERE active = TRUE AND author = ? AND publisher = ? AND available = TRUE ORDER BY name, id",
+                Long.class, author, publisher),
+            new BookFilter(null, null, year, false), jdbcTemplate.queryForList("SELECT id FROM book "
+                + "WHERE active = TRUE AND publish_year = ? AND available = FALSE ORDER BY name, id", Long.class, year),
+            new BookFilter(null, "없는 출판사", null, null), List.of());
+        expectations.forEach((filter, ids) -> {
+            assertThat(bookService.getBooksByFilter(filter, PageRequest.of(0, 1000, Sort.by("name"))).getContent())
+                .as(filter.toString()).extracting(Book::getId).containsExactlyElementsOf(ids);
+            assertThat(bookService.countBooksByFilter(filter)).as(filter.toString()).isEqualTo(ids.size());
+        });
+    }
+
+    @Test
+    void followsLoanAvailabilityFlips() {
+        bookSnapshot.rebuild();
+        book = bookService.createBook(Book.builder().name("비트맵 도서").author("비트맵작가").publisher("비트맵출판").build());
+        user = userService.createUser(User.builder().name("비트맵").email("bitmap@example.com").build());
+        BookFilter onLoan = new BookFilter("비트맵작가", "비트맵출판", null, false);
+        BookFilter free = new BookFilter("비트맵작가", "비트맵출판", null, true);
+        assertThat(bookService.countBooksByFilter(free)).isEqualTo(1);
+        assertThat(bookService.countBooksByFilter(onLoan)).isZero();
+
+        Loan loan = loanService.createLoan(user.getId(), book.getId());
+        assertThat(bookService.countBooksByFilter(free)).isZero();
+        assertThat(bookService.getBooksByFilter(onLoan, PageRequest.of(0, 10)).getContent())
+            .extracting(Book::getId).containsExactly(book.getId());
+
+        loanService.returnBook(loan.getId());
+        assertThat(bookService.countBooksByFilter(free)).isEqualTo(1);
+        assertThat(bookService.countBooksByFilter(onLoan)).isZero();
+    }
+}
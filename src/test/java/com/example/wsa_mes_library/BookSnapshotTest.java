@@ -0,0 +1,162 @@
+package com.example.wsa_mes_library;
+
+import com.example.wsa_mes_library.entity.Book;
+import com.example.wsa_mes_library.lib.MappedColumns;
+import com.example.wsa_mes_library.lib.StringDictionary;
+import com.example.wsa_mes_library.repository.BookRepository;
+import com.example.wsa_mes_library.service.BookService;
+import com.example.wsa_mes_library.service.BookSnapshot;
+import com.example.wsa_mes_library.support.SqlStatementRecorder;
+import com.example.wsa_mes_library.support.SqlStatementRecorderConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 도서 컬럼 스냅샷 - DB 와 같은 목록 / 정렬 / 개수를 SQL 없이, 커밋된 변경과 주기 반영
+ */
+@SpringBootTest(properties = "library.snapshot.enabled=true")
+@ActiveProfiles("test")
+@Import(SqlStatementRecorderConfig.class)
+class BookSnapshotTest {
+
+    @Autowired
+    private BookSnapshot bookSnapshot;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Long> books = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        bookSnapshot.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        bookRepository.deleteAllById(books);
+    }
+
+    @Test
+    void growsColumnsAndRanksDictionary(@TempDir Path directory) {
+        try (MappedColumns columns = new MappedColumns(directory.resolve("columns.col"), 16, 8, 4, 1)) {
+            for (int row = 0; row < 1000; row++) {
+                columns.ensureCapacity(row + 1);
+                columns.putLong(0, row, row * 10L);
+                columns.putInt(1, row, -row);
+                columns.putByte(2, row, (byte) (row % 3));
+            }
+            assertThat(columns.capacity()).isGreaterThanOrEqualTo(1000);
+            for (int row = 0; row < 1000; row++) {
+                assertThat(columns.getLong(0, row)).isEqualTo(row * 10L);
+                assertThat(columns.getInt(1, row)).isEqualTo(-row);
+                assertThat(columns.getByte(2, row)).isEqualTo((byte) (row % 3));
+            }
+        }
+
+        StringDictionary dictionary = new StringDictionary();
+        int kim = dictionary.encode("Kim");
+        int lee = dictionary.encode("Lee");
+        assertThat(dictionary.encode("Kim")).isEqualTo(kim);
+        assertThat(dictionary.encode(null)).isEqualTo(StringDictionary.NULL);
+        int ahn = dictionary.encode("Ahn");
+        dictionary.rankAll();
+        assertThat(new long[]{dictionary.rank(ahn), dictionary.rank(kim), dictionary.rank(lee)}).isSorted();
+        assertThat(dictionary.containsIgnoreCase("E")).containsExactly(false, true, false);
+        // 이후 추가는 전체 재정렬 없이 제자리 순위 (같은 자리에 계속 끼워 넣어 간격이 다해도 순서 유지)
+        List<String> added = new ArrayList<>(List.of("Ahn", "Kim", "Lee"));
+        for (int i = 0; i < 64; i++) {
+            String value = "Kim" + (char) ('z' - i % 26) + i;
+            dictionary.encode(value);
+            added.add(value);
+        }
+        dictionary.encode("Aaa");
+        dictionary.encode("Zed");
+        added.add("Aaa");
+        added.add("Zed");
+        assertThat(added.stream().sorted(Comparator.comparingLong(value -> dictionary.rank(dictionary.find(value)))))
+            .containsExactlyElementsOf(added.stream().sorted().toList());
+        assertThat(dictionary.rank(StringDictionary.NULL)).isLessThan(dictionary.rank(dictionary.find("Aaa")));
+    }
+
+    @Test
+    void matchesDatabaseOrderWithoutSql() {
+        long total = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM book WHERE active = TRUE", Long.class);
+        Map<Sort, String> orders = Map.of(
+            Sort.by("name"), "name, id",
+            Sort.by(Sort.Direction.DESC, "createdAt"), "created_at DESC, id",
+            Sort.by(Sort.Order.desc("publishYear"), Sort.Order.asc("author")), "publish_year DESC, author, id",
+            Sort.unsorted(), "id");
+        orders.forEach((sort, orderBy) -> {
+            List<Long> expected = jdbcTemplate.queryForList("SELECT id FROM book WHERE active = TRUE ORDER BY "
+                + orderBy + " LIMIT 7 OFFSET 14", Long.class);
+            SqlStatementRecorder.start();
+            BookSnapshot.Slice slice = bookSnapshot.list(null, PageRequest.of(2, 7, sort));
+            long count = bookSnapshot.countActive();
+            assertThat(SqlStatementRecorder.stop()).isEmpty();
+            assertThat(Arrays.stream(slice.ids()).boxed().toList()).as(orderBy).containsExactlyElementsOf(expected);
+            assertThat(slice.total()).isEqualTo(total);
+            assertThat(count).isEqualTo(total);
+        });
+
+        // 작가 부분 일치 (대소문자 무시) - 서비스 경로도 같은 결과
+        String author = jdbcTemplate.queryForObject("SELECT author FROM book WHERE active = TRUE ORDER BY id LIMIT 1",
+            String.class);
+        String needle = author.substring(0, Math.min(2, author.length())).toUpperCase();
+        List<Long> byAuthor = jdbcTemplate.queryForList("SELECT id FROM book WHERE active = TRUE "
+            + "AND LOWER(author) LIKE ? ORDER BY name, id LIMIT 20", Long.class, "%" + needle.toLowerCase() + "%");
+        assertThat(bookService.getBooks(null, needle, PageRequest.of(0, 20, Sort.by("name"))).getContent())
+            .extracting(Book::getId).containsExactlyElementsOf(byAuthor);
+        assertThat(bookService.getBookCountByAuthor(author)).isEqualTo(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM book WHERE active = TRUE AND author = ?", Long.class, author));
+    }
+
+    @Test
+    void appliesCommittedAndBackgroundChanges() {
+        long before = bookService.getTotalActiveBookCount();
+        Book book = bookService.createBook(Book.builder().name("스냅샷 도서").author("스냅샷작가").build());
+        books.add(book.getId());
+        assertThat(bookService.getTotalActiveBookCount()).isEqualTo(before + 1);
+        assertThat(bookSnapshot.countByAuthor("스냅샷작가")).isEqualTo(1);
+
+        bookService.updateBook(book.getId(), Book.builder().name("스냅샷 도서").author("바뀐작가").build());
+        assertThat(bookSnapshot.countByAuthor("스냅샷작가")).isZero();
+        assertThat(bookSnapshot.countByAuthor("바뀐작가")).isEqualTo(1);
+
+        // 이벤트 없이 바뀐 행은 주기 반영(refresh)으로
+        jdbcTemplate.update("UPDATE book SET author = ?, updated_at = ? WHERE id = ?",
+            "일괄작가", LocalDateTime.now(), book.getId());
+        bookSnapshot.refresh();
+        assertThat(bookSnapshot.countByAuthor("일괄작가")).isEqualTo(1);
+        assertThat(bookSnapshot.list("일괄", PageRequest.of(0, 10)).ids()).containsExactly(book.getId());
+
+        bookService.deleteBook(book.getId());
+        assertThat(bookService.getTotalActiveBookCount()).isEqualTo(before);
+        assertThat(bookSnapshot.list("일괄", PageRequest.of(0, 10)).total()).isZero();
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.wsa_mes_library;
+
+import com.example.wsa_mes_library.entity.Book;
+import com.example.wsa_mes_library.entity.User;
+import com.example.wsa_mes_library.lib.Broadcaster;
+import com.example.wsa_mes_library.repository.BookRepository;
+import com.example.wsa_mes_library.repository.UserRepository;
+import com.example.wsa_mes_library.service.BookService;
+import com.example.wsa_mes_library.service.ChangeStreamService;
+import com.example.wsa_mes_library.service.LoanService;
+import com.example.wsa_mes_library.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * 변경 알림 스트림 - 브로드캐스트, 느린 소비자 내보내기, SSE 전송
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ChangeStreamTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ChangeStreamService changeStreamService;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private LoanService loanService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Book book;
+    private User user;
+
+    @AfterEach
+    void tearDown() {
+        changeStreamService.close();
+        if (book != null) {
+            jdbcTemplate.update("DELETE FROM loan WHERE book_id = ?", book.getId());
+            bookRepository.deleteById(book.getId());
+        }
+        if (user != null) {
+            userRepository.deleteById(user.getId());
+        }
+    }
+
+    @Test
+    void evictsSlowSubscribersWithoutBlockingOthers() throws Exception {
+        Broadcaster<Integer> broadcaster = new Broadcaster<>(8, TimeUnit.SECONDS.toNanos(10), 10);
+        RecordingSink fast = new RecordingSink(null);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingSink slow = new RecordingSink(release);
+        broadcaster.subscribe(fast);
+        broadcaster.subscribe(slow);
+
+        for (int i = 0; i < 100; i++) {
+            broadcaster.publish(i);
+            // 빠른 구독자는 따라오도록 조금씩 대기
+            int sent = i + 1;
+            await(() -> fast.received.size() == sent);
+        }
+        // 느린 구독자는 버퍼(8)가 차는 순간 내보냄, 빠른 구독자는 모두 받음
+        assertThat(broadcaster.evictedCount()).isEqualTo(1);
+        assertThat(broadcaster.size()).isEqualTo(1);
+        assertThat(fast.received).hasSize(100).startsWith(0, 1, 2).endsWith(99);
+
+        release.countDown();
+        await(() -> slow.closed);
+        assertThat(slow.received.size()).isLessThan(100);
+
+        broadcaster.close();
+        await(() -> fast.closed);
+        assertThat(broadcaster.size()).isZero();
+    }
+
+    @Test
+    void sendsHeartbeatWhenIdle() throws Exception {
+        Broadcaster<Integer> broadcaster = new Broadcaster<>(8, TimeUnit.MILLISECONDS.toNanos(20), 1);
+        RecordingSink sink = new RecordingSink(null);
+        broadcaster.subscribe(sink);
+        await(() -> sink.heartbeats >= 2);
+        broadcaster.close();
+    }
+
+    @Test
+    void streamsCommittedLoanChanges() throws Exception {
+        book = bookService.createBook(Book.builder().name("알림 도서").author("테스트 작가").build());
+        user = userService.createUser(User.builder().name("알림").email("stream@example.com").build());
+
+        MvcResult result = mockMvc.perform(get("/api/events"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        await(() -> changeStreamService.subscriberCount() == 1);
+
+        loanService.createLoan(user.getId(), book.getId());
+
+        MockHttpServletResponse response = result.getResponse();
+        // 이벤트는 id / event / data 줄로 나뉘어 쓰이므로 빈 줄(이벤트 끝)까지 대기
+        await(() -> contentOf(response).contains("}\n\n"));
+        assertThat(contentOf(response))
+            .contains("event:loan-created")
+            .contains("\"bookId\":" + book.getId())
+            .contains("\"available\":false");
+    }
+
+    private static String contentOf(MockHttpServletResponse response) {
+        try {
+            return response.getContentAsString();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("대기 시간 초과").isLessThan(deadline);
+            Thread.sleep(1);
+        }
+    }
+
+    private static final class RecordingSink implements Broadcaster.Sink<Integer> {
+
+        final List<Integer> received = new CopyOnWriteArrayList<>();
+        final CountDownLatch block;
+        volatile int heartbeats;
+        volatile boolean closed;
+
+        RecordingSink(CountDownLatch block) {
+            this.block = block;
+        }
+
+        @Override
+        public void send(Integer message) throws IOException {
+            received.add(message);
+            if (block != null) {
+                try {
+                    block.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+            }
+        }
+
+        @Override
+        public void heartbeat() {
+            heartbeats++;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.wsa_mes_library;
+
+import com.example.wsa_mes_library.entity.Book;
+import com.example.wsa_mes_library.entity.Loan;
+import com.example.wsa_mes_library.entity.User;
+import com.example.wsa_mes_library.repository.BookRepository;
+import com.example.wsa_mes_library.repository.UserRepository;
+import com.example.wsa_mes_library.service.CacheStatisticsService;
+import com.example.wsa_mes_library.service.LoanService;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 2차 캐시 적용 전/후 대출 1건당 실행되는 SQL 문 수 비교
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class CheckoutCacheBenchmarkTest {
+    
+    @Autowired
+    private LoanService loanService;
+    
+    @Autowired
+    private BookRepository bookRepository;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private CacheStatisticsService cacheStatisticsService;
+    
+    @Test
+    void checkoutWithWarmCacheSavesStatements() {
+        Book book = bookRepository.findAll().stream()
+            .filter(Book::isAvailable)
+            .findFirst()
+            .orElseThrow();
+        User user = userRepository.findAll().get(0);
+        Statistics statistics = cacheStatisticsService.getHibernateStatistics();
+        
+        // 콜드 캐시: 사용자/도서 모두 DB에서 조회
+        cacheStatisticsService.evictAll();
+        Loan coldLoan = loanService.createLoan(user.getId(), book.getId());
+        long coldStatements = statistics.getPrepareStatementCount();
+        
+        loanService.returnBook(coldLoan.getId());
+        
+        // 웜 캐시: 직전 대출/반납으로 사용자/도서가 2차 캐시에 적재된 상태
+        statistics.clear();
+        Loan warmLoan = loanService.createLoan(user.getId(), book.getId());
+        long warmStatements = statistics.getPrepareStatementCount();
+        long cacheHits = statistics.getSecondLevelCacheHitCount();
+        
+        loanService.returnBook(warmLoan.getId());
+        
+        String summary = String.format("대출 1건당 SQL 문 수 - 콜드: %d, 웜: %d, 절감: %d (2차 캐시 적중 %d)",
+            coldStatements, warmStatements, coldStatements - warmStatements, cacheHits);
+        
+        assertThat(cacheHits).as(summary).isGreaterThanOrEqualTo(2);
+        assertThat(warmStatements).as(summary).isLessThan(coldStatements);
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.wsa_mes_library;
+
+import com.example.wsa_mes_library.entity.Book;
+import com.example.wsa_mes_library.entity.Loan;
+import com.example.wsa_mes_library.entity.User;
+import com.example.wsa_mes_library.lib.LongIntHashMap;
+import com.example.wsa_mes_library.repository.BookRepository;
+import com.example.wsa_mes_library.repository.LoanRepository;
+import com.example.wsa_mes_library.repository.UserRepository;
+import com.example.wsa_mes_library.service.BookService;
+import com.example.wsa_mes_library.service.CoBorrowIndex;
+import com.example.wsa_mes_library.service.LoanService;
+import com.example.wsa_mes_library.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 함께 빌린 책 - 희소 카운터, 대출 반영, 다시 생성
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class CoBorrowTest {
+
+    @Autowired
+    private CoBorrowIndex coBorrowIndex;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private LoanService loanService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    private final List<Long> books = new ArrayList<>();
+    private final List<Long> users = new ArrayList<>();
+    private final List<Long> loans = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        coBorrowIndex.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        loanRepository.deleteAllById(loans);
+        bookRepository.deleteAllById(books);
+        userRepository.deleteAllById(users);
+    }
+
+    @Test
+    void countsAndRanksSparseNeighbors() {
+        LongIntHashMap map = new LongIntHashMap();
+        for (long key = 1; key <= 1_000; key++) {
+            map.addTo(key, (int) (key % 10));
+        }
+        map.addTo(7, 100);
+        assertThat(map.size()).isEqualTo(1_000);
+        assertThat(map.get(7)).isEqualTo(107);
+        assertThat(map.get(5_000)).isZero();
+        assertThat(map.topKeys(3)).containsExactly(7, 9, 19);
+
+        assertThat(map.retainTop(3)).isEqualTo(997);
+        assertThat(map.size()).isEqualTo(3);
+        assertThat(map.get(19)).isEqualTo(9);
+        assertThat(map.get(29)).isZero();
+    }
+
+    @Test
+    void recommendsBooksBorrowedTogether() {
+        Book base = book("기준 도서");
+        Book often = book("자주 함께 빌린 도서");
+        Book once = book("한 번 함께 빌린 도서");
+        User first = user("first");
+        User second = user("second");
+
+        borrowAndReturn(first, base);
+        borrowAndReturn(first, often);
+        borrowAndReturn(second, often);
+        borrowAndReturn(second, once);
+        borrowAndReturn(second, base);
+        // 같은 책을 다시 빌려도 한 번만 집계
+        borrowAndReturn(second, often);
+
+        assertThat(bookService.getAlsoBorrowedBooks(base.getId(), 10)).extracting(Book::getId)
+            .containsExactly(often.getId(), once.getId());
+        assertThat(bookService.getAlsoBorrowedBooks(once.getId(), 10)).extracting(Book::getId)
+            .containsExactlyInAnyOrder(often.getId(), base.getId());
+
+        // 대출 이력 전체로 다시 생성해도 같은 순위
+        coBorrowIndex.rebuild();
+        assertThat(bookService.getAlsoBorrowedBooks(base.getId(), 10)).extracting(Book::getId)
+            .containsExactly(often.getId(), once.getId());
+        assertThat(bookService.getAlsoBorrowedBooks(base.getId(), 1)).hasSize(1);
+
+        // 삭제된 책은 추천하지 않음
+        bookService.deleteBook(once.getId());
+        assertThat(bookService.getAlsoBorrowedBooks(base.getId(), 10)).extracting(Book::getId)
+            .containsExactly(often.getId());
+    }
+
+    @Test
+    void fillsRequestedSizePastDeletedBooks() {
+        Book base = book("채움 기준 도서");
+        Book deleted = book("채움 삭제 도서");
+        Book kept = book("채움 남은 도서");
+        User first = user("fill-first");
+        User second = user("fill-second");
+
+        borrowAndReturn(first, base);
+        borrowAndReturn(first, deleted);
+        borrowAndReturn(second, base);
+        borrowAndReturn(second, deleted);
+        borrowAndReturn(second, kept);
+
+        // 1위가 삭제돼도 요청한 개수만큼 다음 순위로 채움
+        bookService.deleteBook(deleted.getId());
+        assertThat(bookService.getAlsoBorrowedBooks(base.getId(), 1)).extracting(Book::getId)
+            .containsExactly(kept.getId());
+    }
+
+    private void borrowAndReturn(User user, Book book) {
+        Loan loan = loanService.createLoan(user.getId(), book.getId());
+        loans.add(loan.getId());
+        loanService.returnBook(loan.getId());
+    }
+
+    private Book book(String name) {
+        Book book = bookService.createBook(Book.builder().name(name).author("테스트 작가").build());
+        books.add(book.getId());
+        return book;
+    }
+
+    private User user(String name) {
+        User user = userService.createUser(User.builder()
+            .name(name)
+            .email(name + ".co-borrow@example.com")
+            .build());
+        users.add(user.getId());
+        return user;
+    }
+}
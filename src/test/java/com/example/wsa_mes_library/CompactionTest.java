@@ -0,0 +1,142 @@
+package com.example.wsa_mes_library;
+
+import com.example.wsa_mes_library.entity.Book;
+import com.example.wsa_mes_library.entity.Loan;
+import com.example.wsa_mes_library.entity.User;
+import com.example.wsa_mes_library.repository.BookRepository;
+import com.example.wsa_mes_library.repository.UserRepository;
+import com.example.wsa_mes_library.service.BookService;
+import com.example.wsa_mes_library.service.CacheStatisticsService;
+import com.example.wsa_mes_library.service.CompactionService;
+import com.example.wsa_mes_library.service.LoanService;
+import com.example.wsa_mes_library.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 삭제 도서 정리 - 보관 기간이 지난 삭제 도서만 대출 이력과 함께 옮기고, 전역 활성 필터는 목록 조회에만 적용
+ */
+@SpringBootTest(properties = {"library.compaction.batch-size=2", "library.compaction.pause=0ms"})
+@ActiveProfiles("test")
+class CompactionTest {
+
+    @Autowired
+    private CompactionService compactionService;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private LoanService loanService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CacheStatisticsService cacheStatisticsService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Long> books = new ArrayList<>();
+    private User user;
+
+    @AfterEach
+    void tearDown() {
+        for (Long id : books) {
+            jdbcTemplate.update("DELETE FROM loan WHERE book_id = ?", id);
+            jdbcTemplate.update("DELETE FROM book WHERE id = ?", id);
+            jdbcTemplate.update("DELETE FROM loan_archive WHERE book_id = ?", id);
+            jdbcTemplate.update("DELETE FROM book_archive WHERE id = ?", id);
+        }
+        if (user != null) {
+            userRepository.deleteById(user.getId());
+        }
+        // 2차 캐시는 테스트 컨텍스트끼리 공유 (ID 가 겹치는 다른 컨텍스트에 지운 도서가 보이지 않게)
+        cacheStatisticsService.evictRegion(Book.class.getName());
+    }
+
+    @Test
+    void movesExpiredDeletedBooksWithLoanHistory() {
+        user = userService.createUser(User.builder().name("정리").email("compaction@example.com").build());
+        List<Long> expired = new ArrayList<>();
+        List<Long> loans = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Book book = createBook("정리 대상 " + i);
+            Loan loan = loanService.createLoan(user.getId(), book.getId());
+            loanService.returnBook(loan.getId());
+            bookService.deleteBook(book.getId());
+            expired.add(book.getId());
+            loans.add(loan.getId());
+        }
+        Book recent = createBook("최근 삭제");
+        bookService.deleteBook(recent.getId());
+        Book live = createBook("대출 중 (비활성)");
+        loanService.createLoan(user.getId(), live.getId());
+        jdbcTemplate.update("UPDATE book SET active = FALSE WHERE id = ?", live.getId());
+        LocalDateTime old = LocalDateTime.now().minusYears(1);
+        for (Long id : expired) {
+            jdbcTemplate.update("UPDATE book SET updated_at = ? WHERE id = ?", old, id);
+        }
+        jdbcTemplate.update("UPDATE book SET updated_at = ? WHERE id = ?", old, live.getId());
+
+        CompactionService.Report report = compactionService.compact();
+
+        assertThat(report.books()).isEqualTo(3);
+        assertThat(report.loans()).isEqualTo(3);
+        assertThat(report.batches()).isEqualTo(2);
+        assertThat(report.bytesReclaimed()).isPositive();
+        assertThat(report.probeMillisBefore()).isPositive();
+        assertThat(report.probeMillisAfter()).isPositive();
+        for (int i = 0; i < expired.size(); i++) {
+            Long id = expired.get(i);
+            assertThat(count("SELECT COUNT(*) FROM book WHERE id = ?", id)).isZero();
+            assertThat(count("SELECT COUNT(*) FROM book_archive WHERE id = ?", id)).isEqualTo(1);
+            assertThat(jdbcTemplate.queryForObject("SELECT book_id FROM loan_archive WHERE id = ?", Long.class,
+                loans.get(i))).isEqualTo(id);
+            assertThat(bookService.getBookById(id)).isEmpty();
+        }
+        assertThat(count("SELECT COUNT(*) FROM book WHERE id = ?", recent.getId())).isEqualTo(1);
+        assertThat(count("SELECT COUNT(*) FROM book WHERE id = ?", live.getId())).isEqualTo(1);
+
+        // 다시 실행해도 옮길 것이 없음
+        assertThat(compactionService.compact().books()).isZero();
+    }
+
+    @Test
+    void activeFilterHidesDeletedBooksFromQueriesOnly() {
+        Book book = createBook("필터 도서");
+        long before = bookRepository.count();
+        bookService.deleteBook(book.getId());
+
+        assertThat(bookRepository.count()).isEqualTo(before - 1);
+        assertThat(bookRepository.findAll()).extracting(Book::getId).doesNotContain(book.getId());
+        assertThat(bookRepository.findById(book.getId())).get().extracting(Book::getActive).isEqualTo(false);
+    }
+
+    private Book createBook(String name) {
+        Book book = bookService.createBook(Book.builder().name(name).author("정리작가").build());
+        books.add(book.getId());
+        return book;
+    }
+
+    private long count(String sql, Long id) {
+        return jdbcTemplate.queryForObject(sql, Long.class, id);
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.wsa_mes_library;
+
+import com.example.wsa_mes_library.entity.Book;
+import com.example.wsa_mes_library.entity.User;
+import com.example.wsa_mes_library.lib.BaseEntity;
+import com.example.wsa_mes_library.lib.ChangeCursor;
+import com.example.wsa_mes_library.lib.ChangePage;
+import com.example.wsa_mes_library.repository.BookRepository;
+import com.example.wsa_mes_library.service.BookService;
+import com.example.wsa_mes_library.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 변경분 동기화 - 커서 토큰, 묶음 단위 전체 동기화, 이후 변경 / 삭제 표시만 전달
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class DeltaSyncTest {
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Long> books = new ArrayList<>();
+    private final List<Long> deletedUsers = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        bookRepository.deleteAllById(books);
+        deletedUsers.forEach(id -> jdbcTemplate.update("DELETE FROM user_tombstone WHERE id = ?", id));
+    }
+
+    @Test
+    void encodesCursorAsOpaqueToken() {
+        ChangeCursor cursor = new ChangeCursor(LocalDateTime.of(2024, 6, 1, 12, 30, 15, 123_456_000), 42);
+        assertThat(ChangeCursor.parse(cursor.encode())).isEqualTo(cursor);
+        assertThat(ChangeCursor.parse(null)).isEqualTo(ChangeCursor.START);
+        assertThatThrownBy(() -> ChangeCursor.parse("not-a-token"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void syncsInBoundedBatchesThenOnlyChanges() {
+        // 처음부터 50건씩 - 빠짐 / 중복 없이 전체 도서 (삭제된 책 포함)
+        Set<Long> seen = new HashSet<>();
+        String token = null;
+        ChangePage<Book> page;
+        do {
+            page = bookService.getChanges(token, 50);
+            assertThat(page.items()).hasSizeLessThanOrEqualTo(50);
+            page.items().forEach(book -> assertThat(seen.add(book.getId())).isTrue());
+            token = page.next();
+        } while (page.hasMore());
+        assertThat(seen).hasSize((int) bookRepository.count());
+
+        // 변경이 없으면 빈 묶음 + 같은 토큰
+        ChangePage<Book> empty = bookService.getChanges(token, 50);
+        assertThat(empty.items()).isEmpty();
+        assertThat(empty.next()).isEqualTo(token);
+
+        Book created = book("동기화 새 책");
+        Book updated = book("동기화 수정 전");
+        Book deleted = book("동기화 삭제");
+        ChangePage<Book> afterCreate = bookService.getChanges(token, 50);
+        assertThat(afterCreate.items()).extracting(Book::getId)
+            .containsExactly(created.getId(), updated.getId(), deleted.getId());
+        token = afterCreate.next();
+
+        bookService.updateBook(updated.getId(), Book.builder().name("동기화 수정 후").author("테스트 작가").build());
+        bookService.deleteBook(deleted.getId());
+        ChangePage<Book> changes = bookService.getChanges(token, 1);
+        assertThat(changes.items()).extracting(Book::getName).containsExactly("동기화 수정 후");
+        assertThat(changes.hasMore()).isTrue();
+        changes = bookService.getChanges(changes.next(), 1);
+        assertThat(changes.items()).extracting(Book::getId).containsExactly(deleted.getId());
+        assertThat(changes.items()).extracting(BaseEntity::getActive).containsExactly(false);
+        assertThat(changes.hasMore()).isFalse();
+    }
+
+    @Test
+    void reportsDeletedUsersAsInactive() {
+        String token = lastToken();
+        User kept = userService.createUser(User.builder().name("동기화 유지").email("sync-kept@example.com").build());
+        User removed = userService.createUser(User.builder().name("동기화 탈퇴").email("sync-removed@example.com").build());
+        deletedUsers.add(removed.getId());
+        userService.deleteUser(removed.getId());
+
+        // 사용자 행은 지워졌지만 삭제 표식이 (삭제 시각, id) 순서로 끼어듦
+        ChangePage<User> changes = userService.getChanges(token, 1);
+        assertThat(changes.items()).extracting(User::getId).containsExactly(kept.getId());
+        assertThat(changes.hasMore()).isTrue();
+        changes = userService.getChanges(changes.next(), 50);
+        assertThat(changes.items()).extracting(User::getId).containsExactly(removed.getId());
+        assertThat(changes.items()).extracting(BaseEntity::getActive).containsExactly(false);
+        assertThat(changes.hasMore()).isFalse();
+        assertThat(userService.getChanges(changes.next(), 50).items()).isEmpty();
+
+        userService.deleteUser(kept.getId());
+        deletedUsers.add(kept.getId());
+    }
+
+    private String lastToken() {
+        String token = null;
+        ChangePage<User> page;
+        do {
+            page = userService.getChanges(token, 1000);
+            token = page.next();
+        } while (page.hasMore());
+        return token;
+    }
+
+    private Book book(String name) {
+        Book book = bookService.createBook(Book.builder().name(name).author("테스트 작가").build());
+        books.add(book.getId());
+        return book;
+    }
+}
@@ -0,0 +1,259 @@
+package com.example.wsa_mes_library;
+
+import com.example.wsa_mes_library.entity.Book;
+import com.example.wsa_mes_library.entity.Loan;
+import com.example.wsa_mes_library.entity.User;
+import com.example.wsa_mes_library.repository.BookRepository;
+import com.example.wsa_mes_library.repository.LoanRepository;
+import com.example.wsa_mes_library.repository.UserRepository;
+import com.example.wsa_mes_library.service.CacheStatisticsService;
+import com.example.wsa_mes_library.service.FuzzySearchIndex;
+import com.example.wsa_mes_library.service.LoanService;
+import com.example.wsa_mes_library.service.SimilarBookIndex;
+import com.example.wsa_mes_library.support.SqlBudget;
+import com.example.wsa_mes_library.support.SqlStatementRecorderConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 엔드포인트별 SQL 문 예산 검증 (H2 MySQL 모드)
+ * 직렬화 중 지연 로딩, 행 단위 UPDATE 같은 N+1 회귀를 잡기 위한 테스트
+ * 캐시 적중으로 예산을 통과하지 않도록 매 테스트 전에 2차 캐시를 비움
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(SqlStatementRecorderConfig.class)
+class EndpointSqlBudgetTest {
+    
+    private static final int OVERDUE_LOANS = 3;
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private BookRepository bookRepository;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private LoanRepository loanRepository;
+    
+    @Autowired
+    private LoanService loanService;
+    
+    @Autowired
+    private CacheStatisticsService cacheStatisticsService;
+    
+    @Autowired
+    private FuzzySearchIndex fuzzySearchIndex;
+    
+    @Autowired
+    private SimilarBookIndex similarBookIndex;
+    
+    private Book availableBook;
+    private User user;
+    private User borrower;
+    private Loan activeLoan;
+    
+    @BeforeEach
+    void setUp() {
+        // 기동 후 백그라운드 생성을 기다리지 않도록 (미생성이면 키워드 검색으로 대체되어 쿼리 수가 달라짐)
+        fuzzySearchIndex.rebuild();
+        similarBookIndex.rebuild();
+        
+        List<Book> books = bookRepository.findAll();
+        List<User> users = userRepository.findAll();
+        user = users.get(0);
+        borrower = users.get(10);
+        
+        // 연체 대출 준비 (행 단위 UPDATE 탐지용)
+        List<Book> freeBooks = books.stream()
+            .filter(Book::isAvailable)
+            .filter(book -> loanRepository.findActiveLoansByBookId(book.getId()).isEmpty())
+            .toList();
+        long overdue = loanRepository.findOverdueLoans(LocalDateTime.now()).size();
+        for (int i = 0; i < OVERDUE_LOANS - overdue; i++) {
+            Book book = freeBooks.get(i);
+            loanRepository.save(Loan.builder()
+                .user(users.get(i + 1))
+                .book(book)
+                .loanDate(LocalDateTime.now().minusDays(30))
+                .dueDate(LocalDateTime.now().minusDays(16))
+                .status(Loan.LoanStatus.ACTIVE)
+                .build());
+        }
+        
+        availableBook = freeBooks.get(freeBooks.size() - 1);
+        activeLoan = loanRepository.findByUserId(user.getId()).stream()
+            .filter(loan -> loan.getStatus() == Loan.LoanStatus.ACTIVE)
+            .findFirst()
+            .orElseGet(() -> loanService.createLoan(user.getId(), freeBooks.get(freeBooks.size() - 2).getId()));
+        
+        cacheStatisticsService.evictAll();
+    }
+    
+    // ===== Book =====
+    
+    @Test
+    @SqlBudget(statements = 2)
+    void getBooks() throws Exception {
+        mockMvc.perform(get("/api/books").param("size", "20")).andExpect(status().isOk());
+    }
+    
+    @Test
+    @SqlBudget(statements = 2)
+    void searchBooksByKeyword() throws Exception {
+        mockMvc.perform(get("/api/books").param("keyword", "입문서")).andExpect(status().isOk());
+    }
+    
+    @Test
+    @SqlBudget(statements = 1)
+    void searchBooksFuzzy() throws Exception {
+        mockMvc.perform(get("/api/books").param("keyword", "이팩티브 자바").param("mode", "fuzzy"))
+            .andExpect(status().isOk());
+    }
+    
+    @Test
+    @SqlBudget(statements = 1)
+    void getSimilarBooks() throws Exception {
+        mockMvc.perform(get("/api/books/{id}/similar", availableBook.getId())).andExpect(status().isOk());
+    }
+    
+    @Test
+    @SqlBudget(statements = 2)
+    void searchBooksByAuthor() throws Exception {
+        mockMvc.perform(get("/api/books").param("author", "한강")).andExpect(status().isOk());
+    }
+    
+    @Test
+    @SqlBudget(statements = 2)
+    void getBooksByFilter() throws Exception {
+        mockMvc.perform(get("/api/books/filter").param("author", "한강").param("available", "true"))
+            .andExpect(status().isOk());
+    }
+    
+    @Test
+    @SqlBudget(statements = 1)
+    void getBook() throws Exception {
+        mockMvc.perform(get("/api/books/{id}", availableBook.getId())).andExpect(status().isOk());
+    }
+    
+    @Test
+    @SqlBudget(statements = 2)
+    void getLatestBooks() throws Exception {
+        mockMvc.perform(get("/api/books/latest")).andExpect(status().isOk());
+    }
+    
+    @Test
+    @SqlBudget(statements = 1)
+    void searchBooksByChosung() throws Exception {
+        mockMvc.perform(get("/api/books/search/chosung").param("q", "ㅇㅁㅅ")).andExpect(status().isOk());
+    }
+    
+    @Test
+    @SqlBudget(statements = 1)
+    void getBookChanges() throws Exception {
+        mockMvc.perform(get("/api/books/changes").param("size", "1000")).andExpect(status().isOk());
+    }
+    
+    // ===== User =====
+    
+    @Test
+    @SqlBudget(statements = 2)
+    void getUsers() throws Exception {
+        mockMvc.perform(get("/api/users")).andExpect(status().isOk());
+    }
+    
+    @Test
+    @SqlBudget(statements = 1)
+    void getUser() throws Exception {
+        mockMvc.perform(get("/api/users/{id}", user.getId())).andExpect(status().isOk());
+    }
+    
+    @Test
+    @SqlBudget(statements = 1)
+    void searchUsersByChosung() throws Exception {
+        mockMvc.perform(get("/api/users/search/chosung").param("q", "ㄱ")).andExpect(status().isOk());
+    }
+    
+    @Test
+    @SqlBudget(statements = 2)
+    void getUserChanges() throws Exception {
+        mockMvc.perform(get("/api/users/changes").param("size", "1000")).andExpect(status().isOk());
+    }
+    
+    // ===== Loan =====
+    
+    @Test
+    @SqlBudget(statements = 2)
+    void getLoans() throws Exception {
+        mockMvc.perform(get("/api/loans")).andExpect(status().isOk());
+    }
+    
+    @Test
+    @SqlBudget(statements = 2)
+    void getLoansByStatus() throws Exception {
+        mockMvc.perform(get("/api/loans").param("status", "ACTIVE")).andExpect(status().isOk());
+    }
+    
+    @Test
+    @SqlBudget(statements = 1)
+    void getLoan() throws Exception {
+        mockMvc.perform(get("/api/loans/{id}", activeLoan.getId())).andExpect(status().isOk());
+    }
+    
+    @Test
+    @SqlBudget(statements = 1)
+    void getLoanChanges() throws Exception {
+        mockMvc.perform(get("/api/loans/changes").param("size", "1000")).andExpect(status().isOk());
+    }
+    
+    @Test
+    @SqlBudget(statements = 1)
+    void getLoansByUser() throws Exception {
+        mockMvc.perform(get("/api/loans/user/{userId}", user.getId())).andExpect(status().isOk());
+    }
+    
+    @Test
+    @SqlBudget(statements = 1)
+    void getOverdueLoans() throws Exception {
+        mockMvc.perform(get("/api/loans/overdue")).andExpect(status().isOk());
+    }
+    
+    @Test
+    @SqlBudget(statements = 7)
+    void createLoan() throws Exception {
+        mockMvc.perform(post("/api/loans")
+                .param("userId", String.valueOf(borrower.getId()))
+                .param("bookId", String.valueOf(availableBook.getId())))
+            .andExpect(status().isCreated());
+    }
+    
+    @Test
+    @SqlBudget(statements = 3)
+    void returnBook() throws Exception {
+        mockMvc.perform(put("/api/loans/{id}/return", activeLoan.getId())).andExpect(status().isOk());
+    }
+    
+    @Test
+    @SqlBudget(statements = 1)
+    void updateOverdueLoans() throws Exception {
+        mockMvc.perform(put("/api/loans/update-overdue")).andExpect(status().isOk());
+    }
+}
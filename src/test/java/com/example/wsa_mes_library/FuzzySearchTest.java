@@ -0,0 +1,82 @@
+package com.example.wsa_mes_library;
+
+import com.example.wsa_mes_library.entity.Book;
+import com.example.wsa_mes_library.repository.BookRepository;
+import com.example.wsa_mes_library.service.BookService;
+import com.example.wsa_mes_library.service.FuzzySearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 오타 허용 검색 - 순위, 키워드 검색 대체, 커밋된 변경 반영
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class FuzzySearchTest {
+
+    private static final PageRequest PAGE = PageRequest.of(0, 10);
+
+    @Autowired
+    private FuzzySearchIndex fuzzySearchIndex;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @BeforeEach
+    void setUp() {
+        fuzzySearchIndex.rebuild();
+    }
+
+    @Test
+    void findsBooksDespiteTypos() {
+        assertThat(fuzzy("체식주의자")).first().extracting(Book::getName).isEqualTo("채식주의자");
+        assertThat(fuzzy("이팩티브 자바")).first().extracting(Book::getName).isEqualTo("이펙티브 자바");
+        assertThat(fuzzy("클린코드")).first().extracting(Book::getName).isEqualTo("클린 코드");
+        assertThat(fuzzy("Sprng Boot")).first().extracting(Book::getName).isEqualTo("Spring Boot 완벽 가이드");
+        assertThat(fuzzy("습관의 헴")).extracting(Book::getName).contains("습관의 힘");
+
+        // 일반 키워드 검색은 같은 오타로 찾지 못함
+        assertThat(bookService.getBooks("체식주의자", null, PAGE).getTotalElements()).isZero();
+    }
+
+    @Test
+    void fallsBackToKeywordSearchWithoutSimilarBooks() {
+        // 설명에만 있는 단어 - 제목 / 작가 인덱스에는 없으므로 키워드 검색 결과
+        Page<Book> keyword = bookService.getBooks("걸작", null, PAGE);
+        assertThat(keyword.getTotalElements()).isPositive();
+        assertThat(bookService.getBooks("걸작", null, true, PAGE).getTotalElements())
+            .isEqualTo(keyword.getTotalElements());
+    }
+
+    @Test
+    void reflectsCommittedBookChanges() {
+        Book book = bookService.createBook(Book.builder()
+            .name("데이터 중심 애플리케이션 설계")
+            .author("테스트 작가")
+            .build());
+        try {
+            assertThat(fuzzy("데이타 중심 애플리캐이션")).extracting(Book::getId).first().isEqualTo(book.getId());
+
+            bookService.deleteBook(book.getId());
+            assertThat(fuzzy("데이타 중심 애플리캐이션")).extracting(Book::getId).doesNotContain(book.getId());
+        } finally {
+            bookRepository.deleteById(book.getId());
+        }
+    }
+
+    private List<Book> fuzzy(String keyword) {
+        return bookService.getBooks(keyword, null, true, PAGE).getContent();
+    }
+}
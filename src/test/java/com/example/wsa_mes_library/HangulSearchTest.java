@@ -0,0 +1,110 @@
+package com.example.wsa_mes_library;
+
+import com.example.wsa_mes_library.entity.Book;
+import com.example.wsa_mes_library.entity.User;
+import com.example.wsa_mes_library.lib.Hangul;
+import com.example.wsa_mes_library.repository.BookRepository;
+import com.example.wsa_mes_library.service.BookService;
+import com.example.wsa_mes_library.service.HangulSearchIndex;
+import com.example.wsa_mes_library.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 한글 초성 / 자모 검색 - 키 생성, 기본 인덱스 검색, 커밋된 변경 반영
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class HangulSearchTest {
+
+    @Autowired
+    private HangulSearchIndex hangulSearchIndex;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @BeforeEach
+    void setUp() {
+        hangulSearchIndex.rebuild();
+    }
+
+    @Test
+    void buildsChosungAndJamoKeys() {
+        assertThat(Hangul.chosung("채식주의자")).isEqualTo("ㅊㅅㅈㅇㅈ");
+        assertThat(Hangul.chosung("클린  코드!")).isEqualTo("ㅋㄹ ㅋㄷ");
+        assertThat(Hangul.chosung("Spring Boot 완벽 가이드")).isEqualTo("spring boot ㅇㅂ ㄱㅇㄷ");
+        assertThat(Hangul.jamo("과자")).isEqualTo("ㄱㅗㅏㅈㅏ");
+        assertThat(Hangul.jamo("닭")).isEqualTo("ㄷㅏㄹㄱ");
+        // 입력 중인 글자도 완성된 글자의 접두어
+        assertThat(Hangul.jamo("채식")).startsWith(Hangul.jamo("채시"));
+        assertThat(Hangul.jamo("과")).startsWith(Hangul.jamo("고"));
+        assertThat(Hangul.jamo("닭")).startsWith(Hangul.jamo("달ㄱ"));
+
+        assertThat(Hangul.isChosungOnly("ㅊㅅ ㅈ")).isTrue();
+        assertThat(Hangul.isChosungOnly("ㅊㅐ")).isFalse();
+        assertThat(Hangul.isChosungOnly("채ㅅ")).isFalse();
+        assertThat(Hangul.isChosungOnly(" ")).isFalse();
+    }
+
+    @Test
+    void searchesSampleBooksByChosungAndJamo() {
+        assertThat(bookService.searchByHangul("ㅋㄹㅋㄷ", 20)).extracting(Book::getName).contains("클린 코드");
+        assertThat(bookService.searchByHangul("ㅋㄷ", 20)).extracting(Book::getName).contains("클린 코드");
+        assertThat(bookService.searchByHangul("이펙", 20)).extracting(Book::getName).contains("이펙티브 자바");
+        assertThat(bookService.searchByHangul("이펙티브 잡", 20)).extracting(Book::getName).contains("이펙티브 자바");
+        assertThat(bookService.searchByHangul("ㅎㄱ", 100)).extracting(Book::getAuthor).contains("한강");
+        assertThat(bookService.searchByHangul("ㅇㅁㅅ", 5)).hasSize(5);
+        assertThat(bookService.searchByHangul("ㅋㄷㅋㄹ", 20)).isEmpty();
+        assertThat(bookService.searchByHangul("  ", 20)).isEmpty();
+    }
+
+    @Test
+    void reflectsCommittedBookChanges() {
+        Book book = bookService.createBook(Book.builder()
+            .name("채식주의자")
+            .author("테스트 작가")
+            .build());
+        try {
+            assertThat(bookService.searchByHangul("ㅊㅅㅈㅇㅈ", 20)).extracting(Book::getId).contains(book.getId());
+
+            bookService.updateBook(book.getId(), Book.builder().name("소년이 온다").author("테스트 작가").build());
+            assertThat(bookService.searchByHangul("ㅊㅅㅈㅇㅈ", 20)).extracting(Book::getId).doesNotContain(book.getId());
+            assertThat(bookService.searchByHangul("ㅇㄷ", 100)).extracting(Book::getId).contains(book.getId());
+
+            // 다시 생성해도 DB 에 저장된 검색 키로 같은 결과
+            hangulSearchIndex.rebuild();
+            assertThat(bookService.searchByHangul("소년이 온", 20)).extracting(Book::getId).contains(book.getId());
+
+            bookService.deleteBook(book.getId());
+            assertThat(bookService.searchByHangul("ㅅㄴㅇㅇㄷ", 20)).extracting(Book::getId).doesNotContain(book.getId());
+        } finally {
+            bookRepository.deleteById(book.getId());
+        }
+    }
+
+    @Test
+    void searchesUsersByName() {
+        assertThat(userService.searchByHangul("ㄱㅁㅅ", 20)).extracting(User::getName).contains("김민수");
+
+        User user = userService.createUser(User.builder()
+            .name("홍길동")
+            .email("hong.gildong@example.com")
+            .build());
+        assertThat(userService.searchByHangul("ㅎㄱㄷ", 20)).extracting(User::getId).contains(user.getId());
+        assertThat(userService.searchByHangul("홍기", 20)).extracting(User::getId).contains(user.getId());
+
+        userService.deleteUser(user.getId());
+        assertThat(userService.searchByHangul("ㅎㄱㄷ", 20)).extracting(User::getId).doesNotContain(user.getId());
+    }
+}
@@ -0,0 +1,208 @@
+package com.example.wsa_mes_library;
+
+import com.example.wsa_mes_library.entity.Book;
+import com.example.wsa_mes_library.entity.Hold;
+import com.example.wsa_mes_library.entity.Loan;
+import com.example.wsa_mes_library.entity.User;
+import com.example.wsa_mes_library.repository.BookRepository;
+import com.example.wsa_mes_library.repository.HoldRepository;
+import com.example.wsa_mes_library.repository.LoanRepository;
+import com.example.wsa_mes_library.repository.UserRepository;
+import com.example.wsa_mes_library.service.BookService;
+import com.example.wsa_mes_library.service.CacheStatisticsService;
+import com.example.wsa_mes_library.service.HoldPosition;
+import com.example.wsa_mes_library.service.HoldService;
+import com.example.wsa_mes_library.service.LoanService;
+import com.example.wsa_mes_library.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 도서 예약 - 선착순 대기열, 반납 시 자동 대출, 취소 / 만료
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class HoldTest {
+
+    @Autowired
+    private HoldService holdService;
+
+    @Autowired
+    private LoanService loanService;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private HoldRepository holdRepository;
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CacheStatisticsService cacheStatisticsService;
+
+    private final List<Long> books = new ArrayList<>();
+    private final List<Long> users = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        for (Long bookId : books) {
+            jdbcTemplate.update("DELETE FROM book_hold WHERE book_id = ?", bookId);
+            jdbcTemplate.update("DELETE FROM loan WHERE book_id = ?", bookId);
+        }
+        bookRepository.deleteAllById(books);
+        userRepository.deleteAllById(users);
+    }
+
+    @Test
+    void handsReturnedBookToNextHolderInOrder() {
+        Book book = book("예약 도서");
+        User borrower = user("borrower");
+        User first = user("first");
+        User second = user("second");
+        User other = user("other");
+
+        assertThatThrownBy(() -> holdService.placeHold(first.getId(), book.getId()))
+            .isInstanceOf(IllegalStateException.class);
+
+        Loan loan = loanService.createLoan(borrower.getId(), book.getId());
+        assertThatThrownBy(() -> holdService.placeHold(borrower.getId(), book.getId()))
+            .isInstanceOf(IllegalStateException.class);
+
+        HoldPosition firstHold = holdService.placeHold(first.getId(), book.getId());
+        HoldPosition secondHold = holdService.placeHold(second.getId(), book.getId());
+        assertThat(firstHold.position()).isEqualTo(1);
+        assertThat(secondHold.position()).isEqualTo(2);
+        assertThat(holdService.getQueueLength(book.getId())).isEqualTo(2);
+        assertThatThrownBy(() -> holdService.placeHold(first.getId(), book.getId()))
+            .isInstanceOf(IllegalStateException.class);
+
+        // 반납하면 맨 앞 대기자에게 바로 대출
+        loanService.returnBook(loan.getId());
+        assertThat(activeBorrower(book)).isEqualTo(first.getId());
+        assertThat(holdRepository.findById(firstHold.hold().getId()))
+            .get().extracting(Hold::getStatus).isEqualTo(Hold.HoldStatus.FULFILLED);
+        assertThat(holdService.getHoldsByUserId(second.getId()))
+            .extracting(HoldPosition::position).containsExactly(1);
+
+        // 대기자가 있는 동안 다른 이용자는 대출 / 순서 가로채기 불가
+        Loan firstLoan = loanRepository.findActiveLoansByBookId(book.getId()).get(0);
+        loanService.returnBook(firstLoan.getId());
+        assertThat(activeBorrower(book)).isEqualTo(second.getId());
+        assertThat(holdService.getQueueLength(book.getId())).isZero();
+
+        HoldPosition otherHold = holdService.placeHold(other.getId(), book.getId());
+        holdService.cancelHold(otherHold.hold().getId());
+        assertThat(holdService.getHoldsByUserId(other.getId())).isEmpty();
+        assertThatThrownBy(() -> holdService.cancelHold(otherHold.hold().getId()))
+            .isInstanceOf(IllegalStateException.class);
+
+        // 대기자가 없으면 반납 후 누구나 대출
+        Loan secondLoan = loanRepository.findActiveLoansByBookId(book.getId()).get(0);
+        loanService.returnBook(secondLoan.getId());
+        assertThat(bookService.getBookById(book.getId())).get().extracting(Book::isAvailable).isEqualTo(true);
+        assertThat(loanService.createLoan(other.getId(), book.getId()).getUser().getId()).isEqualTo(other.getId());
+    }
+
+    @Test
+    void expiresHoldsAfterMaxWaitAndSkipsThemOnReturn() {
+        Book book = book("만료 예약 도서");
+        User borrower = user("expire-borrower");
+        User stale = user("expire-stale");
+        User late = user("expire-late");
+
+        Loan loan = loanService.createLoan(borrower.getId(), book.getId());
+        HoldPosition staleHold = holdService.placeHold(stale.getId(), book.getId());
+        holdService.placeHold(late.getId(), book.getId());
+
+        // 대기 기간이 지난 예약은 반납 때 건너뜀
+        jdbcTemplate.update("UPDATE book_hold SET expires_at = DATEADD('DAY', -1, CURRENT_TIMESTAMP) WHERE id = ?",
+            staleHold.hold().getId());
+        loanService.returnBook(loan.getId());
+        assertThat(activeBorrower(book)).isEqualTo(late.getId());
+        assertThat(holdRepository.findById(staleHold.hold().getId()))
+            .get().extracting(Hold::getStatus).isEqualTo(Hold.HoldStatus.EXPIRED);
+
+        // 주기 작업으로도 만료 처리
+        HoldPosition again = holdService.placeHold(stale.getId(), book.getId());
+        jdbcTemplate.update("UPDATE book_hold SET expires_at = DATEADD('DAY', -1, CURRENT_TIMESTAMP) WHERE id = ?",
+            again.hold().getId());
+        assertThat(holdService.expireHolds()).isEqualTo(1);
+        assertThat(holdService.getQueueLength(book.getId())).isZero();
+    }
+
+    @Test
+    void expiredHoldDoesNotBlockAvailableBookBeforeExpireRun() {
+        Book book = book("기한 지난 예약 도서");
+        User borrower = user("overdue-hold-borrower");
+        User holder = user("overdue-hold-holder");
+        User walkIn = user("overdue-hold-walkin");
+
+        Loan loan = loanService.createLoan(borrower.getId(), book.getId());
+        HoldPosition hold = holdService.placeHold(holder.getId(), book.getId());
+
+        // 반납 때 대기자가 비활성이라 건너뛰어 예약이 대기 중으로 남음
+        jdbcTemplate.update("UPDATE users SET active = FALSE WHERE id = ?", holder.getId());
+        cacheStatisticsService.evictAll();
+        loanService.returnBook(loan.getId());
+        jdbcTemplate.update("UPDATE users SET active = TRUE WHERE id = ?", holder.getId());
+        cacheStatisticsService.evictAll();
+        assertThat(holdService.getQueueLength(book.getId())).isEqualTo(1);
+        assertThatThrownBy(() -> loanService.createLoan(walkIn.getId(), book.getId()))
+            .isInstanceOf(IllegalStateException.class);
+
+        // 기한이 지나면 만료 작업 전이라도 다른 이용자가 대출
+        jdbcTemplate.update("UPDATE book_hold SET expires_at = DATEADD('DAY', -1, CURRENT_TIMESTAMP) WHERE id = ?",
+            hold.hold().getId());
+        assertThat(loanService.createLoan(walkIn.getId(), book.getId()).getUser().getId()).isEqualTo(walkIn.getId());
+
+        // 남은 예약은 만료 작업이 정리 - 이후 취소 불가
+        assertThat(holdService.expireHolds()).isEqualTo(1);
+        assertThatThrownBy(() -> holdService.cancelHold(hold.hold().getId()))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    private Long activeBorrower(Book book) {
+        List<Loan> active = loanRepository.findActiveLoansByBookId(book.getId());
+        assertThat(active).hasSize(1);
+        return active.get(0).getUser().getId();
+    }
+
+    private Book book(String name) {
+        Book book = bookService.createBook(Book.builder().name(name).author("테스트 작가").build());
+        books.add(book.getId());
+        return book;
+    }
+
+    private User user(String name) {
+        User user = userService.createUser(User.builder()
+            .name(name)
+            .email(name + ".hold@example.com")
+            .build());
+        users.add(user.getId());
+        return user;
+    }
+}
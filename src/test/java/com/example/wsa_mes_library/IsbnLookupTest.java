@@ -0,0 +1,115 @@
+package com.example.wsa_mes_library;
+
+import com.example.wsa_mes_library.entity.Book;
+import com.example.wsa_mes_library.lib.Isbn;
+import com.example.wsa_mes_library.repository.BookQueryRepository;
+import com.example.wsa_mes_library.repository.BookRepository;
+import com.example.wsa_mes_library.service.BookService;
+import com.example.wsa_mes_library.service.IsbnBackfillService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 정규화 ISBN-13 키 - 파싱 / 검증, 표기와 무관한 조회, 기존 행 채우기
+ */
+@SpringBootTest(properties = "library.isbn.backfill-on-startup=false")
+@ActiveProfiles("test")
+class IsbnLookupTest {
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BookQueryRepository bookQueryRepository;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private IsbnBackfillService isbnBackfillService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void parsesIsbn10AndIsbn13ToSameKey() {
+        assertThat(Isbn.toIsbn13("978-89-7914-063-7")).isEqualTo(9788979140637L);
+        assertThat(Isbn.toIsbn13("9788979140637")).isEqualTo(9788979140637L);
+        assertThat(Isbn.toIsbn13("89-7914-063-0")).isEqualTo(9788979140637L);
+        assertThat(Isbn.toIsbn13("0-8044-2957-X")).isEqualTo(9780804429573L);
+        assertThat(Isbn.toIsbn13("0 8044 2957 x")).isEqualTo(9780804429573L);
+
+        // 검증 숫자 불일치 / 자릿수 / 잘못된 문자
+        assertThat(Isbn.toIsbn13("978-89-7914-063-6")).isEqualTo(Isbn.INVALID);
+        assertThat(Isbn.toIsbn13("89-7914-063-1")).isEqualTo(Isbn.INVALID);
+        assertThat(Isbn.toIsbn13("97889791406371")).isEqualTo(Isbn.INVALID);
+        assertThat(Isbn.toIsbn13("X-8044-2957-0")).isEqualTo(Isbn.INVALID);
+        assertThat(Isbn.toIsbn13("0-8044-2957-X0")).isEqualTo(Isbn.INVALID);
+        assertThat(Isbn.toIsbn13("invalid-isbn")).isEqualTo(Isbn.INVALID);
+        assertThat(Isbn.toIsbn13("")).isEqualTo(Isbn.INVALID);
+        assertThat(Isbn.toIsbn13(null)).isEqualTo(Isbn.INVALID);
+    }
+
+    @Test
+    void findsAndRejectsByAnyNotation() {
+        Book book = bookService.createBook(Book.builder()
+            .name("ISBN 표기 테스트")
+            .author("테스트 작가")
+            .isbn("978-89-7914-063-7")
+            .build());
+        try {
+            assertThat(book.getIsbn13()).isEqualTo(9788979140637L);
+            assertThat(bookService.getBookByIsbn("9788979140637")).map(Book::getId).contains(book.getId());
+            assertThat(bookService.getBookByIsbn("89-7914-063-0")).map(Book::getId).contains(book.getId());
+
+            assertThatThrownBy(() -> bookService.createBook(Book.builder()
+                .name("같은 책 다른 표기")
+                .author("테스트 작가")
+                .isbn("8979140630")
+                .build()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("이미 존재하는 ISBN");
+        } finally {
+            bookRepository.deleteById(book.getId());
+        }
+    }
+
+    @Test
+    void backfillFillsMissingKeysAndSkipsDuplicates() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM book", Long.class);
+        // V3 이전에 저장된 행처럼 isbn13 없이 저장 (세 번째는 첫 번째와 같은 책의 ISBN-10 표기)
+        jdbcTemplate.update("INSERT INTO book (id, active, entity_type, name, author, isbn, available) VALUES "
+            + "(?, TRUE, 'Book', '채우기 1', '작가', '978-0-306-40615-7', TRUE), "
+            + "(?, TRUE, 'Book', '채우기 2', '작가', '잘못된-ISBN', TRUE), "
+            + "(?, TRUE, 'Book', '채우기 3', '작가', '0-306-40615-2', TRUE)",
+            maxId + 1, maxId + 2, maxId + 3);
+        try {
+            assertThat(bookQueryRepository.findByIsbn("9780306406157")).isNull();
+
+            IsbnBackfillService.Result result = isbnBackfillService.backfill();
+
+            assertThat(result.scanned()).isEqualTo(3);
+            assertThat(result.updated()).isEqualTo(1);
+            assertThat(result.invalid()).isEqualTo(1);
+            assertThat(result.duplicate()).isEqualTo(1);
+            assertThat(bookQueryRepository.findByIsbn("0-306-40615-2").getId()).isEqualTo(maxId + 1);
+
+            List<Long> missing = jdbcTemplate.queryForList(
+                "SELECT id FROM book WHERE id > ? AND isbn13 IS NULL ORDER BY id", Long.class, maxId);
+            assertThat(missing).containsExactly(maxId + 2, maxId + 3);
+
+            // 다시 실행하면 남은 행만 다시 확인하고 갱신 없음
+            assertThat(isbnBackfillService.backfill().updated()).isZero();
+        } finally {
+            jdbcTemplate.update("DELETE FROM book WHERE id > ?", maxId);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.wsa_mes_library;
+
+import com.example.wsa_mes_library.config.LoadSheddingFilter;
+import com.example.wsa_mes_library.config.LoadSheddingFilter.RequestGroup;
+import com.example.wsa_mes_library.config.LoadSheddingProperties;
+import com.example.wsa_mes_library.lib.AimdLimiter;
+import com.example.wsa_mes_library.lib.TokenBucket;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 과부하 차단 - AIMD 동시 실행 제한, 클라이언트별 토큰 버킷, 그룹별 분리
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class LoadSheddingTest {
+
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private LoadSheddingFilter loadSheddingFilter;
+
+    @Test
+    void adaptsLimitToLatency() {
+        AimdLimiter limiter = new AimdLimiter(4, 1, 8, 100 * MS, 0.5);
+        for (int i = 0; i < 4; i++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+        }
+        assertThat(limiter.tryAcquire()).isFalse();
+
+        // 목표를 넘는 응답마다 절반으로 (최소 1)
+        limiter.release(500 * MS, false);
+        assertThat(limiter.limit()).isEqualTo(2);
+        limiter.release(10 * MS, true);
+        limiter.release(500 * MS, false);
+        assertThat(limiter.limit()).isEqualTo(1);
+        limiter.release(10 * MS, false);
+
+        // 제한까지 쓰면서 빠르게 응답하면 다시 늘어남 (최대 8)
+        for (int i = 0; i < 200; i++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+            limiter.release(10 * MS, false);
+        }
+        assertThat(limiter.limit()).isGreaterThan(1).isLessThanOrEqualTo(8);
+        assertThat(limiter.inflight()).isZero();
+    }
+
+    @Test
+    void throttlesClientsWithRetryAfter() throws Exception {
+        TokenBucket bucket = new TokenBucket(2, 3, 0);
+        assertThat(bucket.tryConsume(0)).isZero();
+        assertThat(bucket.tryConsume(0)).isZero();
+        assertThat(bucket.tryConsume(0)).isZero();
+        assertThat(bucket.tryConsume(0)).isEqualTo(500 * MS);
+        assertThat(bucket.tryConsume(500 * MS)).isZero();
+
+        LoadSheddingProperties properties = new LoadSheddingProperties();
+        properties.getSearch().setClientRate(0.1);
+        properties.getSearch().setClientBurst(2);
+        LoadSheddingFilter filter = new LoadSheddingFilter(properties, new ObjectMapper().findAndRegisterModules(),
+            new SimpleMeterRegistry());
+
+        assertThat(call(filter, "10.0.0.1").getStatus()).isEqualTo(200);
+        assertThat(call(filter, "10.0.0.1").getStatus()).isEqualTo(200);
+        MockHttpServletResponse rejected = call(filter, "10.0.0.1");
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("10");
+        // 다른 클라이언트는 영향 없음
+        assertThat(call(filter, "10.0.0.2").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void boundsClientBucketsAndReadsForwardedHeader() throws Exception {
+        LoadSheddingProperties properties = new LoadSheddingProperties();
+        properties.setMaxClients(2);
+        properties.setClientHeader("X-Forwarded-For");
+        properties.getSearch().setClientRate(0.1);
+        properties.getSearch().setClientBurst(1);
+        LoadSheddingFilter filter = new LoadSheddingFilter(properties, new ObjectMapper().findAndRegisterModules(),
+            new SimpleMeterRegistry());
+
+        // 같은 프록시를 거쳐도 헤더의 마지막 주소별로 버킷
+        assertThat(call(filter, "10.0.0.1", "1.1.1.1, 192.168.0.1").getStatus()).isEqualTo(200);
+        assertThat(call(filter, "10.0.0.1", "192.168.0.2").getStatus()).isEqualTo(200);
+        // 정리할 버킷이 없으면 가장 오래 쓰이지 않은 192.168.0.1 을 버림
+        assertThat(call(filter, "10.0.0.1", "192.168.0.3").getStatus()).isEqualTo(200);
+        assertThat(call(filter, "10.0.0.1", "192.168.0.2").getStatus()).isEqualTo(429);
+        assertThat(call(filter, "10.0.0.1", "192.168.0.1").getStatus()).isEqualTo(200);
+        // 헤더가 없으면 접속 주소
+        assertThat(call(filter, "10.0.0.1").getStatus()).isEqualTo(200);
+        assertThat(call(filter, "10.0.0.1").getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    void shedsSearchWithoutBlockingCirculation() throws Exception {
+        AimdLimiter search = loadSheddingFilter.limiter(RequestGroup.SEARCH);
+        int held = 0;
+        while (search.tryAcquire()) {
+            held++;
+        }
+        try {
+            mockMvc.perform(get("/api/books").param("keyword", "자바").param("size", "1000"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+            mockMvc.perform(get("/api/loans"))
+                .andExpect(status().isOk());
+        } finally {
+            for (int i = 0; i < held; i++) {
+                search.release(0, false);
+            }
+        }
+        mockMvc.perform(get("/api/books").param("keyword", "자바"))
+            .andExpect(status().isOk());
+    }
+
+    private static MockHttpServletResponse call(LoadSheddingFilter filter, String client) throws Exception {
+        return call(filter, client, null);
+    }
+
+    private static MockHttpServletResponse call(LoadSheddingFilter filter, String client, String forwardedFor)
+            throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/books");
+        request.setRemoteAddr(client);
+        if (forwardedFor != null) {
+            request.addHeader("X-Forwarded-For", forwardedFor);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
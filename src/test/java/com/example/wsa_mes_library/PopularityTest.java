@@ -0,0 +1,167 @@
+package com.example.wsa_mes_library;
+
+import com.example.wsa_mes_library.entity.Book;
+import com.example.wsa_mes_library.entity.Loan;
+import com.example.wsa_mes_library.entity.User;
+import com.example.wsa_mes_library.lib.PopularityWindow;
+import com.example.wsa_mes_library.lib.SpaceSaving;
+import com.example.wsa_mes_library.repository.BookRepository;
+import com.example.wsa_mes_library.repository.LoanRepository;
+import com.example.wsa_mes_library.repository.UserRepository;
+import com.example.wsa_mes_library.service.BookService;
+import com.example.wsa_mes_library.service.LoanService;
+import com.example.wsa_mes_library.service.PopularBook;
+import com.example.wsa_mes_library.service.PopularKeyword;
+import com.example.wsa_mes_library.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 인기 도서 / 검색어 - 상위 빈도 추적, 기간 창, 대출 / 검색 반영
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class PopularityTest {
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private LoanService loanService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    private final List<Long> books = new ArrayList<>();
+    private final List<Long> users = new ArrayList<>();
+    private final List<Long> loans = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        loanRepository.deleteAllById(loans);
+        bookRepository.deleteAllById(books);
+        userRepository.deleteAllById(users);
+    }
+
+    @Test
+    void keepsHeavyHittersWithinCapacity() {
+        SpaceSaving<Long> heavy = new SpaceSaving<>(32);
+        // 1..5 는 200 x key 번, 나머지 1,000개는 한 번씩 섞어서 (전체 4,000 / 32 = 125 보다 잦은 키는 반드시 남음)
+        for (long i = 0; i < 1_000; i++) {
+            heavy.add(100 + i);
+            if (i % 10 == 0) {
+                for (long key = 1; key <= 5; key++) {
+                    for (long k = 0; k < key * 2; k++) {
+                        heavy.add(key);
+                    }
+                }
+            }
+        }
+        assertThat(heavy.size()).isEqualTo(32);
+        List<SpaceSaving.Entry<Long>> top = heavy.top(5);
+        assertThat(top).extracting(SpaceSaving.Entry::key).containsExactly(5L, 4L, 3L, 2L, 1L);
+        // 추정값은 실제 빈도 이상, 추정값 - 오차는 실제 빈도 이하
+        assertThat(top.get(0).count()).isGreaterThanOrEqualTo(1_000);
+        assertThat(top.get(0).count() - top.get(0).error()).isLessThanOrEqualTo(1_000);
+    }
+
+    @Test
+    void ranksWithinSlidingWindow() {
+        PopularityWindow<Long> window = new PopularityWindow<>(7, 16, 256, 4, Long::longValue);
+        long today = 20_000;
+        for (int i = 0; i < 5; i++) {
+            window.add(1L, today - 10);   // 유지 기간(7일) 전 - 같은 칸을 재사용하면서 사라짐
+        }
+        for (int i = 0; i < 3; i++) {
+            window.add(2L, today - 3);
+        }
+        window.add(3L, today);
+        window.add(3L, today);
+        window.add(2L, today);
+        window.add(4L, today - 20);      // 유지 기간 밖 - 조회에 포함되지 않음
+
+        assertThat(window.top(7, 10, today)).containsExactly(
+            new PopularityWindow.Ranked<>(2L, 4), new PopularityWindow.Ranked<>(3L, 2));
+        assertThat(window.top(1, 10, today)).containsExactly(
+            new PopularityWindow.Ranked<>(3L, 2), new PopularityWindow.Ranked<>(2L, 1));
+        assertThat(window.top(7, 1, today)).hasSize(1);
+        // 조회 뒤 기록은 다음 조회에 반영 (칸 사본을 다시 뜸)
+        window.add(2L, today);
+        assertThat(window.top(1, 10, today)).containsExactlyInAnyOrder(
+            new PopularityWindow.Ranked<>(3L, 2), new PopularityWindow.Ranked<>(2L, 2));
+        // 일주일이 지나면 모두 빠짐
+        assertThat(window.top(7, 10, today + 7)).isEmpty();
+    }
+
+    @Test
+    void ranksBorrowedBooksAndSearchedKeywords() {
+        Book often = book("자주 빌린 인기 도서");
+        Book once = book("한 번 빌린 인기 도서");
+        User user = user("popular");
+        borrowAndReturn(user, often);
+        borrowAndReturn(user, often);
+        borrowAndReturn(user, often);
+        borrowAndReturn(user, once);
+
+        List<PopularBook> popular = bookService.getPopularBooks("week", 50);
+        assertThat(popular).extracting(entry -> entry.book().getId()).containsSubsequence(often.getId(), once.getId());
+        assertThat(popular).filteredOn(entry -> entry.book().getId().equals(often.getId()))
+            .extracting(PopularBook::loans).containsExactly(3L);
+
+        // 삭제된 책은 순위에서 제외
+        bookService.deleteBook(once.getId());
+        assertThat(bookService.getPopularBooks("day", 50)).extracting(entry -> entry.book().getId())
+            .doesNotContain(once.getId());
+
+        // 대소문자 / 공백을 정리해 같은 검색어로 집계, 다음 페이지 요청은 세지 않음
+        bookService.getBooks("Popularity  Test", null, PageRequest.of(0, 10));
+        bookService.getBooks(" popularity test ", null, PageRequest.of(0, 10));
+        bookService.getBooks("popularity test", null, PageRequest.of(1, 10));
+        bookService.getBooks("popularity other", null, PageRequest.of(0, 10));
+        assertThat(bookService.getPopularKeywords("month", 50))
+            .contains(new PopularKeyword("popularity test", 2), new PopularKeyword("popularity other", 1));
+
+        assertThatThrownBy(() -> bookService.getPopularKeywords("year", 10))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void borrowAndReturn(User user, Book book) {
+        Loan loan = loanService.createLoan(user.getId(), book.getId());
+        loans.add(loan.getId());
+        loanService.returnBook(loan.getId());
+    }
+
+    private Book book(String name) {
+        Book book = bookService.createBook(Book.builder().name(name).author("테스트 작가").build());
+        books.add(book.getId());
+        return book;
+    }
+
+    private User user(String name) {
+        User user = userService.createUser(User.builder()
+            .name(name)
+            .email(name + ".popularity@example.com")
+            .build());
+        users.add(user.getId());
+        return user;
+    }
+}
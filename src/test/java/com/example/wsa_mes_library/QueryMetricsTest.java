@@ -0,0 +1,128 @@
+package com.example.wsa_mes_library;
+
+import com.example.wsa_mes_library.config.SlowQueryEndpoint;
+import com.example.wsa_mes_library.entity.User;
+import com.example.wsa_mes_library.lib.QueryMetrics;
+import com.example.wsa_mes_library.repository.UserRepository;
+import com.example.wsa_mes_library.service.UserService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 쿼리 지연시간 측정 - 리포지토리 호출 지표, 느린 쿼리 임계값 / 보관 수, actuator 엔드포인트
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class QueryMetricsTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private SlowQueryEndpoint slowQueryEndpoint;
+
+    private final List<Long> users = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAllById(users);
+    }
+
+    @Test
+    void recordsRepositoryCallCountTimingAndRows() {
+        User user = userService.createUser(User.builder().name("지표 사용자").email("metrics@query.example.com").build());
+        users.add(user.getId());
+
+        Timer content = timer("findAllById", QueryMetrics.CONTENT);
+        Timer count = timer("existsByEmail", QueryMetrics.COUNT);
+        long contentBefore = content.count();
+        long countBefore = count.count();
+        double nanosBefore = content.totalTime(TimeUnit.NANOSECONDS);
+        DistributionSummary rows = meterRegistry.find("library.query.rows")
+            .tags("repository", "UserRepository", "method", "findAllById").summary();
+        double rowsBefore = rows == null ? 0 : rows.totalAmount();
+
+        userRepository.findAllById(List.of(user.getId()));
+        userRepository.existsByEmail(user.getEmail());
+
+        // 프록시 클래스가 아니라 리포지토리 인터페이스 이름으로, 메서드 이름으로 content / count 구분
+        assertThat(content.count()).isEqualTo(contentBefore + 1);
+        assertThat(content.totalTime(TimeUnit.NANOSECONDS)).isGreaterThan(nanosBefore);
+        assertThat(count.count()).isEqualTo(countBefore + 1);
+        assertThat(meterRegistry.get("library.query.rows")
+            .tags("repository", "UserRepository", "method", "findAllById").summary().totalAmount())
+            .isEqualTo(rowsBefore + 1);
+    }
+
+    @Test
+    void keepsRecentQueriesOverThresholdNewestFirst() {
+        QueryMetrics metrics = new QueryMetrics(new SimpleMeterRegistry(), Duration.ofMillis(50), 2);
+        long fast = TimeUnit.MILLISECONDS.toNanos(49);
+        long slow = TimeUnit.MILLISECONDS.toNanos(50);
+
+        metrics.recordExecution("BookRepository", "findById", QueryMetrics.CONTENT, fast, List.of(), new Object[]{1L});
+        assertThat(metrics.getSlowQueries()).isEmpty();
+
+        metrics.recordExecution("BookRepository", "findById", QueryMetrics.CONTENT, slow, List.of(1), new Object[]{1L});
+        metrics.recordExecution("BookRepository", "findAll", QueryMetrics.CONTENT, slow * 2, List.of(1, 2), null);
+        metrics.recordExecution("UserRepository", "existsByEmail", QueryMetrics.COUNT, slow * 3, true,
+            new Object[]{"a@example.com"});
+
+        // 최대 2건 보관 - 가장 오래된 기록부터 밀려남
+        Map<String, Object> body = new SlowQueryEndpoint(metrics).slowQueries();
+        assertThat(body).containsEntry("thresholdMillis", 50L).containsEntry("count", 2);
+        @SuppressWarnings("unchecked")
+        List<QueryMetrics.SlowQuery> queries = (List<QueryMetrics.SlowQuery>) body.get("queries");
+        assertThat(queries).extracting(QueryMetrics.SlowQuery::method).containsExactly("existsByEmail", "findAll");
+        assertThat(queries.get(0).elapsedMillis()).isEqualTo(150);
+        assertThat(queries.get(0).rows()).isEqualTo(-1);
+        assertThat(queries.get(0).predicate()).isEqualTo("[a@example.com]");
+        assertThat(queries.get(1).rows()).isEqualTo(2);
+        assertThat(queries.get(1).predicate()).isNull();
+    }
+
+    @Test
+    void exposesConfiguredThresholdThroughEndpoint() {
+        Map<String, Object> body = slowQueryEndpoint.slowQueries();
+        assertThat(body).containsOnlyKeys("thresholdMillis", "count", "queries");
+        assertThat(body.get("thresholdMillis")).isEqualTo(200L);
+        assertThat(body.get("count")).isEqualTo(((List<?>) body.get("queries")).size());
+    }
+
+    private Timer timer(String method, String type) {
+        Timer timer = meterRegistry.find("library.query")
+            .tags("repository", "UserRepository", "method", method, "type", type).timer();
+        if (timer != null) {
+            return timer;
+        }
+        // 아직 한 번도 호출되지 않았으면 한 번 호출해 지표를 만든 뒤 그 값을 기준으로 비교
+        if (QueryMetrics.COUNT.equals(type)) {
+            userRepository.existsByEmail("nobody@query.example.com");
+        } else {
+            userRepository.findAllById(List.of(-1L));
+        }
+        return meterRegistry.get("library.query")
+            .tags("repository", "UserRepository", "method", method, "type", type).timer();
+    }
+}
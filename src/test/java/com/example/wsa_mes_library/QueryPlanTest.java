@@ -0,0 +1,204 @@
+package com.example.wsa_mes_library;
+
+import com.example.wsa_mes_library.entity.Book;
+import com.example.wsa_mes_library.entity.Hold;
+import com.example.wsa_mes_library.entity.Loan;
+import com.example.wsa_mes_library.entity.User;
+import com.example.wsa_mes_library.repository.BookFilter;
+import com.example.wsa_mes_library.repository.BookQueryRepository;
+import com.example.wsa_mes_library.repository.BookRepository;
+import com.example.wsa_mes_library.repository.HoldRepository;
+import com.example.wsa_mes_library.repository.LoanRepository;
+import com.example.wsa_mes_library.repository.UserRepository;
+import com.example.wsa_mes_library.service.CacheStatisticsService;
+import com.example.wsa_mes_library.support.SqlStatementRecorder;
+import com.example.wsa_mes_library.support.SqlStatementRecorder.RecordedStatement;
+import com.example.wsa_mes_library.support.SqlStatementRecorderConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리포지토리 쿼리 실행 계획 검증 (H2 MySQL 모드 + Flyway 인덱스)
+ * 각 쿼리를 실제로 실행해 기록된 SQL을 같은 바인딩 값으로 EXPLAIN 하고, 전체 테이블 스캔이 있으면 실패
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(SqlStatementRecorderConfig.class)
+class QueryPlanTest {
+
+    /**
+     * 인덱스로 범위를 좁힐 수 없어 활성 도서 전체를 읽는 쿼리와 그 이유
+     * (모든 도서 조회에 active = TRUE 가 붙으므로 H2 는 idx_book_active_* 인덱스 스캔으로 보고하지만 실제로는 전체 스캔)
+     */
+    private static final Map<String, String> FULL_SCAN_ALLOWED = Map.of(
+        "BookQueryRepository.findActiveBooks", "조건이 활성 여부뿐인 전체 목록 / 개수 - 서비스는 BookSnapshot 이 준비되면 DB 를 거치지 않음",
+        "BookQueryRepository.countActiveBooks", "조건이 활성 여부뿐인 전체 개수 - 쿼리 캐시 / BookSnapshot 으로 처리",
+        "BookQueryRepository.searchByKeyword", "제목 / 작가 / 설명 양쪽 와일드카드 LIKE - 검색 결과 캐시 / 요청 합치기로 완화",
+        "BookQueryRepository.findByAuthor", "작가 부분 일치 LIKE - 서비스는 BookSnapshot 이 준비되면 DB 를 거치지 않음");
+
+    /**
+     * EXPLAIN 의 테이블별 접근 주석 ("public.인덱스: 인덱스 조건", 조건이 없으면 인덱스 이름만)
+     */
+    private static final Pattern ACCESS = Pattern.compile("/\\* public\\.([\\w.]+)(?:: (.*?))? \\*/");
+
+    @Autowired
+    private BookQueryRepository bookQueryRepository;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    @Autowired
+    private HoldRepository holdRepository;
+
+    @Autowired
+    private CacheStatisticsService cacheStatisticsService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void repositoryQueriesDoNotScanWholeTables() {
+        Book book = bookRepository.findAll().get(0);
+        User user = userRepository.findAll().get(0);
+        Loan loan = loanRepository.save(Loan.builder()
+            .user(user)
+            .book(book)
+            .loanDate(LocalDateTime.now())
+            .dueDate(LocalDateTime.now().plusDays(14))
+            .build());
+        Hold hold = holdRepository.save(Hold.builder()
+            .user(user)
+            .book(book)
+            .expiresAt(LocalDateTime.now().plusDays(30))
+            .build());
+        LocalDateTime now = LocalDateTime.now();
+        PageRequest page = PageRequest.of(0, 20);
+
+        Map<String, Runnable> queries = new LinkedHashMap<>();
+        queries.put("BookQueryRepository.findActiveBooks", () -> bookQueryRepository.findActiveBooks(page));
+        queries.put("BookQueryRepository.countActiveBooks", () -> bookQueryRepository.countActiveBooks());
+        queries.put("BookQueryRepository.searchByKeyword", () -> bookQueryRepository.searchByKeyword("자바", page));
+        queries.put("BookQueryRepository.findByAuthor", () -> bookQueryRepository.findByAuthor(book.getAuthor(), page));
+        queries.put("BookQueryRepository.searchWithComplexConditions",
+            () -> bookQueryRepository.searchWithComplexConditions("코드", book.getAuthor(), page));
+        queries.put("BookQueryRepository.findByIsbn", () -> bookQueryRepository.findByIsbn(book.getIsbn()));
+        queries.put("BookQueryRepository.existsByIsbn", () -> bookQueryRepository.existsByIsbn(book.getIsbn()));
+        queries.put("BookQueryRepository.countByAuthor", () -> bookQueryRepository.countByAuthor(book.getAuthor()));
+        queries.put("BookQueryRepository.findByFilter",
+            () -> bookQueryRepository.findByFilter(new BookFilter(book.getAuthor(), null, null, true), page));
+        queries.put("BookQueryRepository.countByFilter",
+            () -> bookQueryRepository.countByFilter(new BookFilter(book.getAuthor(), book.getPublisher(), null, null)));
+        queries.put("BookQueryRepository.findByIdCursor", () -> bookQueryRepository.findByIdCursor(book.getId() + 10, 20));
+        queries.put("BookRepository.findChangedSince",
+            () -> bookRepository.findChangedSince(now.minusMinutes(1), 0L, now, Limit.of(101)));
+        queries.put("BookRepository.findByIdForUpdate", () -> inRolledBackTransaction(() -> bookRepository.findByIdForUpdate(book.getId())));
+        queries.put("UserRepository.findByEmail", () -> userRepository.findByEmail(user.getEmail()));
+        queries.put("UserRepository.existsByEmail", () -> userRepository.existsByEmail(user.getEmail()));
+        queries.put("UserRepository.findChangedSince",
+            () -> userRepository.findChangedSince(now.minusMinutes(1), 0L, now, Limit.of(101)));
+        queries.put("UserRepository.findDeletedSince",
+            () -> userRepository.findDeletedSince(now.minusMinutes(1), 0L, now, 101));
+        queries.put("UserRepository.findAll", () -> userRepository.findAll(PageRequest.of(0, 20, Sort.by("createdAt"))));
+        queries.put("UserRepository.findByIdIn", () -> userRepository.findByIdIn(List.of(user.getId()), page));
+        queries.put("LoanRepository.findById", () -> loanRepository.findById(loan.getId()));
+        queries.put("LoanRepository.findByUserId", () -> loanRepository.findByUserId(user.getId()));
+        queries.put("LoanRepository.findByBookId", () -> loanRepository.findByBookId(book.getId()));
+        queries.put("LoanRepository.findByStatus", () -> loanRepository.findByStatus(Loan.LoanStatus.OVERDUE, page));
+        queries.put("LoanRepository.findOverdueLoans", () -> loanRepository.findOverdueLoans(now));
+        queries.put("LoanRepository.findActiveLoansByBookId", () -> loanRepository.findActiveLoansByBookId(book.getId()));
+        queries.put("LoanRepository.countActiveLoansByUserId", () -> loanRepository.countActiveLoansByUserId(user.getId()));
+        queries.put("LoanRepository.markOverdueLoans", () -> inRolledBackTransaction(() -> loanRepository.markOverdueLoans(now)));
+        queries.put("LoanRepository.findChangedSince",
+            () -> loanRepository.findChangedSince(now.minusMinutes(1), 0L, now, Limit.of(101)));
+        queries.put("HoldRepository.findById", () -> holdRepository.findById(hold.getId()));
+        queries.put("HoldRepository.findWaitingByUserId", () -> holdRepository.findWaitingByUserId(user.getId()));
+        queries.put("HoldRepository.countWaitingByUserId", () -> holdRepository.countWaitingByUserId(user.getId()));
+        queries.put("HoldRepository.findBookIdById", () -> holdRepository.findBookIdById(hold.getId()));
+        queries.put("HoldRepository.existsWaitingByBookId", () -> holdRepository.existsWaitingByBookId(book.getId(), now));
+        queries.put("HoldRepository.findBookIdsWithExpiredHolds", () -> holdRepository.findBookIdsWithExpiredHolds(now));
+        queries.put("HoldRepository.findExpiredHoldsByBookId",
+            () -> holdRepository.findExpiredHoldsByBookId(book.getId(), now));
+
+        List<String> fullScans = new ArrayList<>();
+        try {
+            queries.forEach((name, query) -> {
+                // 쿼리 / 2차 캐시 적중으로 SQL이 생략되지 않도록 매번 비움
+                cacheStatisticsService.evictAll();
+                SqlStatementRecorder.start();
+                query.run();
+                List<RecordedStatement> statements = SqlStatementRecorder.stop();
+
+                assertThat(statements).as(name + " 실행 SQL").isNotEmpty();
+                for (RecordedStatement statement : statements) {
+                    String plan = explain(statement);
+                    if (scansWholeTable(plan) && !FULL_SCAN_ALLOWED.containsKey(name)) {
+                        fullScans.add(name + "\n  " + statement.sql() + "\n  -> " + plan.replaceAll("\\s+", " "));
+                    }
+                }
+            });
+        } finally {
+            holdRepository.delete(hold);
+            loanRepository.delete(loan);
+        }
+
+        assertThat(fullScans).as("전체 테이블 스캔 쿼리").isEmpty();
+    }
+
+    /**
+     * 테이블 스캔이거나, 인덱스 조건이 선택도가 낮은 active 컬럼뿐인 접근이 있으면 전체 스캔으로 봄
+     */
+    static boolean scansWholeTable(String plan) {
+        Matcher matcher = ACCESS.matcher(plan.replaceAll("\\s+", " "));
+        while (matcher.find()) {
+            if (matcher.group(1).endsWith(".tableScan")) {
+                return true;
+            }
+            String condition = matcher.group(2);
+            if (condition != null && Arrays.stream(condition.split(" AND "))
+                .allMatch(term -> term.strip().startsWith("active "))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String explain(RecordedStatement statement) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + statement.sql(), String.class, statement.values().toArray());
+    }
+
+    private void inRolledBackTransaction(Runnable action) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            action.run();
+            status.setRollbackOnly();
+        });
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.wsa_mes_library;
+
+import com.example.wsa_mes_library.lib.SingleFlight;
+import com.example.wsa_mes_library.service.BookService;
+import com.example.wsa_mes_library.service.ReadCoalescer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 동시 조회 합치기 - 실행 중인 같은 조회에 합류, 쓰기 커밋 뒤에는 합류하지 않음, 예외 전달, 지표
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ReadCoalescingTest {
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ReadCoalescer readCoalescer;
+
+    @Test
+    void coalescesConcurrentIdenticalCalls() throws Exception {
+        SingleFlight<String, Object> flight = new SingleFlight<>();
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        int callers = 16;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Object>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> flight.execute("latest", () -> {
+                    loads.incrementAndGet();
+                    await(release);
+                    return new Object();
+                })));
+            }
+            // 첫 호출이 실행 중인 동안 나머지가 모두 합류할 때까지 대기
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (flight.coalescedCount() < callers - 1) {
+                assertThat(System.nanoTime()).as("대기 시간 초과").isLessThan(deadline);
+                Thread.sleep(1);
+            }
+            release.countDown();
+
+            Object shared = results.get(0).get();
+            for (Future<Object> result : results) {
+                assertThat(result.get()).isSameAs(shared);
+            }
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(flight.executedCount()).isEqualTo(1);
+
+        // 끝난 뒤에는 다시 실행 (결과를 보관하지 않음), 예외도 그대로 전달
+        assertThat(flight.execute("latest", () -> "again")).isEqualTo("again");
+        assertThatThrownBy(() -> flight.execute("latest", () -> {
+            throw new IllegalArgumentException("잘못된 요청");
+        })).isInstanceOf(IllegalArgumentException.class);
+        assertThat(flight.executedCount()).isEqualTo(3);
+    }
+
+    @Test
+    void doesNotJoinFlightStartedBeforeCommittedWrite() throws Exception {
+        String name = "epochTest";
+        List<Object> key = List.of("same");
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Integer> before = executor.submit(() -> readCoalescer.read(name, key, () -> {
+                int load = loads.incrementAndGet();
+                started.countDown();
+                await(release);
+                return load;
+            }));
+            started.await();
+            Future<Integer> joined = executor.submit(() -> readCoalescer.read(name, key, loads::incrementAndGet));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (readCoalescer.coalescedCount(name) < 1) {
+                assertThat(System.nanoTime()).as("대기 시간 초과").isLessThan(deadline);
+                Thread.sleep(1);
+            }
+
+            // 쓰기가 커밋된 뒤 들어온 호출은 실행 중인 조회에 합류하지 않고 새로 읽음
+            readCoalescer.onBookChanged(null);
+            assertThat(readCoalescer.read(name, key, loads::incrementAndGet)).isEqualTo(2);
+
+            release.countDown();
+            assertThat(before.get()).isEqualTo(1);
+            assertThat(joined.get()).isEqualTo(1);
+        }
+        assertThat(readCoalescer.executedCount(name)).isEqualTo(2);
+    }
+
+    @Test
+    void exposesExecutedAndCoalescedCounts() {
+        double before = executed("latestBooks");
+        bookService.getLatestBooks(5);
+        bookService.getLatestBooks(5);
+        assertThat(executed("latestBooks")).isEqualTo(before + 2);
+        assertThat(meterRegistry.get("library.coalesce.calls")
+            .tags("name", "latestBooks", "result", "coalesced").functionCounter().count()).isZero();
+
+        bookService.getTotalActiveBookCount();
+        assertThat(executed("totalActiveBookCount")).isPositive();
+    }
+
+    private double executed(String name) {
+        var counter = meterRegistry.find("library.coalesce.calls")
+            .tags("name", name, "result", "executed").functionCounter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
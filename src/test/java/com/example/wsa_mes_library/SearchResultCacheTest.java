@@ -0,0 +1,139 @@
+package com.example.wsa_mes_library;
+
+import com.example.wsa_mes_library.entity.Book;
+import com.example.wsa_mes_library.entity.User;
+import com.example.wsa_mes_library.repository.BookRepository;
+import com.example.wsa_mes_library.repository.UserRepository;
+import com.example.wsa_mes_library.service.BookService;
+import com.example.wsa_mes_library.service.LoanService;
+import com.example.wsa_mes_library.service.SearchResultCache;
+import com.example.wsa_mes_library.service.UserService;
+import com.example.wsa_mes_library.support.SqlStatementRecorder;
+import com.example.wsa_mes_library.support.SqlStatementRecorderConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 검색 결과 캐시 - 반복 검색은 메모리에서, 도서 변경이 커밋되면 전체 무효
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(SqlStatementRecorderConfig.class)
+class SearchResultCacheTest {
+
+    private static final Pageable PAGE = PageRequest.of(0, 10, Sort.by("name"));
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private SearchResultCache searchResultCache;
+
+    @Autowired
+    private LoanService loanService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Long> books = new ArrayList<>();
+    private User user;
+
+    @AfterEach
+    void tearDown() {
+        books.forEach(id -> jdbcTemplate.update("DELETE FROM loan WHERE book_id = ?", id));
+        bookRepository.deleteAllById(books);
+        if (user != null) {
+            userRepository.deleteById(user.getId());
+        }
+    }
+
+    @Test
+    void servesRepeatedSearchesFromMemory() {
+        book("결과캐시 첫째 권");
+        book("결과캐시 둘째 권");
+
+        Page<Book> first = bookService.getBooks("결과캐시", null, PAGE);
+        assertThat(first.getContent()).extracting(Book::getName).containsExactly("결과캐시 둘째 권", "결과캐시 첫째 권");
+
+        // 같은 검색 (대소문자 / 앞뒤 공백만 다른 검색 포함) - SQL 없이 같은 결과
+        Page<Book> again = withoutSql(() -> bookService.getBooks("  결과캐시 ", null, PAGE));
+        assertThat(again.getContent()).extracting(Book::getId)
+            .containsExactlyElementsOf(first.getContent().stream().map(Book::getId).toList());
+        assertThat(again.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    void invalidatesAllResultsOnBookWrite() {
+        Book kept = book("무효화검사 남는 책");
+        assertThat(names("무효화검사")).containsExactly("무효화검사 남는 책");
+        long version = searchResultCache.version();
+
+        Book added = book("무효화검사 새 책");
+        assertThat(searchResultCache.version()).isGreaterThan(version);
+        assertThat(names("무효화검사")).containsExactly("무효화검사 남는 책", "무효화검사 새 책");
+
+        bookService.updateBook(added.getId(), Book.builder().name("이름 바뀐 책").author("테스트 작가").build());
+        assertThat(names("무효화검사")).containsExactly("무효화검사 남는 책");
+
+        bookService.deleteBook(kept.getId());
+        assertThat(names("무효화검사")).isEmpty();
+    }
+
+    @Test
+    void doesNotCacheOrderChangedByLoans() {
+        user = userService.createUser(User.builder().name("정렬 검사").email("result-cache@example.com").build());
+        Book older = book("대출정렬 먼저 등록");
+        Book newer = book("대출정렬 나중 등록");
+        Pageable recent = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "updatedAt"));
+        assertThat(bookService.getBooks("대출정렬", null, recent).getContent()).extracting(Book::getId)
+            .containsExactly(newer.getId(), older.getId());
+
+        // 대출은 카탈로그 버전을 올리지 않지만 updatedAt 을 바꿈
+        long version = searchResultCache.version();
+        loanService.createLoan(user.getId(), older.getId());
+        assertThat(searchResultCache.version()).isEqualTo(version);
+        assertThat(bookService.getBooks("대출정렬", null, recent).getContent()).extracting(Book::getId)
+            .containsExactly(older.getId(), newer.getId());
+    }
+
+    private List<String> names(String keyword) {
+        return bookService.getBooks(keyword, null, PAGE).getContent().stream().map(Book::getName).toList();
+    }
+
+    private static <T> T withoutSql(Supplier<T> call) {
+        SqlStatementRecorder.start();
+        T result = call.get();
+        assertThat(SqlStatementRecorder.stop()).isEmpty();
+        return result;
+    }
+
+    private Book book(String name) {
+        Book book = bookService.createBook(Book.builder().name(name).author("테스트 작가").build());
+        books.add(book.getId());
+        return book;
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.wsa_mes_library;
+
+import com.example.wsa_mes_library.entity.Book;
+import com.example.wsa_mes_library.lib.MinHash;
+import com.example.wsa_mes_library.repository.BookRepository;
+import com.example.wsa_mes_library.service.BookService;
+import com.example.wsa_mes_library.service.SimilarBookIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 비슷한 책 - MinHash 서명, 샘플 도서 추천, 커밋된 변경 반영
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SimilarBooksTest {
+
+    @Autowired
+    private SimilarBookIndex similarBookIndex;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @BeforeEach
+    void setUp() {
+        similarBookIndex.rebuild();
+    }
+
+    @Test
+    void estimatesJaccardSimilarity() {
+        String text = "클린 코드에 대한 상세한 설명입니다. IT 개발자들에게 필수적인 내용을 다룹니다.";
+        int[] signature = MinHash.signature(text);
+        assertThat(MinHash.similarity(signature, MinHash.signature(text.toUpperCase()))).isEqualTo(1.0);
+        assertThat(MinHash.similarity(signature,
+            MinHash.signature("리팩토링에 대한 상세한 설명입니다. IT 개발자들에게 필수적인 내용을 다룹니다.")))
+            .isGreaterThan(0.5);
+        assertThat(MinHash.similarity(signature,
+            MinHash.signature("무진기행은 현대 한국 문학의 걸작입니다. 깊이 있는 인물 묘사를 담고 있습니다.")))
+            .isLessThan(0.2);
+        assertThat(MinHash.fromBytes(MinHash.toBytes(signature))).containsExactly(signature);
+        assertThat(MinHash.signature(" .. ")).isNull();
+    }
+
+    @Test
+    void recommendsBooksWithSimilarDescriptions() {
+        Book cleanCode = findByName("클린 코드");
+
+        assertThat(bookService.getSimilarBooks(cleanCode.getId(), 20))
+            .isNotEmpty()
+            .extracting(Book::getName)
+            .contains("이펙티브 자바")
+            .doesNotContain("클린 코드", "채식주의자");
+        assertThat(bookService.getSimilarBooks(cleanCode.getId(), 3)).hasSize(3);
+        assertThat(bookService.getSimilarBooks(Long.MAX_VALUE, 10)).isEmpty();
+    }
+
+    @Test
+    void reflectsCommittedBookChanges() {
+        Book cleanCode = findByName("클린 코드");
+        Book book = bookService.createBook(Book.builder()
+            .name("클린 코드 2판")
+            .author("테스트 작가")
+            .description(cleanCode.getDescription() + " 개정판")
+            .build());
+        try {
+            assertThat(book.getDescriptionMinhash()).hasSize(MinHash.BYTES);
+            assertThat(bookService.getSimilarBooks(cleanCode.getId(), 1)).extracting(Book::getId)
+                .containsExactly(book.getId());
+
+            bookService.updateBook(book.getId(), Book.builder()
+                .name("클린 코드 2판")
+                .author("테스트 작가")
+                .description("전혀 다른 분야인 요리와 제빵의 기초를 사진과 함께 소개합니다.")
+                .build());
+            assertThat(bookService.getSimilarBooks(cleanCode.getId(), 50)).extracting(Book::getId)
+                .doesNotContain(book.getId());
+
+            // 다시 생성해도 DB 에 저장된 서명으로 같은 결과
+            similarBookIndex.rebuild();
+            assertThat(bookService.getSimilarBooks(cleanCode.getId(), 50)).extracting(Book::getId)
+                .doesNotContain(book.getId());
+            assertThat(bookService.getSimilarBooks(book.getId(), 10)).extracting(Book::getId)
+                .doesNotContain(cleanCode.getId());
+        } finally {
+            bookRepository.deleteById(book.getId());
+        }
+    }
+
+    private Book findByName(String name) {
+        return bookRepository.findAll().stream()
+            .filter(book -> name.equals(book.getName()))
+            .findFirst()
+            .orElseThrow();
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.wsa_mes_library;
+
+import com.example.wsa_mes_library.config.DataGeneratorProperties;
+import com.example.wsa_mes_library.config.SyntheticDataGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 합성 데이터 생성기 - 건수 / 대출 상태 정합성 / 스레드 수와 무관한 결정성 확인
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SyntheticDataGeneratorTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void generatesConsistentDataIndependentOfThreadCount() {
+        List<String> singleThreaded = generateAndSnapshot(1);
+        List<String> multiThreaded = generateAndSnapshot(4);
+
+        assertThat(multiThreaded).isEqualTo(singleThreaded);
+    }
+
+    /**
+     * 기존 샘플 데이터는 그대로 두고, 생성된 구간(id > 생성 전 최대 id)만 검증 후 삭제
+     */
+    private List<String> generateAndSnapshot(int threads) {
+        long from = maxId();
+
+        DataGeneratorProperties properties = new DataGeneratorProperties();
+        properties.setBooks(2_000);
+        properties.setUsers(300);
+        properties.setLoans(10_000);
+        properties.setThreads(threads);
+        properties.setChunkSize(700);
+        properties.setBatchSize(200);
+
+        SyntheticDataGenerator.Report report =
+            new SyntheticDataGenerator(jdbcTemplate, transactionManager, properties).generate();
+        try {
+            return verify(report, from);
+        } finally {
+            jdbcTemplate.update("DELETE FROM loan WHERE id > ?", from);
+            jdbcTemplate.update("DELETE FROM book WHERE id > ?", from);
+            jdbcTemplate.update("DELETE FROM users WHERE id > ?", from);
+        }
+    }
+
+    private List<String> verify(SyntheticDataGenerator.Report report, long from) {
+        assertThat(count("SELECT COUNT(*) FROM book WHERE id > ?", from)).isEqualTo(2_000);
+        assertThat(count("SELECT COUNT(*) FROM users WHERE id > ?", from)).isEqualTo(300);
+        assertThat(count("SELECT COUNT(*) FROM loan WHERE id > ? AND status = 'RETURNED'", from)).isEqualTo(10_000);
+        assertThat(report.totalRows()).isEqualTo(2_000 + 300 + count("SELECT COUNT(*) FROM loan WHERE id > ?", from));
+
+        // 대출 중 도서 = available=false 도서, 도서당 ACTIVE 대출 1건
+        assertThat(count("SELECT COUNT(*) FROM loan WHERE id > ? AND status = 'ACTIVE'", from))
+            .isEqualTo(count("SELECT COUNT(*) FROM book WHERE id > ? AND available = false", from))
+            .isPositive();
+        assertThat(count("SELECT COUNT(*) FROM book b WHERE b.id > ? AND b.available = false AND NOT EXISTS " +
+            "(SELECT 1 FROM loan l WHERE l.book_id = b.id AND l.status = 'ACTIVE')", from)).isZero();
+
+        // Zipf 인기도: 상위 1% 도서가 전체 이력의 상당 부분 차지
+        Long topShare = jdbcTemplate.queryForObject(
+            "SELECT SUM(cnt) FROM (SELECT COUNT(*) cnt FROM loan WHERE id > ? AND status = 'RETURNED' " +
+            "GROUP BY book_id ORDER BY cnt DESC LIMIT 20) t", Long.class, from);
+        assertThat(topShare).isGreaterThan(2_000L);
+
+        // ID는 실행마다 다르므로 ID를 제외한 내용으로 비교
+        return jdbcTemplate.queryForList(
+            "SELECT CONCAT(b.name, '|', b.author, '|', b.isbn, '|', b.available, '|', " +
+            "(SELECT COUNT(*) FROM loan l WHERE l.book_id = b.id)) FROM book b WHERE b.id > ? ORDER BY b.isbn",
+            String.class, from);
+    }
+
+    private long maxId() {
+        return count("SELECT GREATEST(COALESCE((SELECT MAX(id) FROM book), 0), " +
+            "COALESCE((SELECT MAX(id) FROM users), 0), COALESCE((SELECT MAX(id) FROM loan), 0))");
+    }
+
+    private long count(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql, Long.class, args);
+    }
+}
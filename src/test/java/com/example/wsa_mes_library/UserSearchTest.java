@@ -0,0 +1,145 @@
+package com.example.wsa_mes_library;
+
+import com.example.wsa_mes_library.entity.User;
+import com.example.wsa_mes_library.repository.UserRepository;
+import com.example.wsa_mes_library.service.CacheStatisticsService;
+import com.example.wsa_mes_library.service.UserSearchIndex;
+import com.example.wsa_mes_library.service.UserService;
+import com.example.wsa_mes_library.support.SqlStatementRecorder;
+import com.example.wsa_mes_library.support.SqlStatementRecorderConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 사용자 검색 - 이름 / 이메일 로컬 파트 접두어(전체 건수는 실제 일치 수), 이메일 정확히 일치(대소문자 무시, 캐시 적중 시 SQL 없음), 키워드 없는 목록
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(SqlStatementRecorderConfig.class)
+class UserSearchTest {
+
+    @Autowired
+    private UserSearchIndex userSearchIndex;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CacheStatisticsService cacheStatisticsService;
+
+    private final List<Long> users = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        userSearchIndex.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAllById(users);
+        // 2차 캐시는 테스트 컨텍스트끼리 공유
+        cacheStatisticsService.evictRegion(User.class.getName());
+    }
+
+    @Test
+    void findsByNameWordAndEmailLocalPrefix() {
+        User kim = user("Kim Minsu", "ms.kim@search.example.com");
+        User lee = user("이 서연", "seoyeon@search.example.com");
+        userSearchIndex.rebuild();
+        User park = user("Park Minji", "mj.park@search.example.com");
+
+        assertThat(ids("minsu")).containsExactly(kim.getId());
+        assertThat(ids("KIM min")).containsExactly(kim.getId());
+        assertThat(ids("ms.k")).containsExactly(kim.getId());
+        assertThat(ids("서연")).containsExactly(lee.getId());
+        assertThat(ids("seoy")).containsExactly(lee.getId());
+        // 인덱스를 다시 만들기 전 등록된 사용자도 변경분으로
+        assertThat(ids("min")).containsExactlyInAnyOrder(kim.getId(), park.getId());
+        // 중간 부분만 일치하는 것은 찾지 않음
+        assertThat(ids("insu")).isEmpty();
+
+        userService.updateUser(kim.getId(), User.builder().name("Kim Taeho").email("th.kim@search.example.com").build());
+        assertThat(ids("minsu")).isEmpty();
+        assertThat(ids("taeho")).containsExactly(kim.getId());
+        userService.deleteUser(park.getId());
+        users.remove(park.getId());
+        assertThat(ids("min")).isEmpty();
+    }
+
+    @Test
+    void capsMatchCountAtLimit() {
+        User first = user("Choi Hana", "hana.choi@search.example.com");
+        userSearchIndex.rebuild();
+        User second = user("Choi Hanbit", "hanbit@search.example.com");
+        user("Choi Hangyeol", "hangyeol@search.example.com");
+
+        // 이름 / 이메일 두 키로 걸린 사용자도 한 번만, 기본 인덱스 + 변경분 모두 셈 - limit 을 넘으면 "limit+ 건"
+        UserSearchIndex.Matches matches = userSearchIndex.search("han", 2);
+        assertThat(matches.ids()).hasSize(2).doesNotHaveDuplicates();
+        assertThat(matches.total()).isEqualTo(2);
+        assertThat(matches.more()).isTrue();
+        assertThat(userSearchIndex.search("han", 3)).extracting(UserSearchIndex.Matches::total, UserSearchIndex.Matches::more)
+            .containsExactly(3, false);
+        assertThat(userService.getUsers("han", PageRequest.of(1, 2, Sort.by("id"))).getTotalElements()).isEqualTo(3);
+
+        userService.deleteUser(second.getId());
+        users.remove(second.getId());
+        assertThat(userSearchIndex.search("han", 10).total()).isEqualTo(2);
+        assertThat(userSearchIndex.search("han", 10).ids()).contains(first.getId());
+    }
+
+    @Test
+    void looksUpExactEmailFromCache() {
+        User user = user("이메일 조회", "Desk@Search.example.com");
+        assertThat(user.getEmail()).isEqualTo("desk@search.example.com");
+        assertThat(userService.existsByEmail(" DESK@search.example.com")).isTrue();
+        assertThat(userService.getUsers(" DESK@search.example.com", PageRequest.of(0, 20)).getContent())
+            .extracting(User::getId).containsExactly(user.getId());
+
+        SqlStatementRecorder.start();
+        assertThat(userService.getUserByEmail("desk@search.example.com")).get()
+            .extracting(User::getId).isEqualTo(user.getId());
+        assertThat(SqlStatementRecorder.stop()).isEmpty();
+
+        userService.updateUser(user.getId(), User.builder().name("이메일 조회").email("desk2@search.example.com").build());
+        assertThat(userService.getUserByEmail("desk@search.example.com")).isEmpty();
+        assertThat(userService.getUserByEmail("desk2@search.example.com")).isPresent();
+        assertThat(userService.getUsers("nobody@search.example.com", PageRequest.of(0, 20))).isEmpty();
+    }
+
+    @Test
+    void pagesWithoutKeyword() {
+        long total = userRepository.count();
+        Page<User> page = userService.getUsers(" ", PageRequest.of(0, 5, Sort.by("createdAt")));
+        assertThat(page.getTotalElements()).isEqualTo(total);
+        assertThat(page.getContent()).hasSize((int) Math.min(5, total));
+    }
+
+    private List<Long> ids(String keyword) {
+        return userService.getUsers(keyword, PageRequest.of(0, 20, Sort.by("id"))).getContent().stream()
+            .map(User::getId)
+            .toList();
+    }
+
+    private User user(String name, String email) {
+        User user = userService.createUser(User.builder().name(name).email(email).build());
+        users.add(user.getId());
+        return user;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.wsa_mes_library.support;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 테스트 메서드(= 엔드포인트 호출 1회)의 JDBC 문 예산
+ * 
+ * 사용 예시:
+ * {@code @SqlBudget(statements = 2)} - GET /api/books 는 content + count 2문 이내
+ * 
+ * 예산 초과 또는 같은 SQL이 maxRepeats 회를 넘겨 반복되면(N+1) 실행된 SQL 목록과 함께 실패
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(SqlBudgetExtension.class)
+public @interface SqlBudget {
+    
+    /**
+     * 허용 JDBC 문 수 (최대)
+     */
+    int statements();
+    
+    /**
+     * 같은 SQL 반복 실행 허용 횟수 (초과 시 N+1로 간주)
+     */
+    int maxRepeats() default 1;
+}
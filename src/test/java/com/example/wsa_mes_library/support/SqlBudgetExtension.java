@@ -0,0 +1,60 @@
+package com.example.wsa_mes_library.support;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * {@link SqlBudget} 검증 확장
+ * @BeforeEach 준비 작업이 끝난 뒤부터 테스트 메서드 종료까지 실행된 문만 집계
+ */
+public class SqlBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+    
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        SqlStatementRecorder.start();
+    }
+    
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        List<SqlStatementRecorder.RecordedStatement> statements = SqlStatementRecorder.stop();
+        if (context.getExecutionException().isPresent()) {
+            return; // 테스트 자체 실패를 가리지 않음
+        }
+        
+        SqlBudget budget = context.getRequiredTestMethod().getAnnotation(SqlBudget.class);
+        if (budget == null) {
+            return;
+        }
+        
+        String name = context.getDisplayName();
+        
+        Map<String, Long> repeated = SqlStatementRecorder.countBySql(statements).entrySet().stream()
+            .filter(entry -> entry.getValue() > budget.maxRepeats())
+            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        if (!repeated.isEmpty()) {
+            throw new AssertionError("N+1 의심 - [" + name + "] 같은 SQL이 반복 실행됨 (허용 " + budget.maxRepeats() + "회)\n"
+                + repeated.entrySet().stream()
+                    .map(entry -> "  " + entry.getValue() + "회: " + entry.getKey())
+                    .collect(Collectors.joining("\n"))
+                + "\n실행된 SQL:\n" + describe(statements));
+        }
+        
+        if (statements.size() > budget.statements()) {
+            throw new AssertionError("SQL 예산 초과 - [" + name + "] " + statements.size()
+                + "문 실행 (예산 " + budget.statements() + "문)\n실행된 SQL:\n" + describe(statements));
+        }
+    }
+    
+    private static String describe(List<SqlStatementRecorder.RecordedStatement> statements) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < statements.size(); i++) {
+            sb.append("  ").append(i + 1).append(". ").append(statements.get(i)).append('\n');
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.wsa_mes_library.support;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 테스트 스레드에서 실행된 JDBC 문 기록기
+ * 기록 중인 스레드의 문만 수집하므로 백그라운드 작업(스케줄러 등)의 SQL은 섞이지 않음
+ */
+public final class SqlStatementRecorder implements QueryExecutionListener {
+    
+    public static final SqlStatementRecorder INSTANCE = new SqlStatementRecorder();
+    
+    private static final ThreadLocal<List<RecordedStatement>> RECORDING = new ThreadLocal<>();
+    
+    private SqlStatementRecorder() {
+    }
+    
+    /**
+     * 현재 스레드 기록 시작 (이전 기록은 버림)
+     */
+    public static void start() {
+        RECORDING.set(new ArrayList<>());
+    }
+    
+    /**
+     * 현재 스레드 기록 종료
+     * 
+     * @return 기록된 문 목록 (실행 순서)
+     */
+    public static List<RecordedStatement> stop() {
+        List<RecordedStatement> statements = RECORDING.get();
+        RECORDING.remove();
+        return statements != null ? Collections.unmodifiableList(statements) : List.of();
+    }
+    
+    /**
+     * 같은 SQL(바인딩 전)이 반복 실행된 횟수 - N+1 탐지용
+     * 
+     * @return SQL -> 실행 횟수 (실행 순서 유지)
+     */
+    public static Map<String, Long> countBySql(List<RecordedStatement> statements) {
+        return statements.stream()
+            .collect(Collectors.groupingBy(RecordedStatement::sql, LinkedHashMap::new, Collectors.counting()));
+    }
+    
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+    
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        List<RecordedStatement> statements = RECORDING.get();
+        if (statements == null) {
+            return;
+        }
+        
+        for (QueryInfo queryInfo : queryInfoList) {
+            String parameters = queryInfo.getParametersList().stream()
+                .map(setters -> setters.stream()
+                    .map(SqlStatementRecorder::describeParameter)
+                    .collect(Collectors.joining(", ", "[", "]")))
+                .collect(Collectors.joining(" "));
+            List<Object> values = queryInfo.getParametersList().isEmpty()
+                ? List.of()
+                : queryInfo.getParametersList().get(0).stream()
+                    .sorted(Comparator.comparingInt(operation -> (Integer) operation.getArgs()[0]))
+                    .map(SqlStatementRecorder::parameterValue)
+                    .toList();
+            statements.add(new RecordedStatement(normalize(queryInfo.getQuery()), parameters, values, execInfo.isBatch()));
+        }
+    }
+    
+    private static Object parameterValue(ParameterSetOperation operation) {
+        return "setNull".equals(operation.getMethod().getName()) ? null : operation.getArgs()[1];
+    }
+    
+    private static String describeParameter(ParameterSetOperation operation) {
+        if ("setNull".equals(operation.getMethod().getName())) {
+            return "null";
+        }
+        Object[] args = operation.getArgs();
+        return String.valueOf(args[1]);
+    }
+    
+    private static String normalize(String sql) {
+        return sql.replaceAll("\\s+", " ").trim();
+    }
+    
+    /**
+     * 기록된 JDBC 문
+     * 
+     * @param sql 바인딩 전 SQL
+     * @param parameters 바인딩 값
+     * @param values 바인딩 값 원본 (첫 번째 파라미터 세트, 순서대로 - EXPLAIN 재실행용)
+     * @param batch 배치 실행 여부
+     */
+    public record RecordedStatement(String sql, String parameters, List<Object> values, boolean batch) {
+        
+        @Override
+        public String toString() {
+            return sql + (parameters.isEmpty() ? "" : " <- " + parameters) + (batch ? " (batch)" : "");
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.wsa_mes_library.support;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+
+/**
+ * DataSource를 datasource-proxy로 감싸 모든 JDBC 문을 SqlStatementRecorder로 전달
+ * (Hibernate, JdbcTemplate 등 경로와 무관하게 실제 실행된 문을 수집)
+ */
+@TestConfiguration
+public class SqlStatementRecorderConfig {
+    
+    @Bean
+    public static BeanPostProcessor sqlStatementRecorderPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                        .name(beanName)
+                        .listener(SqlStatementRecorder.INSTANCE)
+                        .build();
+                }
+                return bean;
+            }
+        };
+    }
+}